@@ -0,0 +1,101 @@
+/*
+ * Taller Práctico 01 - Sistema de Gestión de Tickets
+ * Estructuras de Datos y Algoritmos - 2026-10
+ *
+ * Integrantes:
+ * - [Nombre Completo 1] - ID: [ID1]
+ * - [Nombre Completo 2] - ID: [ID2]
+ * - [Nombre Completo 3] - ID: [ID3]
+ */
+
+package benchmarks;
+
+import javaOptimo.strategies.SimpleAssignmentStrategy;
+import javaOptimo.tickets.AssignmentStrategy;
+import javaOptimo.tickets.Category;
+import javaOptimo.tickets.State;
+import javaOptimo.tickets.TicketSystem;
+import javaOptimo.users.Client;
+import javaOptimo.users.Technician;
+import ticketsystem.enums.Categoria;
+import ticketsystem.enums.Estado;
+import ticketsystem.interfaces.SistemaReproducible;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Adapta javaOptimo.tickets.TicketSystem para reproducir trazas.
+ *
+ * javaOptimo no tiene la categoría BASE_DE_DATOS: esos tickets y técnicos
+ * se tratan como APLICACION. Tampoco tiene consultas por estado, que se
+ * reportan como no soportadas. Las transiciones que javaOptimo rechaza
+ * (retorna false) se reportan como fallidas.
+ */
+public class AdaptadorOptimo implements SistemaReproducible {
+
+    private final TicketSystem sistema;
+    private final AssignmentStrategy estrategia;
+    private final Set<Integer> clientes;
+
+    public AdaptadorOptimo() {
+        this.sistema = new TicketSystem();
+        this.estrategia = new SimpleAssignmentStrategy();
+        this.clientes = new HashSet<>();
+    }
+
+    private static Category categoria(Categoria categoria) {
+        return (categoria == Categoria.BASE_DE_DATOS) ? Category.APLICACION : Category.valueOf(categoria.name());
+    }
+
+    @Override
+    public void agregarTecnico(int tecnicoId, Categoria especialidad) {
+        sistema.addTechnician(new Technician(tecnicoId, "Técnico " + tecnicoId, categoria(especialidad)));
+    }
+
+    @Override
+    public int crearTicket(String descripcion, Categoria categoria, int clienteId) {
+        if (clientes.add(clienteId)) {
+            sistema.addClient(new Client(clienteId, "Cliente " + clienteId, "cliente" + clienteId + "@example.com",
+                    Optional.empty(), Optional.empty()));
+        }
+        return sistema.createTicket(descripcion, categoria(categoria), clienteId)
+                .orElseThrow(() -> new IllegalStateException("No se pudo crear el ticket"));
+    }
+
+    @Override
+    public boolean asignarTicketAutomatico() {
+        return sistema.assignNextTicket(estrategia).isPresent();
+    }
+
+    @Override
+    public void cambiarEstadoTicket(int ticketId, Estado nuevoEstado) {
+        actualizar(ticketId, State.valueOf(nuevoEstado.name()));
+    }
+
+    @Override
+    public void resolverTicket(int ticketId) {
+        actualizar(ticketId, State.RESUELTO);
+    }
+
+    @Override
+    public void cerrarTicket(int ticketId) {
+        actualizar(ticketId, State.CERRADO);
+    }
+
+    private void actualizar(int ticketId, State estado) {
+        if (!sistema.updateTicketState(ticketId, estado)) {
+            throw new IllegalStateException("Transición rechazada: " + ticketId + " -> " + estado);
+        }
+    }
+
+    @Override
+    public int consultarTicketsPorEstado(Estado estado) {
+        throw new UnsupportedOperationException("javaOptimo no tiene consultas por estado");
+    }
+
+    @Override
+    public Object consultarEstadisticas() {
+        return sistema.getStatistics();
+    }
+}
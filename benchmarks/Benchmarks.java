@@ -0,0 +1,34 @@
+/*
+ * Taller Práctico 01 - Sistema de Gestión de Tickets
+ * Estructuras de Datos y Algoritmos - 2026-10
+ *
+ * Integrantes:
+ * - [Nombre Completo 1] - ID: [ID1]
+ * - [Nombre Completo 2] - ID: [ID2]
+ * - [Nombre Completo 3] - ID: [ID3]
+ */
+
+package benchmarks;
+
+import java.util.Arrays;
+
+/**
+ * Punto de entrada de la suite: ejecuta org.openjdk.jmh.Main con el
+ * perfilador de asignaciones (-prof gc) y resultados en JSON ya activados.
+ * Los demás argumentos se pasan tal cual, por ejemplo:
+ *
+ * java -cp ... benchmarks.Benchmarks TicketSystemBenchmark -p tickets=1000,100000
+ */
+public final class Benchmarks {
+
+    private static final String[] POR_DEFECTO = { "-prof", "gc", "-rf", "json", "-rff", "resultados-jmh.json" };
+
+    private Benchmarks() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        String[] todos = Arrays.copyOf(POR_DEFECTO, POR_DEFECTO.length + args.length);
+        System.arraycopy(args, 0, todos, POR_DEFECTO.length, args.length);
+        org.openjdk.jmh.Main.main(todos);
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Taller Práctico 01 - Sistema de Gestión de Tickets
+ * Estructuras de Datos y Algoritmos - 2026-10
+ *
+ * Integrantes:
+ * - [Nombre Completo 1] - ID: [ID1]
+ * - [Nombre Completo 2] - ID: [ID2]
+ * - [Nombre Completo 3] - ID: [ID3]
+ */
+
+package benchmarks;
+
+/**
+ * Carga de trabajo determinista compartida por los benchmarks de ambas
+ * implementaciones: el ticket número i tiene siempre la misma categoría,
+ * cliente y descripción, y el técnico número j la misma especialidad, sin
+ * importar el sistema que los reciba.
+ *
+ * Solo se usan las categorías que existen en las dos implementaciones
+ * (javaOptimo no tiene BASE_DE_DATOS).
+ */
+final class CargaDeTrabajo {
+
+    static final String[] CATEGORIAS = { "RED", "APLICACION", "SEGURIDAD", "HARDWARE" };
+    static final int CLIENTES = 1000;
+
+    private static final String[] DESCRIPCIONES = new String[256];
+
+    static {
+        for (int i = 0; i < DESCRIPCIONES.length; i++) {
+            DESCRIPCIONES[i] = "Incidencia reportada #" + i;
+        }
+    }
+
+    private CargaDeTrabajo() {
+    }
+
+    /**
+     * @return Índice en CATEGORIAS de la categoría del ticket i
+     */
+    static int categoria(int i) {
+        return (int) ((mezclar(i) >>> 33) % CATEGORIAS.length);
+    }
+
+    /**
+     * @return ID (de 1 a CLIENTES) del cliente que reporta el ticket i
+     */
+    static int cliente(int i) {
+        return (int) ((mezclar(i) & 0x7FFFFFFF) % CLIENTES) + 1;
+    }
+
+    static String descripcion(int i) {
+        return DESCRIPCIONES[i & (DESCRIPCIONES.length - 1)];
+    }
+
+    /**
+     * @return Índice en CATEGORIAS de la especialidad del técnico j; se
+     *         reparten por turnos para que toda categoría tenga técnicos
+     */
+    static int especialidad(int j) {
+        return j % CATEGORIAS.length;
+    }
+
+    /**
+     * Mezcla de bits de SplitMix64 para repartir las categorías sin patrón.
+     */
+    private static long mezclar(long x) {
+        x = (x ^ (x >>> 30)) * 0xBF58476D1CE4E5B9L;
+        x = (x ^ (x >>> 27)) * 0x94D049BB133111EBL;
+        return x ^ (x >>> 31);
+    }
+}
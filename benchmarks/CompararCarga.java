@@ -0,0 +1,63 @@
+/*
+ * Taller Práctico 01 - Sistema de Gestión de Tickets
+ * Estructuras de Datos y Algoritmos - 2026-10
+ *
+ * Integrantes:
+ * - [Nombre Completo 1] - ID: [ID1]
+ * - [Nombre Completo 2] - ID: [ID2]
+ * - [Nombre Completo 3] - ID: [ID3]
+ */
+
+package benchmarks;
+
+import ticketsystem.adt.TicketSystem;
+import ticketsystem.carga.AdaptadorTicketSystem;
+import ticketsystem.carga.GeneradorCarga;
+import ticketsystem.carga.ReproductorCarga;
+import ticketsystem.carga.Traza;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Reproduce la misma traza sobre ticketsystem y javaOptimo e imprime el
+ * throughput y los percentiles de latencia de cada uno. No necesita JMH.
+ *
+ * Uso:
+ * java benchmarks.CompararCarga traza.bin             reproduce una traza grabada
+ * java benchmarks.CompararCarga [tickets] [tecnicos]  genera una traza sintética
+ * (por defecto 100000 tickets y 50 técnicos)
+ */
+public final class CompararCarga {
+
+    private CompararCarga() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        Traza traza;
+        if (args.length == 1 && !args[0].matches("\\d+")) {
+            Path archivo = Paths.get(args[0]);
+            traza = Traza.cargar(archivo);
+            System.out.println("Traza cargada de " + archivo + ": " + traza.size() + " operaciones\n");
+        } else {
+            int tickets = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+            int tecnicos = args.length > 1 ? Integer.parseInt(args[1]) : 50;
+            GeneradorCarga generador = new GeneradorCarga(2026);
+            // Sin BASE_DE_DATOS, que javaOptimo no tiene
+            generador.configurarCategorias(3, 0, 2, 1, 1);
+            generador.configurarLlegadas(tecnicos / 20.0);
+            // Cola FIFO global, para que javaOptimo asigne lo mismo que ticketsystem
+            generador.configurarColaUnica(true);
+            traza = generador.generar(tickets, tecnicos);
+            System.out.println("Traza sintética: " + traza.size() + " operaciones\n");
+        }
+
+        // Una pasada de calentamiento por sistema antes de medir
+        ReproductorCarga.reproducir(traza, new AdaptadorTicketSystem(new TicketSystem()), "calentamiento");
+        ReproductorCarga.reproducir(traza, new AdaptadorOptimo(), "calentamiento");
+
+        System.out.println(ReproductorCarga.reproducir(traza, new AdaptadorTicketSystem(new TicketSystem()),
+                "ticketsystem"));
+        System.out.println(ReproductorCarga.reproducir(traza, new AdaptadorOptimo(), "javaOptimo"));
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Taller Práctico 01 - Sistema de Gestión de Tickets
+ * Estructuras de Datos y Algoritmos - 2026-10
+ *
+ * Integrantes:
+ * - [Nombre Completo 1] - ID: [ID1]
+ * - [Nombre Completo 2] - ID: [ID2]
+ * - [Nombre Completo 3] - ID: [ID3]
+ */
+
+package benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ticketsystem.datastructures.Bag;
+import ticketsystem.datastructures.HashBag;
+import ticketsystem.datastructures.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks de las estructuras propias (Bag, List y HashBag) con
+ * {@code tamano} elementos. Las operaciones de escritura agregan y quitan
+ * un elemento para que el tamaño se mantenga durante toda la medición.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = { "-Xms4g", "-Xmx8g" })
+public class EstructurasBenchmark {
+
+    @Param({ "1000", "100000", "1000000", "10000000" })
+    int tamano;
+
+    private Integer[] elementos;
+    private Bag<Integer> bag;
+    private List<Integer> lista;
+    private HashBag<Integer> hashBag;
+    private Integer extra;
+    private int siguiente;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        elementos = new Integer[tamano];
+        bag = new Bag<>();
+        lista = new List<>();
+        hashBag = new HashBag<>(tamano);
+        for (int i = 0; i < tamano; i++) {
+            elementos[i] = i;
+            bag.add(elementos[i]);
+            lista.add(elementos[i]);
+            hashBag.add(elementos[i]);
+        }
+        extra = -1;
+    }
+
+    /**
+     * Elemento existente que va rotando, para no consultar siempre el
+     * mismo.
+     */
+    private Integer siguienteElemento() {
+        siguiente = (siguiente + 7919) % tamano;
+        return elementos[siguiente];
+    }
+
+    @Benchmark
+    public boolean bagAgregarYQuitar() {
+        bag.add(extra);
+        return bag.remove(extra);
+    }
+
+    @Benchmark
+    public boolean bagContains() {
+        return bag.contains(siguienteElemento());
+    }
+
+    @Benchmark
+    public int bagRecorrer() {
+        int suma = 0;
+        for (Integer elemento : bag) {
+            suma += elemento;
+        }
+        return suma;
+    }
+
+    /**
+     * Agrega al final y quita del frente (uso FIFO de la lista).
+     */
+    @Benchmark
+    public Integer listAgregarYQuitar() {
+        lista.add(lista.remove());
+        return lista.peek();
+    }
+
+    @Benchmark
+    public Integer listGet() {
+        return lista.get(siguiente = (siguiente + 7919) % tamano);
+    }
+
+    @Benchmark
+    public int listRecorrer() {
+        int suma = 0;
+        for (Integer elemento : lista) {
+            suma += elemento;
+        }
+        return suma;
+    }
+
+    @Benchmark
+    public boolean hashBagAgregarYQuitar() {
+        hashBag.add(extra);
+        return hashBag.remove(extra);
+    }
+
+    @Benchmark
+    public boolean hashBagContains() {
+        return hashBag.contains(siguienteElemento());
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Taller Práctico 01 - Sistema de Gestión de Tickets
+ * Estructuras de Datos y Algoritmos - 2026-10
+ *
+ * Integrantes:
+ * - [Nombre Completo 1] - ID: [ID1]
+ * - [Nombre Completo 2] - ID: [ID2]
+ * - [Nombre Completo 3] - ID: [ID3]
+ */
+
+package benchmarks;
+
+import javaOptimo.strategies.SimpleAssignmentStrategy;
+import javaOptimo.tickets.AssignmentStrategy;
+import javaOptimo.tickets.Category;
+import javaOptimo.tickets.TicketSystem;
+import javaOptimo.users.Client;
+import javaOptimo.users.Technician;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks de javaOptimo.tickets.TicketSystem con la misma carga y los
+ * mismos parámetros que TicketSystemBenchmark, para comparar ambas
+ * implementaciones operación por operación.
+ *
+ * javaOptimo no tiene consultas por estado ni estadísticas precalculadas:
+ * obtenerTicketsPorEstado no tiene equivalente y generarEstadisticas se
+ * compara con getStatistics.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = { "-Xms4g", "-Xmx8g" })
+public class OptimoBenchmark {
+
+    @Param({ "1000", "100000", "1000000", "10000000" })
+    int tickets;
+
+    @Param({ "10", "500", "5000" })
+    int tecnicos;
+
+    private TicketSystem sistema;
+    private Category[] categorias;
+    private AssignmentStrategy estrategia;
+    private int siguiente;
+
+    @Setup(Level.Iteration)
+    public void preparar() {
+        categorias = new Category[CargaDeTrabajo.CATEGORIAS.length];
+        for (int c = 0; c < categorias.length; c++) {
+            categorias[c] = Category.valueOf(CargaDeTrabajo.CATEGORIAS[c]);
+        }
+        estrategia = new SimpleAssignmentStrategy();
+
+        sistema = new TicketSystem();
+        for (int c = 1; c <= CargaDeTrabajo.CLIENTES; c++) {
+            sistema.addClient(new Client(c, "Cliente " + c, "cliente" + c + "@example.com",
+                    Optional.empty(), Optional.empty()));
+        }
+        for (int j = 0; j < tecnicos; j++) {
+            sistema.addTechnician(new Technician(j + 1, "Técnico " + j, categorias[CargaDeTrabajo.especialidad(j)]));
+        }
+        for (siguiente = 0; siguiente < tickets; siguiente++) {
+            crear(siguiente);
+        }
+        int[] asignados = new int[tecnicos];
+        int n = 0;
+        Optional<Integer> ticketId;
+        while (n < tecnicos && (ticketId = sistema.assignNextTicket(estrategia)).isPresent()) {
+            asignados[n++] = ticketId.get();
+        }
+        for (int i = 0; i < n; i++) {
+            sistema.updateTicketState(asignados[i], javaOptimo.tickets.State.EN_PROGRESO);
+            sistema.updateTicketState(asignados[i], javaOptimo.tickets.State.RESUELTO);
+        }
+    }
+
+    private Optional<Integer> crear(int i) {
+        return sistema.createTicket(CargaDeTrabajo.descripcion(i), categorias[CargaDeTrabajo.categoria(i)],
+                CargaDeTrabajo.cliente(i));
+    }
+
+    @Benchmark
+    public Optional<Integer> crearTicket() {
+        return crear(siguiente++);
+    }
+
+    /**
+     * Mismo ciclo que TicketSystemBenchmark.asignarYResolver.
+     */
+    @Benchmark
+    public Optional<Integer> asignarYResolver() {
+        Optional<Integer> ticketId = sistema.assignNextTicket(estrategia);
+        if (ticketId.isEmpty()) {
+            crear(siguiente++);
+            ticketId = sistema.assignNextTicket(estrategia);
+        }
+        sistema.updateTicketState(ticketId.get(), javaOptimo.tickets.State.EN_PROGRESO);
+        sistema.updateTicketState(ticketId.get(), javaOptimo.tickets.State.RESUELTO);
+        return ticketId;
+    }
+
+    @Benchmark
+    public String generarEstadisticas() {
+        return sistema.getStatistics();
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Taller Práctico 01 - Sistema de Gestión de Tickets
+ * Estructuras de Datos y Algoritmos - 2026-10
+ *
+ * Integrantes:
+ * - [Nombre Completo 1] - ID: [ID1]
+ * - [Nombre Completo 2] - ID: [ID2]
+ * - [Nombre Completo 3] - ID: [ID3]
+ */
+
+package benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ticketsystem.adt.Cliente;
+import ticketsystem.adt.EstadisticasSistema;
+import ticketsystem.adt.Tecnico;
+import ticketsystem.adt.Ticket;
+import ticketsystem.adt.TicketSystem;
+import ticketsystem.datastructures.Bag;
+import ticketsystem.enums.Categoria;
+import ticketsystem.enums.Estado;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks de ticketsystem.adt.TicketSystem. Cada iteración parte de un
+ * sistema con {@code tickets} tickets y {@code tecnicos} técnicos creados
+ * con CargaDeTrabajo; los primeros tickets asignables ya se asignaron y
+ * resolvieron, así que los técnicos están libres y el resto queda
+ * pendiente. OptimoBenchmark repite las mismas operaciones sobre
+ * javaOptimo con la misma carga.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = { "-Xms4g", "-Xmx8g" })
+public class TicketSystemBenchmark {
+
+    @Param({ "1000", "100000", "1000000", "10000000" })
+    int tickets;
+
+    @Param({ "10", "500", "5000" })
+    int tecnicos;
+
+    private TicketSystem sistema;
+    private Cliente[] clientes;
+    private Categoria[] categorias;
+    private int siguiente;
+
+    /**
+     * Reconstruye el sistema en cada iteración: crearTicket y
+     * asignarYResolver lo hacen crecer.
+     */
+    @Setup(Level.Iteration)
+    public void preparar() {
+        categorias = new Categoria[CargaDeTrabajo.CATEGORIAS.length];
+        for (int c = 0; c < categorias.length; c++) {
+            categorias[c] = Categoria.valueOf(CargaDeTrabajo.CATEGORIAS[c]);
+        }
+        clientes = new Cliente[CargaDeTrabajo.CLIENTES + 1];
+        for (int c = 1; c <= CargaDeTrabajo.CLIENTES; c++) {
+            clientes[c] = new Cliente(c, "Cliente " + c, "cliente" + c + "@example.com");
+        }
+
+        sistema = new TicketSystem();
+        for (int j = 0; j < tecnicos; j++) {
+            sistema.agregarTecnico(new Tecnico(j + 1, "Técnico " + j, categorias[CargaDeTrabajo.especialidad(j)]));
+        }
+        for (siguiente = 0; siguiente < tickets; siguiente++) {
+            crear(siguiente);
+        }
+        Ticket[] asignados = new Ticket[tecnicos];
+        int n = 0;
+        Ticket ticket;
+        while (n < tecnicos && (ticket = sistema.asignarTicketAutomatico()) != null) {
+            asignados[n++] = ticket;
+        }
+        for (int i = 0; i < n; i++) {
+            sistema.cambiarEstadoTicket(asignados[i].getId(), Estado.EN_PROGRESO);
+            sistema.resolverTicket(asignados[i].getId());
+        }
+    }
+
+    private Ticket crear(int i) {
+        return sistema.crearTicket(CargaDeTrabajo.descripcion(i), categorias[CargaDeTrabajo.categoria(i)],
+                clientes[CargaDeTrabajo.cliente(i)]);
+    }
+
+    @Benchmark
+    public Ticket crearTicket() {
+        return crear(siguiente++);
+    }
+
+    /**
+     * Asigna el siguiente pendiente, lo pone en progreso y lo resuelve, lo
+     * que deja libre al técnico. Si ya no quedan pendientes crea uno nuevo.
+     */
+    @Benchmark
+    public Ticket asignarYResolver() {
+        Ticket ticket = sistema.asignarTicketAutomatico();
+        if (ticket == null) {
+            crear(siguiente++);
+            ticket = sistema.asignarTicketAutomatico();
+        }
+        sistema.cambiarEstadoTicket(ticket.getId(), Estado.EN_PROGRESO);
+        sistema.resolverTicket(ticket.getId());
+        return ticket;
+    }
+
+    @Benchmark
+    public Bag<Ticket> obtenerTicketsPorEstado() {
+        return sistema.obtenerTicketsPorEstado(Estado.NUEVO);
+    }
+
+    @Benchmark
+    public EstadisticasSistema obtenerEstadisticas() {
+        return sistema.obtenerEstadisticas();
+    }
+
+    @Benchmark
+    public String generarEstadisticas() {
+        return sistema.generarEstadisticas();
+    }
+}
@@ -13,6 +13,7 @@ package ticketsystem;
 import ticketsystem.adt.*;
 import ticketsystem.enums.*;
 import ticketsystem.iterators.*;
+import ticketsystem.carga.*;
 
 /**
  * Programa de demostración del Sistema de Gestión de Tickets.
@@ -146,9 +147,7 @@ public class Demo {
 
         // Listar tickets pendientes
         System.out.println("--- Tickets Pendientes (Estado: NUEVO) ---");
-        TicketsByStateIterator iteradorNuevos = new TicketsByStateIterator(
-                sistema.getTodosLosTickets(),
-                Estado.NUEVO);
+        TicketsByStateIterator iteradorNuevos = sistema.iteradorPorEstado(Estado.NUEVO);
         int countNuevos = 0;
         while (iteradorNuevos.hasNext()) {
             Ticket t = iteradorNuevos.next();
@@ -159,9 +158,7 @@ public class Demo {
 
         // Listar tickets resueltos
         System.out.println("--- Tickets Resueltos ---");
-        TicketsByStateIterator iteradorResueltos = new TicketsByStateIterator(
-                sistema.getTodosLosTickets(),
-                Estado.RESUELTO);
+        TicketsByStateIterator iteradorResueltos = sistema.iteradorPorEstado(Estado.RESUELTO);
         int countResueltos = 0;
         while (iteradorResueltos.hasNext()) {
             Ticket t = iteradorResueltos.next();
@@ -174,9 +171,7 @@ public class Demo {
 
         // Listar tickets en progreso
         System.out.println("--- Tickets En Progreso ---");
-        TicketsByStateIterator iteradorEnProgreso = new TicketsByStateIterator(
-                sistema.getTodosLosTickets(),
-                Estado.EN_PROGRESO);
+        TicketsByStateIterator iteradorEnProgreso = sistema.iteradorPorEstado(Estado.EN_PROGRESO);
         int countEnProgreso = 0;
         while (iteradorEnProgreso.hasNext()) {
             Ticket t = iteradorEnProgreso.next();
@@ -188,9 +183,7 @@ public class Demo {
 
         // Filtrar por categoría
         System.out.println("--- Tickets de Categoría: APLICACION ---");
-        TicketsByCategoryIterator iteradorApp = new TicketsByCategoryIterator(
-                sistema.getTodosLosTickets(),
-                Categoria.APLICACION);
+        TicketsByCategoryIterator iteradorApp = sistema.iteradorPorCategoria(Categoria.APLICACION);
         while (iteradorApp.hasNext()) {
             Ticket t = iteradorApp.next();
             System.out.println("  • Ticket #" + t.getId() + ": " + t.getDescripcion());
@@ -216,6 +209,23 @@ public class Demo {
 
         System.out.println("\n✓ Todas las invariantes verificadas correctamente");
 
+        // ===================================================================
+        System.out.println("\n=== 8. CARGA SINTÉTICA ===\n");
+
+        // Un día de soporte simulado: más tickets de RED, resolución log-normal
+        GeneradorCarga generador = new GeneradorCarga(2026);
+        generador.configurarCategorias(4, 2, 2, 1, 1);
+        generador.configurarLlegadas(1.0);
+        generador.configurarResolucion(20.0, 0.8);
+        Traza traza = generador.generar(1_000, 10);
+        System.out.println("Traza generada: " + traza.size() + " operaciones, "
+                + traza.contar(TipoOperacion.CREAR) + " tickets");
+
+        AdaptadorTicketSystem adaptador = new AdaptadorTicketSystem(new TicketSystem());
+        ResultadoReproduccion resultado = ReproductorCarga.reproducir(traza, adaptador, "día simulado");
+        assert resultado.getTotalFallidas() == 0 : "La traza sintética no debería tener fallos";
+        System.out.println(resultado);
+
         // ===================================================================
         System.out.println("\n╔════════════════════════════════════════════════════════════╗");
         System.out.println("║              DEMOSTRACIÓN COMPLETADA EXITOSAMENTE          ║");
@@ -15,6 +15,7 @@ import ticketsystem.enums.*;
 import ticketsystem.interfaces.*;
 import ticketsystem.strategies.*;
 import ticketsystem.observers.*;
+import ticketsystem.carga.*;
 
 /**
  * Demostración AVANZADA del sistema con POLIMORFISMO y patrones de diseño.
@@ -25,6 +26,8 @@ import ticketsystem.observers.*;
  * - PATRÓN STRATEGY: Diferentes algoritmos de asignación intercambiables
  * - PATRÓN OBSERVER: Notificaciones desacopladas de eventos
  * - ESCALABILIDAD: Fácil extensión sin modificar código existente
+ * - CARGA: Grabación de un sistema con GrabadorTraza y reproducción de la
+ * traza sobre otro sistema
  */
 public class DemoAvanzado {
 
@@ -70,7 +73,7 @@ public class DemoAvanzado {
         System.out.println("Estrategia 1: Asignación por Especialidad (primera coincidencia)");
         AsignacionStrategy estrategia1 = new AsignacionPorEspecialidad();
 
-        Tecnico asignado1 = estrategia1.asignarTecnico(tk1, sistema.getTecnicos());
+        Tecnico asignado1 = estrategia1.asignarTecnico(tk1, sistema.getTecnicosDisponibles(tk1.getCategoria()));
         System.out.println("  → Ticket #" + tk1.getId() + " asignado a: " + asignado1.getNombre());
 
         System.out.println("\nEstrategia 2: Asignación Round-Robin (rotación equitativa)");
@@ -88,12 +91,14 @@ public class DemoAvanzado {
         // Crear observadores
         LoggerObserver logger = new LoggerObserver("LOGGER");
         EstadisticasObserver stats = new EstadisticasObserver();
+        TiemposResolucionObserver tiempos = new TiemposResolucionObserver();
 
         System.out.println("Creando sistema con observadores...\n");
 
         TicketSystem sistemaConObservers = new TicketSystem();
         sistemaConObservers.agregarObservador(logger);
         sistemaConObservers.agregarObservador(stats);
+        sistemaConObservers.agregarObservador(tiempos);
 
         // Agregar técnicos
         Tecnico tec1 = new Tecnico(20, "Roberto Seguridad", Categoria.SEGURIDAD);
@@ -101,6 +106,9 @@ public class DemoAvanzado {
         sistemaConObservers.agregarTecnico(tec1);
         sistemaConObservers.agregarTecnico(tec2);
 
+        // El grabador también es un observador: anota cada operación en una traza
+        GrabadorTraza grabador = new GrabadorTraza(sistemaConObservers);
+
         // Crear cliente y tickets - los observadores serán notificados
         Cliente cliente2 = new Cliente(200, "María García", "maria@test.com");
 
@@ -128,6 +136,7 @@ public class DemoAvanzado {
 
         // Mostrar estadísticas recolectadas por el observador
         stats.mostrarEstadisticas();
+        tiempos.mostrarEstadisticas();
 
         // ===================================================================
         System.out.println("\n=== 4. ESCALABILIDAD - EXTENSIÓN SIN MODIFICACIÓN ===\n");
@@ -159,6 +168,19 @@ public class DemoAvanzado {
         System.out.println("  • Bajo acoplamiento entre componentes");
         System.out.println("  • Alto cohesión dentro de cada componente");
 
+        // ===================================================================
+        System.out.println("\n=== 6. GRABACIÓN Y REPRODUCCIÓN DE CARGA ===\n");
+
+        Traza grabada = grabador.getTraza();
+        System.out.println("Operaciones grabadas del sistema con observadores: " + grabada.size());
+        AdaptadorTicketSystem copia = new AdaptadorTicketSystem(new TicketSystem());
+        ResultadoReproduccion reproduccion = ReproductorCarga.reproducir(grabada, copia, "sistema grabado");
+        System.out.println("Reproducidas sobre un sistema nuevo con " + reproduccion.getTotalFallidas()
+                + " fallidas");
+        System.out.println("Tickets resueltos en la copia: "
+                + copia.getSistema().obtenerEstadisticas().getTickets(Estado.RESUELTO));
+        System.out.println("\n→ Una traza grabada en producción se reproduce igual sobre cualquier implementación");
+
         System.out.println("\n╔═══════════════════════════════════════════════════════════════╗");
         System.out.println("║         DEMOSTRACIÓN AVANZADA COMPLETADA EXITOSAMENTE         ║");
         System.out.println("╚═══════════════════════════════════════════════════════════════╝");
@@ -0,0 +1,521 @@
+/*
+ * Taller Práctico 01 - Sistema de Gestión de Tickets
+ * Estructuras de Datos y Algoritmos - 2026-10
+ *
+ * Integrantes:
+ * - [Nombre Completo 1] - ID: [ID1]
+ * - [Nombre Completo 2] - ID: [ID2]
+ * - [Nombre Completo 3] - ID: [ID3]
+ */
+
+package ticketsystem.adt;
+
+import ticketsystem.datastructures.Bag;
+import ticketsystem.datastructures.IntMap;
+import ticketsystem.enums.Categoria;
+import ticketsystem.enums.Estado;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Archivo de tickets cerrados guardado por columnas fuera del heap.
+ *
+ * Cada ticket archivado ocupa una fila: ID, categoría, fechas como long
+ * (nanosegundos desde la época, UTC) y cliente y técnico codificados con un
+ * diccionario. Las columnas viven en buffers directos por segmentos de
+ * 65536 filas; las descripciones se comprimen con Deflater por bloques de
+ * 64 filas. Así un ticket cerrado cuesta decenas de bytes en lugar de un
+ * objeto Ticket con sus fechas y textos en el heap.
+ *
+ * Las consultas (por ID, por categoría y por rango de fechas de creación)
+ * recorren solo las columnas que necesitan y materializan un Ticket
+ * desconectado, en estado CERRADO, por cada resultado. Modificar ese
+ * ticket no afecta al archivo.
+ *
+ * Invariantes:
+ * - Los IDs archivados son únicos
+ * - Las filas no se modifican ni se borran una vez agregadas
+ * - No es seguro para varios hilos
+ */
+public class ArchivoCerrados implements Iterable<Ticket> {
+
+    private static final int BITS_SEGMENTO = 16;
+    private static final int FILAS_POR_SEGMENTO = 1 << BITS_SEGMENTO;
+    private static final int FILAS_POR_BLOQUE = 64;
+    private static final int FILAS_INICIALES = 1024;
+    private static final long SIN_FECHA = Long.MIN_VALUE;
+
+    /**
+     * Columnas de hasta FILAS_POR_SEGMENTO filas consecutivas. Empiezan con
+     * FILAS_INICIALES filas y se duplican al llenarse, así un archivo con
+     * pocos tickets no reserva el segmento completo.
+     */
+    private static class Segmento {
+        IntBuffer ids;
+        ByteBuffer categorias;
+        LongBuffer creacion;
+        LongBuffer resolucion;
+        IntBuffer clientes;
+        IntBuffer tecnicos;
+        // Bloques de descripciones comprimidos, uno tras otro
+        ByteBuffer descripciones;
+        final int[] finBloque;
+        int filas;
+        int capacidad;
+        long creacionMin;
+        long creacionMax;
+
+        Segmento() {
+            ids = ByteBuffer.allocateDirect(FILAS_INICIALES * 4).asIntBuffer();
+            categorias = ByteBuffer.allocateDirect(FILAS_INICIALES);
+            creacion = ByteBuffer.allocateDirect(FILAS_INICIALES * 8).asLongBuffer();
+            resolucion = ByteBuffer.allocateDirect(FILAS_INICIALES * 8).asLongBuffer();
+            clientes = ByteBuffer.allocateDirect(FILAS_INICIALES * 4).asIntBuffer();
+            tecnicos = ByteBuffer.allocateDirect(FILAS_INICIALES * 4).asIntBuffer();
+            descripciones = ByteBuffer.allocateDirect(1024);
+            finBloque = new int[FILAS_POR_SEGMENTO / FILAS_POR_BLOQUE];
+            capacidad = FILAS_INICIALES;
+            creacionMin = Long.MAX_VALUE;
+            creacionMax = Long.MIN_VALUE;
+        }
+
+        /**
+         * Duplica la capacidad de las columnas copiando las filas ya
+         * escritas.
+         */
+        void crecer() {
+            int nueva = Math.min(capacidad * 2, FILAS_POR_SEGMENTO);
+            ids = ByteBuffer.allocateDirect(nueva * 4).asIntBuffer().put(ids.duplicate().limit(filas)).clear();
+            categorias = ByteBuffer.allocateDirect(nueva).put(categorias.duplicate().limit(filas)).clear();
+            creacion = ByteBuffer.allocateDirect(nueva * 8).asLongBuffer()
+                    .put(creacion.duplicate().limit(filas)).clear();
+            resolucion = ByteBuffer.allocateDirect(nueva * 8).asLongBuffer()
+                    .put(resolucion.duplicate().limit(filas)).clear();
+            clientes = ByteBuffer.allocateDirect(nueva * 4).asIntBuffer()
+                    .put(clientes.duplicate().limit(filas)).clear();
+            tecnicos = ByteBuffer.allocateDirect(nueva * 4).asIntBuffer()
+                    .put(tecnicos.duplicate().limit(filas)).clear();
+            capacidad = nueva;
+        }
+    }
+
+    private final ArrayList<Segmento> segmentos;
+    private int size;
+
+    // Diccionarios de clientes y técnicos (pocos objetos compartidos)
+    private final ArrayList<Cliente> clientes;
+    private final IntMap<Integer> codigoCliente;
+    private final ArrayList<Tecnico> tecnicos;
+    private final IntMap<Integer> codigoTecnico;
+
+    // Índice ID -> fila + 1 con direccionamiento abierto (0 = libre)
+    private int[] claves;
+    private int[] filas;
+
+    // Descripciones del bloque en curso, aún sin comprimir
+    private final String[] bloqueAbierto;
+    private final Deflater compresor;
+    private final Inflater descompresor;
+    private byte[] bufferBloque;
+
+    // Último bloque descomprimido, para recorridos secuenciales
+    private int bloqueEnCache;
+    private String[] descripcionesEnCache;
+
+    /**
+     * Constructor que crea un archivo vacío.
+     */
+    public ArchivoCerrados() {
+        this.segmentos = new ArrayList<>();
+        this.size = 0;
+        this.clientes = new ArrayList<>();
+        this.codigoCliente = new IntMap<>();
+        this.tecnicos = new ArrayList<>();
+        this.codigoTecnico = new IntMap<>();
+        this.claves = new int[16];
+        this.filas = new int[16];
+        this.bloqueAbierto = new String[FILAS_POR_BLOQUE];
+        this.compresor = new Deflater();
+        this.descompresor = new Inflater();
+        this.bufferBloque = new byte[4096];
+        this.bloqueEnCache = -1;
+        this.descripcionesEnCache = new String[FILAS_POR_BLOQUE];
+    }
+
+    /**
+     * Agrega un ticket cerrado al archivo. Lo invoca TicketSystem al sacar
+     * el ticket de sus índices.
+     *
+     * @param ticket Ticket en estado CERRADO
+     * @throws IllegalArgumentException si el ticket no está cerrado o su ID ya
+     *                                  está archivado
+     */
+    void archivar(Ticket ticket) {
+        if (ticket.getEstado() != Estado.CERRADO) {
+            throw new IllegalArgumentException("Solo se pueden archivar tickets cerrados: " + ticket.getId());
+        }
+        if (buscarFila(ticket.getId()) >= 0) {
+            throw new IllegalArgumentException("El ticket ya está archivado: " + ticket.getId());
+        }
+
+        int fila = size;
+        int local = fila & (FILAS_POR_SEGMENTO - 1);
+        if (local == 0) {
+            segmentos.add(new Segmento());
+        }
+        Segmento segmento = segmentos.get(segmentos.size() - 1);
+        if (segmento.filas == segmento.capacidad) {
+            segmento.crecer();
+        }
+
+        long creacion = RegistroOperaciones.aNanos(ticket.getFechaCreacion());
+        LocalDateTime resolucion = ticket.getFechaResolucion();
+        segmento.ids.put(local, ticket.getId());
+        segmento.categorias.put(local, (byte) ticket.getCategoria().ordinal());
+        segmento.creacion.put(local, creacion);
+        segmento.resolucion.put(local, resolucion != null ? RegistroOperaciones.aNanos(resolucion) : SIN_FECHA);
+        segmento.clientes.put(local, codificarCliente(ticket.getCliente()));
+        segmento.tecnicos.put(local, ticket.getTecnico() != null ? codificarTecnico(ticket.getTecnico()) : -1);
+        segmento.creacionMin = Math.min(segmento.creacionMin, creacion);
+        segmento.creacionMax = Math.max(segmento.creacionMax, creacion);
+        segmento.filas++;
+
+        bloqueAbierto[fila % FILAS_POR_BLOQUE] = ticket.getDescripcion();
+        if (fila % FILAS_POR_BLOQUE == FILAS_POR_BLOQUE - 1) {
+            sellarBloque(segmento, local / FILAS_POR_BLOQUE);
+        }
+
+        indexar(ticket.getId(), fila);
+        size++;
+    }
+
+    /**
+     * Busca un ticket archivado por su ID.
+     *
+     * @param ticketId ID del ticket
+     * @return Copia del ticket archivado, o null si no está en el archivo
+     */
+    public Ticket buscarPorId(int ticketId) {
+        int fila = buscarFila(ticketId);
+        return fila < 0 ? null : materializar(fila);
+    }
+
+    /**
+     * Verifica si un ID está archivado.
+     *
+     * @param ticketId ID del ticket
+     * @return true si el ticket está en el archivo
+     */
+    public boolean contiene(int ticketId) {
+        return buscarFila(ticketId) >= 0;
+    }
+
+    /**
+     * Obtiene los tickets archivados de una categoría.
+     *
+     * @param categoria Categoría a consultar
+     * @return Copias de los tickets archivados de esa categoría
+     */
+    public Bag<Ticket> buscarPorCategoria(Categoria categoria) {
+        return buscar(categoria, null, null);
+    }
+
+    /**
+     * Obtiene los tickets archivados creados en un rango de fechas.
+     *
+     * @param desde Inicio del rango (inclusivo)
+     * @param hasta Fin del rango (exclusivo)
+     * @return Copias de los tickets archivados en ese rango
+     */
+    public Bag<Ticket> buscarPorFechaCreacion(LocalDateTime desde, LocalDateTime hasta) {
+        return buscar(null, desde, hasta);
+    }
+
+    /**
+     * Obtiene los tickets archivados que cumplen todos los filtros dados.
+     * Los segmentos cuyo rango de fechas no se cruza con el pedido se
+     * saltan sin leer sus filas.
+     *
+     * @param categoria Categoría, o null para todas
+     * @param desde     Inicio del rango de creación (inclusivo), o null
+     * @param hasta     Fin del rango de creación (exclusivo), o null
+     * @return Copias de los tickets que cumplen los filtros
+     */
+    public Bag<Ticket> buscar(Categoria categoria, LocalDateTime desde, LocalDateTime hasta) {
+        long min = (desde != null) ? RegistroOperaciones.aNanos(desde) : Long.MIN_VALUE;
+        long max = (hasta != null) ? RegistroOperaciones.aNanos(hasta) : Long.MAX_VALUE;
+        Bag<Ticket> resultado = new Bag<>();
+        for (int s = 0; s < segmentos.size(); s++) {
+            Segmento segmento = segmentos.get(s);
+            if (segmento.creacionMax < min || segmento.creacionMin >= max) {
+                continue;
+            }
+            for (int i = 0; i < segmento.filas; i++) {
+                if (categoria != null && segmento.categorias.get(i) != categoria.ordinal()) {
+                    continue;
+                }
+                long creacion = segmento.creacion.get(i);
+                if (creacion >= min && creacion < max) {
+                    resultado.add(materializar((s << BITS_SEGMENTO) | i));
+                }
+            }
+        }
+        return resultado;
+    }
+
+    /**
+     * Cuenta los tickets archivados de una categoría leyendo solo esa
+     * columna.
+     *
+     * @param categoria Categoría a contar
+     * @return Número de tickets archivados de esa categoría
+     */
+    public int contar(Categoria categoria) {
+        int total = 0;
+        for (Segmento segmento : segmentos) {
+            for (int i = 0; i < segmento.filas; i++) {
+                if (segmento.categorias.get(i) == categoria.ordinal()) {
+                    total++;
+                }
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Retorna el número de tickets archivados.
+     *
+     * @return Tamaño del archivo
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Verifica si el archivo está vacío.
+     *
+     * @return true si no hay tickets archivados
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Calcula la memoria fuera del heap reservada por las columnas.
+     *
+     * @return Bytes reservados en buffers directos
+     */
+    public long getBytesFueraDelHeap() {
+        long total = 0;
+        for (Segmento segmento : segmentos) {
+            total += (long) segmento.capacidad * (4 + 1 + 8 + 8 + 4 + 4) + segmento.descripciones.capacity();
+        }
+        return total;
+    }
+
+    /**
+     * Retorna un iterador sobre copias de todos los tickets archivados, en
+     * orden de archivo.
+     *
+     * @return Iterator sobre los tickets archivados
+     */
+    @Override
+    public Iterator<Ticket> iterator() {
+        return new Iterator<Ticket>() {
+            private int fila = 0;
+
+            @Override
+            public boolean hasNext() {
+                return fila < size;
+            }
+
+            @Override
+            public Ticket next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return materializar(fila++);
+            }
+        };
+    }
+
+    /**
+     * Reconstruye un Ticket desconectado a partir de una fila.
+     */
+    private Ticket materializar(int fila) {
+        Segmento segmento = segmentos.get(fila >>> BITS_SEGMENTO);
+        int local = fila & (FILAS_POR_SEGMENTO - 1);
+        long resolucion = segmento.resolucion.get(local);
+        int tecnico = segmento.tecnicos.get(local);
+
+        Ticket ticket = new Ticket(segmento.ids.get(local), descripcion(fila),
+                Categoria.values()[segmento.categorias.get(local)], clientes.get(segmento.clientes.get(local)),
+                RegistroOperaciones.deNanos(segmento.creacion.get(local)));
+        ticket.restaurarEstado(Estado.CERRADO, tecnico >= 0 ? tecnicos.get(tecnico) : null,
+                resolucion != SIN_FECHA ? RegistroOperaciones.deNanos(resolucion) : null);
+        return ticket;
+    }
+
+    /**
+     * Obtiene la descripción de una fila, descomprimiendo su bloque si ya
+     * fue sellado.
+     */
+    private String descripcion(int fila) {
+        int bloque = fila / FILAS_POR_BLOQUE;
+        if (bloque == size / FILAS_POR_BLOQUE) {
+            return bloqueAbierto[fila % FILAS_POR_BLOQUE];
+        }
+        if (bloque != bloqueEnCache) {
+            descomprimir(bloque);
+        }
+        return descripcionesEnCache[fila % FILAS_POR_BLOQUE];
+    }
+
+    /**
+     * Comprime las descripciones del bloque en curso y las agrega al
+     * segmento. Formato sin comprimir: [longitud int][UTF-8] por fila.
+     */
+    private void sellarBloque(Segmento segmento, int bloqueLocal) {
+        int tamano = 0;
+        byte[][] textos = new byte[FILAS_POR_BLOQUE][];
+        for (int i = 0; i < FILAS_POR_BLOQUE; i++) {
+            textos[i] = bloqueAbierto[i].getBytes(StandardCharsets.UTF_8);
+            tamano += 4 + textos[i].length;
+            bloqueAbierto[i] = null;
+        }
+        ByteBuffer plano = ByteBuffer.allocate(tamano);
+        for (byte[] texto : textos) {
+            plano.putInt(texto.length);
+            plano.put(texto);
+        }
+
+        compresor.reset();
+        compresor.setInput(plano.array());
+        compresor.finish();
+        int comprimido = 0;
+        while (true) {
+            comprimido += compresor.deflate(bufferBloque, comprimido, bufferBloque.length - comprimido);
+            if (compresor.finished()) {
+                break;
+            }
+            bufferBloque = Arrays.copyOf(bufferBloque, bufferBloque.length * 2);
+        }
+
+        ByteBuffer destino = segmento.descripciones;
+        if (destino.remaining() < 4 + comprimido) {
+            ByteBuffer mayor = ByteBuffer.allocateDirect(Math.max(destino.capacity() * 2,
+                    destino.position() + 4 + comprimido));
+            destino.flip();
+            mayor.put(destino);
+            segmento.descripciones = destino = mayor;
+        }
+        destino.putInt(tamano);
+        destino.put(bufferBloque, 0, comprimido);
+        segmento.finBloque[bloqueLocal] = destino.position();
+    }
+
+    /**
+     * Descomprime un bloque sellado en la caché de descripciones.
+     */
+    private void descomprimir(int bloque) {
+        Segmento segmento = segmentos.get(bloque / (FILAS_POR_SEGMENTO / FILAS_POR_BLOQUE));
+        int local = bloque % (FILAS_POR_SEGMENTO / FILAS_POR_BLOQUE);
+        int inicio = (local == 0) ? 0 : segmento.finBloque[local - 1];
+        int fin = segmento.finBloque[local];
+
+        int tamano = segmento.descripciones.getInt(inicio);
+        byte[] comprimido = new byte[fin - inicio - 4];
+        segmento.descripciones.get(inicio + 4, comprimido);
+        byte[] plano = new byte[tamano];
+        descompresor.reset();
+        descompresor.setInput(comprimido);
+        try {
+            descompresor.inflate(plano);
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Bloque de descripciones dañado: " + bloque, e);
+        }
+
+        ByteBuffer lector = ByteBuffer.wrap(plano);
+        for (int i = 0; i < FILAS_POR_BLOQUE; i++) {
+            int longitud = lector.getInt();
+            descripcionesEnCache[i] = new String(plano, lector.position(), longitud, StandardCharsets.UTF_8);
+            lector.position(lector.position() + longitud);
+        }
+        bloqueEnCache = bloque;
+    }
+
+    private int codificarCliente(Cliente cliente) {
+        Integer codigo = codigoCliente.get(cliente.getId());
+        if (codigo == null) {
+            codigo = clientes.size();
+            clientes.add(cliente);
+            codigoCliente.put(cliente.getId(), codigo);
+        }
+        return codigo;
+    }
+
+    private int codificarTecnico(Tecnico tecnico) {
+        Integer codigo = codigoTecnico.get(tecnico.getId());
+        if (codigo == null) {
+            codigo = tecnicos.size();
+            tecnicos.add(tecnico);
+            codigoTecnico.put(tecnico.getId(), codigo);
+        }
+        return codigo;
+    }
+
+    /**
+     * Retorna la fila de un ID, o -1 si no está archivado.
+     */
+    private int buscarFila(int ticketId) {
+        int mascara = claves.length - 1;
+        int i = indiceInicial(ticketId, mascara);
+        while (filas[i] != 0) {
+            if (claves[i] == ticketId) {
+                return filas[i] - 1;
+            }
+            i = (i + 1) & mascara;
+        }
+        return -1;
+    }
+
+    private void indexar(int ticketId, int fila) {
+        if ((size + 1) * 2 > claves.length) {
+            int[] viejasClaves = claves;
+            int[] viejasFilas = filas;
+            claves = new int[viejasClaves.length * 2];
+            filas = new int[viejasClaves.length * 2];
+            for (int j = 0; j < viejasClaves.length; j++) {
+                if (viejasFilas[j] != 0) {
+                    insertar(viejasClaves[j], viejasFilas[j]);
+                }
+            }
+        }
+        insertar(ticketId, fila + 1);
+    }
+
+    private void insertar(int clave, int valor) {
+        int mascara = claves.length - 1;
+        int i = indiceInicial(clave, mascara);
+        while (filas[i] != 0) {
+            i = (i + 1) & mascara;
+        }
+        claves[i] = clave;
+        filas[i] = valor;
+    }
+
+    private static int indiceInicial(int clave, int mascara) {
+        int h = clave * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & mascara;
+    }
+}
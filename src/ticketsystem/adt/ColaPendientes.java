@@ -0,0 +1,200 @@
+/*
+ * Taller Práctico 01 - Sistema de Gestión de Tickets
+ * Estructuras de Datos y Algoritmos - 2026-10
+ *
+ * Integrantes:
+ * - [Nombre Completo 1] - ID: [ID1]
+ * - [Nombre Completo 2] - ID: [ID2]
+ * - [Nombre Completo 3] - ID: [ID3]
+ */
+
+package ticketsystem.adt;
+
+import ticketsystem.datastructures.RingQueue;
+import ticketsystem.enums.Categoria;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Cola de tickets pendientes separada en una cola FIFO por categoría.
+ * 
+ * Así un ticket que espera técnico en una categoría no bloquea a los de
+ * otras categorías (head-of-line blocking). El orden global de llegada se
+ * conserva dentro de cada categoría, y entre categorías se recupera
+ * comparando IDs, que se asignan en orden de creación.
+ * 
+ * Invariantes:
+ * - Un ticket está a lo sumo una vez en la cola, en la de su categoría
+ * - Ticket.posicionEnCola es su posición en esa cola o FUERA_DE_COLA
+ */
+public class ColaPendientes implements Iterable<Ticket> {
+
+    private final RingQueue<Ticket>[] porCategoria;
+    private int size;
+
+    /**
+     * Constructor que crea una cola vacía por cada categoría.
+     */
+    @SuppressWarnings("unchecked")
+    public ColaPendientes() {
+        this.porCategoria = (RingQueue<Ticket>[]) new RingQueue<?>[Categoria.values().length];
+        for (int c = 0; c < porCategoria.length; c++) {
+            porCategoria[c] = new RingQueue<>(Ticket::setPosicionEnCola);
+        }
+        this.size = 0;
+    }
+
+    /**
+     * Encola un ticket al final de la cola de su categoría.
+     * 
+     * @param ticket Ticket a encolar
+     */
+    void agregar(Ticket ticket) {
+        ticket.setPosicionEnCola(porCategoria[ticket.getCategoria().ordinal()].add(ticket));
+        size++;
+    }
+
+    /**
+     * Saca en O(1) un ticket de cualquier punto de la cola.
+     * 
+     * @param ticket Ticket a sacar
+     * @return true si estaba en la cola, false en caso contrario
+     */
+    boolean remover(Ticket ticket) {
+        long posicion = ticket.getPosicionEnCola();
+        if (posicion == Ticket.FUERA_DE_COLA
+                || !porCategoria[ticket.getCategoria().ordinal()].removeAt(posicion, ticket)) {
+            return false;
+        }
+        ticket.setPosicionEnCola(Ticket.FUERA_DE_COLA);
+        size--;
+        return true;
+    }
+
+    /**
+     * Retorna el ticket más antiguo de una categoría sin sacarlo.
+     * 
+     * @param categoria Categoría a consultar
+     * @return El primer ticket de esa categoría, o null si no hay
+     */
+    public Ticket primero(Categoria categoria) {
+        RingQueue<Ticket> cola = porCategoria[categoria.ordinal()];
+        return cola.isEmpty() ? null : cola.peek();
+    }
+
+    /**
+     * Saca el ticket más antiguo de una categoría.
+     * 
+     * @param categoria Categoría de la cual sacar
+     * @return El ticket sacado
+     * @throws NoSuchElementException si no hay tickets de esa categoría
+     */
+    Ticket sacarPrimero(Categoria categoria) {
+        Ticket ticket = porCategoria[categoria.ordinal()].remove();
+        ticket.setPosicionEnCola(Ticket.FUERA_DE_COLA);
+        size--;
+        return ticket;
+    }
+
+    /**
+     * Retorna el ticket más antiguo de todas las categorías sin sacarlo.
+     * 
+     * @return El ticket más antiguo
+     * @throws NoSuchElementException si la cola está vacía
+     */
+    public Ticket peek() {
+        Ticket masAntiguo = null;
+        for (RingQueue<Ticket> cola : porCategoria) {
+            if (!cola.isEmpty() && (masAntiguo == null || cola.peek().getId() < masAntiguo.getId())) {
+                masAntiguo = cola.peek();
+            }
+        }
+        if (masAntiguo == null) {
+            throw new NoSuchElementException("La cola está vacía");
+        }
+        return masAntiguo;
+    }
+
+    /**
+     * Retorna el número de tickets pendientes de una categoría.
+     * 
+     * @param categoria Categoría a consultar
+     * @return Tickets pendientes de esa categoría
+     */
+    public int size(Categoria categoria) {
+        return porCategoria[categoria.ordinal()].size();
+    }
+
+    /**
+     * Retorna el número total de tickets pendientes.
+     * 
+     * @return Número de tickets en la cola
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Verifica si no hay tickets pendientes.
+     * 
+     * @return true si la cola está vacía, false en caso contrario
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Retorna un iterador que recorre todos los pendientes en orden global
+     * de llegada, mezclando las colas por categoría según el ID.
+     * 
+     * @return Iterator sobre los tickets pendientes
+     */
+    @Override
+    public Iterator<Ticket> iterator() {
+        return new ColaPendientesIterator();
+    }
+
+    /**
+     * Clase interna que mezcla los iteradores de cada categoría.
+     */
+    private class ColaPendientesIterator implements Iterator<Ticket> {
+        private final Iterator<Ticket>[] iteradores;
+        private final Ticket[] siguientes;
+
+        @SuppressWarnings("unchecked")
+        ColaPendientesIterator() {
+            iteradores = (Iterator<Ticket>[]) new Iterator<?>[porCategoria.length];
+            siguientes = new Ticket[porCategoria.length];
+            for (int c = 0; c < porCategoria.length; c++) {
+                iteradores[c] = porCategoria[c].iterator();
+                siguientes[c] = iteradores[c].hasNext() ? iteradores[c].next() : null;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            for (Ticket t : siguientes) {
+                if (t != null) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public Ticket next() {
+            int menor = -1;
+            for (int c = 0; c < siguientes.length; c++) {
+                if (siguientes[c] != null && (menor < 0 || siguientes[c].getId() < siguientes[menor].getId())) {
+                    menor = c;
+                }
+            }
+            if (menor < 0) {
+                throw new NoSuchElementException();
+            }
+            Ticket actual = siguientes[menor];
+            siguientes[menor] = iteradores[menor].hasNext() ? iteradores[menor].next() : null;
+            return actual;
+        }
+    }
+}
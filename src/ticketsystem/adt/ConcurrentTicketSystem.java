@@ -0,0 +1,703 @@
+/*
+ * Taller Práctico 01 - Sistema de Gestión de Tickets
+ * Estructuras de Datos y Algoritmos - 2026-10
+ *
+ * Integrantes:
+ * - [Nombre Completo 1] - ID: [ID1]
+ * - [Nombre Completo 2] - ID: [ID2]
+ * - [Nombre Completo 3] - ID: [ID3]
+ */
+
+package ticketsystem.adt;
+
+import ticketsystem.datastructures.Bag;
+import ticketsystem.datastructures.ConcurrentSegmentedIntMap;
+import ticketsystem.datastructures.MpscQueue;
+import ticketsystem.enums.Categoria;
+import ticketsystem.enums.Estado;
+import ticketsystem.enums.OperacionSistema;
+import ticketsystem.enums.TipoEvento;
+import ticketsystem.interfaces.TicketObserver;
+import ticketsystem.jfr.EventosJfr;
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * ADT ConcurrentTicketSystem - Variante de TicketSystem segura para varios
+ * hilos, sin un lock global.
+ *
+ * El sistema se divide en una partición por categoría: cada una es un
+ * TicketSystem con los tickets de esa categoría y los técnicos de esa
+ * especialidad, protegido por su propio lock (lock striping). Los IDs se
+ * reparten con un contador atómico y el índice global por ID no usa locks,
+ * así que operaciones sobre categorías distintas no compiten entre sí.
+ * Un técnico solo se modifica bajo el lock de la partición de su
+ * especialidad, que ya excluye a otros hilos; por eso su especialidad no
+ * puede cambiar mientras esté registrado (Tecnico.setEspecialidad lo
+ * rechaza).
+ *
+ * Invariantes:
+ * - Cada ticket y cada técnico pertenece a la partición de su categoría
+ * - Los locks de dos particiones se toman siempre en orden de ordinal
+ * - El orden FIFO se garantiza dentro de cada categoría
+ *
+ * Con la cola de ingreso sin locks activada, crearTicket no toma ningún
+ * lock: el ticket se publica en una cola MPSC y el despachador lo pasa a
+ * la cola de su categoría (y notifica su creación, como un lote por
+ * categoría) en la siguiente asignación. Así los productores no se
+ * bloquean entre sí ni al despachador.
+ *
+ * Los tickets y técnicos solo deben modificarse a través de este sistema;
+ * los observadores pueden recibir eventos desde varios hilos a la vez.
+ *
+ * Todas las particiones registran latencias en las mismas métricas
+ * (getMetricas). Cada operación se mide dentro de su partición, sin la
+ * espera por el lock, salvo crearTicket, que se mide completa;
+ * asignarTicketAutomatico registra un intento por partición consultada.
+ * Lo mismo vale para los eventos de JFR (EventosJfr): la profundidad de
+ * cola que informan es la de la partición del ticket.
+ */
+public class ConcurrentTicketSystem {
+
+    private final TicketSystem[] particiones;
+    private final ReentrantLock[] locks;
+    private final ConcurrentSegmentedIntMap<Ticket> ticketsPorId;
+    private final AtomicInteger proximoTicketId;
+    // Categoría desde la que empieza la próxima asignación automática, para
+    // repartir el trabajo entre categorías
+    private final AtomicInteger turno;
+
+    // Cola de ingreso sin locks (null si no está activada)
+    private final MpscQueue<Ticket> ingreso;
+    private final LongAdder enIngreso;
+    // Garantiza un único consumidor de la cola de ingreso
+    private final ReentrantLock consumidor;
+    private final ArrayList<Ticket>[] porDistribuir;
+
+    // Latencias compartidas por todas las particiones
+    private final MetricasOperaciones metricas;
+
+    /**
+     * Constructor que inicializa una partición por categoría, con creación
+     * de tickets bajo el lock de su categoría.
+     */
+    public ConcurrentTicketSystem() {
+        this(false);
+    }
+
+    /**
+     * Constructor que inicializa una partición por categoría.
+     *
+     * @param ingresoSinLocks true para que crearTicket publique en una cola
+     *                        MPSC sin locks en lugar de tomar el lock de la
+     *                        categoría
+     */
+    @SuppressWarnings("unchecked")
+    public ConcurrentTicketSystem(boolean ingresoSinLocks) {
+        int numCategorias = Categoria.values().length;
+        this.particiones = new TicketSystem[numCategorias];
+        this.locks = new ReentrantLock[numCategorias];
+        this.metricas = new MetricasOperaciones();
+        for (int c = 0; c < numCategorias; c++) {
+            particiones[c] = new TicketSystem();
+            particiones[c].marcarComoParticion();
+            particiones[c].usarMetricas(metricas);
+            locks[c] = new ReentrantLock();
+        }
+        this.ticketsPorId = new ConcurrentSegmentedIntMap<>();
+        this.proximoTicketId = new AtomicInteger(1);
+        this.turno = new AtomicInteger();
+
+        this.ingreso = ingresoSinLocks ? new MpscQueue<>() : null;
+        this.enIngreso = new LongAdder();
+        this.consumidor = new ReentrantLock();
+        this.porDistribuir = (ArrayList<Ticket>[]) new ArrayList<?>[numCategorias];
+        for (int c = 0; c < numCategorias; c++) {
+            porDistribuir[c] = new ArrayList<>();
+        }
+    }
+
+    /**
+     * Crea y registra un nuevo ticket. Solo toma el lock de su categoría, o
+     * ninguno si la cola de ingreso sin locks está activada.
+     *
+     * @param descripcion Descripción del problema
+     * @param categoria   Categoría del ticket
+     * @param cliente     Cliente que reporta el ticket
+     * @return El ticket creado
+     * @throws IllegalArgumentException si la categoría no es válida
+     */
+    public Ticket crearTicket(String descripcion, Categoria categoria, Cliente cliente) {
+        if (categoria == null) {
+            throw new IllegalArgumentException("Categoría no válida: " + categoria);
+        }
+
+        long inicio = metricas.iniciar();
+        Ticket ticket = new Ticket(proximoTicketId.getAndIncrement(), descripcion, categoria, cliente);
+
+        if (ingreso != null) {
+            enIngreso.increment();
+            ingreso.offer(ticket);
+            // Visible por ID solo después de estar enlazado en la cola
+            ticketsPorId.put(ticket.getId(), ticket);
+            metricas.registrar(OperacionSistema.CREAR_TICKET, inicio);
+            return ticket;
+        }
+
+        ReentrantLock lock = locks[categoria.ordinal()];
+        lock.lock();
+        try {
+            TicketSystem particion = particiones[categoria.ordinal()];
+            particion.registrarTicket(ticket);
+            EventosJfr.ticketCreado(ticket, particion.getTicketsPendientes());
+            // Publicar en el índice global solo cuando la partición ya lo tiene
+            ticketsPorId.put(ticket.getId(), ticket);
+            particion.notificarTicketCreado(ticket);
+        } finally {
+            lock.unlock();
+        }
+        metricas.registrar(OperacionSistema.CREAR_TICKET, inicio);
+        return ticket;
+    }
+
+    /**
+     * Asigna un ticket pendiente a un técnico disponible de su especialidad.
+     * Recorre las categorías empezando por una distinta en cada llamada y
+     * toma un solo lock a la vez.
+     *
+     * @return El ticket asignado, o null si no hay nada asignable
+     */
+    public Ticket asignarTicketAutomatico() {
+        drenarIngreso(false);
+        int inicio = Math.floorMod(turno.getAndIncrement(), particiones.length);
+        for (int i = 0; i < particiones.length; i++) {
+            int c = (inicio + i) % particiones.length;
+            locks[c].lock();
+            try {
+                Ticket ticket = particiones[c].asignarTicketAutomatico();
+                if (ticket != null) {
+                    return ticket;
+                }
+            } finally {
+                locks[c].unlock();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Asigna hasta max tickets pendientes, categoría por categoría. Los
+     * observadores reciben un evento de lote por cada categoría con
+     * asignaciones.
+     *
+     * @param max Número máximo de tickets a asignar
+     * @return Las asignaciones realizadas (vacío si no hubo ninguna)
+     * @throws IllegalArgumentException si max es negativo
+     */
+    public LoteAsignacion asignarLote(int max) {
+        if (max < 0) {
+            throw new IllegalArgumentException("El máximo no puede ser negativo: " + max);
+        }
+
+        drenarIngreso(false);
+        LoteAsignacion resultado = new LoteAsignacion(0);
+        for (int c = 0; c < particiones.length && resultado.size() < max; c++) {
+            locks[c].lock();
+            try {
+                for (Ticket ticket : particiones[c].asignarLote(max - resultado.size())) {
+                    resultado.agregar(ticket);
+                }
+            } finally {
+                locks[c].unlock();
+            }
+        }
+        return resultado;
+    }
+
+    /**
+     * Asigna todos los tickets pendientes que tengan un técnico disponible.
+     *
+     * @return Las asignaciones realizadas (vacío si no hubo ninguna)
+     */
+    public LoteAsignacion asignarTodos() {
+        return asignarLote(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Asigna un ticket específico a un técnico específico. Toma los locks de
+     * la categoría del ticket y de la especialidad del técnico.
+     *
+     * @param ticket  Ticket a asignar
+     * @param tecnico Técnico al que se asignará
+     * @throws IllegalStateException si el técnico no está disponible
+     */
+    public void asignarTicketManual(Ticket ticket, Tecnico tecnico) {
+        asegurarRegistrado(ticket);
+        int a = ticket.getCategoria().ordinal();
+        int b = tecnico.getEspecialidad().ordinal();
+        bloquear(a, b);
+        try {
+            particiones[a].asignarTicketManual(ticket, tecnico);
+        } finally {
+            desbloquear(a, b);
+        }
+    }
+
+    /**
+     * Cambia el estado de un ticket.
+     *
+     * @param ticketId    ID del ticket
+     * @param nuevoEstado Nuevo estado
+     * @throws IllegalArgumentException si el ticket no existe
+     */
+    public void cambiarEstadoTicket(int ticketId, Estado nuevoEstado) {
+        int c = buscarTicket(ticketId).getCategoria().ordinal();
+        locks[c].lock();
+        try {
+            particiones[c].cambiarEstadoTicket(ticketId, nuevoEstado);
+        } finally {
+            locks[c].unlock();
+        }
+    }
+
+    /**
+     * Marca un ticket como resuelto y libera al técnico. Toma los locks de
+     * la categoría del ticket y de la especialidad de su técnico.
+     *
+     * @param ticketId ID del ticket
+     * @throws IllegalArgumentException si el ticket no existe
+     */
+    public void resolverTicket(int ticketId) {
+        Ticket ticket = buscarTicket(ticketId);
+        int a = ticket.getCategoria().ordinal();
+        while (true) {
+            Tecnico tecnico = ticket.getTecnico();
+            int b = (tecnico != null) ? tecnico.getEspecialidad().ordinal() : a;
+            bloquear(a, b);
+            try {
+                // Reintentar si el técnico cambió antes de tomar los locks
+                if (ticket.getTecnico() == tecnico) {
+                    particiones[a].resolverTicket(ticketId);
+                    return;
+                }
+            } finally {
+                desbloquear(a, b);
+            }
+        }
+    }
+
+    /**
+     * Cierra un ticket resuelto.
+     *
+     * @param ticketId ID del ticket
+     * @throws IllegalArgumentException si el ticket no existe
+     */
+    public void cerrarTicket(int ticketId) {
+        int c = buscarTicket(ticketId).getCategoria().ordinal();
+        locks[c].lock();
+        try {
+            particiones[c].cerrarTicket(ticketId);
+        } finally {
+            locks[c].unlock();
+        }
+    }
+
+    /**
+     * Agrega un técnico a la partición de su especialidad.
+     *
+     * @param tecnico Técnico a agregar
+     */
+    public void agregarTecnico(Tecnico tecnico) {
+        if (tecnico == null) {
+            throw new IllegalArgumentException("El técnico no puede ser null");
+        }
+        int c = tecnico.getEspecialidad().ordinal();
+        locks[c].lock();
+        try {
+            particiones[c].agregarTecnico(tecnico);
+        } finally {
+            locks[c].unlock();
+        }
+    }
+
+    /**
+     * Agrega un observador a todas las particiones.
+     *
+     * @param observador Observador a agregar
+     */
+    public void agregarObservador(TicketObserver observador) {
+        for (int c = 0; c < particiones.length; c++) {
+            locks[c].lock();
+            try {
+                particiones[c].agregarObservador(observador);
+            } finally {
+                locks[c].unlock();
+            }
+        }
+    }
+
+    /**
+     * Suscribe un observador, en todas las particiones, solo a los tipos de
+     * evento indicados.
+     *
+     * @param observador Observador a suscribir
+     * @param tipos      Tipos de evento que le interesan
+     */
+    public void suscribir(TicketObserver observador, TipoEvento... tipos) {
+        for (int c = 0; c < particiones.length; c++) {
+            locks[c].lock();
+            try {
+                particiones[c].suscribir(observador, tipos);
+            } finally {
+                locks[c].unlock();
+            }
+        }
+    }
+
+    /**
+     * Busca un ticket por su ID sin tomar locks.
+     *
+     * @param ticketId ID del ticket
+     * @return El ticket encontrado, o null si no existe
+     */
+    public Ticket buscarTicketPorId(int ticketId) {
+        return ticketsPorId.get(ticketId);
+    }
+
+    /**
+     * Obtiene los tickets con un estado específico. Drena antes la cola de
+     * ingreso para incluir los tickets recién creados.
+     *
+     * @param estado Estado a filtrar
+     * @return Bag con los tickets que tienen ese estado
+     */
+    public Bag<Ticket> obtenerTicketsPorEstado(Estado estado) {
+        drenarIngreso(true);
+        Bag<Ticket> resultado = new Bag<>();
+        for (int c = 0; c < particiones.length; c++) {
+            locks[c].lock();
+            try {
+                for (Ticket ticket : particiones[c].obtenerTickets(Categoria.values()[c], estado)) {
+                    resultado.add(ticket);
+                }
+            } finally {
+                locks[c].unlock();
+            }
+        }
+        return resultado;
+    }
+
+    /**
+     * Obtiene los tickets de una categoría. Drena antes la cola de ingreso y
+     * luego solo toma el lock de esa categoría.
+     *
+     * @param categoria Categoría a filtrar
+     * @return Bag con los tickets de esa categoría
+     */
+    public Bag<Ticket> obtenerTicketsPorCategoria(Categoria categoria) {
+        drenarIngreso(true);
+        int c = categoria.ordinal();
+        locks[c].lock();
+        try {
+            return particiones[c].obtenerTicketsPorCategoria(categoria);
+        } finally {
+            locks[c].unlock();
+        }
+    }
+
+    /**
+     * Cuenta los tickets de una categoría en un estado dado, incluyendo los
+     * que seguían en la cola de ingreso.
+     *
+     * @param categoria Categoría a consultar
+     * @param estado    Estado a consultar
+     * @return Número de tickets de esa categoría y estado
+     */
+    public int contarTickets(Categoria categoria, Estado estado) {
+        drenarIngreso(true);
+        int c = categoria.ordinal();
+        locks[c].lock();
+        try {
+            return particiones[c].contarTickets(categoria, estado);
+        } finally {
+            locks[c].unlock();
+        }
+    }
+
+    /**
+     * Obtiene una instantánea de las estadísticas sumando las de cada
+     * partición. Cada partición se lee bajo su lock, una a la vez.
+     *
+     * @return Estadísticas del sistema
+     */
+    public EstadisticasSistema obtenerEstadisticas() {
+        int total = 0;
+        int pendientes = 0;
+        int[] porEstado = new int[Estado.values().length];
+        int disponibles = 0;
+        int ocupados = 0;
+        for (int c = 0; c < particiones.length; c++) {
+            EstadisticasSistema parcial;
+            locks[c].lock();
+            try {
+                parcial = particiones[c].obtenerEstadisticas();
+            } finally {
+                locks[c].unlock();
+            }
+            total += parcial.getTotalTickets();
+            pendientes += parcial.getTicketsPendientes();
+            for (Estado estado : Estado.values()) {
+                porEstado[estado.ordinal()] += parcial.getTickets(estado);
+            }
+            disponibles += parcial.getTecnicosDisponibles();
+            ocupados += parcial.getTecnicosOcupados();
+        }
+
+        // Tickets publicados que el despachador aún no distribuye
+        int enCola = (int) enIngreso.sum();
+        total += enCola;
+        pendientes += enCola;
+        porEstado[Estado.NUEVO.ordinal()] += enCola;
+        return new EstadisticasSistema(total, pendientes, porEstado, disponibles, ocupados);
+    }
+
+    /**
+     * Genera estadísticas del sistema.
+     *
+     * @return String con las estadísticas
+     */
+    public String generarEstadisticas() {
+        return obtenerEstadisticas().toString();
+    }
+
+    /**
+     * Activa o desactiva la medición de latencias en todas las particiones.
+     *
+     * @param activas true para medir
+     */
+    public void configurarMetricas(boolean activas) {
+        metricas.configurar(activas);
+    }
+
+    public MetricasOperaciones getMetricas() {
+        return metricas;
+    }
+
+    /**
+     * Busca un ticket o lanza excepción si no existe. Si sigue en la cola de
+     * ingreso, la drena para que su partición ya lo tenga.
+     */
+    private Ticket buscarTicket(int ticketId) {
+        Ticket ticket = ticketsPorId.get(ticketId);
+        if (ticket == null) {
+            throw new IllegalArgumentException("Ticket no encontrado: " + ticketId);
+        }
+        asegurarRegistrado(ticket);
+        return ticket;
+    }
+
+    /**
+     * Espera a que un ticket de la cola de ingreso llegue a su partición,
+     * drenando la cola si hace falta.
+     */
+    private void asegurarRegistrado(Ticket ticket) {
+        if (ingreso == null) {
+            return;
+        }
+        while (!estaRegistrado(ticket)) {
+            drenarIngreso(true);
+        }
+    }
+
+    /**
+     * Verifica bajo el lock de su categoría si el ticket ya está en su
+     * partición.
+     */
+    private boolean estaRegistrado(Ticket ticket) {
+        int c = ticket.getCategoria().ordinal();
+        locks[c].lock();
+        try {
+            return ticket.getSistema() != null;
+        } finally {
+            locks[c].unlock();
+        }
+    }
+
+    /**
+     * Pasa los tickets de la cola de ingreso a las colas de sus categorías,
+     * tomando cada lock de categoría una sola vez por lote, y notifica su
+     * creación.
+     *
+     * @param esperar true para esperar si otro hilo está drenando; false para
+     *                omitir el drenado en ese caso
+     */
+    private void drenarIngreso(boolean esperar) {
+        if (ingreso == null) {
+            return;
+        }
+        if (esperar) {
+            consumidor.lock();
+        } else if (!consumidor.tryLock()) {
+            return;
+        }
+
+        try {
+            int drenados = 0;
+            Ticket ticket;
+            while ((ticket = ingreso.poll()) != null) {
+                porDistribuir[ticket.getCategoria().ordinal()].add(ticket);
+                drenados++;
+            }
+            if (drenados == 0) {
+                return;
+            }
+
+            for (int c = 0; c < particiones.length; c++) {
+                ArrayList<Ticket> tickets = porDistribuir[c];
+                if (tickets.isEmpty()) {
+                    continue;
+                }
+                locks[c].lock();
+                try {
+                    for (Ticket t : tickets) {
+                        particiones[c].registrarTicket(t);
+                        EventosJfr.ticketCreado(t, particiones[c].getTicketsPendientes());
+                    }
+                    enIngreso.add(-tickets.size());
+                    particiones[c].notificarTicketsCreados(new ArrayList<>(tickets));
+                } finally {
+                    locks[c].unlock();
+                }
+                tickets.clear();
+            }
+        } finally {
+            consumidor.unlock();
+        }
+    }
+
+    /**
+     * Toma los locks de dos particiones en orden de ordinal para evitar
+     * interbloqueos. Si son la misma, la toma una sola vez.
+     */
+    private void bloquear(int a, int b) {
+        locks[Math.min(a, b)].lock();
+        if (a != b) {
+            locks[Math.max(a, b)].lock();
+        }
+    }
+
+    /**
+     * Libera los locks tomados por bloquear.
+     */
+    private void desbloquear(int a, int b) {
+        if (a != b) {
+            locks[Math.max(a, b)].unlock();
+        }
+        locks[Math.min(a, b)].unlock();
+    }
+
+    /**
+     * Método main con casos de prueba.
+     */
+    public static void main(String[] args) throws InterruptedException {
+        System.out.println("=== Pruebas del ADT ConcurrentTicketSystem ===\n");
+
+        ConcurrentTicketSystem sistema = new ConcurrentTicketSystem();
+        Cliente cliente = new Cliente(1, "Juan Pérez", "juan@example.com");
+        for (int i = 0; i < 10; i++) {
+            sistema.agregarTecnico(new Tecnico(i, "Técnico " + i, Categoria.values()[i % 5]));
+        }
+
+        // Test 1: Creación concurrente sin IDs repetidos
+        int hilos = 4;
+        int porHilo = 2500;
+        Thread[] productores = new Thread[hilos];
+        for (int h = 0; h < hilos; h++) {
+            final int hilo = h;
+            productores[h] = new Thread(() -> {
+                for (int i = 0; i < porHilo; i++) {
+                    sistema.crearTicket("Ticket " + i, Categoria.values()[(hilo + i) % 5], cliente);
+                }
+            });
+            productores[h].start();
+        }
+        for (Thread t : productores) {
+            t.join();
+        }
+        assert sistema.obtenerEstadisticas().getTotalTickets() == hilos * porHilo
+                : "Test 1 falló: Total de tickets incorrecto";
+        for (int id = 1; id <= hilos * porHilo; id++) {
+            assert sistema.buscarTicketPorId(id) != null : "Test 1 falló: Falta el ticket " + id;
+        }
+        System.out.println("✓ Test 1 pasado: Creación concurrente con IDs únicos");
+
+        // Test 2: Asignación concurrente sin técnicos con dos tickets
+        Thread[] despachadores = new Thread[hilos];
+        for (int h = 0; h < hilos; h++) {
+            despachadores[h] = new Thread(() -> {
+                while (sistema.asignarTicketAutomatico() != null) {
+                    // seguir asignando
+                }
+            });
+            despachadores[h].start();
+        }
+        for (Thread t : despachadores) {
+            t.join();
+        }
+        EstadisticasSistema stats = sistema.obtenerEstadisticas();
+        assert stats.getTickets(Estado.ASIGNADO) == 10 : "Test 2 falló: Deberían asignarse 10 tickets";
+        assert stats.getTecnicosDisponibles() == 0 : "Test 2 falló: No deberían quedar técnicos libres";
+        System.out.println("✓ Test 2 pasado: Asignación concurrente sin dobles asignaciones");
+
+        // Test 3: Resolver libera al técnico en su partición
+        Ticket asignado = sistema.obtenerTicketsPorEstado(Estado.ASIGNADO).iterator().next();
+        sistema.cambiarEstadoTicket(asignado.getId(), Estado.EN_PROGRESO);
+        sistema.resolverTicket(asignado.getId());
+        assert sistema.obtenerEstadisticas().getTecnicosDisponibles() == 1 : "Test 3 falló: Técnico no liberado";
+        System.out.println("✓ Test 3 pasado: Resolver libera al técnico");
+
+        // Test 4: Cola de ingreso sin locks
+        ConcurrentTicketSystem conIngreso = new ConcurrentTicketSystem(true);
+        conIngreso.agregarTecnico(new Tecnico(1, "Ana Red", Categoria.RED));
+        for (int h = 0; h < hilos; h++) {
+            productores[h] = new Thread(() -> {
+                for (int i = 0; i < porHilo; i++) {
+                    conIngreso.crearTicket("Ticket " + i, Categoria.RED, cliente);
+                }
+            });
+            productores[h].start();
+        }
+        for (Thread t : productores) {
+            t.join();
+        }
+        assert conIngreso.obtenerEstadisticas().getTicketsPendientes() == hilos * porHilo
+                : "Test 4 falló: Pendientes incorrectos antes de drenar";
+        assert conIngreso.contarTickets(Categoria.RED, Estado.NUEVO) == hilos * porHilo
+                : "Test 4 falló: contarTickets omite la cola de ingreso";
+        assert conIngreso.obtenerTicketsPorCategoria(Categoria.RED).size() == hilos * porHilo
+                : "Test 4 falló: obtenerTicketsPorCategoria omite la cola de ingreso";
+        assert conIngreso.obtenerTicketsPorEstado(Estado.NUEVO).size() == hilos * porHilo
+                : "Test 4 falló: obtenerTicketsPorEstado omite la cola de ingreso";
+        Ticket primero = conIngreso.asignarTicketAutomatico();
+        assert primero != null : "Test 4 falló: Debería asignarse un ticket";
+        assert conIngreso.obtenerEstadisticas().getTicketsPendientes() == hilos * porHilo - 1
+                : "Test 4 falló: Pendientes incorrectos después de drenar";
+        System.out.println("✓ Test 4 pasado: Cola de ingreso sin locks");
+
+        // Test 5: La especialidad no cambia mientras el técnico esté en una partición
+        Tecnico fijo = new Tecnico(99, "Eva Red", Categoria.RED);
+        sistema.agregarTecnico(fijo);
+        try {
+            fijo.setEspecialidad(Categoria.HARDWARE);
+            assert false : "Test 5 falló: Debería rechazar el cambio de especialidad";
+        } catch (IllegalStateException e) {
+            // Esperado
+        }
+        assert fijo.getEspecialidad() == Categoria.RED : "Test 5 falló: La especialidad cambió";
+        System.out.println("✓ Test 5 pasado: Cambio de especialidad rechazado en modo concurrente");
+
+        System.out.println("\n=== Todas las pruebas de ConcurrentTicketSystem pasaron ===");
+    }
+}
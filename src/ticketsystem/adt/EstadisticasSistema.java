@@ -0,0 +1,87 @@
+/*
+ * Taller Práctico 01 - Sistema de Gestión de Tickets
+ * Estructuras de Datos y Algoritmos - 2026-10
+ *
+ * Integrantes:
+ * - [Nombre Completo 1] - ID: [ID1]
+ * - [Nombre Completo 2] - ID: [ID2]
+ * - [Nombre Completo 3] - ID: [ID3]
+ */
+
+package ticketsystem.adt;
+
+import ticketsystem.enums.Estado;
+
+/**
+ * Instantánea inmutable de las estadísticas de un TicketSystem.
+ * Se construye en O(1) a partir de los contadores que el sistema mantiene
+ * en cada transición, sin recorrer tickets ni técnicos.
+ */
+public class EstadisticasSistema {
+
+    private final int totalTickets;
+    private final int ticketsPendientes;
+    private final int[] ticketsPorEstado;
+    private final int tecnicosDisponibles;
+    private final int tecnicosOcupados;
+
+    /**
+     * Constructor de la instantánea.
+     * 
+     * @param totalTickets        Total de tickets registrados
+     * @param ticketsPendientes   Tickets en la cola de pendientes
+     * @param ticketsPorEstado    Cantidad de tickets por ordinal de Estado
+     * @param tecnicosDisponibles Técnicos que pueden recibir un ticket
+     * @param tecnicosOcupados    Técnicos ocupados o no disponibles
+     */
+    EstadisticasSistema(int totalTickets, int ticketsPendientes, int[] ticketsPorEstado,
+            int tecnicosDisponibles, int tecnicosOcupados) {
+        this.totalTickets = totalTickets;
+        this.ticketsPendientes = ticketsPendientes;
+        this.ticketsPorEstado = ticketsPorEstado;
+        this.tecnicosDisponibles = tecnicosDisponibles;
+        this.tecnicosOcupados = tecnicosOcupados;
+    }
+
+    // Getters
+
+    public int getTotalTickets() {
+        return totalTickets;
+    }
+
+    public int getTicketsPendientes() {
+        return ticketsPendientes;
+    }
+
+    /**
+     * Obtiene la cantidad de tickets en un estado.
+     * 
+     * @param estado Estado a consultar
+     * @return Número de tickets en ese estado
+     */
+    public int getTickets(Estado estado) {
+        return ticketsPorEstado[estado.ordinal()];
+    }
+
+    public int getTecnicosDisponibles() {
+        return tecnicosDisponibles;
+    }
+
+    public int getTecnicosOcupados() {
+        return tecnicosOcupados;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("=== Estadísticas del Sistema ===\n");
+        sb.append("Total de tickets: ").append(totalTickets).append("\n");
+        sb.append("Tickets pendientes: ").append(ticketsPendientes).append("\n");
+        sb.append("Tickets en progreso: ").append(getTickets(Estado.EN_PROGRESO)).append("\n");
+        sb.append("Tickets resueltos: ").append(getTickets(Estado.RESUELTO)).append("\n");
+        sb.append("Tickets cerrados: ").append(getTickets(Estado.CERRADO)).append("\n");
+        sb.append("Técnicos disponibles: ").append(tecnicosDisponibles).append("\n");
+        sb.append("Técnicos ocupados: ").append(tecnicosOcupados).append("\n");
+        return sb.toString();
+    }
+}
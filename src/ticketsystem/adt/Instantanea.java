@@ -0,0 +1,637 @@
+/*
+ * Taller Práctico 01 - Sistema de Gestión de Tickets
+ * Estructuras de Datos y Algoritmos - 2026-10
+ *
+ * Integrantes:
+ * - [Nombre Completo 1] - ID: [ID1]
+ * - [Nombre Completo 2] - ID: [ID2]
+ * - [Nombre Completo 3] - ID: [ID3]
+ */
+
+package ticketsystem.adt;
+
+import ticketsystem.datastructures.IntMap;
+import ticketsystem.enums.Categoria;
+import ticketsystem.enums.Estado;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Instantánea binaria del estado completo de un TicketSystem: tickets,
+ * clientes, técnicos con su asignación, orden de la cola de pendientes y
+ * próximo ID. Permite arrancar sin reproducir un registro de operaciones
+ * largo.
+ *
+ * Formato (big endian): una cabecera, tablas de registros de tamaño fijo
+ * (tickets, técnicos, clientes e IDs pendientes) y al final un bloque con
+ * los textos en UTF-8, referenciados desde las tablas por posición y
+ * longitud. Se escribe con FileChannel y MappedByteBuffer en un archivo
+ * temporal que luego reemplaza al destino, así que una instantánea
+ * interrumpida no pisa a la anterior.
+ *
+ * Al cargar, el archivo se mapea en memoria y los tickets se decodifican en
+ * paralelo por tramos de la tabla; luego cada índice del sistema se
+ * reconstruye en su propio hilo (ver TicketSystem.restaurarIndices).
+ *
+ * Los tickets del archivo de cerrados se guardan al final de la tabla de
+ * tickets y la cabecera indica cuántos son; al cargar vuelven al archivo,
+ * en el mismo orden, sin pasar por los índices en memoria.
+ *
+ * Para combinarla con un RegistroOperaciones no hace falta cambiar de
+ * registro: al guardar se bajan a disco las operaciones pendientes y la
+ * cabecera anota cuántas operaciones del registro incluye la instantánea.
+ * Al arrancar se carga la instantánea y se le conecta el mismo archivo con
+ * TicketSystem.conectarRegistro, que solo reproduce las operaciones
+ * posteriores. Un sistema sin registro guarda 0, así que también puede
+ * conectarse a un registro nuevo.
+ *
+ * Invariantes:
+ * - Cada tabla y el bloque de textos caben en un mapeo (menos de 2 GiB)
+ */
+public final class Instantanea {
+
+    private static final int MAGICO = 0x54534E50;
+    private static final int VERSION = 1;
+
+    private static final int TAM_CABECERA = 64;
+    private static final int TAM_TICKET = 48;
+    private static final int TAM_TECNICO = 24;
+    private static final int TAM_CLIENTE = 52;
+    private static final int TAM_PENDIENTE = 4;
+
+    private static final long SIN_FECHA = Long.MIN_VALUE;
+    private static final int TRAMO = 64 * 1024;
+
+    private Instantanea() {
+    }
+
+    /**
+     * Guarda el estado completo del sistema en un archivo.
+     *
+     * @param sistema Sistema a guardar
+     * @param archivo Archivo destino (se reemplaza si existe)
+     * @throws IOException si no se puede escribir el archivo
+     */
+    public static void guardar(TicketSystem sistema, Path archivo) throws IOException {
+        long registrosIncluidos = sistema.sincronizarRegistro();
+
+        // Los tickets archivados van al final de la tabla
+        int archivados = sistema.getArchivo().size();
+        Ticket[] tickets = new Ticket[sistema.getTodosLosTickets().size() + sistema.getArchivo().size()];
+        int n = 0;
+        for (Ticket ticket : sistema.getTodosLosTickets()) {
+            tickets[n++] = ticket;
+        }
+        for (Ticket ticket : sistema.getArchivo()) {
+            tickets[n++] = ticket;
+        }
+
+        // Técnicos: primero los libres en el orden de su pool, para
+        // conservarlo al cargar; luego el resto, incluidos los no
+        // registrados que tengan tickets asignados manualmente
+        ArrayList<Tecnico> tecnicos = new ArrayList<>();
+        IntMap<Tecnico> vistos = new IntMap<>();
+        for (Categoria categoria : Categoria.values()) {
+            for (Tecnico tecnico : sistema.getTecnicosDisponibles(categoria)) {
+                vistos.put(tecnico.getId(), tecnico);
+                tecnicos.add(tecnico);
+            }
+        }
+        for (Tecnico tecnico : sistema.getTecnicos()) {
+            if (vistos.put(tecnico.getId(), tecnico) == null) {
+                tecnicos.add(tecnico);
+            }
+        }
+        ArrayList<Cliente> clientes = new ArrayList<>();
+        IntMap<Integer> indiceCliente = new IntMap<>();
+        for (Ticket ticket : tickets) {
+            Tecnico tecnico = ticket.getTecnico();
+            if (tecnico != null && !vistos.containsKey(tecnico.getId())) {
+                vistos.put(tecnico.getId(), tecnico);
+                tecnicos.add(tecnico);
+            }
+            Cliente cliente = ticket.getCliente();
+            if (!indiceCliente.containsKey(cliente.getId())) {
+                indiceCliente.put(cliente.getId(), clientes.size());
+                clientes.add(cliente);
+            }
+        }
+        int pendientes = sistema.getTicketsPendientes().size();
+
+        long inicioTickets = TAM_CABECERA;
+        long inicioTecnicos = inicioTickets + (long) tickets.length * TAM_TICKET;
+        long inicioClientes = inicioTecnicos + (long) tecnicos.size() * TAM_TECNICO;
+        long inicioPendientes = inicioClientes + (long) clientes.size() * TAM_CLIENTE;
+        long inicioTextos = inicioPendientes + (long) pendientes * TAM_PENDIENTE;
+        if (inicioTextos > Integer.MAX_VALUE) {
+            throw new IllegalStateException("El sistema es demasiado grande para una instantánea");
+        }
+
+        Path temporal = archivo.resolveSibling(archivo.getFileName() + ".tmp");
+        try (FileChannel canal = FileChannel.open(temporal, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer tablas = canal.map(FileChannel.MapMode.READ_WRITE, 0, inicioTextos);
+            BloqueTextos textos = new BloqueTextos(canal, inicioTextos);
+
+            tablas.position((int) inicioTickets);
+            for (Ticket ticket : tickets) {
+                tablas.putInt(ticket.getId());
+                tablas.put((byte) ticket.getCategoria().ordinal());
+                tablas.put((byte) ticket.getEstado().ordinal());
+                tablas.putShort((short) 0);
+                tablas.putInt(indiceCliente.get(ticket.getCliente().getId()));
+                tablas.putInt(ticket.getTecnico() != null ? ticket.getTecnico().getId() : -1);
+                tablas.putLong(RegistroOperaciones.aNanos(ticket.getFechaCreacion()));
+                LocalDateTime resolucion = ticket.getFechaResolucion();
+                tablas.putLong(resolucion != null ? RegistroOperaciones.aNanos(resolucion) : SIN_FECHA);
+                textos.escribir(tablas, ticket.getDescripcion());
+                tablas.putInt(0);
+            }
+
+            for (Tecnico tecnico : tecnicos) {
+                Ticket asignado = tecnico.getTicketAsignado();
+                boolean registrado = sistema.buscarTecnicoPorId(tecnico.getId()) == tecnico;
+                tablas.putInt(tecnico.getId());
+                textos.escribir(tablas, tecnico.getNombre());
+                tablas.put((byte) tecnico.getEspecialidad().ordinal());
+                tablas.put((byte) ((registrado ? 1 : 0) | (tecnico.isDisponible() ? 2 : 0)));
+                tablas.putInt(asignado != null ? asignado.getId() : -1);
+                tablas.putShort((short) 0);
+            }
+
+            for (Cliente cliente : clientes) {
+                tablas.putInt(cliente.getId());
+                textos.escribir(tablas, cliente.getNombre());
+                textos.escribir(tablas, cliente.getEmail());
+                textos.escribir(tablas, cliente.getEmpresa());
+                textos.escribir(tablas, cliente.getTelefono());
+            }
+
+            for (Ticket ticket : sistema.getTicketsPendientes()) {
+                tablas.putInt(ticket.getId());
+            }
+
+            long tamanoTextos = textos.terminar();
+            if (tamanoTextos > Integer.MAX_VALUE) {
+                throw new IllegalStateException("Los textos son demasiado grandes para una instantánea");
+            }
+
+            tablas.position(0);
+            tablas.putInt(MAGICO);
+            tablas.putInt(VERSION);
+            tablas.putInt(sistema.getProximoTicketId());
+            tablas.putInt(tickets.length);
+            tablas.putInt(tecnicos.size());
+            tablas.putInt(clientes.size());
+            tablas.putInt(pendientes);
+            tablas.putInt(archivados);
+            tablas.putLong(inicioTextos);
+            tablas.putLong(tamanoTextos);
+            tablas.putLong(registrosIncluidos);
+            tablas.force();
+            canal.force(true);
+        }
+        Files.move(temporal, archivo, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Carga un sistema desde una instantánea usando un hilo por procesador.
+     *
+     * @param archivo Archivo de la instantánea
+     * @return Sistema con el estado guardado
+     * @throws IOException si no se puede leer el archivo
+     */
+    public static TicketSystem cargar(Path archivo) throws IOException {
+        return cargar(archivo, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Carga un sistema desde una instantánea.
+     *
+     * @param archivo Archivo de la instantánea
+     * @param hilos   Número de hilos para decodificar y reconstruir índices
+     * @return Sistema con el estado guardado
+     * @throws IOException           si no se puede leer el archivo
+     * @throws IllegalStateException si el archivo no es una instantánea válida
+     */
+    public static TicketSystem cargar(Path archivo, int hilos) throws IOException {
+        if (hilos <= 0) {
+            throw new IllegalArgumentException("El número de hilos debe ser positivo");
+        }
+
+        try (FileChannel canal = FileChannel.open(archivo, StandardOpenOption.READ)) {
+            if (canal.size() < TAM_CABECERA) {
+                throw new IllegalStateException("Instantánea incompleta: " + archivo);
+            }
+            ByteBuffer cabecera = canal.map(FileChannel.MapMode.READ_ONLY, 0, TAM_CABECERA);
+            if (cabecera.getInt() != MAGICO || cabecera.getInt() != VERSION) {
+                throw new IllegalStateException("Formato de instantánea no reconocido: " + archivo);
+            }
+            int proximoId = cabecera.getInt();
+            int numTickets = cabecera.getInt();
+            int numTecnicos = cabecera.getInt();
+            int numClientes = cabecera.getInt();
+            int numPendientes = cabecera.getInt();
+            int numArchivados = cabecera.getInt();
+            long inicioTextos = cabecera.getLong();
+            long tamanoTextos = cabecera.getLong();
+            long registrosIncluidos = cabecera.getLong();
+            if (inicioTextos + tamanoTextos != canal.size() || numArchivados < 0
+                    || numArchivados > numTickets || registrosIncluidos < 0) {
+                throw new IllegalStateException("Instantánea incompleta: " + archivo);
+            }
+
+            ByteBuffer tablas = canal.map(FileChannel.MapMode.READ_ONLY, 0, inicioTextos);
+            ByteBuffer textos = canal.map(FileChannel.MapMode.READ_ONLY, inicioTextos, tamanoTextos);
+            int inicioTecnicos = TAM_CABECERA + numTickets * TAM_TICKET;
+            int inicioClientes = inicioTecnicos + numTecnicos * TAM_TECNICO;
+            int inicioPendientes = inicioClientes + numClientes * TAM_CLIENTE;
+
+            Cliente[] clientes = new Cliente[numClientes];
+            enParalelo(hilos, numClientes, i -> {
+                int p = inicioClientes + i * TAM_CLIENTE;
+                clientes[i] = new Cliente(tablas.getInt(p), leerTexto(tablas, p + 4, textos),
+                        leerTexto(tablas, p + 16, textos), leerTexto(tablas, p + 28, textos),
+                        leerTexto(tablas, p + 40, textos));
+            });
+
+            Tecnico[] tecnicos = new Tecnico[numTecnicos];
+            IntMap<Tecnico> tecnicosPorId = new IntMap<>();
+            for (int i = 0; i < numTecnicos; i++) {
+                int p = inicioTecnicos + i * TAM_TECNICO;
+                tecnicos[i] = new Tecnico(tablas.getInt(p), leerTexto(tablas, p + 4, textos),
+                        Categoria.values()[tablas.get(p + 16)]);
+                tecnicosPorId.put(tecnicos[i].getId(), tecnicos[i]);
+            }
+
+            TicketSystem sistema = new TicketSystem();
+            Ticket[] tickets = new Ticket[numTickets];
+            Categoria[] categorias = Categoria.values();
+            Estado[] estados = Estado.values();
+            enParalelo(hilos, numTickets, i -> {
+                int p = TAM_CABECERA + i * TAM_TICKET;
+                long resolucion = tablas.getLong(p + 24);
+                int tecnicoId = tablas.getInt(p + 12);
+                Ticket ticket = new Ticket(tablas.getInt(p), leerTexto(tablas, p + 32, textos),
+                        categorias[tablas.get(p + 4)], clientes[tablas.getInt(p + 8)],
+                        RegistroOperaciones.deNanos(tablas.getLong(p + 16)));
+                ticket.restaurarEstado(estados[tablas.get(p + 5)],
+                        tecnicoId >= 0 ? tecnicosPorId.get(tecnicoId) : null,
+                        resolucion != SIN_FECHA ? RegistroOperaciones.deNanos(resolucion) : null);
+                tickets[i] = ticket;
+            });
+            int vivos = numTickets - numArchivados;
+            sistema.restaurarIndices(Arrays.copyOf(tickets, vivos), proximoId, hilos);
+            sistema.restaurarArchivados(Arrays.copyOfRange(tickets, vivos, numTickets));
+
+            // Los técnicos se agregan en el orden guardado, que conserva el
+            // orden de cada pool de libres
+            for (int i = 0; i < numTecnicos; i++) {
+                int p = inicioTecnicos + i * TAM_TECNICO;
+                byte banderas = tablas.get(p + 17);
+                int asignadoId = tablas.getInt(p + 18);
+                tecnicos[i].restaurarEstado((banderas & 2) != 0,
+                        asignadoId >= 0 ? sistema.buscarTicketPorId(asignadoId) : null);
+                if ((banderas & 1) != 0) {
+                    sistema.agregarTecnico(tecnicos[i]);
+                }
+            }
+
+            for (int i = 0; i < numPendientes; i++) {
+                sistema.restaurarPendiente(sistema.buscarTicketPorId(tablas.getInt(inicioPendientes + i * TAM_PENDIENTE)));
+            }
+            sistema.restaurarRegistrosIncluidos(registrosIncluidos);
+            return sistema;
+        }
+    }
+
+    /**
+     * Ejecuta tarea(i) para i en [0, total) repartiendo tramos contiguos
+     * entre varios hilos, y espera a que terminen todos.
+     */
+    static void enParalelo(int hilos, int total, IntConsumer tarea) {
+        int partes = Math.max(1, Math.min(hilos, (total + TRAMO - 1) / TRAMO));
+        int porParte = (total + partes - 1) / partes;
+        repartir(partes, partes, k -> {
+            int hasta = Math.min(total, (k + 1) * porParte);
+            for (int i = k * porParte; i < hasta; i++) {
+                tarea.accept(i);
+            }
+        });
+    }
+
+    /**
+     * Ejecuta tareas independientes repartiéndolas en hasta hilos hilos, y
+     * espera a que terminen todas.
+     */
+    static void enParalelo(int hilos, Runnable[] tareas) {
+        repartir(Math.min(hilos, tareas.length), tareas.length, i -> tareas[i].run());
+    }
+
+    /**
+     * Reparte las tareas [0, total) en hilos trabajadores (el primero es el
+     * hilo actual), tomando cada uno las de índice k, k + hilos, ... Si
+     * alguna falla, relanza su excepción al terminar todos.
+     */
+    private static void repartir(int hilos, int total, IntConsumer tarea) {
+        if (hilos <= 1) {
+            for (int i = 0; i < total; i++) {
+                tarea.accept(i);
+            }
+            return;
+        }
+
+        Thread[] trabajadores = new Thread[hilos];
+        RuntimeException[] fallas = new RuntimeException[hilos];
+        for (int k = 0; k < hilos; k++) {
+            int primero = k;
+            Runnable trabajo = () -> {
+                try {
+                    for (int i = primero; i < total; i += hilos) {
+                        tarea.accept(i);
+                    }
+                } catch (RuntimeException e) {
+                    fallas[primero] = e;
+                }
+            };
+            if (k > 0) {
+                trabajadores[k] = new Thread(trabajo, "instantanea-" + k);
+                trabajadores[k].start();
+            } else {
+                trabajo.run();
+            }
+        }
+
+        boolean interrumpido = false;
+        for (int k = 1; k < hilos; k++) {
+            while (true) {
+                try {
+                    trabajadores[k].join();
+                    break;
+                } catch (InterruptedException e) {
+                    interrumpido = true;
+                }
+            }
+        }
+        if (interrumpido) {
+            Thread.currentThread().interrupt();
+        }
+        for (RuntimeException falla : fallas) {
+            if (falla != null) {
+                throw falla;
+            }
+        }
+    }
+
+    /**
+     * Lee un texto referenciado como [posición long][longitud int] desde una
+     * tabla; longitud -1 representa null. Solo usa lecturas absolutas, así
+     * que varios hilos pueden leer los mismos buffers a la vez.
+     */
+    private static String leerTexto(ByteBuffer tabla, int p, ByteBuffer textos) {
+        int longitud = tabla.getInt(p + 8);
+        if (longitud < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[longitud];
+        textos.get((int) tabla.getLong(p), bytes, 0, longitud);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Bloque de textos que se escribe secuencialmente al final del archivo
+     * mientras se llenan las tablas.
+     */
+    private static class BloqueTextos {
+        private final FileChannel canal;
+        private final ByteBuffer buffer;
+        private long posicionArchivo;
+        private long tamano;
+
+        BloqueTextos(FileChannel canal, long inicio) {
+            this.canal = canal;
+            this.buffer = ByteBuffer.allocateDirect(1 << 20);
+            this.posicionArchivo = inicio;
+            this.tamano = 0;
+        }
+
+        /**
+         * Agrega un texto al bloque y escribe su referencia en la tabla.
+         */
+        void escribir(ByteBuffer tabla, String texto) throws IOException {
+            if (texto == null) {
+                tabla.putLong(0);
+                tabla.putInt(-1);
+                return;
+            }
+            byte[] bytes = texto.getBytes(StandardCharsets.UTF_8);
+            tabla.putLong(tamano);
+            tabla.putInt(bytes.length);
+            tamano += bytes.length;
+
+            int escritos = 0;
+            while (escritos < bytes.length) {
+                if (!buffer.hasRemaining()) {
+                    vaciar();
+                }
+                int parte = Math.min(buffer.remaining(), bytes.length - escritos);
+                buffer.put(bytes, escritos, parte);
+                escritos += parte;
+            }
+        }
+
+        /**
+         * Escribe lo que queda en el buffer.
+         *
+         * @return Tamaño total del bloque en bytes
+         */
+        long terminar() throws IOException {
+            vaciar();
+            return tamano;
+        }
+
+        private void vaciar() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                posicionArchivo += canal.write(buffer, posicionArchivo);
+            }
+            buffer.clear();
+        }
+    }
+
+    /**
+     * Método main con casos de prueba.
+     */
+    public static void main(String[] args) throws IOException {
+        System.out.println("=== Pruebas de Instantanea ===\n");
+
+        Path archivo = Files.createTempFile("instantanea", ".snap");
+        Cliente c1 = new Cliente(1, "Juan Pérez", "juan@example.com");
+        Cliente c2 = new Cliente(2, "María García", "maria@example.com", "ACME", null);
+
+        TicketSystem sistema = new TicketSystem();
+        sistema.agregarTecnico(new Tecnico(1, "Carlos Tech", Categoria.RED));
+        sistema.agregarTecnico(new Tecnico(2, "Luis Red", Categoria.RED));
+        sistema.agregarTecnico(new Tecnico(3, "Ana Developer", Categoria.APLICACION));
+        for (int i = 0; i < 20; i++) {
+            Categoria categoria = (i % 3 == 0) ? Categoria.APLICACION : Categoria.RED;
+            sistema.crearTicket("Incidente número " + i, categoria, (i % 2 == 0) ? c1 : c2);
+        }
+        Ticket asignado = sistema.asignarTicketAutomatico();
+        sistema.cambiarEstadoTicket(asignado.getId(), Estado.EN_PROGRESO);
+        sistema.resolverTicket(asignado.getId());
+        sistema.cerrarTicket(asignado.getId());
+        sistema.asignarTodos();
+        Tecnico externo = new Tecnico(9, "Sara Externa", Categoria.HARDWARE);
+        Ticket manual = sistema.buscarTicketPorId(20);
+        sistema.asignarTicketManual(manual, externo);
+
+        // Test 1: El estado completo sobrevive a guardar y cargar
+        Instantanea.guardar(sistema, archivo);
+        TicketSystem cargado = Instantanea.cargar(archivo, 2);
+        assert cargado.generarEstadisticas().equals(sistema.generarEstadisticas())
+                : "Test 1 falló: Estadísticas distintas";
+        assert cargado.getProximoTicketId() == sistema.getProximoTicketId() : "Test 1 falló: Próximo ID distinto";
+        Ticket original = sistema.buscarTicketPorId(asignado.getId());
+        Ticket copia = cargado.buscarTicketPorId(asignado.getId());
+        assert copia.getEstado() == Estado.CERRADO : "Test 1 falló: Estado no restaurado";
+        assert copia.getFechaCreacion().equals(original.getFechaCreacion()) : "Test 1 falló: Fecha distinta";
+        assert copia.getFechaResolucion().equals(original.getFechaResolucion()) : "Test 1 falló: Resolución distinta";
+        Cliente cliente = cargado.buscarTicketPorId(2).getCliente();
+        assert "ACME".equals(cliente.getEmpresa()) && cliente.getTelefono() == null
+                : "Test 1 falló: Cliente no restaurado";
+        assert cargado.buscarTicketPorId(20).getTecnico().getNombre().equals("Sara Externa")
+                : "Test 1 falló: Técnico externo no restaurado";
+        assert cargado.buscarTecnicoPorId(9) == null : "Test 1 falló: Técnico externo quedó registrado";
+        System.out.println("✓ Test 1 pasado: Guardar y cargar conserva el estado");
+
+        // Test 2: La cola de pendientes conserva su orden
+        StringBuilder ordenOriginal = new StringBuilder();
+        for (Ticket ticket : sistema.getTicketsPendientes()) {
+            ordenOriginal.append(ticket.getId()).append(',');
+        }
+        StringBuilder ordenCargado = new StringBuilder();
+        for (Ticket ticket : cargado.getTicketsPendientes()) {
+            ordenCargado.append(ticket.getId()).append(',');
+        }
+        assert ordenCargado.toString().equals(ordenOriginal.toString()) : "Test 2 falló: Orden de pendientes distinto";
+        for (TicketSystem s : new TicketSystem[] { sistema, cargado }) {
+            Ticket enCurso = s.obtenerTicketDeTecnico(s.buscarTecnicoPorId(1));
+            s.cambiarEstadoTicket(enCurso.getId(), Estado.EN_PROGRESO);
+            s.resolverTicket(enCurso.getId());
+        }
+        assert cargado.asignarTicketAutomatico().getId() == sistema.asignarTicketAutomatico().getId()
+                : "Test 2 falló: La asignación no sigue el mismo orden";
+        System.out.println("✓ Test 2 pasado: Orden de pendientes conservado");
+
+        // Test 3: Instantanea más registro de las operaciones posteriores
+        Path wal = Files.createTempFile("instantanea", ".wal");
+        Instantanea.guardar(cargado, archivo);
+        RegistroOperaciones registro = new RegistroOperaciones(wal, 16, 5, true);
+        cargado.conectarRegistro(registro);
+        Ticket posterior = cargado.crearTicket("Posterior a la instantánea", Categoria.HARDWARE, c1);
+        registro.close();
+        TicketSystem reiniciado = Instantanea.cargar(archivo);
+        RegistroOperaciones registro2 = new RegistroOperaciones(wal, 16, 5, true);
+        reiniciado.conectarRegistro(registro2);
+        assert reiniciado.buscarTicketPorId(posterior.getId()) != null : "Test 3 falló: Ticket posterior perdido";
+        assert reiniciado.generarEstadisticas().equals(cargado.generarEstadisticas())
+                : "Test 3 falló: Estadísticas distintas";
+        registro2.close();
+        Files.delete(wal);
+        System.out.println("✓ Test 3 pasado: Instantánea combinada con registro");
+
+        // Test 4: Archivo que no es una instantánea
+        Files.write(archivo, new byte[TAM_CABECERA]);
+        try {
+            Instantanea.cargar(archivo);
+            assert false : "Test 4 falló: Debería rechazar el archivo";
+        } catch (IllegalStateException e) {
+            System.out.println("✓ Test 4 pasado: Formato inválido rechazado");
+        }
+
+        // Test 5: El archivo de cerrados sigue archivado tras cargar
+        TicketSystem conArchivo = new TicketSystem();
+        conArchivo.agregarTecnico(new Tecnico(1, "Carlos Tech", Categoria.RED));
+        for (int i = 0; i < 5; i++) {
+            Ticket tk = conArchivo.crearTicket("Cerrado " + i, Categoria.RED, c1);
+            conArchivo.asignarTicketAutomatico();
+            conArchivo.cambiarEstadoTicket(tk.getId(), Estado.EN_PROGRESO);
+            conArchivo.resolverTicket(tk.getId());
+            conArchivo.cerrarTicket(tk.getId());
+            if (i == 2) {
+                conArchivo.archivarCerrados();
+            }
+        }
+        conArchivo.crearTicket("Abierto", Categoria.RED, c2);
+        Instantanea.guardar(conArchivo, archivo);
+        TicketSystem conArchivoCargado = Instantanea.cargar(archivo, 2);
+        assert conArchivoCargado.getArchivo().size() == 3 : "Test 5 falló: Archivo no restaurado";
+        assert conArchivoCargado.getTodosLosTickets().size() == 3 : "Test 5 falló: Archivados volvieron a memoria";
+        assert conArchivoCargado.getArchivo().buscarPorId(2).getDescripcion().equals("Cerrado 1")
+                : "Test 5 falló: Fila archivada distinta";
+        assert conArchivoCargado.obtenerTicketsPorEstado(Estado.CERRADO).size() == 2
+                : "Test 5 falló: Cerrados sin archivar perdidos";
+        assert conArchivoCargado.generarEstadisticas().equals(conArchivo.generarEstadisticas())
+                : "Test 5 falló: Estadísticas distintas";
+        System.out.println("✓ Test 5 pasado: Archivo de cerrados conservado");
+
+        // Test 6: Instantánea de un sistema con registro más la cola del registro
+        Path walVivo = Files.createTempFile("instantanea", ".wal");
+        RegistroOperaciones vivo = new RegistroOperaciones(walVivo, 16, 5, false);
+        TicketSystem conRegistro = new TicketSystem(vivo);
+        conRegistro.agregarTecnico(new Tecnico(1, "Carlos Tech", Categoria.RED));
+        Ticket antes = conRegistro.crearTicket("Antes de la instantánea", Categoria.RED, c1);
+        conRegistro.asignarTicketAutomatico();
+        conRegistro.crearTicket("También antes", Categoria.RED, c2);
+        Instantanea.guardar(conRegistro, archivo);
+        conRegistro.cambiarEstadoTicket(antes.getId(), Estado.EN_PROGRESO);
+        conRegistro.resolverTicket(antes.getId());
+        Ticket despues = conRegistro.crearTicket("Después de la instantánea", Categoria.RED, c1);
+        vivo.close();
+        TicketSystem recuperado = Instantanea.cargar(archivo, 2);
+        RegistroOperaciones cola = new RegistroOperaciones(walVivo, 16, 5, false);
+        recuperado.conectarRegistro(cola);
+        assert recuperado.getTodosLosTickets().size() == 3 : "Test 6 falló: Operaciones aplicadas dos veces";
+        assert recuperado.buscarTicketPorId(antes.getId()).getEstado() == Estado.RESUELTO
+                : "Test 6 falló: Operaciones posteriores no reproducidas";
+        assert recuperado.buscarTicketPorId(despues.getId()) != null : "Test 6 falló: Ticket posterior perdido";
+        assert recuperado.generarEstadisticas().equals(conRegistro.generarEstadisticas())
+                : "Test 6 falló: Estadísticas distintas";
+        Ticket otro = recuperado.crearTicket("Tras recuperar", Categoria.RED, c2);
+        assert otro.getId() == despues.getId() + 1 : "Test 6 falló: El próximo ID no continúa";
+        Instantanea.guardar(recuperado, archivo);
+        cola.close();
+        TicketSystem segundo = Instantanea.cargar(archivo);
+        RegistroOperaciones cola2 = new RegistroOperaciones(walVivo, 16, 5, false);
+        segundo.conectarRegistro(cola2);
+        assert segundo.getTodosLosTickets().size() == 4 : "Test 6 falló: Segunda instantánea duplicó operaciones";
+        cola2.close();
+        Path walNuevo = Files.createTempFile("instantanea", ".wal");
+        RegistroOperaciones ajeno = new RegistroOperaciones(walNuevo, 16, 5, false);
+        try {
+            Instantanea.cargar(archivo).conectarRegistro(ajeno);
+            assert false : "Test 6 falló: Debería rechazar un registro más corto que la instantánea";
+        } catch (IllegalStateException e) {
+            // Esperado
+        }
+        ajeno.close();
+        Files.delete(walNuevo);
+        Files.delete(walVivo);
+        System.out.println("✓ Test 6 pasado: Instantánea más cola del registro");
+
+        Files.delete(archivo);
+        System.out.println("\n=== Todas las pruebas de Instantanea pasaron ===");
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Taller Práctico 01 - Sistema de Gestión de Tickets
+ * Estructuras de Datos y Algoritmos - 2026-10
+ *
+ * Integrantes:
+ * - [Nombre Completo 1] - ID: [ID1]
+ * - [Nombre Completo 2] - ID: [ID2]
+ * - [Nombre Completo 3] - ID: [ID3]
+ */
+
+package ticketsystem.adt;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+/**
+ * Resultado de una asignación por lotes: los tickets asignados en orden de
+ * asignación, guardados en un arreglo. El técnico de cada asignación se
+ * obtiene del propio ticket.
+ * 
+ * Es de solo lectura para quien lo recibe; solo TicketSystem lo llena.
+ */
+public class LoteAsignacion extends AbstractList<Ticket> implements RandomAccess {
+
+    private Ticket[] tickets;
+    private int size;
+
+    /**
+     * Constructor que crea un lote vacío.
+     * 
+     * @param capacidad Número esperado de asignaciones
+     */
+    LoteAsignacion(int capacidad) {
+        this.tickets = new Ticket[Math.max(capacidad, 1)];
+        this.size = 0;
+    }
+
+    /**
+     * Registra un ticket recién asignado.
+     * 
+     * @param ticket Ticket asignado
+     */
+    void agregar(Ticket ticket) {
+        if (size == tickets.length) {
+            tickets = Arrays.copyOf(tickets, size * 2);
+        }
+        tickets[size++] = ticket;
+    }
+
+    @Override
+    public Ticket get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Índice fuera de rango: " + index);
+        }
+        return tickets[index];
+    }
+
+    /**
+     * Obtiene el técnico de la asignación en una posición.
+     * 
+     * @param index Índice de la asignación (0-based)
+     * @return Técnico al que se asignó el ticket
+     */
+    public Tecnico getTecnico(int index) {
+        return get(index).getTecnico();
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+}
@@ -0,0 +1,365 @@
+/*
+ * Taller Práctico 01 - Sistema de Gestión de Tickets
+ * Estructuras de Datos y Algoritmos - 2026-10
+ *
+ * Integrantes:
+ * - [Nombre Completo 1] - ID: [ID1]
+ * - [Nombre Completo 2] - ID: [ID2]
+ * - [Nombre Completo 3] - ID: [ID3]
+ */
+
+package ticketsystem.adt;
+
+import ticketsystem.datastructures.HistogramaLatencia;
+import ticketsystem.enums.Categoria;
+import ticketsystem.enums.Estado;
+import ticketsystem.enums.OperacionSistema;
+import ticketsystem.observers.EstadisticasObserver;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Latencias de las operaciones de un TicketSystem, en histogramas
+ * log-lineales (HistogramaLatencia) por operación.
+ *
+ * Cada hilo registra en sus propios histogramas, sin locks ni operaciones
+ * atómicas compartidas; capturar() los junta al leer. Desactivadas (el
+ * estado inicial), cada operación medida solo paga la lectura de un
+ * booleano volátil. Se pueden activar y desactivar en cualquier momento.
+ *
+ * Solo se registran las operaciones que terminan sin lanzar excepción.
+ * Cuando un hilo termina, sus histogramas se suman a un acumulado
+ * compartido la próxima vez que otro hilo empieza a registrar, así que la
+ * memoria depende de los hilos vivos y no de cuántos hilos pasaron.
+ */
+public class MetricasOperaciones {
+
+    private static final OperacionSistema[] OPERACIONES = OperacionSistema.values();
+    private static final long SIN_MEDIR = Long.MIN_VALUE;
+    // Marca vacía que ocupa el lugar de un registrador ya sumado al acumulado
+    private static final Registrador RETIRADO = new Registrador(null, null);
+
+    /**
+     * Histogramas de un hilo, creados al registrar la primera latencia de
+     * cada operación.
+     */
+    private static class Registrador {
+        final CopyOnWriteArrayList<Registrador> generacion;
+        // Hilo dueño; null en el acumulado de los hilos que ya terminaron
+        final Thread hilo;
+        final AtomicReferenceArray<HistogramaLatencia> histogramas;
+
+        Registrador(CopyOnWriteArrayList<Registrador> generacion, Thread hilo) {
+            this.generacion = generacion;
+            this.hilo = hilo;
+            this.histogramas = new AtomicReferenceArray<>(OPERACIONES.length);
+        }
+
+        boolean retirado() {
+            return hilo != null && !hilo.isAlive();
+        }
+
+        void agregar(Registrador otro) {
+            for (int i = 0; i < OPERACIONES.length; i++) {
+                HistogramaLatencia suyo = otro.histogramas.get(i);
+                if (suyo != null) {
+                    HistogramaLatencia histograma = histogramas.get(i);
+                    if (histograma == null) {
+                        histograma = new HistogramaLatencia();
+                        histogramas.set(i, histograma);
+                    }
+                    histograma.agregar(suyo);
+                }
+            }
+        }
+
+        void registrar(OperacionSistema operacion, long nanos) {
+            HistogramaLatencia histograma = histogramas.get(operacion.ordinal());
+            if (histograma == null) {
+                histograma = new HistogramaLatencia();
+                histogramas.set(operacion.ordinal(), histograma);
+            }
+            histograma.registrar(nanos);
+        }
+    }
+
+    private volatile boolean activas;
+    // Registradores de todos los hilos; reiniciar() empieza una lista nueva
+    private volatile CopyOnWriteArrayList<Registrador> registradores;
+    private final ThreadLocal<Registrador> local;
+
+    /**
+     * Constructor que crea las métricas desactivadas.
+     */
+    public MetricasOperaciones() {
+        this.activas = false;
+        this.registradores = new CopyOnWriteArrayList<>();
+        this.local = new ThreadLocal<>();
+    }
+
+    /**
+     * Activa o desactiva la medición. Las latencias ya registradas se
+     * conservan.
+     *
+     * @param activas true para medir
+     */
+    public void configurar(boolean activas) {
+        this.activas = activas;
+    }
+
+    public boolean isActivas() {
+        return activas;
+    }
+
+    /**
+     * Marca el inicio de una operación.
+     *
+     * @return Instante de inicio para registrar, o una marca que registrar
+     *         ignora si la medición está desactivada
+     */
+    long iniciar() {
+        return activas ? System.nanoTime() : SIN_MEDIR;
+    }
+
+    /**
+     * Registra la latencia de una operación iniciada con iniciar().
+     *
+     * @param operacion Operación medida
+     * @param inicio    Valor retornado por iniciar()
+     */
+    void registrar(OperacionSistema operacion, long inicio) {
+        if (inicio == SIN_MEDIR) {
+            return;
+        }
+        long nanos = System.nanoTime() - inicio;
+        Registrador registrador = local.get();
+        CopyOnWriteArrayList<Registrador> actuales = registradores;
+        if (registrador == null || registrador.generacion != actuales) {
+            registrador = new Registrador(actuales, Thread.currentThread());
+            retirarTerminados(actuales);
+            actuales.add(registrador);
+            local.set(registrador);
+        }
+        registrador.registrar(operacion, nanos);
+    }
+
+    /**
+     * Suma los registradores de los hilos que terminaron a un acumulado
+     * nuevo y los saca de la lista. El acumulado anterior no se modifica,
+     * para que capturar() nunca vea un hilo contado dos veces o ninguna.
+     *
+     * @param actuales Lista de registradores de la generación actual
+     */
+    private static void retirarTerminados(CopyOnWriteArrayList<Registrador> actuales) {
+        synchronized (actuales) {
+            List<Registrador> plegados = new ArrayList<>();
+            boolean hayRetirados = false;
+            for (Registrador registrador : actuales) {
+                if (registrador.hilo == null || registrador.retirado()) {
+                    plegados.add(registrador);
+                    hayRetirados |= registrador.hilo != null;
+                }
+            }
+            if (!hayRetirados) {
+                return;
+            }
+            Registrador acumulado = new Registrador(actuales, null);
+            for (Registrador registrador : plegados) {
+                acumulado.agregar(registrador);
+            }
+            // El primero plegado cede su lugar al acumulado; los demás se
+            // marcan y se quitan después
+            Registrador primero = plegados.get(0);
+            actuales.replaceAll(r -> r == primero ? acumulado : plegados.contains(r) ? RETIRADO : r);
+            actuales.removeIf(r -> r == RETIRADO);
+        }
+    }
+
+    /**
+     * Junta los histogramas de todos los hilos para una operación.
+     *
+     * @param operacion Operación a consultar
+     * @return Copia con las latencias registradas hasta ahora (vacía si no
+     *         hay ninguna)
+     */
+    public HistogramaLatencia capturar(OperacionSistema operacion) {
+        HistogramaLatencia copia = new HistogramaLatencia();
+        for (Registrador registrador : registradores) {
+            HistogramaLatencia histograma = registrador.histogramas.get(operacion.ordinal());
+            if (histograma != null) {
+                copia.agregar(histograma);
+            }
+        }
+        return copia;
+    }
+
+    /**
+     * Junta los histogramas de todos los hilos para cada operación.
+     *
+     * @return Copia por operación de las latencias registradas hasta ahora
+     */
+    public EnumMap<OperacionSistema, HistogramaLatencia> capturar() {
+        EnumMap<OperacionSistema, HistogramaLatencia> copias = new EnumMap<>(OperacionSistema.class);
+        for (OperacionSistema operacion : OPERACIONES) {
+            copias.put(operacion, capturar(operacion));
+        }
+        return copias;
+    }
+
+    /**
+     * Descarta todas las latencias registradas. Las que se registren en
+     * paralelo con el reinicio pueden perderse.
+     */
+    public void reiniciar() {
+        registradores = new CopyOnWriteArrayList<>();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("=== Latencias por operación ===\n");
+        sb.append(String.format("%-32s %9s %9s %9s %9s %10s%n",
+                "Operación", "Conteo", "p50 ns", "p99 ns", "p99.9 ns", "max ns"));
+        for (OperacionSistema operacion : OPERACIONES) {
+            HistogramaLatencia histograma = capturar(operacion);
+            if (!histograma.isEmpty()) {
+                sb.append(String.format("%-32s %9d %9d %9d %9d %10d%n", operacion, histograma.getConteo(),
+                        histograma.getPercentil(50), histograma.getPercentil(99), histograma.getPercentil(99.9),
+                        histograma.getMaximo()));
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Método main con casos de prueba.
+     */
+    public static void main(String[] args) throws InterruptedException {
+        System.out.println("=== Pruebas de MetricasOperaciones ===\n");
+
+        // Test 1: Percentiles con error relativo acotado
+        HistogramaLatencia histograma = new HistogramaLatencia();
+        for (long v = 1; v <= 1_000_000; v++) {
+            histograma.registrar(v);
+        }
+        for (double p : new double[] { 50, 90, 99, 99.9 }) {
+            long exacto = (long) Math.ceil(p / 100 * 1_000_000);
+            long medido = histograma.getPercentil(p);
+            assert medido >= exacto && medido <= exacto + exacto / 64 : "Test 1 falló: p" + p + " = " + medido;
+        }
+        assert histograma.getMaximo() == 1_000_000 : "Test 1 falló: Máximo";
+        assert histograma.getPercentil(100) == 1_000_000 : "Test 1 falló: p100";
+        assert histograma.getMedia() == 500_000.5 : "Test 1 falló: Media";
+        System.out.println("✓ Test 1 pasado: Percentiles con error menor a 1/64");
+
+        // Test 2: Valores pequeños exactos y valores fuera de rango
+        HistogramaLatencia pequenos = new HistogramaLatencia();
+        pequenos.registrar(0);
+        pequenos.registrar(100);
+        pequenos.registrar(Long.MAX_VALUE);
+        assert pequenos.getPercentil(0) == 0 : "Test 2 falló: Mínimo";
+        assert pequenos.getPercentil(50) == 100 : "Test 2 falló: Valor exacto";
+        assert pequenos.getMaximo() == Long.MAX_VALUE : "Test 2 falló: Máximo exacto";
+        assert new HistogramaLatencia().getPercentil(99) == 0 : "Test 2 falló: Vacío";
+        System.out.println("✓ Test 2 pasado: Valores exactos y fuera de rango");
+
+        // Test 3: Desactivadas no registran nada
+        TicketSystem sistema = new TicketSystem();
+        Cliente cliente = new Cliente(1, "Cliente", "cliente@test.com");
+        sistema.agregarTecnico(new Tecnico(1, "Técnico", Categoria.RED));
+        sistema.crearTicket("Sin medir", Categoria.RED, cliente);
+        assert !sistema.getMetricas().isActivas() : "Test 3 falló: Deberían empezar desactivadas";
+        assert sistema.getMetricas().capturar(OperacionSistema.CREAR_TICKET).isEmpty()
+                : "Test 3 falló: No debería haber latencias";
+        System.out.println("✓ Test 3 pasado: Métricas desactivadas");
+
+        // Test 4: Cada operación pública registra su latencia
+        sistema.configurarMetricas(true);
+        sistema.agregarObservador(new EstadisticasObserver());
+        Ticket ticket = sistema.crearTicket("Medido", Categoria.RED, cliente);
+        sistema.asignarTicketAutomatico();
+        sistema.asignarTicketAutomatico();
+        sistema.cambiarEstadoTicket(1, Estado.EN_PROGRESO);
+        sistema.resolverTicket(1);
+        sistema.obtenerTicketsPorEstado(Estado.RESUELTO);
+        sistema.buscarTicketPorId(ticket.getId());
+        sistema.obtenerEstadisticas();
+        try {
+            sistema.resolverTicket(999);
+        } catch (IllegalArgumentException e) {
+            // Las operaciones fallidas no se registran
+        }
+        EnumMap<OperacionSistema, HistogramaLatencia> instantanea = sistema.getMetricas().capturar();
+        assert instantanea.get(OperacionSistema.CREAR_TICKET).getConteo() == 1 : "Test 4 falló: Crear";
+        assert instantanea.get(OperacionSistema.ASIGNAR_AUTOMATICO).getConteo() == 2 : "Test 4 falló: Asignar";
+        assert instantanea.get(OperacionSistema.RESOLVER).getConteo() == 1 : "Test 4 falló: Resolver";
+        // Creado, asignado y resuelto, más los tres cambios de estado
+        assert instantanea.get(OperacionSistema.DESPACHO_OBSERVADORES).getConteo() == 6
+                : "Test 4 falló: Despacho";
+        assert instantanea.get(OperacionSistema.CERRAR).isEmpty() : "Test 4 falló: Cerrar";
+        assert instantanea.get(OperacionSistema.CREAR_TICKET).getPercentil(50) > 0 : "Test 4 falló: Latencia";
+        System.out.println("✓ Test 4 pasado: Latencias por operación");
+
+        // Test 5: Registradores por hilo que se juntan al leer
+        ConcurrentTicketSystem concurrente = new ConcurrentTicketSystem();
+        concurrente.configurarMetricas(true);
+        Thread[] hilos = new Thread[4];
+        for (int h = 0; h < hilos.length; h++) {
+            Categoria categoria = Categoria.values()[h];
+            hilos[h] = new Thread(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    concurrente.crearTicket("Concurrente", categoria, cliente);
+                }
+            });
+            hilos[h].start();
+        }
+        for (Thread hilo : hilos) {
+            hilo.join();
+        }
+        MetricasOperaciones metricas = concurrente.getMetricas();
+        assert metricas.capturar(OperacionSistema.CREAR_TICKET).getConteo() == 40_000
+                : "Test 5 falló: Faltan latencias de algún hilo";
+        metricas.reiniciar();
+        assert metricas.capturar(OperacionSistema.CREAR_TICKET).isEmpty() : "Test 5 falló: Reinicio";
+        concurrente.crearTicket("Después del reinicio", Categoria.RED, cliente);
+        assert metricas.capturar(OperacionSistema.CREAR_TICKET).getConteo() == 1 : "Test 5 falló: Nueva generación";
+        System.out.println("✓ Test 5 pasado: Registradores por hilo");
+
+        // Test 6: Los hilos que terminan se suman al acumulado sin perder latencias
+        MetricasOperaciones efimeras = new MetricasOperaciones();
+        efimeras.configurar(true);
+        for (int ronda = 0; ronda < 100; ronda++) {
+            Thread[] tanda = new Thread[3];
+            for (int h = 0; h < tanda.length; h++) {
+                tanda[h] = new Thread(() -> {
+                    for (int i = 0; i < 100; i++) {
+                        efimeras.registrar(OperacionSistema.CREAR_TICKET, efimeras.iniciar());
+                        efimeras.registrar(OperacionSistema.RESOLVER, efimeras.iniciar());
+                    }
+                });
+                tanda[h].start();
+            }
+            for (Thread hilo : tanda) {
+                hilo.join();
+            }
+            // Acumulado más, a lo sumo, los hilos de la última tanda
+            assert efimeras.registradores.size() <= 1 + tanda.length
+                    : "Test 6 falló: " + efimeras.registradores.size() + " registradores en la ronda " + ronda;
+        }
+        assert efimeras.capturar(OperacionSistema.CREAR_TICKET).getConteo() == 30_000
+                : "Test 6 falló: Latencias perdidas al acumular";
+        assert efimeras.capturar(OperacionSistema.RESOLVER).getConteo() == 30_000
+                : "Test 6 falló: Latencias perdidas de otra operación";
+        efimeras.registrar(OperacionSistema.CERRAR, efimeras.iniciar());
+        assert efimeras.registradores.size() == 2 : "Test 6 falló: Quedaron hilos terminados";
+        assert efimeras.capturar(OperacionSistema.CREAR_TICKET).getConteo() == 30_000
+                : "Test 6 falló: Conteo tras el último plegado";
+        System.out.println("✓ Test 6 pasado: Memoria acotada con hilos de vida corta");
+
+        System.out.println("\n" + sistema.getMetricas());
+        System.out.println("=== Todas las pruebas de MetricasOperaciones pasaron ===");
+    }
+}
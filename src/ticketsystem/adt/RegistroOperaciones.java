@@ -0,0 +1,762 @@
+/*
+ * Taller Práctico 01 - Sistema de Gestión de Tickets
+ * Estructuras de Datos y Algoritmos - 2026-10
+ *
+ * Integrantes:
+ * - [Nombre Completo 1] - ID: [ID1]
+ * - [Nombre Completo 2] - ID: [ID2]
+ * - [Nombre Completo 3] - ID: [ID3]
+ */
+
+package ticketsystem.adt;
+
+import ticketsystem.datastructures.IntMap;
+import ticketsystem.enums.Categoria;
+import ticketsystem.enums.Estado;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32;
+
+/**
+ * Registro de las operaciones que modifican un TicketSystem: agregar
+ * técnicos, cambiar su disponibilidad o especialidad, crear, asignar,
+ * cambiar de estado, resolver y cerrar tickets. Al reiniciar, el sistema se
+ * reconstruye reproduciendo el registro (ver el constructor
+ * TicketSystem(registro)).
+ *
+ * No es un registro de escritura anticipada: cada operación se agrega
+ * después de aplicarse en memoria, y antes de notificar a los observadores
+ * y de retornar. Si el proceso cae entre ambos pasos se pierde esa última
+ * operación, que nunca llegó a confirmarse a quien la pidió. Si agregar
+ * falla (registro cerrado o error de disco), el cambio queda en memoria sin
+ * registrar y la operación lanza IllegalStateException.
+ *
+ * Los registros se acumulan en memoria y un hilo escritor los baja al
+ * archivo por lotes, con un único fsync por lote (group commit): el lote se
+ * escribe al juntar maxLote registros, al pasar maxMilis desde el primero o
+ * cuando alguien espera su durabilidad. Con esperarDurabilidad, cada
+ * operación del sistema retorna solo cuando su lote quedó en disco; los
+ * hilos que esperan al mismo tiempo comparten el fsync. Sin ella, se pueden
+ * perder a lo sumo las operaciones del último lote.
+ *
+ * Formato: secuencia de registros [longitud int][crc32 int][tipo byte][datos],
+ * donde longitud y crc32 cubren tipo y datos. Un registro incompleto o con
+ * crc inválido al final del archivo (escritura cortada) se descarta al
+ * reproducir.
+ *
+ * Invariantes:
+ * - Solo el hilo escritor escribe en el archivo
+ * - Los registros se escriben en el orden en que se agregaron
+ * - Los cambios de estado, disponibilidad y especialidad hechos
+ * directamente sobre Ticket o Tecnico también se registran, porque se
+ * toman de los avisos que estos dan al sistema. Una asignación directa con
+ * Ticket.asignarTecnico no se registra: tampoco actualiza el sistema
+ */
+public class RegistroOperaciones implements AutoCloseable {
+
+    static final byte TECNICO = 1;
+    static final byte CREAR = 2;
+    static final byte ASIGNAR = 3;
+    static final byte ESTADO = 4;
+    static final byte RESOLVER = 5;
+    static final byte CERRAR = 6;
+    static final byte DISPONIBILIDAD = 7;
+    static final byte ESPECIALIDAD = 8;
+
+    private static final int CABECERA = 8;
+    private static final int CAPACIDAD_INICIAL = 64 * 1024;
+
+    private final FileChannel canal;
+    private final int maxLote;
+    private final long maxNanos;
+    private final boolean esperarDurabilidad;
+
+    private final ReentrantLock lock;
+    private final Condition hayTrabajo;
+    private final Condition loteEscrito;
+
+    // Registros del lote en curso; el escritor lo intercambia por enEscritura
+    private ByteBuffer pendiente;
+    private ByteBuffer enEscritura;
+    private int registrosPendientes;
+    private long inicioLote;
+    private boolean urgente;
+    private long ultimaSecuencia;
+    // Registros válidos que ya tenía el archivo al reproducirlo
+    private long registrosPrevios;
+    private long secuenciaDurable;
+    private long lotesEscritos;
+    private IOException falla;
+    private boolean abierto;
+    private Thread escritor;
+
+    /**
+     * Constructor que abre (o crea) el archivo del registro. El registro no
+     * acepta operaciones hasta que se reproduce sobre un sistema.
+     *
+     * @param archivo            Archivo del registro
+     * @param maxLote            Registros que disparan la escritura de un lote
+     * @param maxMilis           Antigüedad máxima de un lote en milisegundos
+     * @param esperarDurabilidad Si cada operación espera a que su lote esté en
+     *                           disco
+     * @throws IOException si no se puede abrir el archivo
+     */
+    public RegistroOperaciones(Path archivo, int maxLote, long maxMilis, boolean esperarDurabilidad)
+            throws IOException {
+        if (maxLote <= 0) {
+            throw new IllegalArgumentException("El tamaño de lote debe ser positivo");
+        }
+        if (maxMilis < 0) {
+            throw new IllegalArgumentException("La espera máxima no puede ser negativa");
+        }
+
+        this.canal = FileChannel.open(archivo, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        this.maxLote = maxLote;
+        this.maxNanos = maxMilis * 1_000_000L;
+        this.esperarDurabilidad = esperarDurabilidad;
+        this.lock = new ReentrantLock();
+        this.hayTrabajo = lock.newCondition();
+        this.loteEscrito = lock.newCondition();
+        this.pendiente = ByteBuffer.allocateDirect(CAPACIDAD_INICIAL);
+        this.enEscritura = ByteBuffer.allocateDirect(CAPACIDAD_INICIAL);
+        this.abierto = true;
+    }
+
+    /**
+     * Reconstruye en el sistema las operaciones del registro salvo las
+     * primeras omitir, descarta la cola dañada si la hay e inicia el hilo
+     * escritor. Lo invoca TicketSystem.conectarRegistro; omitir es el número
+     * de operaciones que el sistema ya refleja (las incluidas en la
+     * Instantanea de la que se cargó, o 0).
+     *
+     * @param sistema Sistema recién creado o cargado de una instantánea
+     * @param omitir  Registros iniciales que no se aplican
+     * @return Número de registros reproducidos
+     * @throws IOException           si no se puede leer el archivo
+     * @throws IllegalStateException si el registro ya se reprodujo o tiene
+     *                               menos registros que omitir
+     */
+    int reproducir(TicketSystem sistema, long omitir) throws IOException {
+        if (escritor != null) {
+            throw new IllegalStateException("El registro ya fue reproducido");
+        }
+
+        long tamano = canal.size();
+        long valido = 0;
+        long leidos = 0;
+        int reproducidos = 0;
+        if (tamano > 0) {
+            ByteBuffer datos = canal.map(FileChannel.MapMode.READ_ONLY, 0, tamano);
+            IntMap<Cliente> clientes = new IntMap<>();
+            IntMap<Tecnico> tecnicosSueltos = new IntMap<>();
+            CRC32 crc = new CRC32();
+            while (datos.remaining() >= CABECERA) {
+                int longitud = datos.getInt();
+                int esperado = datos.getInt();
+                if (longitud <= 0 || longitud > datos.remaining()) {
+                    break;
+                }
+                ByteBuffer registro = datos.slice().limit(longitud);
+                crc.reset();
+                crc.update(registro.duplicate());
+                if ((int) crc.getValue() != esperado) {
+                    break;
+                }
+                if (leidos++ >= omitir) {
+                    aplicar(registro, sistema, clientes, tecnicosSueltos);
+                    reproducidos++;
+                }
+                datos.position(datos.position() + longitud);
+                valido = datos.position();
+            }
+        }
+        if (leidos < omitir) {
+            throw new IllegalStateException("El registro tiene " + leidos
+                    + " operaciones, pero la instantánea ya incluye " + omitir);
+        }
+
+        registrosPrevios = leidos;
+        if (valido < tamano) {
+            canal.truncate(valido);
+        }
+        canal.position(valido);
+
+        escritor = new Thread(this::escribirLotes, "registro-operaciones");
+        escritor.setDaemon(true);
+        escritor.start();
+        return reproducidos;
+    }
+
+    /**
+     * Aplica un registro al sistema usando sus mismas operaciones.
+     */
+    private static void aplicar(ByteBuffer registro, TicketSystem sistema, IntMap<Cliente> clientes,
+            IntMap<Tecnico> tecnicosSueltos) {
+        byte tipo = registro.get();
+        switch (tipo) {
+            case TECNICO: {
+                sistema.agregarTecnico(leerTecnico(registro));
+                break;
+            }
+            case CREAR: {
+                int id = registro.getInt();
+                LocalDateTime fechaCreacion = deNanos(registro.getLong());
+                Categoria categoria = Categoria.values()[registro.get()];
+                String descripcion = leerTexto(registro);
+                int clienteId = registro.getInt();
+                String nombre = leerTexto(registro);
+                String email = leerTexto(registro);
+                String empresa = leerTexto(registro);
+                String telefono = leerTexto(registro);
+                Cliente cliente = clientes.get(clienteId);
+                if (cliente == null) {
+                    cliente = new Cliente(clienteId, nombre, email, empresa, telefono);
+                    clientes.put(clienteId, cliente);
+                }
+                sistema.restaurarTicket(new Ticket(id, descripcion, categoria, cliente, fechaCreacion));
+                break;
+            }
+            case ASIGNAR: {
+                Ticket ticket = sistema.buscarTicketPorId(registro.getInt());
+                Tecnico leido = leerTecnico(registro);
+                Tecnico tecnico = sistema.buscarTecnicoPorId(leido.getId());
+                if (tecnico == null) {
+                    // Asignación manual a un técnico no registrado en el sistema
+                    tecnico = tecnicosSueltos.get(leido.getId());
+                    if (tecnico == null) {
+                        tecnico = leido;
+                        tecnicosSueltos.put(leido.getId(), leido);
+                    }
+                }
+                sistema.asignarTicketManual(ticket, tecnico);
+                break;
+            }
+            case ESTADO: {
+                int id = registro.getInt();
+                sistema.cambiarEstadoTicket(id, Estado.values()[registro.get()]);
+                break;
+            }
+            case RESOLVER: {
+                int id = registro.getInt();
+                sistema.resolverTicket(id);
+                sistema.restaurarFechaResolucion(sistema.buscarTicketPorId(id), deNanos(registro.getLong()));
+                break;
+            }
+            case CERRAR: {
+                sistema.cerrarTicket(registro.getInt());
+                break;
+            }
+            case DISPONIBILIDAD: {
+                Tecnico tecnico = sistema.buscarTecnicoPorId(registro.getInt());
+                tecnico.marcarDisponibilidad(registro.get() != 0);
+                break;
+            }
+            case ESPECIALIDAD: {
+                Tecnico tecnico = sistema.buscarTecnicoPorId(registro.getInt());
+                tecnico.setEspecialidad(Categoria.values()[registro.get()]);
+                break;
+            }
+            default:
+                throw new IllegalStateException("Tipo de registro desconocido: " + tipo);
+        }
+    }
+
+    // Registro de operaciones (los invoca TicketSystem)
+
+    long registrarTecnico(Tecnico tecnico) {
+        byte[] nombre = aBytes(tecnico.getNombre());
+        ByteBuffer b = nuevoRegistro(TECNICO, 4 + tamanoTexto(nombre) + 1);
+        escribirTecnico(b, tecnico, nombre);
+        return agregar(b);
+    }
+
+    long registrarCreacion(Ticket ticket) {
+        Cliente cliente = ticket.getCliente();
+        byte[] descripcion = aBytes(ticket.getDescripcion());
+        byte[] nombre = aBytes(cliente.getNombre());
+        byte[] email = aBytes(cliente.getEmail());
+        byte[] empresa = aBytes(cliente.getEmpresa());
+        byte[] telefono = aBytes(cliente.getTelefono());
+        ByteBuffer b = nuevoRegistro(CREAR, 4 + 8 + 1 + tamanoTexto(descripcion) + 4 + tamanoTexto(nombre)
+                + tamanoTexto(email) + tamanoTexto(empresa) + tamanoTexto(telefono));
+        b.putInt(ticket.getId());
+        b.putLong(aNanos(ticket.getFechaCreacion()));
+        b.put((byte) ticket.getCategoria().ordinal());
+        escribirTexto(b, descripcion);
+        b.putInt(cliente.getId());
+        escribirTexto(b, nombre);
+        escribirTexto(b, email);
+        escribirTexto(b, empresa);
+        escribirTexto(b, telefono);
+        return agregar(b);
+    }
+
+    long registrarAsignacion(Ticket ticket, Tecnico tecnico) {
+        byte[] nombre = aBytes(tecnico.getNombre());
+        ByteBuffer b = nuevoRegistro(ASIGNAR, 4 + 4 + tamanoTexto(nombre) + 1);
+        b.putInt(ticket.getId());
+        escribirTecnico(b, tecnico, nombre);
+        return agregar(b);
+    }
+
+    long registrarCambioEstado(Ticket ticket) {
+        ByteBuffer b = nuevoRegistro(ESTADO, 4 + 1);
+        b.putInt(ticket.getId());
+        b.put((byte) ticket.getEstado().ordinal());
+        return agregar(b);
+    }
+
+    long registrarResolucion(Ticket ticket) {
+        ByteBuffer b = nuevoRegistro(RESOLVER, 4 + 8);
+        b.putInt(ticket.getId());
+        b.putLong(aNanos(ticket.getFechaResolucion()));
+        return agregar(b);
+    }
+
+    long registrarCierre(Ticket ticket) {
+        ByteBuffer b = nuevoRegistro(CERRAR, 4);
+        b.putInt(ticket.getId());
+        return agregar(b);
+    }
+
+    long registrarDisponibilidad(Tecnico tecnico) {
+        ByteBuffer b = nuevoRegistro(DISPONIBILIDAD, 4 + 1);
+        b.putInt(tecnico.getId());
+        b.put((byte) (tecnico.isDisponible() ? 1 : 0));
+        return agregar(b);
+    }
+
+    long registrarEspecialidad(Tecnico tecnico) {
+        ByteBuffer b = nuevoRegistro(ESPECIALIDAD, 4 + 1);
+        b.putInt(tecnico.getId());
+        b.put((byte) tecnico.getEspecialidad().ordinal());
+        return agregar(b);
+    }
+
+    /**
+     * Crea el buffer de un registro con la cabecera provisional y el tipo ya
+     * escritos. Se llena fuera del lock del registro.
+     */
+    private static ByteBuffer nuevoRegistro(byte tipo, int tamanoDatos) {
+        ByteBuffer b = ByteBuffer.allocate(CABECERA + 1 + tamanoDatos);
+        b.putInt(1 + tamanoDatos);
+        b.putInt(0);
+        b.put(tipo);
+        return b;
+    }
+
+    /**
+     * Completa el crc de un registro codificado, lo copia al lote en curso y
+     * avisa al escritor si el lote se llenó. El lock se toma y se libera
+     * aquí mismo, así que un error al codificar nunca lo deja tomado.
+     *
+     * @return Secuencia del registro, para esperarDurable
+     */
+    private long agregar(ByteBuffer registro) {
+        CRC32 crc = new CRC32();
+        crc.update(registro.array(), CABECERA, registro.position() - CABECERA);
+        registro.putInt(4, (int) crc.getValue());
+        registro.flip();
+
+        lock.lock();
+        try {
+            if (escritor == null) {
+                throw new IllegalStateException("El registro no ha sido reproducido");
+            }
+            if (!abierto) {
+                throw new IllegalStateException("El registro está cerrado");
+            }
+            verificarFalla();
+            if (pendiente.remaining() < registro.remaining()) {
+                ByteBuffer mayor = ByteBuffer.allocateDirect(Math.max(pendiente.capacity() * 2,
+                        pendiente.position() + registro.remaining()));
+                pendiente.flip();
+                mayor.put(pendiente);
+                pendiente = mayor;
+            }
+            pendiente.put(registro);
+
+            if (registrosPendientes++ == 0) {
+                inicioLote = System.nanoTime();
+                hayTrabajo.signal();
+            }
+            if (registrosPendientes >= maxLote) {
+                hayTrabajo.signal();
+            }
+            return ++ultimaSecuencia;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Espera a que un registro esté en disco si el registro se configuró con
+     * esperarDurabilidad; si no, retorna de inmediato.
+     *
+     * @param secuencia Secuencia devuelta al registrar la operación
+     */
+    void confirmar(long secuencia) {
+        if (esperarDurabilidad) {
+            esperarDurable(secuencia);
+        }
+    }
+
+    /**
+     * Espera a que todas las operaciones registradas hasta ahora estén en
+     * disco, sin esperar a que el lote se llene.
+     */
+    public void sincronizar() {
+        lock.lock();
+        long secuencia;
+        try {
+            secuencia = ultimaSecuencia;
+        } finally {
+            lock.unlock();
+        }
+        esperarDurable(secuencia);
+    }
+
+    /**
+     * Pide la escritura inmediata del lote y espera a que la secuencia dada
+     * quede en disco. Los hilos que esperan a la vez comparten el fsync.
+     */
+    private void esperarDurable(long secuencia) {
+        lock.lock();
+        try {
+            boolean interrumpido = false;
+            while (secuenciaDurable < secuencia) {
+                verificarFalla();
+                if (escritor == null || !escritor.isAlive()) {
+                    throw new IllegalStateException("El registro está cerrado");
+                }
+                urgente = true;
+                hayTrabajo.signal();
+                try {
+                    loteEscrito.await();
+                } catch (InterruptedException e) {
+                    interrumpido = true;
+                }
+            }
+            if (interrumpido) {
+                Thread.currentThread().interrupt();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Bucle del hilo escritor: espera a que haya un lote listo, lo escribe
+     * fuera del lock con un único fsync y despierta a quienes lo esperaban.
+     */
+    private void escribirLotes() {
+        while (true) {
+            long secuencia;
+            lock.lock();
+            try {
+                while (!loteListo()) {
+                    if (!abierto && registrosPendientes == 0) {
+                        return;
+                    }
+                    try {
+                        if (registrosPendientes == 0) {
+                            hayTrabajo.await();
+                        } else {
+                            hayTrabajo.awaitNanos(maxNanos - (System.nanoTime() - inicioLote));
+                        }
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+                ByteBuffer lote = pendiente;
+                pendiente = enEscritura;
+                enEscritura = lote;
+                secuencia = ultimaSecuencia;
+                registrosPendientes = 0;
+                urgente = false;
+            } finally {
+                lock.unlock();
+            }
+
+            IOException error = null;
+            try {
+                enEscritura.flip();
+                while (enEscritura.hasRemaining()) {
+                    canal.write(enEscritura);
+                }
+                canal.force(false);
+            } catch (IOException e) {
+                error = e;
+            }
+            enEscritura.clear();
+
+            lock.lock();
+            try {
+                if (error != null) {
+                    falla = error;
+                } else {
+                    secuenciaDurable = secuencia;
+                    lotesEscritos++;
+                }
+                loteEscrito.signalAll();
+                if (error != null) {
+                    return;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Indica si el lote en curso debe escribirse ya. Se invoca con el lock.
+     */
+    private boolean loteListo() {
+        if (registrosPendientes == 0) {
+            return false;
+        }
+        return urgente || !abierto || registrosPendientes >= maxLote
+                || System.nanoTime() - inicioLote >= maxNanos;
+    }
+
+    private void verificarFalla() {
+        if (falla != null) {
+            throw new IllegalStateException("No se pudo escribir el registro de operaciones", falla);
+        }
+    }
+
+    /**
+     * Escribe las operaciones pendientes, detiene el hilo escritor y cierra
+     * el archivo.
+     *
+     * @throws IOException si no se puede cerrar el archivo
+     */
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            abierto = false;
+            hayTrabajo.signal();
+        } finally {
+            lock.unlock();
+        }
+        if (escritor != null) {
+            try {
+                escritor.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        canal.close();
+        verificarFalla();
+    }
+
+    /**
+     * Obtiene cuántos lotes (y por tanto fsyncs) se han escrito.
+     *
+     * @return Número de lotes escritos
+     */
+    public long getLotesEscritos() {
+        lock.lock();
+        try {
+            return lotesEscritos;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Obtiene cuántas operaciones se han registrado desde que se abrió.
+     *
+     * @return Número de operaciones registradas
+     */
+    public long getOperacionesRegistradas() {
+        lock.lock();
+        try {
+            return ultimaSecuencia;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Obtiene cuántos registros tiene el archivo, contando los que ya tenía
+     * al reproducirlo y los agregados desde entonces (aunque aún no estén en
+     * disco). Es la posición que guarda una Instantanea.
+     *
+     * @return Número de registros del archivo
+     */
+    public long getRegistrosEnArchivo() {
+        lock.lock();
+        try {
+            return registrosPrevios + ultimaSecuencia;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Codificación
+
+    /**
+     * Convierte una fecha a nanosegundos desde la época (UTC).
+     */
+    static long aNanos(LocalDateTime fecha) {
+        return fecha.toEpochSecond(ZoneOffset.UTC) * 1_000_000_000L + fecha.getNano();
+    }
+
+    /**
+     * Convierte nanosegundos desde la época (UTC) a fecha.
+     */
+    static LocalDateTime deNanos(long nanos) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(nanos, 1_000_000_000L),
+                (int) Math.floorMod(nanos, 1_000_000_000L), ZoneOffset.UTC);
+    }
+
+    private static byte[] aBytes(String texto) {
+        return texto == null ? null : texto.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static int tamanoTexto(byte[] texto) {
+        return 4 + (texto == null ? 0 : texto.length);
+    }
+
+    /**
+     * Escribe un texto como [longitud int][UTF-8]; null se guarda con
+     * longitud -1.
+     */
+    private static void escribirTexto(ByteBuffer b, byte[] texto) {
+        if (texto == null) {
+            b.putInt(-1);
+        } else {
+            b.putInt(texto.length);
+            b.put(texto);
+        }
+    }
+
+    private static String leerTexto(ByteBuffer b) {
+        int longitud = b.getInt();
+        if (longitud < 0) {
+            return null;
+        }
+        byte[] texto = new byte[longitud];
+        b.get(texto);
+        return new String(texto, StandardCharsets.UTF_8);
+    }
+
+    private static void escribirTecnico(ByteBuffer b, Tecnico tecnico, byte[] nombre) {
+        b.putInt(tecnico.getId());
+        escribirTexto(b, nombre);
+        b.put((byte) tecnico.getEspecialidad().ordinal());
+    }
+
+    private static Tecnico leerTecnico(ByteBuffer b) {
+        int id = b.getInt();
+        String nombre = leerTexto(b);
+        return new Tecnico(id, nombre, Categoria.values()[b.get()]);
+    }
+
+    /**
+     * Método main con casos de prueba.
+     */
+    public static void main(String[] args) throws IOException {
+        System.out.println("=== Pruebas del RegistroOperaciones ===\n");
+
+        Path archivo = Files.createTempFile("registro", ".wal");
+        Cliente cliente = new Cliente(1, "Juan Pérez", "juan@example.com");
+
+        // Test 1: Reconstrucción del sistema al reabrir el registro
+        RegistroOperaciones registro = new RegistroOperaciones(archivo, 64, 5, true);
+        TicketSystem sistema = new TicketSystem(registro);
+        sistema.agregarTecnico(new Tecnico(1, "Carlos Tech", Categoria.RED));
+        Ticket t1 = sistema.crearTicket("Sin internet", Categoria.RED, cliente);
+        Ticket t2 = sistema.crearTicket("Sin VPN", Categoria.RED, cliente);
+        sistema.crearTicket("Impresora", Categoria.HARDWARE, cliente);
+        sistema.asignarTicketAutomatico();
+        sistema.cambiarEstadoTicket(t1.getId(), Estado.EN_PROGRESO);
+        sistema.resolverTicket(t1.getId());
+        sistema.cerrarTicket(t1.getId());
+        sistema.asignarTicketAutomatico();
+        registro.close();
+
+        RegistroOperaciones registro2 = new RegistroOperaciones(archivo, 64, 5, true);
+        TicketSystem recuperado = new TicketSystem(registro2);
+        assert recuperado.generarEstadisticas().equals(sistema.generarEstadisticas())
+                : "Test 1 falló: Estadísticas distintas tras recuperar";
+        Ticket r1 = recuperado.buscarTicketPorId(t1.getId());
+        assert r1.getEstado() == Estado.CERRADO : "Test 1 falló: Estado no recuperado";
+        assert r1.getFechaCreacion().equals(t1.getFechaCreacion()) : "Test 1 falló: Fecha de creación distinta";
+        assert r1.getFechaResolucion().equals(t1.getFechaResolucion()) : "Test 1 falló: Fecha de resolución distinta";
+        assert recuperado.buscarTicketPorId(t2.getId()).getTecnico().getId() == 1
+                : "Test 1 falló: Asignación no recuperada";
+        Ticket t4 = recuperado.crearTicket("Nuevo", Categoria.RED, cliente);
+        assert t4.getId() == 4 : "Test 1 falló: El próximo ID no continúa la secuencia";
+        System.out.println("✓ Test 1 pasado: Recuperación reproduciendo el registro");
+
+        // Test 2: Group commit, un fsync por lote
+        registro2.close();
+        RegistroOperaciones registro3 = new RegistroOperaciones(archivo, 100, 1_000, false);
+        TicketSystem sistema3 = new TicketSystem(registro3);
+        for (int i = 0; i < 1000; i++) {
+            sistema3.crearTicket("Masivo " + i, Categoria.APLICACION, cliente);
+        }
+        registro3.sincronizar();
+        assert registro3.getOperacionesRegistradas() == 1000 : "Test 2 falló: Operaciones no registradas";
+        assert registro3.getLotesEscritos() <= 11 : "Test 2 falló: Demasiados fsync: " + registro3.getLotesEscritos();
+        registro3.close();
+        System.out.println("✓ Test 2 pasado: Operaciones escritas por lotes");
+
+        // Test 3: Un registro cortado al final se descarta
+        long tamanoValido = Files.size(archivo);
+        Files.write(archivo, new byte[] { 0, 0, 0, 40, 1, 2, 3 }, StandardOpenOption.APPEND);
+        RegistroOperaciones registro4 = new RegistroOperaciones(archivo, 64, 5, true);
+        TicketSystem sistema4 = new TicketSystem(registro4);
+        assert sistema4.getTodosLosTickets().size() == 1004 : "Test 3 falló: Tickets válidos perdidos";
+        assert Files.size(archivo) == tamanoValido : "Test 3 falló: La cola dañada no se truncó";
+        registro4.close();
+        System.out.println("✓ Test 3 pasado: Cola dañada descartada");
+
+        // Test 4: Cambios hechos directamente sobre Ticket y Tecnico
+        Path directos = Files.createTempFile("directos", ".wal");
+        RegistroOperaciones registro5 = new RegistroOperaciones(directos, 64, 5, true);
+        TicketSystem sistema5 = new TicketSystem(registro5);
+        Tecnico ana = new Tecnico(1, "Ana Red", Categoria.RED);
+        Tecnico beto = new Tecnico(2, "Beto Red", Categoria.RED);
+        Tecnico ciro = new Tecnico(3, "Ciro Red", Categoria.RED);
+        sistema5.agregarTecnico(ana);
+        sistema5.agregarTecnico(beto);
+        sistema5.agregarTecnico(ciro);
+        Ticket directo = sistema5.crearTicket("Cambio directo", Categoria.RED, cliente);
+        sistema5.asignarTicketAutomatico();
+        directo.cambiarEstado(Estado.EN_PROGRESO);
+        sistema5.resolverTicket(directo.getId());
+        beto.marcarDisponibilidad(false);
+        ciro.setEspecialidad(Categoria.HARDWARE);
+        registro5.close();
+
+        RegistroOperaciones registro6 = new RegistroOperaciones(directos, 64, 5, true);
+        TicketSystem recuperado5 = new TicketSystem(registro6);
+        assert recuperado5.buscarTicketPorId(directo.getId()).getEstado() == Estado.RESUELTO
+                : "Test 4 falló: Cambio de estado directo no recuperado";
+        assert !recuperado5.buscarTecnicoPorId(2).isDisponible() : "Test 4 falló: Disponibilidad no recuperada";
+        assert recuperado5.buscarTecnicoPorId(3).getEspecialidad() == Categoria.HARDWARE
+                : "Test 4 falló: Especialidad no recuperada";
+        assert recuperado5.generarEstadisticas().equals(sistema5.generarEstadisticas())
+                : "Test 4 falló: Estadísticas distintas tras recuperar";
+        registro6.close();
+        Files.delete(directos);
+        System.out.println("✓ Test 4 pasado: Cambios directos registrados");
+
+        Files.delete(archivo);
+        System.out.println("\n=== Todas las pruebas de RegistroOperaciones pasaron ===");
+    }
+}
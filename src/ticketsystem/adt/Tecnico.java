@@ -21,6 +21,10 @@ import ticketsystem.interfaces.Identificable;
  * 
  * Invariantes:
  * - El técnico solo puede tener un ticket asignado a la vez
+ * 
+ * Un técnico no es seguro para varios hilos por sí solo: en
+ * ConcurrentTicketSystem se modifica siempre bajo el lock de la partición
+ * de su especialidad, y por eso ahí no puede cambiar de especialidad.
  */
 public class Tecnico implements Identificable {
 
@@ -30,6 +34,17 @@ public class Tecnico implements Identificable {
     private Ticket ticketAsignado;
     private boolean disponible;
 
+    // Sistema en el que está registrado; se le avisa cuando cambia la
+    // disponibilidad para que mantenga sus contadores
+    private TicketSystem sistema;
+
+    /** Valor de posicionEnPool cuando el técnico no está en un pool de libres. */
+    static final long FUERA_DE_POOL = -1;
+
+    // Posición en el pool de técnicos libres de su especialidad (handle de
+    // RingQueue), para sacarlo en O(1) cuando deja de estar disponible
+    private long posicionEnPool;
+
     /**
      * Constructor para crear un nuevo técnico.
      * 
@@ -50,6 +65,7 @@ public class Tecnico implements Identificable {
         this.especialidad = especialidad;
         this.ticketAsignado = null;
         this.disponible = true;
+        this.posicionEnPool = FUERA_DE_POOL;
     }
 
     /**
@@ -59,19 +75,41 @@ public class Tecnico implements Identificable {
      * @throws IllegalStateException si el técnico ya tiene un ticket asignado
      */
     public void asignarTicket(Ticket ticket) {
-        if (!disponible || ticketAsignado != null) {
+        if (!intentarAsignarTicket(ticket)) {
             throw new IllegalStateException("El técnico ya tiene un ticket asignado");
         }
+    }
+
+    /**
+     * Intenta asignar un ticket al técnico sin lanzar excepción si ya está
+     * ocupado.
+     * 
+     * @param ticket Ticket a asignar
+     * @return true si el técnico quedó con el ticket, false si no estaba
+     *         disponible
+     * @throws IllegalArgumentException si el ticket es null
+     */
+    public boolean intentarAsignarTicket(Ticket ticket) {
+        if (ticket == null) {
+            throw new IllegalArgumentException("El ticket no puede ser null");
+        }
+        if (!estaDisponible()) {
+            return false;
+        }
         this.ticketAsignado = ticket;
         this.disponible = false;
+        avisarCambio(true);
+        return true;
     }
 
     /**
      * Libera al técnico al completar un ticket.
      */
     public void completarTicket() {
+        boolean antes = estaDisponible();
         this.ticketAsignado = null;
         this.disponible = true;
+        avisarCambio(antes);
     }
 
     /**
@@ -92,7 +130,30 @@ public class Tecnico implements Identificable {
         if (!disponible && ticketAsignado != null) {
             throw new IllegalStateException("No se puede marcar como no disponible mientras tenga un ticket asignado");
         }
+        boolean antes = estaDisponible();
         this.disponible = disponible;
+        avisarCambio(antes);
+    }
+
+    /**
+     * Avisa al sistema si la disponibilidad efectiva cambió.
+     * 
+     * @param antes Disponibilidad antes de la operación
+     */
+    private void avisarCambio(boolean antes) {
+        if (sistema != null && antes != estaDisponible()) {
+            sistema.onCambioDisponibilidad(this);
+        }
+    }
+
+    /**
+     * Restaura disponibilidad y ticket asignado sin avisar al sistema. Solo
+     * para técnicos que aún no están registrados en un sistema (carga de una
+     * instantánea).
+     */
+    void restaurarEstado(boolean disponible, Ticket ticketAsignado) {
+        this.disponible = disponible;
+        this.ticketAsignado = ticketAsignado;
     }
 
     // Getters
@@ -117,6 +178,18 @@ public class Tecnico implements Identificable {
         return disponible;
     }
 
+    void setSistema(TicketSystem sistema) {
+        this.sistema = sistema;
+    }
+
+    long getPosicionEnPool() {
+        return posicionEnPool;
+    }
+
+    void setPosicionEnPool(long posicionEnPool) {
+        this.posicionEnPool = posicionEnPool;
+    }
+
     // Setters
 
     public void setNombre(String nombre) {
@@ -126,11 +199,27 @@ public class Tecnico implements Identificable {
         this.nombre = nombre;
     }
 
+    /**
+     * Cambia la especialidad y, si está registrado en un sistema, lo mueve al
+     * pool de libres de la nueva especialidad.
+     * 
+     * @param especialidad Nueva especialidad
+     * @throws IllegalStateException si el técnico pertenece a una partición
+     *                               de ConcurrentTicketSystem
+     */
     public void setEspecialidad(Categoria especialidad) {
         if (especialidad == null) {
             throw new IllegalArgumentException("La especialidad no puede ser null");
         }
+        if (sistema != null && sistema.esParticion()) {
+            throw new IllegalStateException(
+                    "No se puede cambiar la especialidad de un técnico de un sistema concurrente");
+        }
+        Categoria anterior = this.especialidad;
         this.especialidad = especialidad;
+        if (sistema != null && anterior != especialidad) {
+            sistema.onCambioEspecialidad(this, anterior);
+        }
     }
 
     @Override
@@ -39,6 +39,17 @@ public class Ticket implements Identificable {
     private final LocalDateTime fechaCreacion;
     private LocalDateTime fechaResolucion;
 
+    /** Valor de posicionEnCola cuando el ticket no está en la cola de pendientes. */
+    static final long FUERA_DE_COLA = -1;
+
+    // Posición del ticket en la cola de pendientes del sistema (handle de
+    // RingQueue), para poder sacarlo en O(1) en una asignación manual
+    private long posicionEnCola;
+
+    // Sistema que indexa este ticket; se le avisa de cada cambio de estado,
+    // incluso los hechos directamente sobre el ticket
+    private TicketSystem sistema;
+
     /**
      * Constructor para crear un nuevo ticket.
      * 
@@ -48,6 +59,14 @@ public class Ticket implements Identificable {
      * @param cliente     Cliente que reporta el ticket
      */
     public Ticket(int id, String descripcion, Categoria categoria, Cliente cliente) {
+        this(id, descripcion, categoria, cliente, LocalDateTime.now());
+    }
+
+    /**
+     * Constructor que conserva la fecha de creación original, usado al
+     * restaurar tickets desde el registro de operaciones.
+     */
+    Ticket(int id, String descripcion, Categoria categoria, Cliente cliente, LocalDateTime fechaCreacion) {
         if (descripcion == null || descripcion.trim().isEmpty()) {
             throw new IllegalArgumentException("La descripción no puede estar vacía");
         }
@@ -64,8 +83,9 @@ public class Ticket implements Identificable {
         this.cliente = cliente;
         this.estado = Estado.NUEVO;
         this.tecnico = null;
-        this.fechaCreacion = LocalDateTime.now();
+        this.fechaCreacion = fechaCreacion;
         this.fechaResolucion = null;
+        this.posicionEnCola = FUERA_DE_COLA;
     }
 
     /**
@@ -80,7 +100,7 @@ public class Ticket implements Identificable {
         }
         this.tecnico = tecnico;
         if (this.estado == Estado.NUEVO) {
-            this.estado = Estado.ASIGNADO;
+            transicionar(Estado.ASIGNADO);
         }
     }
 
@@ -95,40 +115,49 @@ public class Ticket implements Identificable {
             throw new IllegalArgumentException("El estado no puede ser null");
         }
 
-        // Validar transiciones de estado
+        validarTransicion(estado, nuevoEstado, tecnico != null);
+        transicionar(nuevoEstado);
+    }
+
+    /**
+     * Valida una transición de estado según las reglas del ticket. La usan
+     * también las representaciones compactas (TicketTable) para aplicar las
+     * mismas reglas.
+     * 
+     * @throws IllegalStateException si la transición de estado no es válida
+     */
+    static void validarTransicion(Estado actual, Estado nuevoEstado, boolean tieneTecnico) {
         switch (nuevoEstado) {
             case NUEVO:
                 // Permitir volver a NUEVO (por ejemplo, al reabrir)
                 break;
             case ASIGNADO:
-                if (tecnico == null) {
+                if (!tieneTecnico) {
                     throw new IllegalStateException("No se puede asignar sin técnico");
                 }
                 break;
             case EN_PROGRESO:
-                if (tecnico == null) {
+                if (!tieneTecnico) {
                     throw new IllegalStateException("No se puede poner en progreso sin técnico asignado");
                 }
-                if (estado == Estado.NUEVO) {
+                if (actual == Estado.NUEVO) {
                     throw new IllegalStateException("No se puede pasar de NUEVO a EN_PROGRESO directamente");
                 }
                 break;
             case RESUELTO:
-                if (tecnico == null) {
+                if (!tieneTecnico) {
                     throw new IllegalStateException("No se puede resolver sin técnico asignado");
                 }
-                if (estado != Estado.EN_PROGRESO) {
+                if (actual != Estado.EN_PROGRESO) {
                     throw new IllegalStateException("Solo se puede resolver desde EN_PROGRESO");
                 }
                 break;
             case CERRADO:
-                if (estado != Estado.RESUELTO) {
+                if (actual != Estado.RESUELTO) {
                     throw new IllegalStateException("Solo se puede cerrar desde RESUELTO");
                 }
                 break;
         }
-
-        this.estado = nuevoEstado;
     }
 
     /**
@@ -145,8 +174,8 @@ public class Ticket implements Identificable {
             throw new IllegalStateException("Solo se puede resolver un ticket en progreso");
         }
 
-        this.estado = Estado.RESUELTO;
         this.fechaResolucion = LocalDateTime.now();
+        transicionar(Estado.RESUELTO);
     }
 
     /**
@@ -158,7 +187,19 @@ public class Ticket implements Identificable {
         if (estado != Estado.RESUELTO) {
             throw new IllegalStateException("Solo se puede cerrar un ticket resuelto");
         }
-        this.estado = Estado.CERRADO;
+        transicionar(Estado.CERRADO);
+    }
+
+    /**
+     * Aplica un cambio de estado ya validado y avisa al sistema dueño del
+     * ticket para que mantenga sus índices.
+     */
+    private void transicionar(Estado nuevoEstado) {
+        Estado anterior = this.estado;
+        this.estado = nuevoEstado;
+        if (sistema != null && anterior != nuevoEstado) {
+            sistema.onCambioEstado(this, anterior);
+        }
     }
 
     /**
@@ -206,6 +247,37 @@ public class Ticket implements Identificable {
         return fechaResolucion;
     }
 
+    /**
+     * Restaura estado, técnico y fecha de resolución sin validar la
+     * transición ni avisar al sistema. Solo para tickets que aún no están
+     * registrados en un sistema (carga de una instantánea).
+     */
+    void restaurarEstado(Estado estado, Tecnico tecnico, LocalDateTime fechaResolucion) {
+        this.estado = estado;
+        this.tecnico = tecnico;
+        this.fechaResolucion = fechaResolucion;
+    }
+
+    void setFechaResolucion(LocalDateTime fechaResolucion) {
+        this.fechaResolucion = fechaResolucion;
+    }
+
+    long getPosicionEnCola() {
+        return posicionEnCola;
+    }
+
+    void setPosicionEnCola(long posicionEnCola) {
+        this.posicionEnCola = posicionEnCola;
+    }
+
+    TicketSystem getSistema() {
+        return sistema;
+    }
+
+    void setSistema(TicketSystem sistema) {
+        this.sistema = sistema;
+    }
+
     // Setters limitados (solo lo que tiene sentido modificar)
 
     public void setDescripcion(String descripcion) {
@@ -12,10 +12,26 @@ package ticketsystem.adt;
 
 import ticketsystem.enums.Estado;
 import ticketsystem.enums.Categoria;
-import ticketsystem.datastructures.List;
+import ticketsystem.enums.OperacionSistema;
+import ticketsystem.enums.TipoEvento;
 import ticketsystem.datastructures.Bag;
+import ticketsystem.datastructures.HashBag;
+import ticketsystem.datastructures.IntMap;
+import ticketsystem.datastructures.RingQueue;
+import ticketsystem.datastructures.SegmentedIntMap;
 import ticketsystem.interfaces.TicketObserver;
+import ticketsystem.iterators.TicketsByCategoryIterator;
+import ticketsystem.iterators.TicketsByStateIterator;
+import ticketsystem.jfr.DespachoObservadoresEvento;
+import ticketsystem.jfr.EventosJfr;
+import ticketsystem.observers.EstadisticasObserver;
+import ticketsystem.observers.TiemposResolucionObserver;
+import java.io.IOException;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
 
 /**
  * ADT TicketSystem - Sistema principal que coordina toda la gestión de tickets.
@@ -24,26 +40,102 @@ import java.util.ArrayList;
  * - Cada ticket debe tener un ID único en el sistema
  * - Los tickets pendientes se procesan en orden FIFO
  * - Solo se pueden crear tickets con categorías válidas
+ * 
+ * No es seguro para varios hilos; para ese caso usar ConcurrentTicketSystem.
+ * Para que las operaciones sobrevivan a un reinicio, construirlo con un
+ * RegistroOperaciones. Las latencias de cada operación se miden con
+ * configurarMetricas(true) y se consultan con getMetricas(). Con JDK
+ * Flight Recorder activo, el ciclo de vida de los tickets y los despachos
+ * a observadores se emiten como eventos de JFR (ver EventosJfr). Con
+ * configurarTabla, las consultas por estado y categoría se responden desde
+ * una TicketTable compacta (en el heap o fuera de él) en lugar de índices
+ * de objetos.
  */
 public class TicketSystem {
 
-    private List<Ticket> ticketsPendientes;
-    private Bag<Ticket> todosLosTickets;
-    private Bag<Tecnico> tecnicos;
-    private Bag<Categoria> categorias;
+    private ColaPendientes ticketsPendientes;
+    private HashBag<Ticket> todosLosTickets;
+    private HashBag<Tecnico> tecnicos;
+    private HashBag<Categoria> categorias;
+    private SegmentedIntMap<Ticket> ticketsPorId;
+    private IntMap<Tecnico> tecnicosPorId;
+    private EnumMap<Estado, HashBag<Ticket>> ticketsPorEstado;
+    // Índices por categoría y por (categoría, estado), indexados por ordinal
+    private HashBag<Ticket>[] ticketsPorCategoria;
+    private HashBag<Ticket>[][] ticketsPorCategoriaYEstado;
+    private int tecnicosDisponibles;
+    // Técnicos disponibles por especialidad, en orden de liberación
+    private RingQueue<Tecnico>[] tecnicosLibres;
     private int proximoTicketId;
-    private ArrayList<TicketObserver> observadores;
+    // Observadores suscritos a cada TipoEvento (copia en escritura)
+    private TicketObserver[][] suscriptores;
+
+    // Ventana de coalescencia de eventos (desactivada si maxEventosVentana <= 1)
+    private int maxEventosVentana;
+    private ArrayList<Ticket> creadosEnVentana;
+    private ArrayList<Ticket> asignadosEnVentana;
+    private ArrayList<Ticket> resueltosEnVentana;
+    // Cambios de estado retenidos, con el estado anterior de cada uno
+    private ArrayList<Ticket> cambiosEnVentana;
+    private ArrayList<Estado> anterioresEnVentana;
+
+    // Registro de operaciones para durabilidad (null si no está activado)
+    private RegistroOperaciones registro;
+    // Operaciones del registro que el estado ya refleja (las de la
+    // Instantanea de la que se cargó); conectarRegistro no las reproduce
+    private long registrosIncluidos;
+    // true mientras una operación del sistema modifica tickets o técnicos:
+    // la operación agrega su propio registro, así que los avisos de Ticket y
+    // Tecnico no se registran aparte
+    private boolean operacionEnCurso;
+
+    // Tickets cerrados sacados de los índices en memoria
+    private ArchivoCerrados archivo;
+    private boolean archivarAlCerrar;
+
+    // Latencias por operación (desactivadas por defecto)
+    private MetricasOperaciones metricas;
+
+    // true si es una partición de ConcurrentTicketSystem
+    private boolean particion;
+
+    // Tabla que reemplaza a los índices por estado y categoría (null si se
+    // usan los índices; ver configurarTabla)
+    private TicketTable tabla;
 
     /**
      * Constructor que inicializa el sistema de tickets.
      */
+    @SuppressWarnings("unchecked")
     public TicketSystem() {
-        this.ticketsPendientes = new List<>();
-        this.todosLosTickets = new Bag<>();
-        this.tecnicos = new Bag<>();
-        this.categorias = new Bag<>();
+        this.ticketsPendientes = new ColaPendientes();
+        this.todosLosTickets = new HashBag<>();
+        this.tecnicos = new HashBag<>();
+        this.categorias = new HashBag<>();
+        this.ticketsPorId = new SegmentedIntMap<>();
+        this.tecnicosPorId = new IntMap<>();
+        this.ticketsPorEstado = new EnumMap<>(Estado.class);
+        int numCategorias = Categoria.values().length;
+        int numEstados = Estado.values().length;
+        this.ticketsPorCategoria = (HashBag<Ticket>[]) new HashBag<?>[numCategorias];
+        this.ticketsPorCategoriaYEstado = (HashBag<Ticket>[][]) new HashBag<?>[numCategorias][numEstados];
+        vaciarIndices();
+        this.tecnicosDisponibles = 0;
+        this.tecnicosLibres = (RingQueue<Tecnico>[]) new RingQueue<?>[numCategorias];
+        for (int c = 0; c < numCategorias; c++) {
+            tecnicosLibres[c] = new RingQueue<>(Tecnico::setPosicionEnPool);
+        }
         this.proximoTicketId = 1;
-        this.observadores = new ArrayList<>();
+        this.suscriptores = new TicketObserver[TipoEvento.values().length][0];
+        this.maxEventosVentana = 0;
+        this.creadosEnVentana = new ArrayList<>();
+        this.asignadosEnVentana = new ArrayList<>();
+        this.resueltosEnVentana = new ArrayList<>();
+        this.cambiosEnVentana = new ArrayList<>();
+        this.anterioresEnVentana = new ArrayList<>();
+        this.archivo = new ArchivoCerrados();
+        this.archivarAlCerrar = false;
+        this.metricas = new MetricasOperaciones();
 
         // Inicializar categorías válidas
         for (Categoria cat : Categoria.values()) {
@@ -51,6 +143,117 @@ public class TicketSystem {
         }
     }
 
+    /**
+     * Constructor que reconstruye el sistema reproduciendo un registro de
+     * operaciones y lo deja conectado: desde entonces cada operación que
+     * modifica el sistema se agrega al registro antes de notificar a los
+     * observadores y de retornar.
+     * 
+     * @param registro Registro de operaciones recién abierto
+     * @throws IOException si no se puede leer el registro
+     */
+    public TicketSystem(RegistroOperaciones registro) throws IOException {
+        this();
+        conectarRegistro(registro);
+    }
+
+    /**
+     * Reproduce sobre el estado actual las operaciones de un registro y lo
+     * deja conectado. Si el sistema se cargó de una Instantanea, se omiten
+     * las operaciones que esta ya incluía, así que el registro debe ser el
+     * mismo archivo que tenía el sistema al guardarla.
+     * 
+     * @param registro Registro de operaciones recién abierto
+     * @throws IOException           si no se puede leer el registro
+     * @throws IllegalStateException si el sistema ya tiene un registro o el
+     *                               registro tiene menos operaciones que las
+     *                               incluidas en la instantánea
+     */
+    public void conectarRegistro(RegistroOperaciones registro) throws IOException {
+        if (registro == null) {
+            throw new IllegalArgumentException("El registro no puede ser null");
+        }
+        if (this.registro != null) {
+            throw new IllegalStateException("El sistema ya tiene un registro de operaciones");
+        }
+        registro.reproducir(this, registrosIncluidos);
+        this.registro = registro;
+    }
+
+    /**
+     * Espera a que el registro conectado esté en disco y retorna cuántas de
+     * sus operaciones refleja el estado actual. Lo invoca Instantanea al
+     * guardar.
+     * 
+     * @return Operaciones del registro incluidas en el estado
+     */
+    long sincronizarRegistro() {
+        if (registro == null) {
+            return registrosIncluidos;
+        }
+        registro.sincronizar();
+        return registro.getRegistrosEnArchivo();
+    }
+
+    /**
+     * Indica cuántas operaciones del registro refleja el estado restaurado
+     * de una Instantanea.
+     * 
+     * @param registros Operaciones incluidas en la instantánea
+     */
+    void restaurarRegistrosIncluidos(long registros) {
+        this.registrosIncluidos = registros;
+    }
+
+    /**
+     * Conecta una TicketTable (por ejemplo TicketTable.fueraDelHeap) que
+     * reemplaza a los índices por estado, por categoría y por (categoría,
+     * estado): el sistema le agrega los tickets en memoria, suelta esos
+     * índices y desde entonces la mantiene al día en cada alta, cambio de
+     * estado, asignación y archivo.
+     * 
+     * Con la tabla, obtenerTicketsPorEstado, obtenerTicketsPorCategoria,
+     * obtenerTickets, los iteradores y archivarCerrados recorren sus filas
+     * (O(tickets en memoria) en lugar de O(resultado)) y resuelven cada ID
+     * con el índice por ID; contarTickets y obtenerEstadisticas usan sus
+     * contadores en O(1). Los objetos Ticket siguen en el heap porque la
+     * cola, los técnicos y los observadores los referencian; lo que sale
+     * del heap son las tres copias de cada referencia en los índices. Para
+     * recorrer sin crear objetos, consultar getTabla() directamente.
+     * 
+     * Con null se vuelve a los índices, reconstruyéndolos.
+     * 
+     * @param tabla Tabla vacía, o null para volver a los índices
+     * @throws IllegalArgumentException si la tabla no está vacía
+     */
+    public void configurarTabla(TicketTable tabla) {
+        if (tabla != null && !tabla.isEmpty()) {
+            throw new IllegalArgumentException("La tabla debe estar vacía");
+        }
+        if (tabla == this.tabla) {
+            return;
+        }
+
+        TicketTable anterior = this.tabla;
+        this.tabla = tabla;
+        if (tabla != null) {
+            for (Ticket ticket : todosLosTickets) {
+                tabla.agregar(ticket);
+            }
+            if (anterior == null) {
+                vaciarIndices();
+            }
+        } else {
+            for (Ticket ticket : todosLosTickets) {
+                indexar(ticket);
+            }
+        }
+    }
+
+    public TicketTable getTabla() {
+        return tabla;
+    }
+
     /**
      * Crea y registra un nuevo ticket en el sistema.
      * 
@@ -65,57 +268,296 @@ public class TicketSystem {
             throw new IllegalArgumentException("Categoría no válida: " + categoria);
         }
 
+        long inicio = metricas.iniciar();
         Ticket ticket = new Ticket(proximoTicketId++, descripcion, categoria, cliente);
-        todosLosTickets.add(ticket);
-        ticketsPendientes.add(ticket);
+        registrarTicket(ticket);
+        EventosJfr.ticketCreado(ticket, ticketsPendientes);
+        if (registro != null) {
+            registro.confirmar(registro.registrarCreacion(ticket));
+        }
 
         // Notificar observadores
         notificarTicketCreado(ticket);
 
+        metricas.registrar(OperacionSistema.CREAR_TICKET, inicio);
         return ticket;
     }
 
     /**
-     * Asigna automáticamente el siguiente ticket de la cola FIFO a un técnico
-     * disponible
-     * con la especialidad apropiada.
+     * Registra un ticket ya construido en los índices y en la cola de
+     * pendientes, sin notificar a los observadores.
+     * 
+     * @param ticket Ticket nuevo con un ID no usado en este sistema
+     */
+    void registrarTicket(Ticket ticket) {
+        todosLosTickets.add(ticket);
+        ticketsPorId.put(ticket.getId(), ticket);
+        if (tabla != null) {
+            tabla.agregar(ticket);
+        } else {
+            indexar(ticket);
+        }
+        ticket.setSistema(this);
+        ticketsPendientes.agregar(ticket);
+    }
+
+    /**
+     * Agrega un ticket a los índices por estado y por categoría.
+     */
+    private void indexar(Ticket ticket) {
+        Categoria categoria = ticket.getCategoria();
+        ticketsPorEstado.get(ticket.getEstado()).add(ticket);
+        ticketsPorCategoria[categoria.ordinal()].add(ticket);
+        ticketsPorCategoriaYEstado[categoria.ordinal()][ticket.getEstado().ordinal()].add(ticket);
+    }
+
+    /**
+     * Reemplaza los índices por estado y por categoría por otros vacíos.
+     */
+    private void vaciarIndices() {
+        for (Estado estado : Estado.values()) {
+            ticketsPorEstado.put(estado, new HashBag<>());
+        }
+        for (int c = 0; c < ticketsPorCategoria.length; c++) {
+            ticketsPorCategoria[c] = new HashBag<>();
+            for (int e = 0; e < ticketsPorCategoriaYEstado[c].length; e++) {
+                ticketsPorCategoriaYEstado[c][e] = new HashBag<>();
+            }
+        }
+    }
+
+    /**
+     * Registra un ticket restaurado desde el registro de operaciones y
+     * reserva su ID.
+     * 
+     * @param ticket Ticket restaurado con un ID no usado en este sistema
+     */
+    void restaurarTicket(Ticket ticket) {
+        registrarTicket(ticket);
+        proximoTicketId = Math.max(proximoTicketId, ticket.getId() + 1);
+    }
+
+    /**
+     * Reconstruye los índices de tickets de un sistema vacío a partir de
+     * tickets restaurados (sin encolarlos como pendientes). Cada índice se
+     * llena en su propia tarea, y las tareas se reparten en varios hilos.
+     * Se invoca antes de configurar una tabla.
+     * 
+     * @param tickets   Tickets restaurados, aún sin sistema
+     * @param proximoId Próximo ID a asignar
+     * @param hilos     Número máximo de hilos
+     */
+    @SuppressWarnings("unchecked")
+    void restaurarIndices(Ticket[] tickets, int proximoId, int hilos) {
+        Categoria[] cats = Categoria.values();
+        Estado[] estados = Estado.values();
+        int[][] conteos = new int[cats.length][estados.length];
+        for (Ticket ticket : tickets) {
+            conteos[ticket.getCategoria().ordinal()][ticket.getEstado().ordinal()]++;
+        }
+
+        // Índices con capacidad para no redimensionar durante la carga
+        todosLosTickets = new HashBag<>(tickets.length);
+        for (Estado estado : estados) {
+            int total = 0;
+            for (int c = 0; c < cats.length; c++) {
+                total += conteos[c][estado.ordinal()];
+            }
+            ticketsPorEstado.put(estado, new HashBag<>(total));
+        }
+        for (int c = 0; c < cats.length; c++) {
+            int total = 0;
+            for (int e = 0; e < estados.length; e++) {
+                ticketsPorCategoriaYEstado[c][e] = new HashBag<>(conteos[c][e]);
+                total += conteos[c][e];
+            }
+            ticketsPorCategoria[c] = new HashBag<>(total);
+        }
+
+        Runnable[] tareas = new Runnable[2 + estados.length + cats.length];
+        tareas[0] = () -> {
+            for (Ticket ticket : tickets) {
+                todosLosTickets.add(ticket);
+                ticket.setSistema(this);
+            }
+        };
+        tareas[1] = () -> {
+            for (Ticket ticket : tickets) {
+                ticketsPorId.put(ticket.getId(), ticket);
+            }
+        };
+        for (Estado estado : estados) {
+            HashBag<Ticket> bolsa = ticketsPorEstado.get(estado);
+            tareas[2 + estado.ordinal()] = () -> {
+                for (Ticket ticket : tickets) {
+                    if (ticket.getEstado() == estado) {
+                        bolsa.add(ticket);
+                    }
+                }
+            };
+        }
+        for (Categoria categoria : cats) {
+            HashBag<Ticket> bolsa = ticketsPorCategoria[categoria.ordinal()];
+            HashBag<Ticket>[] porEstado = ticketsPorCategoriaYEstado[categoria.ordinal()];
+            tareas[2 + estados.length + categoria.ordinal()] = () -> {
+                for (Ticket ticket : tickets) {
+                    if (ticket.getCategoria() == categoria) {
+                        bolsa.add(ticket);
+                        porEstado[ticket.getEstado().ordinal()].add(ticket);
+                    }
+                }
+            };
+        }
+        Instantanea.enParalelo(hilos, tareas);
+        proximoTicketId = Math.max(proximoTicketId, proximoId);
+    }
+
+    /**
+     * Agrega al final de la cola de pendientes un ticket restaurado.
+     * 
+     * @param ticket Ticket restaurado en estado pendiente
+     */
+    void restaurarPendiente(Ticket ticket) {
+        ticketsPendientes.agregar(ticket);
+    }
+
+    /**
+     * Fija la fecha de resolución reproducida de un ticket, manteniendo la
+     * tabla si está configurada.
+     * 
+     * @param ticket Ticket resuelto de este sistema
+     * @param fecha  Fecha de resolución original
+     */
+    void restaurarFechaResolucion(Ticket ticket, LocalDateTime fecha) {
+        ticket.setFechaResolucion(fecha);
+        if (tabla != null) {
+            tabla.actualizar(ticket);
+        }
+    }
+
+    /**
+     * Asigna automáticamente el ticket pendiente más antiguo que tenga un
+     * técnico disponible con la especialidad apropiada.
+     * 
+     * Los pendientes se guardan en una cola FIFO por categoría, así que un
+     * ticket sin técnico libre no bloquea a los de otras categorías.
      * 
      * @return El ticket asignado, o null si no hay tickets pendientes o técnicos
      *         disponibles
      */
     public Ticket asignarTicketAutomatico() {
-        if (ticketsPendientes.isEmpty()) {
+        long inicio = metricas.iniciar();
+        Ticket ticket = siguienteAsignable();
+        if (ticket == null) {
+            // No hay pendientes con técnicos disponibles de su especialidad
+            EventosJfr.asignacionSinTecnico(ticketsPendientes);
+            metricas.registrar(OperacionSistema.ASIGNAR_AUTOMATICO, inicio);
             return null;
         }
 
-        Ticket ticket = ticketsPendientes.peek();
-        Categoria categoriaRequerida = ticket.getCategoria();
+        long secuencia = asignarAlTecnicoLibre(ticket);
+        if (registro != null) {
+            registro.confirmar(secuencia);
+        }
+
+        // Notificar observadores
+        notificarTicketAsignado(ticket);
+
+        metricas.registrar(OperacionSistema.ASIGNAR_AUTOMATICO, inicio);
+        return ticket;
+    }
 
-        // Buscar técnico disponible con la especialidad requerida
-        Tecnico tecnicoSeleccionado = null;
-        for (Tecnico tecnico : tecnicos) {
-            if (tecnico.getEspecialidad() == categoriaRequerida && tecnico.estaDisponible()) {
-                tecnicoSeleccionado = tecnico;
+    /**
+     * Asigna en una sola pasada hasta max tickets pendientes a técnicos
+     * disponibles, en el mismo orden que llamadas sucesivas a
+     * asignarTicketAutomatico. Los observadores reciben un único evento con
+     * todo el lote.
+     * 
+     * @param max Número máximo de tickets a asignar
+     * @return Las asignaciones realizadas (vacío si no hubo ninguna)
+     * @throws IllegalArgumentException si max es negativo
+     */
+    public LoteAsignacion asignarLote(int max) {
+        if (max < 0) {
+            throw new IllegalArgumentException("El máximo no puede ser negativo: " + max);
+        }
+
+        long inicio = metricas.iniciar();
+        LoteAsignacion lote = new LoteAsignacion(
+                Math.min(max, Math.min(ticketsPendientes.size(), tecnicosDisponibles)));
+        long secuencia = 0;
+        while (lote.size() < max) {
+            Ticket ticket = siguienteAsignable();
+            if (ticket == null) {
                 break;
             }
+            secuencia = asignarAlTecnicoLibre(ticket);
+            lote.agregar(ticket);
         }
-
-        if (tecnicoSeleccionado == null) {
-            // No hay técnicos disponibles con la especialidad requerida
-            return null;
+        // Todo el lote espera un solo fsync
+        if (registro != null && !lote.isEmpty()) {
+            registro.confirmar(secuencia);
         }
 
-        // Asignar el ticket
-        ticketsPendientes.remove();
-        ticket.asignarTecnico(tecnicoSeleccionado);
-        tecnicoSeleccionado.asignarTicket(ticket);
+        if (!lote.isEmpty()) {
+            notificarTicketsAsignados(lote);
+        }
+        metricas.registrar(OperacionSistema.ASIGNAR_LOTE, inicio);
+        return lote;
+    }
 
-        // Notificar observadores
-        notificarTicketAsignado(ticket);
+    /**
+     * Asigna todos los tickets pendientes que tengan un técnico disponible.
+     * 
+     * @return Las asignaciones realizadas (vacío si no hubo ninguna)
+     */
+    public LoteAsignacion asignarTodos() {
+        return asignarLote(Integer.MAX_VALUE);
+    }
 
+    /**
+     * Busca el ticket pendiente más antiguo entre las categorías que tienen
+     * técnicos libres.
+     * 
+     * @return El ticket a asignar, o null si no hay ninguno asignable
+     */
+    private Ticket siguienteAsignable() {
+        Ticket ticket = null;
+        for (Categoria categoria : Categoria.values()) {
+            if (tecnicosLibres[categoria.ordinal()].isEmpty()) {
+                continue;
+            }
+            Ticket primero = ticketsPendientes.primero(categoria);
+            if (primero != null && (ticket == null || primero.getId() < ticket.getId())) {
+                ticket = primero;
+            }
+        }
         return ticket;
     }
 
+    /**
+     * Saca de la cola el primer ticket de su categoría y lo asigna al técnico
+     * libre desde hace más tiempo; asignarTicket lo saca del pool.
+     * 
+     * @param ticket Ticket devuelto por siguienteAsignable
+     * @return Secuencia de la asignación en el registro (0 sin registro)
+     */
+    private long asignarAlTecnicoLibre(Ticket ticket) {
+        Categoria categoriaRequerida = ticket.getCategoria();
+        Tecnico tecnicoSeleccionado = tecnicosLibres[categoriaRequerida.ordinal()].peek();
+
+        ticketsPendientes.sacarPrimero(categoriaRequerida);
+        operacionEnCurso = true;
+        try {
+            ticket.asignarTecnico(tecnicoSeleccionado);
+            tecnicoSeleccionado.asignarTicket(ticket);
+        } finally {
+            operacionEnCurso = false;
+        }
+        EventosJfr.ticketAsignado(ticket, ticketsPendientes);
+        return registro != null ? registro.registrarAsignacion(ticket, tecnicoSeleccionado) : 0;
+    }
+
     /**
      * Asigna un ticket específico a un técnico específico.
      * 
@@ -128,26 +570,41 @@ public class TicketSystem {
             throw new IllegalStateException("El técnico no está disponible");
         }
 
-        // Remover de la cola de pendientes si está ahí
-        ticketsPendientes.removeElement(ticket);
+        long inicio = metricas.iniciar();
+        // Remover de la cola de pendientes si está ahí (O(1) por su posición)
+        ticketsPendientes.remover(ticket);
 
-        ticket.asignarTecnico(tecnico);
-        tecnico.asignarTicket(ticket);
+        operacionEnCurso = true;
+        try {
+            ticket.asignarTecnico(tecnico);
+            tecnico.asignarTicket(ticket);
+        } finally {
+            operacionEnCurso = false;
+        }
+        // Reasignar un ticket ya asignado no cambia su estado ni avisa a la tabla
+        if (tabla != null && ticket.getSistema() == this) {
+            tabla.actualizar(ticket);
+        }
+        EventosJfr.ticketAsignado(ticket, ticketsPendientes);
+        if (registro != null) {
+            registro.confirmar(registro.registrarAsignacion(ticket, tecnico));
+        }
+        metricas.registrar(OperacionSistema.ASIGNAR_MANUAL, inicio);
     }
 
     /**
-     * Cambia el estado de un ticket.
+     * Cambia el estado de un ticket. El registro y la notificación los hace
+     * onCambioEstado, igual que para un Ticket.cambiarEstado directo.
      * 
      * @param ticketId    ID del ticket
      * @param nuevoEstado Nuevo estado
      * @throws IllegalArgumentException si el ticket no existe
      */
     public void cambiarEstadoTicket(int ticketId, Estado nuevoEstado) {
-        Ticket ticket = buscarTicketPorId(ticketId);
-        if (ticket == null) {
-            throw new IllegalArgumentException("Ticket no encontrado: " + ticketId);
-        }
+        long inicio = metricas.iniciar();
+        Ticket ticket = buscarTicketModificable(ticketId);
         ticket.cambiarEstado(nuevoEstado);
+        metricas.registrar(OperacionSistema.CAMBIAR_ESTADO, inicio);
     }
 
     /**
@@ -157,21 +614,29 @@ public class TicketSystem {
      * @throws IllegalArgumentException si el ticket no existe
      */
     public void resolverTicket(int ticketId) {
-        Ticket ticket = buscarTicketPorId(ticketId);
-        if (ticket == null) {
-            throw new IllegalArgumentException("Ticket no encontrado: " + ticketId);
-        }
+        long inicio = metricas.iniciar();
+        Ticket ticket = buscarTicketModificable(ticketId);
 
-        ticket.resolver();
+        operacionEnCurso = true;
+        try {
+            ticket.resolver();
 
-        // Liberar al técnico
-        Tecnico tecnico = ticket.getTecnico();
-        if (tecnico != null) {
-            tecnico.completarTicket();
+            // Liberar al técnico
+            Tecnico tecnico = ticket.getTecnico();
+            if (tecnico != null) {
+                tecnico.completarTicket();
+            }
+        } finally {
+            operacionEnCurso = false;
+        }
+        EventosJfr.ticketResuelto(ticket, ticketsPendientes);
+        if (registro != null) {
+            registro.confirmar(registro.registrarResolucion(ticket));
         }
 
         // Notificar observadores
         notificarTicketResuelto(ticket);
+        metricas.registrar(OperacionSistema.RESOLVER, inicio);
     }
 
     /**
@@ -181,15 +646,107 @@ public class TicketSystem {
      * @throws IllegalArgumentException si el ticket no existe
      */
     public void cerrarTicket(int ticketId) {
-        Ticket ticket = buscarTicketPorId(ticketId);
+        long inicio = metricas.iniciar();
+        Ticket ticket = buscarTicketModificable(ticketId);
+        operacionEnCurso = true;
+        try {
+            ticket.cerrar();
+        } finally {
+            operacionEnCurso = false;
+        }
+        EventosJfr.ticketCerrado(ticket, ticketsPendientes);
+        if (registro != null) {
+            registro.confirmar(registro.registrarCierre(ticket));
+        }
+        notificarTicketCerrado(ticket);
+        if (archivarAlCerrar) {
+            archivar(ticket);
+        }
+        metricas.registrar(OperacionSistema.CERRAR, inicio);
+    }
+
+    /**
+     * Mueve al archivo de cerrados todos los tickets CERRADO que siguen en
+     * los índices en memoria. Siguen apareciendo en buscarTicketPorId y en
+     * las estadísticas; el resto de consultas se hacen con getArchivo().
+     * 
+     * @return Número de tickets archivados
+     */
+    public int archivarCerrados() {
+        long inicio = metricas.iniciar();
+        ArrayList<Ticket> aArchivar = new ArrayList<>();
+        for (Ticket ticket : ticketsEn(null, Estado.CERRADO)) {
+            aArchivar.add(ticket);
+        }
+        for (Ticket ticket : aArchivar) {
+            archivar(ticket);
+        }
+        int n = aArchivar.size();
+        metricas.registrar(OperacionSistema.ARCHIVAR, inicio);
+        return n;
+    }
+
+    /**
+     * Agrega al archivo, en orden, tickets cerrados que estaban archivados en
+     * una instantánea. No pasan por los índices en memoria.
+     * 
+     * @param archivados Tickets restaurados en estado CERRADO, aún sin sistema
+     */
+    void restaurarArchivados(Ticket[] archivados) {
+        for (Ticket ticket : archivados) {
+            archivo.archivar(ticket);
+        }
+    }
+
+    /**
+     * Activa o desactiva el archivo automático: con él, cerrarTicket mueve
+     * el ticket al archivo justo después de notificar a los observadores.
+     * 
+     * @param activo true para archivar cada ticket al cerrarlo
+     */
+    public void configurarArchivoAutomatico(boolean activo) {
+        this.archivarAlCerrar = activo;
+    }
+
+    /**
+     * Saca un ticket cerrado de todos los índices en memoria y lo agrega al
+     * archivo; el objeto Ticket queda desconectado del sistema.
+     */
+    private void archivar(Ticket ticket) {
+        archivo.archivar(ticket);
+        Categoria categoria = ticket.getCategoria();
+        todosLosTickets.remove(ticket);
+        ticketsPorId.remove(ticket.getId());
+        if (tabla != null) {
+            tabla.remover(ticket.getId());
+        } else {
+            ticketsPorEstado.get(Estado.CERRADO).remove(ticket);
+            ticketsPorCategoria[categoria.ordinal()].remove(ticket);
+            ticketsPorCategoriaYEstado[categoria.ordinal()][Estado.CERRADO.ordinal()].remove(ticket);
+        }
+        ticketsPendientes.remover(ticket);
+        ticket.setSistema(null);
+    }
+
+    /**
+     * Busca un ticket en memoria para modificarlo.
+     * 
+     * @throws IllegalArgumentException si el ticket no existe
+     * @throws IllegalStateException    si el ticket está archivado
+     */
+    private Ticket buscarTicketModificable(int ticketId) {
+        Ticket ticket = ticketsPorId.get(ticketId);
         if (ticket == null) {
+            if (archivo.contiene(ticketId)) {
+                throw new IllegalStateException("El ticket está archivado: " + ticketId);
+            }
             throw new IllegalArgumentException("Ticket no encontrado: " + ticketId);
         }
-        ticket.cerrar();
+        return ticket;
     }
 
     /**
-     * Agrega un técnico al sistema.
+     * Agrega un técnico al sistema. Si ya estaba registrado no hace nada.
      * 
      * @param tecnico Técnico a agregar
      */
@@ -197,7 +754,22 @@ public class TicketSystem {
         if (tecnico == null) {
             throw new IllegalArgumentException("El técnico no puede ser null");
         }
+        long inicio = metricas.iniciar();
+        if (tecnicos.contains(tecnico)) {
+            metricas.registrar(OperacionSistema.AGREGAR_TECNICO, inicio);
+            return;
+        }
         tecnicos.add(tecnico);
+        tecnicosPorId.put(tecnico.getId(), tecnico);
+        tecnico.setSistema(this);
+        if (tecnico.estaDisponible()) {
+            tecnicosDisponibles++;
+            agregarALibres(tecnico);
+        }
+        if (registro != null) {
+            registro.confirmar(registro.registrarTecnico(tecnico));
+        }
+        metricas.registrar(OperacionSistema.AGREGAR_TECNICO, inicio);
     }
 
     /**
@@ -216,36 +788,141 @@ public class TicketSystem {
 
     /**
      * Obtiene todos los tickets con un estado específico.
+     * Usa el índice por estado, así que cuesta O(tamaño del resultado); con
+     * una tabla configurada recorre la tabla.
      * 
      * @param estado Estado a filtrar
      * @return Bag con los tickets que tienen ese estado
      */
     public Bag<Ticket> obtenerTicketsPorEstado(Estado estado) {
+        long inicio = metricas.iniciar();
         Bag<Ticket> resultado = new Bag<>();
-        for (Ticket ticket : todosLosTickets) {
-            if (ticket.getEstado() == estado) {
-                resultado.add(ticket);
-            }
+        for (Ticket ticket : ticketsEn(null, estado)) {
+            resultado.add(ticket);
         }
+        metricas.registrar(OperacionSistema.CONSULTAR_POR_ESTADO, inicio);
         return resultado;
     }
 
+    /**
+     * Crea un iterador sobre los tickets con un estado específico a partir
+     * del índice por estado, sin recorrer el resto de los tickets.
+     * El sistema no debe modificarse mientras se usa el iterador.
+     * 
+     * @param estado Estado a filtrar
+     * @return Iterador de los tickets con ese estado
+     */
+    public TicketsByStateIterator iteradorPorEstado(Estado estado) {
+        return new TicketsByStateIterator(ticketsEn(null, estado), estado);
+    }
+
+    /**
+     * Crea un iterador sobre los tickets de una categoría a partir del
+     * índice por categoría.
+     * El sistema no debe modificarse mientras se usa el iterador.
+     * 
+     * @param categoria Categoría a filtrar
+     * @return Iterador de los tickets de esa categoría
+     */
+    public TicketsByCategoryIterator iteradorPorCategoria(Categoria categoria) {
+        return new TicketsByCategoryIterator(ticketsEn(categoria, null), categoria);
+    }
+
+    /**
+     * Crea un iterador sobre los tickets de una categoría en un estado dado
+     * a partir del índice combinado.
+     * El sistema no debe modificarse mientras se usa el iterador.
+     * 
+     * @param categoria Categoría a filtrar
+     * @param estado    Estado a filtrar
+     * @return Iterador de los tickets de esa categoría y estado
+     */
+    public TicketsByStateIterator iteradorPorCategoriaYEstado(Categoria categoria, Estado estado) {
+        return new TicketsByStateIterator(ticketsEn(categoria, estado), estado);
+    }
+
     /**
      * Obtiene todos los tickets de una categoría específica.
+     * Usa el índice por categoría, así que cuesta O(tamaño del resultado);
+     * con una tabla configurada recorre la tabla.
      * 
      * @param categoria Categoría a filtrar
      * @return Bag con los tickets de esa categoría
      */
     public Bag<Ticket> obtenerTicketsPorCategoria(Categoria categoria) {
+        long inicio = metricas.iniciar();
         Bag<Ticket> resultado = new Bag<>();
-        for (Ticket ticket : todosLosTickets) {
-            if (ticket.getCategoria() == categoria) {
-                resultado.add(ticket);
-            }
+        for (Ticket ticket : ticketsEn(categoria, null)) {
+            resultado.add(ticket);
         }
+        metricas.registrar(OperacionSistema.CONSULTAR_POR_CATEGORIA, inicio);
         return resultado;
     }
 
+    /**
+     * Obtiene los tickets de una categoría que están en un estado dado
+     * (por ejemplo, los tickets de RED aún abiertos) con una sola consulta
+     * al índice combinado, o a la tabla si está configurada.
+     * 
+     * @param categoria Categoría a filtrar
+     * @param estado    Estado a filtrar
+     * @return Bag con los tickets de esa categoría y estado
+     */
+    public Bag<Ticket> obtenerTickets(Categoria categoria, Estado estado) {
+        long inicio = metricas.iniciar();
+        Bag<Ticket> resultado = new Bag<>();
+        for (Ticket ticket : ticketsEn(categoria, estado)) {
+            resultado.add(ticket);
+        }
+        metricas.registrar(OperacionSistema.CONSULTAR_POR_CATEGORIA_Y_ESTADO, inicio);
+        return resultado;
+    }
+
+    /**
+     * Cuenta en O(1) los tickets de una categoría en un estado dado.
+     * 
+     * @param categoria Categoría a consultar
+     * @param estado    Estado a consultar
+     * @return Número de tickets de esa categoría y estado
+     */
+    public int contarTickets(Categoria categoria, Estado estado) {
+        if (tabla != null) {
+            return tabla.contarTickets(categoria, estado);
+        }
+        return ticketsPorCategoriaYEstado[categoria.ordinal()][estado.ordinal()].size();
+    }
+
+    /**
+     * Obtiene los tickets en memoria de una categoría y un estado (null en
+     * cualquiera de los dos para no filtrar por él). Sin tabla retorna el
+     * índice correspondiente; con tabla recorre sus filas y resuelve cada
+     * ID con el índice por ID.
+     */
+    private Iterable<Ticket> ticketsEn(Categoria categoria, Estado estado) {
+        if (tabla == null) {
+            if (categoria == null) {
+                return ticketsPorEstado.get(estado);
+            }
+            if (estado == null) {
+                return ticketsPorCategoria[categoria.ordinal()];
+            }
+            return ticketsPorCategoriaYEstado[categoria.ordinal()][estado.ordinal()];
+        }
+        Bag<TicketTable.Vista> filas;
+        if (categoria == null) {
+            filas = tabla.obtenerTicketsPorEstado(estado);
+        } else if (estado == null) {
+            filas = tabla.obtenerTicketsPorCategoria(categoria);
+        } else {
+            filas = tabla.obtenerTickets(categoria, estado);
+        }
+        Bag<Ticket> tickets = new Bag<>();
+        for (TicketTable.Vista fila : filas) {
+            tickets.add(ticketsPorId.get(fila.getId()));
+        }
+        return tickets;
+    }
+
     /**
      * Obtiene el ticket asignado a un técnico.
      * 
@@ -257,18 +934,130 @@ public class TicketSystem {
     }
 
     /**
-     * Busca un ticket por su ID.
+     * Busca un ticket por su ID en el índice por ID (O(1)). Si no está en
+     * memoria lo busca en el archivo de cerrados, que retorna una copia
+     * desconectada del sistema.
      * 
      * @param ticketId ID del ticket
      * @return El ticket encontrado, o null si no existe
      */
-    private Ticket buscarTicketPorId(int ticketId) {
-        for (Ticket ticket : todosLosTickets) {
-            if (ticket.getId() == ticketId) {
-                return ticket;
-            }
+    public Ticket buscarTicketPorId(int ticketId) {
+        long inicio = metricas.iniciar();
+        Ticket ticket = ticketsPorId.get(ticketId);
+        if (ticket == null && !archivo.isEmpty()) {
+            ticket = archivo.buscarPorId(ticketId);
+        }
+        metricas.registrar(OperacionSistema.BUSCAR_TICKET, inicio);
+        return ticket;
+    }
+
+    /**
+     * Busca un técnico registrado por su ID (O(1)).
+     * 
+     * @param tecnicoId ID del técnico
+     * @return El técnico encontrado, o null si no existe
+     */
+    public Tecnico buscarTecnicoPorId(int tecnicoId) {
+        return tecnicosPorId.get(tecnicoId);
+    }
+
+    /**
+     * Mantiene el índice por estado cuando un ticket de este sistema cambia
+     * de estado, lo agrega al registro (salvo que venga de una operación que
+     * agrega el suyo) y publica el evento CAMBIO_ESTADO. Lo invoca el propio
+     * Ticket, así que cubre también los cambios hechos directamente con
+     * Ticket.cambiarEstado.
+     * 
+     * @param ticket   Ticket que cambió de estado
+     * @param anterior Estado previo del ticket
+     */
+    void onCambioEstado(Ticket ticket, Estado anterior) {
+        if (tabla != null) {
+            tabla.actualizar(ticket);
+        } else {
+            ticketsPorEstado.get(anterior).remove(ticket);
+            ticketsPorEstado.get(ticket.getEstado()).add(ticket);
+
+            HashBag<Ticket>[] porEstado = ticketsPorCategoriaYEstado[ticket.getCategoria().ordinal()];
+            porEstado[anterior.ordinal()].remove(ticket);
+            porEstado[ticket.getEstado().ordinal()].add(ticket);
+        }
+        if (registro != null && !operacionEnCurso) {
+            registro.confirmar(registro.registrarCambioEstado(ticket));
+        }
+        notificarCambioEstado(ticket, anterior);
+    }
+
+    /**
+     * Mantiene el contador de técnicos disponibles cuando un técnico del
+     * sistema cambia de disponibilidad, y registra el cambio si no viene de
+     * una operación del sistema. Lo invoca el propio Tecnico.
+     * 
+     * @param tecnico Técnico cuya disponibilidad cambió
+     */
+    void onCambioDisponibilidad(Tecnico tecnico) {
+        if (tecnico.estaDisponible()) {
+            tecnicosDisponibles++;
+            agregarALibres(tecnico);
+        } else {
+            tecnicosDisponibles--;
+            sacarDeLibres(tecnico, tecnico.getEspecialidad());
+        }
+        if (registro != null && !operacionEnCurso) {
+            registro.confirmar(registro.registrarDisponibilidad(tecnico));
+        }
+    }
+
+    /**
+     * Mueve un técnico disponible al pool de su nueva especialidad y
+     * registra el cambio. Lo invoca el propio Tecnico al cambiar de
+     * especialidad.
+     * 
+     * @param tecnico  Técnico que cambió de especialidad
+     * @param anterior Especialidad previa
+     */
+    void onCambioEspecialidad(Tecnico tecnico, Categoria anterior) {
+        if (tecnico.estaDisponible()) {
+            sacarDeLibres(tecnico, anterior);
+            agregarALibres(tecnico);
+        }
+        if (registro != null) {
+            registro.confirmar(registro.registrarEspecialidad(tecnico));
+        }
+    }
+
+    /**
+     * Agrega un técnico al final del pool de libres de su especialidad.
+     */
+    private void agregarALibres(Tecnico tecnico) {
+        tecnico.setPosicionEnPool(tecnicosLibres[tecnico.getEspecialidad().ordinal()].add(tecnico));
+    }
+
+    /**
+     * Saca en O(1) a un técnico del pool de libres de una especialidad.
+     */
+    private void sacarDeLibres(Tecnico tecnico, Categoria especialidad) {
+        tecnicosLibres[especialidad.ordinal()].removeAt(tecnico.getPosicionEnPool(), tecnico);
+        tecnico.setPosicionEnPool(Tecnico.FUERA_DE_POOL);
+    }
+
+    /**
+     * Obtiene una instantánea de las estadísticas del sistema en O(1),
+     * leyendo los contadores que se mantienen en cada transición.
+     * 
+     * @return Estadísticas actuales del sistema
+     */
+    public EstadisticasSistema obtenerEstadisticas() {
+        long inicio = metricas.iniciar();
+        int[] porEstado = new int[Estado.values().length];
+        for (Estado estado : Estado.values()) {
+            porEstado[estado.ordinal()] = (tabla != null) ? tabla.contar(estado) : ticketsPorEstado.get(estado).size();
         }
-        return null;
+        porEstado[Estado.CERRADO.ordinal()] += archivo.size();
+        EstadisticasSistema estadisticas = new EstadisticasSistema(todosLosTickets.size() + archivo.size(),
+                ticketsPendientes.size(), porEstado, tecnicosDisponibles, tecnicos.size() - tecnicosDisponibles);
+        metricas.registrar(OperacionSistema.ESTADISTICAS, inicio);
+        return estadisticas;
     }
 
     /**
@@ -277,86 +1066,375 @@ public class TicketSystem {
      * @return String con las estadísticas
      */
     public String generarEstadisticas() {
-        int totalTickets = todosLosTickets.size();
-        int pendientes = ticketsPendientes.size();
-        int resueltos = obtenerTicketsPorEstado(Estado.RESUELTO).size();
-        int cerrados = obtenerTicketsPorEstado(Estado.CERRADO).size();
-        int enProgreso = obtenerTicketsPorEstado(Estado.EN_PROGRESO).size();
+        return obtenerEstadisticas().toString();
+    }
 
-        int tecnicosDisponibles = 0;
-        int tecnicosOcupados = 0;
-        for (Tecnico tecnico : tecnicos) {
-            if (tecnico.estaDisponible()) {
-                tecnicosDisponibles++;
-            } else {
-                tecnicosOcupados++;
-            }
-        }
+    // Getters
 
-        StringBuilder sb = new StringBuilder();
-        sb.append("=== Estadísticas del Sistema ===\n");
-        sb.append("Total de tickets: ").append(totalTickets).append("\n");
-        sb.append("Tickets pendientes: ").append(pendientes).append("\n");
-        sb.append("Tickets en progreso: ").append(enProgreso).append("\n");
-        sb.append("Tickets resueltos: ").append(resueltos).append("\n");
-        sb.append("Tickets cerrados: ").append(cerrados).append("\n");
-        sb.append("Técnicos disponibles: ").append(tecnicosDisponibles).append("\n");
-        sb.append("Técnicos ocupados: ").append(tecnicosOcupados).append("\n");
+    /**
+     * Activa o desactiva la medición de latencias por operación. Desactivada
+     * (el valor por defecto) cuesta una lectura de un booleano por operación.
+     * 
+     * @param activas true para medir
+     */
+    public void configurarMetricas(boolean activas) {
+        metricas.configurar(activas);
+    }
 
-        return sb.toString();
+    /**
+     * Reemplaza las métricas del sistema, para que varios sistemas (por
+     * ejemplo las particiones de ConcurrentTicketSystem) registren en las
+     * mismas.
+     * 
+     * @param metricas Métricas a usar
+     */
+    void usarMetricas(MetricasOperaciones metricas) {
+        this.metricas = metricas;
     }
 
-    // Getters
+    public MetricasOperaciones getMetricas() {
+        return metricas;
+    }
+
+    /**
+     * Marca el sistema como partición de ConcurrentTicketSystem, donde cada
+     * técnico pertenece a la partición de su especialidad y no puede
+     * cambiarla.
+     */
+    void marcarComoParticion() {
+        this.particion = true;
+    }
+
+    boolean esParticion() {
+        return particion;
+    }
+
+    public ArchivoCerrados getArchivo() {
+        return archivo;
+    }
+
+    public int getProximoTicketId() {
+        return proximoTicketId;
+    }
 
-    public List<Ticket> getTicketsPendientes() {
+    public ColaPendientes getTicketsPendientes() {
         return ticketsPendientes;
     }
 
-    public Bag<Ticket> getTodosLosTickets() {
+    public HashBag<Ticket> getTodosLosTickets() {
         return todosLosTickets;
     }
 
-    public Bag<Tecnico> getTecnicos() {
+    public HashBag<Tecnico> getTecnicos() {
         return tecnicos;
     }
 
     /**
-     * Agrega un observador al sistema.
+     * Obtiene los técnicos disponibles de una especialidad, en orden de
+     * liberación. Pasado a una AsignacionStrategy permite elegir técnico sin
+     * recorrer a los ocupados ni a los de otras especialidades.
+     * 
+     * @param especialidad Especialidad a consultar
+     * @return Técnicos disponibles con esa especialidad
+     */
+    public Iterable<Tecnico> getTecnicosDisponibles(Categoria especialidad) {
+        return tecnicosLibres[especialidad.ordinal()];
+    }
+
+    /**
+     * Agrega un observador al sistema, suscrito a todos los tipos de evento.
      * Implementación del PATRÓN OBSERVER.
      * 
      * @param observador Observador a agregar
      */
     public void agregarObservador(TicketObserver observador) {
-        if (observador != null) {
-            observadores.add(observador);
+        suscribir(observador, TipoEvento.values());
+    }
+
+    /**
+     * Suscribe un observador solo a los tipos de evento indicados. Cada
+     * evento se despacha únicamente a sus suscriptores, así que un
+     * observador que solo atiende resoluciones no recibe creaciones ni
+     * asignaciones. Suscribirlo de nuevo a un tipo no tiene efecto.
+     * 
+     * Los arreglos de suscriptores se reemplazan en cada cambio (copia en
+     * escritura): un observador puede suscribirse o desuscribirse desde un
+     * evento sin alterar el despacho en curso.
+     * 
+     * @param observador Observador a suscribir
+     * @param tipos      Tipos de evento que le interesan
+     */
+    public void suscribir(TicketObserver observador, TipoEvento... tipos) {
+        if (observador == null) {
+            return;
+        }
+        for (TipoEvento tipo : tipos) {
+            TicketObserver[] actuales = suscriptores[tipo.ordinal()];
+            if (indiceDe(actuales, observador) < 0) {
+                TicketObserver[] nuevos = Arrays.copyOf(actuales, actuales.length + 1);
+                nuevos[actuales.length] = observador;
+                suscriptores[tipo.ordinal()] = nuevos;
+            }
         }
     }
 
     /**
-     * Notifica a todos los observadores sobre la creación de un ticket.
+     * Cancela la suscripción de un observador a todos los tipos de evento.
+     * 
+     * @param observador Observador a remover
      */
-    private void notificarTicketCreado(Ticket ticket) {
-        for (TicketObserver obs : observadores) {
+    public void desuscribir(TicketObserver observador) {
+        for (int t = 0; t < suscriptores.length; t++) {
+            TicketObserver[] actuales = suscriptores[t];
+            int i = indiceDe(actuales, observador);
+            if (i >= 0) {
+                TicketObserver[] nuevos = new TicketObserver[actuales.length - 1];
+                System.arraycopy(actuales, 0, nuevos, 0, i);
+                System.arraycopy(actuales, i + 1, nuevos, i, nuevos.length - i);
+                suscriptores[t] = nuevos;
+            }
+        }
+    }
+
+    /**
+     * Retorna la posición de un observador en un arreglo de suscriptores,
+     * o -1 si no está.
+     */
+    private static int indiceDe(TicketObserver[] observadores, TicketObserver observador) {
+        for (int i = 0; i < observadores.length; i++) {
+            if (observadores[i] == observador) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Configura la ventana de coalescencia de eventos. Mientras está activa,
+     * los eventos se acumulan y los observadores los reciben por lotes
+     * (onTicketsCreados, onTicketsAsignados, onTicketsResueltos) cuando se
+     * juntan maxEventos. Con maxEventos menor o igual a 1 se notifica cada
+     * evento al momento. Los cambios de estado también se retienen y cuentan
+     * para maxEventos; se publican uno a uno (onEstadoCambiado), en el orden
+     * en que ocurrieron, entre los lotes de creados y de asignados.
+     * 
+     * La ventana no tiene límite de tiempo: solo la cierran juntar maxEventos,
+     * un cierre de ticket (que no se coalesce) o una llamada
+     * a publicarEventosPendientes. Como el sistema es de un solo hilo, no hay
+     * un temporizador que la publique sola; quien necesite acotar la espera
+     * debe llamar a publicarEventosPendientes periódicamente desde el hilo
+     * del sistema.
+     * 
+     * @param maxEventos Eventos acumulados que disparan la publicación
+     */
+    public void configurarVentanaEventos(int maxEventos) {
+        publicarEventosPendientes();
+        this.maxEventosVentana = maxEventos;
+    }
+
+    /**
+     * Publica a los observadores los eventos acumulados en la ventana actual,
+     * en orden de ciclo de vida: creados, cambios de estado, asignados y
+     * resueltos.
+     */
+    public void publicarEventosPendientes() {
+        if (!creadosEnVentana.isEmpty()) {
+            List<Ticket> lote = new ArrayList<>(creadosEnVentana);
+            creadosEnVentana.clear();
+            notificarTicketsCreados(lote);
+        }
+        if (!cambiosEnVentana.isEmpty()) {
+            List<Ticket> lote = new ArrayList<>(cambiosEnVentana);
+            List<Estado> anteriores = new ArrayList<>(anterioresEnVentana);
+            cambiosEnVentana.clear();
+            anterioresEnVentana.clear();
+            TicketObserver[] destinos = suscriptores[TipoEvento.CAMBIO_ESTADO.ordinal()];
+            long inicio = metricas.iniciar();
+            DespachoObservadoresEvento evento = EventosJfr.iniciarDespacho();
+            for (TicketObserver obs : destinos) {
+                for (int i = 0; i < lote.size(); i++) {
+                    obs.onEstadoCambiado(lote.get(i), anteriores.get(i));
+                }
+            }
+            EventosJfr.terminarDespacho(evento, TipoEvento.CAMBIO_ESTADO, lote, destinos.length, ticketsPendientes);
+            metricas.registrar(OperacionSistema.DESPACHO_OBSERVADORES, inicio);
+        }
+        if (!asignadosEnVentana.isEmpty()) {
+            List<Ticket> lote = new ArrayList<>(asignadosEnVentana);
+            asignadosEnVentana.clear();
+            TicketObserver[] destinos = suscriptores[TipoEvento.ASIGNADO.ordinal()];
+            long inicio = metricas.iniciar();
+            DespachoObservadoresEvento evento = EventosJfr.iniciarDespacho();
+            for (TicketObserver obs : destinos) {
+                obs.onTicketsAsignados(lote);
+            }
+            EventosJfr.terminarDespacho(evento, TipoEvento.ASIGNADO, lote, destinos.length, ticketsPendientes);
+            metricas.registrar(OperacionSistema.DESPACHO_OBSERVADORES, inicio);
+        }
+        if (!resueltosEnVentana.isEmpty()) {
+            List<Ticket> lote = new ArrayList<>(resueltosEnVentana);
+            resueltosEnVentana.clear();
+            TicketObserver[] destinos = suscriptores[TipoEvento.RESUELTO.ordinal()];
+            long inicio = metricas.iniciar();
+            DespachoObservadoresEvento evento = EventosJfr.iniciarDespacho();
+            for (TicketObserver obs : destinos) {
+                obs.onTicketsResueltos(lote);
+            }
+            EventosJfr.terminarDespacho(evento, TipoEvento.RESUELTO, lote, destinos.length, ticketsPendientes);
+            metricas.registrar(OperacionSistema.DESPACHO_OBSERVADORES, inicio);
+        }
+    }
+
+    /**
+     * Acumula un evento en la ventana y la publica si se llenó. Es el único
+     * punto, junto con los eventos que no se coalescen, que publica la
+     * ventana por sí solo; no hay publicación por tiempo.
+     * 
+     * @return true si el evento quedó en la ventana, false si la ventana
+     *         está desactivada y debe notificarse al momento
+     */
+    private boolean acumularEnVentana(ArrayList<Ticket> eventos, Ticket ticket) {
+        if (maxEventosVentana <= 1) {
+            return false;
+        }
+
+        eventos.add(ticket);
+        int acumulados = creadosEnVentana.size() + cambiosEnVentana.size() + asignadosEnVentana.size()
+                + resueltosEnVentana.size();
+        if (acumulados >= maxEventosVentana) {
+            publicarEventosPendientes();
+        }
+        return true;
+    }
+
+    /**
+     * Notifica a los suscriptores sobre la creación de un ticket.
+     */
+    void notificarTicketCreado(Ticket ticket) {
+        TicketObserver[] destinos = suscriptores[TipoEvento.CREADO.ordinal()];
+        if (destinos.length == 0 || acumularEnVentana(creadosEnVentana, ticket)) {
+            return;
+        }
+        long inicio = metricas.iniciar();
+        DespachoObservadoresEvento evento = EventosJfr.iniciarDespacho();
+        for (TicketObserver obs : destinos) {
             obs.onTicketCreado(ticket);
         }
+        EventosJfr.terminarDespacho(evento, TipoEvento.CREADO, ticket, destinos.length, ticketsPendientes);
+        metricas.registrar(OperacionSistema.DESPACHO_OBSERVADORES, inicio);
+    }
+
+    /**
+     * Notifica a los suscriptores sobre un lote de tickets creados.
+     */
+    void notificarTicketsCreados(List<Ticket> tickets) {
+        TicketObserver[] destinos = suscriptores[TipoEvento.CREADO.ordinal()];
+        long inicio = metricas.iniciar();
+        DespachoObservadoresEvento evento = EventosJfr.iniciarDespacho();
+        for (TicketObserver obs : destinos) {
+            obs.onTicketsCreados(tickets);
+        }
+        EventosJfr.terminarDespacho(evento, TipoEvento.CREADO, tickets, destinos.length, ticketsPendientes);
+        metricas.registrar(OperacionSistema.DESPACHO_OBSERVADORES, inicio);
     }
 
     /**
-     * Notifica a todos los observadores sobre la asignación de un ticket.
+     * Notifica a los suscriptores sobre la asignación de un ticket.
      */
     private void notificarTicketAsignado(Ticket ticket) {
-        for (TicketObserver obs : observadores) {
+        TicketObserver[] destinos = suscriptores[TipoEvento.ASIGNADO.ordinal()];
+        if (destinos.length == 0 || acumularEnVentana(asignadosEnVentana, ticket)) {
+            return;
+        }
+        long inicio = metricas.iniciar();
+        DespachoObservadoresEvento evento = EventosJfr.iniciarDespacho();
+        for (TicketObserver obs : destinos) {
             obs.onTicketAsignado(ticket);
         }
+        EventosJfr.terminarDespacho(evento, TipoEvento.ASIGNADO, ticket, destinos.length, ticketsPendientes);
+        metricas.registrar(OperacionSistema.DESPACHO_OBSERVADORES, inicio);
+    }
+
+    /**
+     * Notifica a los suscriptores sobre un lote de asignaciones.
+     */
+    private void notificarTicketsAsignados(LoteAsignacion lote) {
+        TicketObserver[] destinos = suscriptores[TipoEvento.ASIGNADO.ordinal()];
+        if (destinos.length == 0) {
+            return;
+        }
+        if (maxEventosVentana > 1) {
+            for (Ticket ticket : lote) {
+                acumularEnVentana(asignadosEnVentana, ticket);
+            }
+            return;
+        }
+        long inicio = metricas.iniciar();
+        DespachoObservadoresEvento evento = EventosJfr.iniciarDespacho();
+        for (TicketObserver obs : destinos) {
+            obs.onTicketsAsignados(lote);
+        }
+        EventosJfr.terminarDespacho(evento, TipoEvento.ASIGNADO, lote, destinos.length, ticketsPendientes);
+        metricas.registrar(OperacionSistema.DESPACHO_OBSERVADORES, inicio);
     }
 
     /**
-     * Notifica a todos los observadores sobre la resolución de un ticket.
+     * Notifica a los suscriptores sobre la resolución de un ticket.
      */
     private void notificarTicketResuelto(Ticket ticket) {
-        for (TicketObserver obs : observadores) {
+        TicketObserver[] destinos = suscriptores[TipoEvento.RESUELTO.ordinal()];
+        if (destinos.length == 0 || acumularEnVentana(resueltosEnVentana, ticket)) {
+            return;
+        }
+        long inicio = metricas.iniciar();
+        DespachoObservadoresEvento evento = EventosJfr.iniciarDespacho();
+        for (TicketObserver obs : destinos) {
             obs.onTicketResuelto(ticket);
         }
+        EventosJfr.terminarDespacho(evento, TipoEvento.RESUELTO, ticket, destinos.length, ticketsPendientes);
+        metricas.registrar(OperacionSistema.DESPACHO_OBSERVADORES, inicio);
+    }
+
+    /**
+     * Notifica a los suscriptores sobre un cambio de estado. Con la ventana
+     * activa el cambio se retiene en ella, así que asignar y resolver no la
+     * vacían antes de tiempo.
+     */
+    private void notificarCambioEstado(Ticket ticket, Estado anterior) {
+        TicketObserver[] destinos = suscriptores[TipoEvento.CAMBIO_ESTADO.ordinal()];
+        if (destinos.length == 0) {
+            return;
+        }
+        if (maxEventosVentana > 1) {
+            anterioresEnVentana.add(anterior);
+            acumularEnVentana(cambiosEnVentana, ticket);
+            return;
+        }
+        long inicio = metricas.iniciar();
+        DespachoObservadoresEvento evento = EventosJfr.iniciarDespacho();
+        for (TicketObserver obs : destinos) {
+            obs.onEstadoCambiado(ticket, anterior);
+        }
+        EventosJfr.terminarDespacho(evento, TipoEvento.CAMBIO_ESTADO, ticket, destinos.length, ticketsPendientes);
+        metricas.registrar(OperacionSistema.DESPACHO_OBSERVADORES, inicio);
+    }
+
+    /**
+     * Notifica a los suscriptores sobre el cierre de un ticket.
+     */
+    private void notificarTicketCerrado(Ticket ticket) {
+        TicketObserver[] destinos = suscriptores[TipoEvento.CERRADO.ordinal()];
+        if (destinos.length == 0) {
+            return;
+        }
+        publicarEventosPendientes();
+        long inicio = metricas.iniciar();
+        DespachoObservadoresEvento evento = EventosJfr.iniciarDespacho();
+        for (TicketObserver obs : destinos) {
+            obs.onTicketCerrado(ticket);
+        }
+        EventosJfr.terminarDespacho(evento, TipoEvento.CERRADO, ticket, destinos.length, ticketsPendientes);
+        metricas.registrar(OperacionSistema.DESPACHO_OBSERVADORES, inicio);
     }
 
     /**
@@ -431,6 +1509,298 @@ public class TicketSystem {
         assert stats.contains("Total de tickets: 2") : "Test 10 falló: Estadísticas incorrectas";
         System.out.println("✓ Test 10 pasado: Generación de estadísticas funciona");
 
+        // Test 11: Búsqueda por ID
+        assert sistema.buscarTicketPorId(2) == ticket2 : "Test 11 falló: Ticket 2 no encontrado";
+        assert sistema.buscarTicketPorId(99) == null : "Test 11 falló: Ticket 99 no debería existir";
+        assert sistema.buscarTecnicoPorId(2) == t2 : "Test 11 falló: Técnico 2 no encontrado";
+        System.out.println("✓ Test 11 pasado: Búsqueda por ID funciona");
+
+        // Test 12: Asignación manual saca el ticket del medio de la cola
+        Tecnico t3 = new Tecnico(3, "Luis Red", Categoria.RED);
+        sistema.agregarTecnico(t3);
+        Ticket ticket3 = sistema.crearTicket("Switch caído", Categoria.RED, c1);
+        Ticket ticket4 = sistema.crearTicket("Otro bug", Categoria.APLICACION, c2);
+        sistema.asignarTicketManual(ticket3, t3);
+        assert sistema.getTicketsPendientes().size() == 2 : "Test 12 falló: ticket3 sigue en la cola";
+        java.util.Iterator<Ticket> pendientes = sistema.getTicketsPendientes().iterator();
+        assert pendientes.next() == ticket2 : "Test 12 falló: Orden FIFO alterado";
+        assert pendientes.next() == ticket4 : "Test 12 falló: Orden FIFO alterado";
+        System.out.println("✓ Test 12 pasado: Asignación manual remueve de la cola");
+
+        // Test 13: El índice por estado sigue cambios hechos sobre el ticket
+        ticket3.cambiarEstado(Estado.EN_PROGRESO);
+        assert sistema.obtenerTicketsPorEstado(Estado.EN_PROGRESO).contains(ticket3)
+                : "Test 13 falló: ticket3 debería estar EN_PROGRESO";
+        assert !sistema.obtenerTicketsPorEstado(Estado.ASIGNADO).contains(ticket3)
+                : "Test 13 falló: ticket3 no debería seguir ASIGNADO";
+        assert sistema.iteradorPorEstado(Estado.EN_PROGRESO).next() == ticket3
+                : "Test 13 falló: Iterador por estado incorrecto";
+        System.out.println("✓ Test 13 pasado: Índice por estado actualizado");
+
+        // Test 14: Índice combinado por categoría y estado
+        assert sistema.contarTickets(Categoria.RED, Estado.EN_PROGRESO) == 1
+                : "Test 14 falló: Debería haber 1 ticket de RED en progreso";
+        assert sistema.contarTickets(Categoria.RED, Estado.CERRADO) == 1
+                : "Test 14 falló: Debería haber 1 ticket de RED cerrado";
+        assert sistema.obtenerTickets(Categoria.APLICACION, Estado.NUEVO).size() == 2
+                : "Test 14 falló: Debería haber 2 tickets de APLICACION nuevos";
+        System.out.println("✓ Test 14 pasado: Índice por categoría y estado funciona");
+
+        // Test 15: Contadores incrementales de técnicos
+        EstadisticasSistema antes = sistema.obtenerEstadisticas();
+        t2.marcarDisponibilidad(false);
+        EstadisticasSistema despues = sistema.obtenerEstadisticas();
+        assert despues.getTecnicosDisponibles() == antes.getTecnicosDisponibles() - 1
+                : "Test 15 falló: Contador de disponibles no actualizado";
+        assert despues.getTickets(Estado.NUEVO) == 2 : "Test 15 falló: Contador de NUEVO incorrecto";
+        t2.marcarDisponibilidad(true);
+        System.out.println("✓ Test 15 pasado: Estadísticas incrementales funcionan");
+
+        // Test 16: Un ticket sin técnico libre no bloquea otras categorías
+        Tecnico t4 = new Tecnico(4, "Sara Hardware", Categoria.HARDWARE);
+        Ticket ticket5 = sistema.crearTicket("Disco dañado", Categoria.HARDWARE, c1);
+        sistema.crearTicket("Teclado roto", Categoria.HARDWARE, c1);
+        Ticket ticket6 = sistema.crearTicket("Sin VPN", Categoria.RED, c2);
+        Ticket asignado6 = sistema.asignarTicketAutomatico();
+        assert asignado6 == ticket2 : "Test 16 falló: Debería asignarse primero el ticket más antiguo";
+        sistema.agregarTecnico(new Tecnico(5, "Pablo Red", Categoria.RED));
+        asignado6 = sistema.asignarTicketAutomatico();
+        assert asignado6 == ticket6 : "Test 16 falló: RED debería asignarse aunque HARDWARE espere";
+        sistema.agregarTecnico(t4);
+        assert sistema.asignarTicketAutomatico() == ticket5 : "Test 16 falló: HARDWARE debería asignarse";
+        System.out.println("✓ Test 16 pasado: Sin bloqueo entre categorías");
+
+        // Test 17: Asignación por lotes
+        Ticket ticket7 = sistema.crearTicket("Sin DNS", Categoria.RED, c1);
+        Ticket ticket8 = sistema.crearTicket("Cable cortado", Categoria.RED, c2);
+        sistema.agregarTecnico(new Tecnico(6, "Iván Red", Categoria.RED));
+        sistema.agregarTecnico(new Tecnico(7, "Eva Red", Categoria.RED));
+        LoteAsignacion lote = sistema.asignarTodos();
+        assert lote.size() == 2 : "Test 17 falló: Deberían asignarse 2 tickets";
+        assert lote.get(0) == ticket7 && lote.get(1) == ticket8 : "Test 17 falló: Orden del lote incorrecto";
+        assert lote.getTecnico(0).getTicketAsignado() == ticket7 : "Test 17 falló: Técnico incorrecto";
+        assert sistema.asignarLote(5).isEmpty() : "Test 17 falló: No debería quedar nada asignable";
+        System.out.println("✓ Test 17 pasado: Asignación por lotes funciona");
+
+        // Test 18: Ventana de coalescencia de eventos
+        EstadisticasObserver estadisticas = new EstadisticasObserver();
+        sistema.agregarObservador(estadisticas);
+        sistema.configurarVentanaEventos(3);
+        sistema.crearTicket("Evento 1", Categoria.SEGURIDAD, c1);
+        sistema.crearTicket("Evento 2", Categoria.SEGURIDAD, c1);
+        assert estadisticas.getTicketsCreados() == 0 : "Test 18 falló: Los eventos deberían estar retenidos";
+        sistema.crearTicket("Evento 3", Categoria.SEGURIDAD, c1);
+        assert estadisticas.getTicketsCreados() == 3 : "Test 18 falló: La ventana llena debería publicarse";
+        sistema.crearTicket("Evento 4", Categoria.SEGURIDAD, c1);
+        sistema.publicarEventosPendientes();
+        assert estadisticas.getTicketsCreados() == 4 : "Test 18 falló: Publicación explícita no funcionó";
+        sistema.configurarVentanaEventos(0);
+
+        // Asignaciones y resoluciones también se agrupan: un lote por tipo
+        TicketSystem sistemaVentana = new TicketSystem();
+        int[] lotes = new int[3];
+        int[] ticketsEnLotes = new int[3];
+        TicketObserver porLotes = new TicketObserver() {
+            public void onTicketCreado(Ticket ticket) {
+                assert false : "Test 18 falló: Creación notificada sin lote";
+            }
+
+            public void onTicketsCreados(List<Ticket> tickets) {
+                lotes[0]++;
+                ticketsEnLotes[0] += tickets.size();
+            }
+
+            public void onTicketAsignado(Ticket ticket) {
+                assert false : "Test 18 falló: Asignación notificada sin lote";
+            }
+
+            public void onTicketsAsignados(List<Ticket> tickets) {
+                lotes[1]++;
+                ticketsEnLotes[1] += tickets.size();
+            }
+
+            public void onTicketResuelto(Ticket ticket) {
+                assert false : "Test 18 falló: Resolución notificada sin lote";
+            }
+
+            public void onTicketsResueltos(List<Ticket> tickets) {
+                lotes[2]++;
+                ticketsEnLotes[2] += tickets.size();
+            }
+        };
+        sistemaVentana.suscribir(porLotes, TipoEvento.CREADO, TipoEvento.ASIGNADO, TipoEvento.RESUELTO);
+        sistemaVentana.configurarVentanaEventos(100);
+        for (int i = 0; i < 10; i++) {
+            sistemaVentana.agregarTecnico(new Tecnico(100 + i, "Técnico ventana " + i, Categoria.RED));
+            sistemaVentana.crearTicket("Ventana " + i, Categoria.RED, c1);
+        }
+        for (int i = 0; i < 10; i++) {
+            sistemaVentana.asignarTicketAutomatico();
+        }
+        for (Ticket tk : sistemaVentana.getTodosLosTickets()) {
+            sistemaVentana.cambiarEstadoTicket(tk.getId(), Estado.EN_PROGRESO);
+            sistemaVentana.resolverTicket(tk.getId());
+        }
+        assert lotes[0] + lotes[1] + lotes[2] == 0 : "Test 18 falló: La ventana no debería haberse publicado";
+        sistemaVentana.publicarEventosPendientes();
+        assert Arrays.equals(lotes, new int[] { 1, 1, 1 }) : "Test 18 falló: Debería haber un lote por tipo";
+        assert Arrays.equals(ticketsEnLotes, new int[] { 10, 10, 10 }) : "Test 18 falló: Tickets por lote";
+        System.out.println("✓ Test 18 pasado: Eventos coalescidos por ventana");
+
+        // Test 19: Suscripciones por tipo de evento
+        TicketSystem sistemaEventos = new TicketSystem();
+        int[] recibidos = new int[3];
+        TicketObserver soloCierres = new TicketObserver() {
+            public void onTicketCreado(Ticket ticket) {
+                recibidos[0]++;
+            }
+
+            public void onTicketAsignado(Ticket ticket) {
+                recibidos[0]++;
+            }
+
+            public void onTicketResuelto(Ticket ticket) {
+                recibidos[0]++;
+            }
+
+            public void onEstadoCambiado(Ticket ticket, Estado anterior) {
+                recibidos[1]++;
+            }
+
+            public void onTicketCerrado(Ticket ticket) {
+                recibidos[2]++;
+            }
+        };
+        sistemaEventos.suscribir(soloCierres, TipoEvento.CAMBIO_ESTADO, TipoEvento.CERRADO);
+        sistemaEventos.agregarTecnico(new Tecnico(8, "Rita Red", Categoria.RED));
+        Ticket tkEventos = sistemaEventos.crearTicket("Switch caído", Categoria.RED, c1);
+        sistemaEventos.asignarTicketAutomatico();
+        sistemaEventos.cambiarEstadoTicket(tkEventos.getId(), Estado.EN_PROGRESO);
+        sistemaEventos.resolverTicket(tkEventos.getId());
+        sistemaEventos.cerrarTicket(tkEventos.getId());
+        assert recibidos[0] == 0 : "Test 19 falló: Llegaron eventos no suscritos";
+        assert recibidos[1] == 4 : "Test 19 falló: Deberían publicarse los 4 cambios de estado";
+        assert recibidos[2] == 1 : "Test 19 falló: Cierre no publicado";
+        Ticket tkDirecto = sistemaEventos.crearTicket("Cable suelto", Categoria.RED, c1);
+        sistemaEventos.asignarTicketAutomatico();
+        tkDirecto.cambiarEstado(Estado.EN_PROGRESO);
+        assert recibidos[1] == 6 : "Test 19 falló: Cambio directo sobre el ticket no publicado";
+        sistemaEventos.desuscribir(soloCierres);
+        Ticket tkEventos2 = sistemaEventos.crearTicket("Router lento", Categoria.RED, c1);
+        sistemaEventos.agregarTecnico(new Tecnico(9, "Otro Red", Categoria.RED));
+        sistemaEventos.asignarTicketAutomatico();
+        sistemaEventos.cambiarEstadoTicket(tkEventos2.getId(), Estado.EN_PROGRESO);
+        assert recibidos[1] == 6 : "Test 19 falló: Desuscribir no funcionó";
+
+        // Con la ventana activa, los cambios de estado no la vacían: un
+        // observador suscrito a todo recibe un lote por tipo
+        TicketSystem sistemaTodos = new TicketSystem();
+        int[] lotesTodos = new int[3];
+        ArrayList<Estado> anteriores = new ArrayList<>();
+        sistemaTodos.agregarObservador(new TicketObserver() {
+            public void onTicketCreado(Ticket ticket) {
+                assert false : "Test 19 falló: Creación notificada sin lote";
+            }
+
+            public void onTicketsCreados(List<Ticket> tickets) {
+                lotesTodos[0]++;
+            }
+
+            public void onTicketAsignado(Ticket ticket) {
+                assert false : "Test 19 falló: Asignación notificada sin lote";
+            }
+
+            public void onTicketsAsignados(List<Ticket> tickets) {
+                assert anteriores.size() == 30 : "Test 19 falló: Cambios publicados después de los asignados";
+                lotesTodos[1]++;
+            }
+
+            public void onTicketResuelto(Ticket ticket) {
+                assert false : "Test 19 falló: Resolución notificada sin lote";
+            }
+
+            public void onTicketsResueltos(List<Ticket> tickets) {
+                lotesTodos[2]++;
+            }
+
+            public void onEstadoCambiado(Ticket ticket, Estado anterior) {
+                anteriores.add(anterior);
+            }
+        });
+        sistemaTodos.configurarVentanaEventos(100);
+        for (int i = 0; i < 10; i++) {
+            sistemaTodos.agregarTecnico(new Tecnico(200 + i, "Técnico todos " + i, Categoria.RED));
+            sistemaTodos.crearTicket("Todos " + i, Categoria.RED, c1);
+        }
+        for (int i = 0; i < 10; i++) {
+            sistemaTodos.asignarTicketAutomatico();
+        }
+        for (Ticket tk : sistemaTodos.getTodosLosTickets()) {
+            sistemaTodos.cambiarEstadoTicket(tk.getId(), Estado.EN_PROGRESO);
+            sistemaTodos.resolverTicket(tk.getId());
+        }
+        assert anteriores.isEmpty() : "Test 19 falló: Los cambios de estado deberían estar retenidos";
+        sistemaTodos.publicarEventosPendientes();
+        assert Arrays.equals(lotesTodos, new int[] { 1, 1, 1 }) : "Test 19 falló: Debería haber un lote por tipo";
+        assert anteriores.size() == 30 : "Test 19 falló: Deberían publicarse los 30 cambios de estado";
+        assert anteriores.get(0) == Estado.NUEVO && anteriores.get(10) == Estado.ASIGNADO
+                && anteriores.get(11) == Estado.EN_PROGRESO : "Test 19 falló: Orden de los cambios de estado";
+        System.out.println("✓ Test 19 pasado: Suscripciones por tipo de evento");
+
+        // Test 20: Archivo de tickets cerrados
+        TicketSystem sistemaArchivo = new TicketSystem();
+        sistemaArchivo.agregarTecnico(new Tecnico(10, "Tito Red", Categoria.RED));
+        sistemaArchivo.agregarTecnico(new Tecnico(11, "Berta Hardware", Categoria.HARDWARE));
+        for (int i = 0; i < 150; i++) {
+            Categoria categoria = (i % 3 == 0) ? Categoria.HARDWARE : Categoria.RED;
+            Ticket tk = sistemaArchivo.crearTicket("Caso archivado " + i, categoria, c1);
+            sistemaArchivo.asignarTicketAutomatico();
+            sistemaArchivo.cambiarEstadoTicket(tk.getId(), Estado.EN_PROGRESO);
+            sistemaArchivo.resolverTicket(tk.getId());
+            sistemaArchivo.cerrarTicket(tk.getId());
+        }
+        String estadisticasPrevias = sistemaArchivo.generarEstadisticas();
+        assert sistemaArchivo.archivarCerrados() == 150 : "Test 20 falló: No se archivaron todos";
+        assert sistemaArchivo.getTodosLosTickets().isEmpty() : "Test 20 falló: Quedaron tickets en memoria";
+        assert sistemaArchivo.generarEstadisticas().equals(estadisticasPrevias) : "Test 20 falló: Estadísticas cambiaron";
+        Ticket archivado = sistemaArchivo.buscarTicketPorId(7);
+        assert archivado.getDescripcion().equals("Caso archivado 6") && archivado.getEstado() == Estado.CERRADO
+                : "Test 20 falló: Ticket archivado mal reconstruido";
+        assert sistemaArchivo.getArchivo().buscarPorCategoria(Categoria.HARDWARE).size() == 50
+                : "Test 20 falló: Consulta por categoría";
+        assert sistemaArchivo.getArchivo().buscarPorFechaCreacion(LocalDateTime.now().minusHours(1),
+                LocalDateTime.now().plusHours(1)).size() == 150 : "Test 20 falló: Consulta por fechas";
+        try {
+            sistemaArchivo.cambiarEstadoTicket(7, Estado.NUEVO);
+            assert false : "Test 20 falló: Se modificó un ticket archivado";
+        } catch (IllegalStateException e) {
+            // Esperado
+        }
+        sistemaArchivo.configurarArchivoAutomatico(true);
+        Ticket tkAuto = sistemaArchivo.crearTicket("Cierre automático", Categoria.RED, c1);
+        sistemaArchivo.asignarTicketAutomatico();
+        sistemaArchivo.cambiarEstadoTicket(tkAuto.getId(), Estado.EN_PROGRESO);
+        sistemaArchivo.resolverTicket(tkAuto.getId());
+        sistemaArchivo.cerrarTicket(tkAuto.getId());
+        assert sistemaArchivo.getArchivo().contiene(tkAuto.getId()) : "Test 20 falló: Archivo automático";
+        System.out.println("✓ Test 20 pasado: Archivo de tickets cerrados");
+
+        // Test 21: El observador de tiempos recibe las resoluciones por lote
+        TiemposResolucionObserver tiempos = new TiemposResolucionObserver();
+        TicketSystem sistemaTiempos = new TicketSystem();
+        Tecnico tecTiempos = new Tecnico(30, "Rita Red", Categoria.RED);
+        sistemaTiempos.agregarTecnico(tecTiempos);
+        sistemaTiempos.agregarObservador(tiempos);
+        sistemaTiempos.configurarVentanaEventos(10);
+        Ticket tkTiempos = sistemaTiempos.crearTicket("Medir resolución", Categoria.RED, c1);
+        sistemaTiempos.asignarTicketAutomatico();
+        sistemaTiempos.cambiarEstadoTicket(tkTiempos.getId(), Estado.EN_PROGRESO);
+        sistemaTiempos.resolverTicket(tkTiempos.getId());
+        sistemaTiempos.publicarEventosPendientes();
+        assert tiempos.getResueltos(tecTiempos) == 1 && tiempos.getResueltos(Categoria.RED) == 1
+                : "Test 21 falló: Resolución no registrada";
+        System.out.println("✓ Test 21 pasado: Tiempos de resolución desde el sistema");
+
         System.out.println("\n=== Todas las pruebas de TicketSystem pasaron ===");
     }
 }
@@ -0,0 +1,915 @@
+/*
+ * Taller Práctico 01 - Sistema de Gestión de Tickets
+ * Estructuras de Datos y Algoritmos - 2026-10
+ *
+ * Integrantes:
+ * - [Nombre Completo 1] - ID: [ID1]
+ * - [Nombre Completo 2] - ID: [ID2]
+ * - [Nombre Completo 3] - ID: [ID3]
+ */
+
+package ticketsystem.adt;
+
+import ticketsystem.datastructures.Bag;
+import ticketsystem.enums.Categoria;
+import ticketsystem.enums.Estado;
+import ticketsystem.interfaces.Identificable;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Tabla compacta de tickets: cada ticket es una fila de campos primitivos
+ * (ID, estado, categoría, IDs de cliente y técnico, fechas en milisegundos
+ * desde la época UTC) y no un objeto Ticket. Se evitan así las cabeceras de
+ * objeto, los LocalDateTime anidados y las referencias que el GC tiene que
+ * recorrer.
+ *
+ * La forma de guardar las filas la decide cada implementación:
+ * - TicketTableEnHeap: una columna (arreglo primitivo) por campo
+ * - TicketTableFueraDelHeap: registros de ancho fijo en buffers directos
+ *
+ * Esta clase mantiene el índice por ID, los contadores por estado y las
+ * reglas de transición (las mismas de Ticket). Los tickets se leen a través
+ * de vistas (Vista), objetos livianos que solo guardan la tabla y la fila;
+ * las consultas tienen los mismos nombres que en TicketSystem, pero
+ * retornan vistas en lugar de objetos Ticket.
+ *
+ * Se puede usar sola (agregarTodos copia un sistema en un momento dado) o
+ * conectada a un TicketSystem con TicketSystem.configurarTabla: el sistema
+ * la mantiene al día en cada alta, cambio de estado y archivo, y responde
+ * con ella las consultas por estado y categoría en lugar de mantener sus
+ * índices de objetos.
+ *
+ * Invariantes:
+ * - Los IDs son únicos y no negativos; pueden ser dispersos
+ * - Cliente y técnico se guardan por ID; -1 indica sin técnico
+ * - No es seguro para varios hilos
+ */
+public abstract class TicketTable implements Iterable<TicketTable.Vista> {
+
+    static final long SIN_FECHA = Long.MIN_VALUE;
+    private static final Estado[] ESTADOS = Estado.values();
+    private static final Categoria[] CATEGORIAS = Categoria.values();
+
+    private int size;
+    private final int[] porEstado;
+    private final int[][] porCategoriaYEstado;
+
+    // Índice ID -> fila + 1 con direccionamiento abierto (0 = libre), así
+    // un ID grande o disperso no hace crecer el índice
+    private int[] claves;
+    private int[] filas;
+
+    /**
+     * Constructor para las implementaciones.
+     *
+     * @param capacidadEsperada Número esperado de tickets
+     */
+    protected TicketTable(int capacidadEsperada) {
+        this.size = 0;
+        this.porEstado = new int[ESTADOS.length];
+        this.porCategoriaYEstado = new int[CATEGORIAS.length][ESTADOS.length];
+        int capacidadIndice = Integer.highestOneBit(Math.max(capacidadEsperada, 8) * 2 - 1) << 1;
+        this.claves = new int[capacidadIndice];
+        this.filas = new int[capacidadIndice];
+    }
+
+    /**
+     * Crea una tabla por columnas en el heap.
+     *
+     * @param capacidadEsperada Número esperado de tickets
+     * @return Tabla vacía
+     */
+    public static TicketTable enHeap(int capacidadEsperada) {
+        return new TicketTableEnHeap(capacidadEsperada);
+    }
+
+    /**
+     * Crea una tabla con los registros fuera del heap.
+     *
+     * @param capacidadEsperada Número esperado de tickets
+     * @return Tabla vacía
+     */
+    public static TicketTable fueraDelHeap(int capacidadEsperada) {
+        return new TicketTableFueraDelHeap(capacidadEsperada);
+    }
+
+    // Acceso a los campos de una fila, según el formato de cada implementación
+
+    /**
+     * Reserva la fila {@code fila} y escribe sus campos iniciales (estado
+     * NUEVO, sin técnico ni fecha de resolución).
+     */
+    protected abstract void escribirFila(int fila, int id, String descripcion, byte categoria,
+            int clienteId, long milisCreacion);
+
+    protected abstract int id(int fila);
+
+    protected abstract byte estado(int fila);
+
+    protected abstract void setEstado(int fila, byte estado);
+
+    protected abstract byte categoria(int fila);
+
+    protected abstract int cliente(int fila);
+
+    protected abstract int tecnico(int fila);
+
+    protected abstract void setTecnico(int fila, int tecnicoId);
+
+    protected abstract long creacion(int fila);
+
+    protected abstract long resolucion(int fila);
+
+    protected abstract void setResolucion(int fila, long milis);
+
+    protected abstract String descripcion(int fila);
+
+    /**
+     * Copia todos los campos de la fila desde a la fila hacia.
+     */
+    protected abstract void moverFila(int desde, int hacia);
+
+    /**
+     * Suelta lo que la fila retenga (por ejemplo referencias) cuando deja de
+     * usarse.
+     */
+    protected abstract void liberarFila(int fila);
+
+    /**
+     * Calcula la memoria reservada para las filas, sin el índice por ID.
+     *
+     * @return Bytes reservados por la implementación
+     */
+    protected abstract long bytesFilas();
+
+    /**
+     * Agrega un ticket nuevo en estado NUEVO.
+     *
+     * @param id            ID único del ticket
+     * @param descripcion   Descripción del problema
+     * @param categoria     Categoría del ticket
+     * @param clienteId     ID del cliente que lo reporta
+     * @param milisCreacion Fecha de creación en milisegundos desde la época
+     * @return Fila del ticket
+     * @throws IllegalArgumentException si el ID es negativo o ya existe
+     */
+    public int agregar(int id, String descripcion, Categoria categoria, int clienteId, long milisCreacion) {
+        if (id < 0) {
+            throw new IllegalArgumentException("El ID no puede ser negativo: " + id);
+        }
+        if (descripcion == null || descripcion.trim().isEmpty()) {
+            throw new IllegalArgumentException("La descripción no puede estar vacía");
+        }
+        if (categoria == null) {
+            throw new IllegalArgumentException("La categoría no puede ser null");
+        }
+        if (buscarFila(id) >= 0) {
+            throw new IllegalArgumentException("El ticket ya existe: " + id);
+        }
+
+        int fila = size;
+        escribirFila(fila, id, descripcion, (byte) categoria.ordinal(), clienteId, milisCreacion);
+        indexar(id, fila);
+        size++;
+        porEstado[Estado.NUEVO.ordinal()]++;
+        porCategoriaYEstado[categoria.ordinal()][Estado.NUEVO.ordinal()]++;
+        return fila;
+    }
+
+    /**
+     * Agrega una copia de un ticket existente, con su estado, técnico y
+     * fechas.
+     *
+     * @param ticket Ticket a copiar
+     * @return Fila del ticket
+     */
+    public int agregar(Ticket ticket) {
+        int fila = agregar(ticket.getId(), ticket.getDescripcion(), ticket.getCategoria(),
+                ticket.getCliente().getId(), aMilis(ticket.getFechaCreacion()));
+        moverContador(fila, (byte) ticket.getEstado().ordinal());
+        setTecnico(fila, (ticket.getTecnico() != null) ? ticket.getTecnico().getId() : -1);
+        if (ticket.getFechaResolucion() != null) {
+            setResolucion(fila, aMilis(ticket.getFechaResolucion()));
+        }
+        return fila;
+    }
+
+    /**
+     * Copia en la fila de un ticket su estado, técnico y fecha de
+     * resolución actuales, sin validar la transición (el Ticket ya la
+     * validó). Lo invoca TicketSystem en cada cambio de estado.
+     *
+     * @param ticket Ticket ya agregado a la tabla
+     * @throws IllegalArgumentException si el ticket no está en la tabla
+     */
+    public void actualizar(Ticket ticket) {
+        int fila = buscarFila(ticket.getId());
+        if (fila < 0) {
+            throw new IllegalArgumentException("El ticket no está en la tabla: " + ticket.getId());
+        }
+        moverContador(fila, (byte) ticket.getEstado().ordinal());
+        setTecnico(fila, (ticket.getTecnico() != null) ? ticket.getTecnico().getId() : -1);
+        setResolucion(fila, (ticket.getFechaResolucion() != null) ? aMilis(ticket.getFechaResolucion()) : SIN_FECHA);
+    }
+
+    /**
+     * Quita un ticket de la tabla en O(1): la última fila pasa a ocupar su
+     * lugar, así que las filas y vistas obtenidas antes dejan de ser
+     * válidas.
+     *
+     * @param id ID del ticket
+     * @return true si se quitó, false si no estaba
+     */
+    public boolean remover(int id) {
+        int fila = buscarFila(id);
+        if (fila < 0) {
+            return false;
+        }
+        porEstado[estado(fila)]--;
+        porCategoriaYEstado[categoria(fila)][estado(fila)]--;
+        desindexar(id);
+        int ultima = size - 1;
+        if (fila != ultima) {
+            moverFila(ultima, fila);
+            reindexar(id(fila), fila);
+        }
+        liberarFila(ultima);
+        size--;
+        return true;
+    }
+
+    /**
+     * Copia todos los tickets de un sistema, incluidos los archivados.
+     *
+     * @param sistema Sistema a copiar
+     * @return Número de tickets copiados
+     */
+    public int agregarTodos(TicketSystem sistema) {
+        int antes = size;
+        for (Ticket ticket : sistema.getTodosLosTickets()) {
+            agregar(ticket);
+        }
+        for (Ticket ticket : sistema.getArchivo()) {
+            agregar(ticket);
+        }
+        return size - antes;
+    }
+
+    /**
+     * Asigna un técnico a un ticket; si estaba NUEVO pasa a ASIGNADO.
+     *
+     * @param fila      Fila del ticket
+     * @param tecnicoId ID del técnico
+     * @throws IllegalArgumentException si el ID de técnico es negativo
+     */
+    public void asignarTecnico(int fila, int tecnicoId) {
+        verificarFila(fila);
+        if (tecnicoId < 0) {
+            throw new IllegalArgumentException("El ID de técnico no puede ser negativo: " + tecnicoId);
+        }
+        setTecnico(fila, tecnicoId);
+        if (estado(fila) == Estado.NUEVO.ordinal()) {
+            moverContador(fila, (byte) Estado.ASIGNADO.ordinal());
+        }
+    }
+
+    /**
+     * Cambia el estado de un ticket con las reglas de Ticket.cambiarEstado.
+     *
+     * @param fila        Fila del ticket
+     * @param nuevoEstado Nuevo estado
+     * @throws IllegalStateException si la transición de estado no es válida
+     */
+    public void cambiarEstado(int fila, Estado nuevoEstado) {
+        verificarFila(fila);
+        if (nuevoEstado == null) {
+            throw new IllegalArgumentException("El estado no puede ser null");
+        }
+        Ticket.validarTransicion(ESTADOS[estado(fila)], nuevoEstado, tecnico(fila) >= 0);
+        moverContador(fila, (byte) nuevoEstado.ordinal());
+    }
+
+    /**
+     * Marca un ticket como resuelto y registra la fecha de resolución.
+     *
+     * @param fila            Fila del ticket
+     * @param milisResolucion Fecha de resolución en milisegundos desde la
+     *                        época
+     * @throws IllegalStateException si el ticket no está en progreso o no tiene
+     *                               técnico
+     */
+    public void resolver(int fila, long milisResolucion) {
+        cambiarEstado(fila, Estado.RESUELTO);
+        setResolucion(fila, milisResolucion);
+    }
+
+    /**
+     * Busca la fila de un ticket por su ID (O(1) esperado).
+     *
+     * @param id ID del ticket
+     * @return Fila del ticket, o -1 si no existe
+     */
+    public int buscarFila(int id) {
+        int mascara = claves.length - 1;
+        for (int i = indiceInicial(id, mascara); filas[i] != 0; i = (i + 1) & mascara) {
+            if (claves[i] == id) {
+                return filas[i] - 1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Obtiene una vista de una fila.
+     *
+     * @param fila Fila del ticket
+     * @return Vista del ticket
+     */
+    public Vista vista(int fila) {
+        verificarFila(fila);
+        return new Vista(fila);
+    }
+
+    /**
+     * Busca un ticket por su ID (O(1)).
+     *
+     * @param ticketId ID del ticket
+     * @return Vista del ticket, o null si no existe
+     */
+    public Vista buscarTicketPorId(int ticketId) {
+        int fila = buscarFila(ticketId);
+        return fila < 0 ? null : new Vista(fila);
+    }
+
+    /**
+     * Obtiene los tickets en un estado. Recorre todas las filas, así que
+     * cuesta O(n).
+     *
+     * @param estado Estado a filtrar
+     * @return Bag con vistas de los tickets en ese estado
+     */
+    public Bag<Vista> obtenerTicketsPorEstado(Estado estado) {
+        return filtrar(null, estado);
+    }
+
+    /**
+     * Obtiene los tickets de una categoría. Recorre todas las filas.
+     *
+     * @param categoria Categoría a filtrar
+     * @return Bag con vistas de los tickets de esa categoría
+     */
+    public Bag<Vista> obtenerTicketsPorCategoria(Categoria categoria) {
+        return filtrar(categoria, null);
+    }
+
+    /**
+     * Obtiene los tickets de una categoría en un estado dado.
+     *
+     * @param categoria Categoría a filtrar
+     * @param estado    Estado a filtrar
+     * @return Bag con vistas de los tickets de esa categoría y estado
+     */
+    public Bag<Vista> obtenerTickets(Categoria categoria, Estado estado) {
+        return filtrar(categoria, estado);
+    }
+
+    /**
+     * Cuenta en O(1) los tickets de una categoría en un estado dado.
+     *
+     * @param categoria Categoría a contar
+     * @param estado    Estado a contar
+     * @return Número de tickets de esa categoría en ese estado
+     */
+    public int contarTickets(Categoria categoria, Estado estado) {
+        return porCategoriaYEstado[categoria.ordinal()][estado.ordinal()];
+    }
+
+    /**
+     * Cuenta en O(1) los tickets en un estado.
+     *
+     * @param estado Estado a contar
+     * @return Número de tickets en ese estado
+     */
+    public int contar(Estado estado) {
+        return porEstado[estado.ordinal()];
+    }
+
+    /**
+     * Obtiene las estadísticas de la tabla en O(1). La tabla no conoce a
+     * los técnicos, así que sus contadores quedan en cero; los pendientes
+     * son los tickets NUEVO.
+     *
+     * @return Estadísticas de los tickets de la tabla
+     */
+    public EstadisticasSistema obtenerEstadisticas() {
+        return new EstadisticasSistema(size, porEstado[Estado.NUEVO.ordinal()], porEstado.clone(), 0, 0);
+    }
+
+    /**
+     * Retorna el número de tickets de la tabla.
+     *
+     * @return Número de filas
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Verifica si la tabla está vacía.
+     *
+     * @return true si no hay tickets
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Calcula la memoria reservada por las filas y el índice por ID.
+     *
+     * @return Bytes reservados
+     */
+    public long getBytesReservados() {
+        return bytesFilas() + 8L * claves.length;
+    }
+
+    /**
+     * Retorna un iterador que recorre las filas moviendo una única vista:
+     * no se debe guardar la vista entre llamadas a next.
+     *
+     * @return Iterator sobre las filas de la tabla
+     */
+    @Override
+    public Iterator<Vista> iterator() {
+        return new Iterator<Vista>() {
+            private final Vista vista = new Vista(-1);
+
+            @Override
+            public boolean hasNext() {
+                return vista.fila + 1 < size;
+            }
+
+            @Override
+            public Vista next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                vista.fila++;
+                return vista;
+            }
+        };
+    }
+
+    /**
+     * Vista liviana (flyweight) de una fila de la tabla. No copia datos:
+     * cada getter lee la fila en la tabla.
+     */
+    public final class Vista implements Identificable {
+        private int fila;
+
+        private Vista(int fila) {
+            this.fila = fila;
+        }
+
+        public int getFila() {
+            return fila;
+        }
+
+        @Override
+        public int getId() {
+            return id(fila);
+        }
+
+        public String getDescripcion() {
+            return descripcion(fila);
+        }
+
+        public Estado getEstado() {
+            return ESTADOS[estado(fila)];
+        }
+
+        public Categoria getCategoria() {
+            return CATEGORIAS[categoria(fila)];
+        }
+
+        public int getClienteId() {
+            return cliente(fila);
+        }
+
+        /**
+         * @return ID del técnico asignado, o -1 si no tiene
+         */
+        public int getTecnicoId() {
+            return tecnico(fila);
+        }
+
+        public long getMilisCreacion() {
+            return creacion(fila);
+        }
+
+        /**
+         * @return Milisegundos de la resolución, o Long.MIN_VALUE si no se ha
+         *         resuelto
+         */
+        public long getMilisResolucion() {
+            return resolucion(fila);
+        }
+
+        public LocalDateTime getFechaCreacion() {
+            return deMilis(creacion(fila));
+        }
+
+        public LocalDateTime getFechaResolucion() {
+            long milis = resolucion(fila);
+            return milis == SIN_FECHA ? null : deMilis(milis);
+        }
+
+        /**
+         * Calcula el tiempo transcurrido desde la creación hasta la
+         * resolución (o hasta ahora si aún no se resuelve).
+         *
+         * @return Duración en minutos
+         */
+        public long tiempoTranscurrido() {
+            long fin = resolucion(fila);
+            if (fin == SIN_FECHA) {
+                fin = aMilis(LocalDateTime.now());
+            }
+            return Duration.ofMillis(fin - creacion(fila)).toMinutes();
+        }
+
+        @Override
+        public String toString() {
+            return "Ticket{" +
+                    "id=" + getId() +
+                    ", descripcion='" + getDescripcion() + '\'' +
+                    ", categoria=" + getCategoria() +
+                    ", estado=" + getEstado() +
+                    ", clienteId=" + getClienteId() +
+                    ", tecnicoId=" + getTecnicoId() +
+                    '}';
+        }
+    }
+
+    private Bag<Vista> filtrar(Categoria categoria, Estado estado) {
+        Bag<Vista> resultado = new Bag<>();
+        for (int i = 0; i < size; i++) {
+            if ((categoria == null || categoria(i) == categoria.ordinal())
+                    && (estado == null || estado(i) == estado.ordinal())) {
+                resultado.add(new Vista(i));
+            }
+        }
+        return resultado;
+    }
+
+    private void moverContador(int fila, byte nuevo) {
+        byte anterior = estado(fila);
+        porEstado[anterior]--;
+        porEstado[nuevo]++;
+        int[] porEstadoDeCategoria = porCategoriaYEstado[categoria(fila)];
+        porEstadoDeCategoria[anterior]--;
+        porEstadoDeCategoria[nuevo]++;
+        setEstado(fila, nuevo);
+    }
+
+    private void indexar(int id, int fila) {
+        if ((size + 1) * 2 > claves.length) {
+            int[] viejasClaves = claves;
+            int[] viejasFilas = filas;
+            claves = new int[viejasClaves.length * 2];
+            filas = new int[viejasClaves.length * 2];
+            for (int j = 0; j < viejasClaves.length; j++) {
+                if (viejasFilas[j] != 0) {
+                    insertar(viejasClaves[j], viejasFilas[j]);
+                }
+            }
+        }
+        insertar(id, fila + 1);
+    }
+
+    private void insertar(int clave, int valor) {
+        int mascara = claves.length - 1;
+        int i = indiceInicial(clave, mascara);
+        while (filas[i] != 0) {
+            i = (i + 1) & mascara;
+        }
+        claves[i] = clave;
+        filas[i] = valor;
+    }
+
+    private int posicionEnIndice(int id) {
+        int mascara = claves.length - 1;
+        int i = indiceInicial(id, mascara);
+        while (filas[i] == 0 || claves[i] != id) {
+            i = (i + 1) & mascara;
+        }
+        return i;
+    }
+
+    private void reindexar(int id, int fila) {
+        filas[posicionEnIndice(id)] = fila + 1;
+    }
+
+    /**
+     * Borra un ID del índice corriendo hacia atrás las claves siguientes de
+     * su grupo que quedarían inalcanzables, así no hacen falta lápidas.
+     */
+    private void desindexar(int id) {
+        int mascara = claves.length - 1;
+        int hueco = posicionEnIndice(id);
+        int j = hueco;
+        while (true) {
+            j = (j + 1) & mascara;
+            if (filas[j] == 0) {
+                break;
+            }
+            int inicial = indiceInicial(claves[j], mascara);
+            // La clave en j sigue alcanzable si su posición inicial está en (hueco, j]
+            boolean alcanzable = (hueco <= j) ? (hueco < inicial && inicial <= j)
+                    : (hueco < inicial || inicial <= j);
+            if (!alcanzable) {
+                claves[hueco] = claves[j];
+                filas[hueco] = filas[j];
+                hueco = j;
+            }
+        }
+        filas[hueco] = 0;
+    }
+
+    private static int indiceInicial(int clave, int mascara) {
+        int h = clave * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & mascara;
+    }
+
+    private void verificarFila(int fila) {
+        if (fila < 0 || fila >= size) {
+            throw new IndexOutOfBoundsException("Fila fuera de rango: " + fila);
+        }
+    }
+
+    /**
+     * Tamaño aproximado de una referencia: 4 bytes con punteros comprimidos
+     * (heaps de menos de 32 GB), 8 en otro caso.
+     */
+    static int referencia() {
+        return Runtime.getRuntime().maxMemory() < (32L << 30) ? 4 : 8;
+    }
+
+    static long aMilis(LocalDateTime fecha) {
+        return fecha.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    static LocalDateTime deMilis(long milis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(milis), ZoneOffset.UTC);
+    }
+
+    /**
+     * Método main con casos de prueba para ambas implementaciones y
+     * comparación de memoria.
+     */
+    public static void main(String[] args) {
+        System.out.println("=== Pruebas de TicketTable ===\n");
+
+        Cliente cliente = new Cliente(1, "Juan Pérez", "juan@example.com");
+        TicketTable[] implementaciones = { enHeap(16), fueraDelHeap(16) };
+
+        for (TicketTable tabla : implementaciones) {
+            String nombre = tabla.getClass().getSimpleName();
+
+            // Test 1: Agregar y leer por vista
+            int fila = tabla.agregar(1, "Sin internet en el piso 3", Categoria.RED, 1, 1_000L);
+            TicketTable.Vista vista = tabla.buscarTicketPorId(1);
+            assert vista.getFila() == fila : "Test 1 falló: Fila incorrecta";
+            assert vista.getEstado() == Estado.NUEVO : "Test 1 falló: Estado inicial incorrecto";
+            assert vista.getCategoria() == Categoria.RED : "Test 1 falló: Categoría incorrecta";
+            assert vista.getDescripcion().equals("Sin internet en el piso 3") : "Test 1 falló: Descripción";
+            assert vista.getTecnicoId() == -1 : "Test 1 falló: No debería tener técnico";
+            assert tabla.buscarTicketPorId(2) == null : "Test 1 falló: El ticket 2 no existe";
+            System.out.println("✓ Test 1 pasado (" + nombre + "): Agregar y consultar por vista");
+
+            // Test 2: Ciclo de vida con las reglas de Ticket
+            try {
+                tabla.cambiarEstado(fila, Estado.EN_PROGRESO);
+                assert false : "Test 2 falló: No debería pasar a EN_PROGRESO sin técnico";
+            } catch (IllegalStateException e) {
+                // Esperado
+            }
+            tabla.asignarTecnico(fila, 7);
+            tabla.cambiarEstado(fila, Estado.EN_PROGRESO);
+            tabla.resolver(fila, 61_000L);
+            tabla.cambiarEstado(fila, Estado.CERRADO);
+            assert vista.getEstado() == Estado.CERRADO : "Test 2 falló: La vista no refleja el cambio";
+            assert vista.tiempoTranscurrido() == 1 : "Test 2 falló: Tiempo transcurrido incorrecto";
+            System.out.println("✓ Test 2 pasado (" + nombre + "): Transiciones de estado");
+
+            // Test 3: Copia desde Ticket y consultas como en TicketSystem
+            Ticket ticket = new Ticket(2, "Impresora atascada ñ", Categoria.HARDWARE, cliente);
+            ticket.asignarTecnico(new Tecnico(3, "Ana", Categoria.HARDWARE));
+            tabla.agregar(ticket);
+            assert tabla.buscarTicketPorId(2).getEstado() == Estado.ASIGNADO : "Test 3 falló: Estado no copiado";
+            assert tabla.buscarTicketPorId(2).getTecnicoId() == 3 : "Test 3 falló: Técnico no copiado";
+            assert tabla.buscarTicketPorId(2).getDescripcion().equals("Impresora atascada ñ")
+                    : "Test 3 falló: Descripción no copiada";
+            assert tabla.contar(Estado.CERRADO) == 1 : "Test 3 falló: Conteo por estado";
+            assert tabla.contarTickets(Categoria.HARDWARE, Estado.ASIGNADO) == 1 : "Test 3 falló: Conteo combinado";
+            assert tabla.obtenerTicketsPorEstado(Estado.ASIGNADO).size() == 1 : "Test 3 falló: Consulta por estado";
+            assert tabla.obtenerTicketsPorCategoria(Categoria.RED).size() == 1 : "Test 3 falló: Consulta por categoría";
+            assert tabla.obtenerEstadisticas().getTotalTickets() == 2 : "Test 3 falló: Estadísticas";
+            int recorridos = 0;
+            for (TicketTable.Vista v : tabla) {
+                recorridos += v.getId();
+            }
+            assert recorridos == 3 : "Test 3 falló: Iteración incorrecta";
+            System.out.println("✓ Test 3 pasado (" + nombre + "): Copia desde Ticket y consultas");
+        }
+
+        // Test 4: Crecimiento fuera del heap más allá de un segmento
+        TicketTable grandeFuera = fueraDelHeap(16);
+        int filas = 150_000;
+        for (int i = 0; i < filas; i++) {
+            grandeFuera.agregar(i, "Descripción " + i, Categoria.values()[i % 5], i % 100, i);
+        }
+        assert grandeFuera.buscarTicketPorId(filas - 1).getDescripcion().equals("Descripción " + (filas - 1))
+                : "Test 4 falló: Descripción del último ticket";
+        assert grandeFuera.buscarTicketPorId(70_000).getClienteId() == 0 : "Test 4 falló: Cliente";
+        assert grandeFuera.obtenerTicketsPorCategoria(Categoria.RED).size() == filas / 5
+                : "Test 4 falló: Consulta por categoría";
+        System.out.println("✓ Test 4 pasado: Varios segmentos fuera del heap");
+        grandeFuera = null;
+
+        // Test 5: Copiar un TicketSystem con tickets archivados
+        TicketSystem sistema = new TicketSystem();
+        sistema.agregarTecnico(new Tecnico(1, "Carlos", Categoria.RED));
+        Ticket cerrado = sistema.crearTicket("VPN caída", Categoria.RED, cliente);
+        sistema.crearTicket("Base de datos lenta", Categoria.BASE_DE_DATOS, cliente);
+        sistema.asignarTicketAutomatico();
+        sistema.cambiarEstadoTicket(cerrado.getId(), Estado.EN_PROGRESO);
+        sistema.resolverTicket(cerrado.getId());
+        sistema.cerrarTicket(cerrado.getId());
+        sistema.archivarCerrados();
+        TicketTable copia = fueraDelHeap(16);
+        assert copia.agregarTodos(sistema) == 2 : "Test 5 falló: Número de tickets copiados";
+        assert copia.buscarTicketPorId(cerrado.getId()).getEstado() == Estado.CERRADO
+                : "Test 5 falló: El ticket archivado debería estar cerrado";
+        assert copia.obtenerEstadisticas().getTickets(Estado.NUEVO) == 1 : "Test 5 falló: Estadísticas";
+        System.out.println("✓ Test 5 pasado: Copia de un TicketSystem");
+
+        // Test 6: IDs dispersos sin reservar un índice proporcional al mayor ID
+        TicketTable dispersa = enHeap(16);
+        long bytesIniciales = dispersa.getBytesReservados();
+        dispersa.agregar(Integer.MAX_VALUE, "ID máximo", Categoria.RED, 1, 0L);
+        dispersa.agregar(0, "ID cero", Categoria.RED, 1, 0L);
+        for (int i = 1; i <= 100; i++) {
+            dispersa.agregar(i * 1_000_003, "Disperso " + i, Categoria.APLICACION, 1, 0L);
+        }
+        assert dispersa.buscarTicketPorId(Integer.MAX_VALUE).getDescripcion().equals("ID máximo")
+                : "Test 6 falló: ID máximo no encontrado";
+        assert dispersa.buscarTicketPorId(0).getDescripcion().equals("ID cero") : "Test 6 falló: ID cero";
+        assert dispersa.buscarTicketPorId(50 * 1_000_003).getDescripcion().equals("Disperso 50")
+                : "Test 6 falló: ID disperso no encontrado";
+        assert dispersa.buscarTicketPorId(1_000_004) == null : "Test 6 falló: ID inexistente encontrado";
+        assert dispersa.getBytesReservados() < bytesIniciales + 64 * 1024 : "Test 6 falló: Índice demasiado grande";
+        try {
+            dispersa.agregar(Integer.MAX_VALUE, "Repetido", Categoria.RED, 1, 0L);
+            assert false : "Test 6 falló: Debería rechazar el ID repetido";
+        } catch (IllegalArgumentException e) {
+            // Esperado
+        }
+        System.out.println("✓ Test 6 pasado: IDs dispersos");
+
+        // Test 7: Quitar filas en O(1) sin perder el índice por ID
+        for (TicketTable tabla : new TicketTable[] { enHeap(16), fueraDelHeap(16) }) {
+            for (int i = 0; i < 1000; i++) {
+                tabla.agregar(i * 7, "Fila " + i, Categoria.values()[i % 5], 1, i);
+            }
+            for (int i = 0; i < 1000; i += 2) {
+                assert tabla.remover(i * 7) : "Test 7 falló: No se quitó el ticket " + i * 7;
+            }
+            assert !tabla.remover(0) : "Test 7 falló: Un ticket quitado no debería estar";
+            assert tabla.size() == 500 : "Test 7 falló: Tamaño incorrecto";
+            for (int i = 0; i < 1000; i++) {
+                TicketTable.Vista vista = tabla.buscarTicketPorId(i * 7);
+                assert (vista != null) == (i % 2 == 1) : "Test 7 falló: Búsqueda del ticket " + i * 7;
+                assert vista == null || vista.getDescripcion().equals("Fila " + i) : "Test 7 falló: Fila movida mal";
+            }
+            assert tabla.contar(Estado.NUEVO) == 500 : "Test 7 falló: Conteo por estado";
+            assert tabla.contarTickets(Categoria.RED, Estado.NUEVO) == 100 : "Test 7 falló: Conteo combinado";
+            tabla.agregar(0, "Reinsertado", Categoria.RED, 1, 0L);
+            assert tabla.buscarTicketPorId(0).getFila() == 500 : "Test 7 falló: Reinsertar al final";
+        }
+        System.out.println("✓ Test 7 pasado: Quitar filas");
+
+        // Test 8: Tabla conectada a un TicketSystem, comparada con los índices
+        for (TicketTable tabla : new TicketTable[] { enHeap(16), fueraDelHeap(16) }) {
+            String nombre = tabla.getClass().getSimpleName();
+            TicketSystem conIndices = new TicketSystem();
+            TicketSystem conTabla = new TicketSystem();
+            conTabla.crearTicket("Anterior a la tabla", Categoria.SEGURIDAD, cliente);
+            conIndices.crearTicket("Anterior a la tabla", Categoria.SEGURIDAD, cliente);
+            conTabla.configurarTabla(tabla);
+            assert tabla.size() == 1 : "Test 8 falló: La tabla no recibió los tickets existentes";
+            for (TicketSystem s : new TicketSystem[] { conIndices, conTabla }) {
+                s.agregarTecnico(new Tecnico(1, "Carlos", Categoria.RED));
+                s.agregarTecnico(new Tecnico(2, "Ana", Categoria.RED));
+                for (int i = 0; i < 30; i++) {
+                    s.crearTicket("Caso " + i, (i % 3 == 0) ? Categoria.HARDWARE : Categoria.RED, cliente);
+                }
+                Ticket primero = s.asignarTicketAutomatico();
+                Ticket segundo = s.asignarTicketAutomatico();
+                s.cambiarEstadoTicket(primero.getId(), Estado.EN_PROGRESO);
+                s.resolverTicket(primero.getId());
+                s.cerrarTicket(primero.getId());
+                segundo.cambiarEstado(Estado.EN_PROGRESO);
+                Tecnico externo = new Tecnico(9, "Externo", Categoria.HARDWARE);
+                s.asignarTicketManual(s.buscarTicketPorId(5), externo);
+                s.asignarTicketManual(s.buscarTicketPorId(5), new Tecnico(10, "Otro externo", Categoria.HARDWARE));
+                s.archivarCerrados();
+            }
+            for (Estado estado : Estado.values()) {
+                int esperados = conIndices.obtenerTicketsPorEstado(estado).size();
+                assert conTabla.obtenerTicketsPorEstado(estado).size() == esperados
+                        : "Test 8 falló: Consulta por estado " + estado + " (" + nombre + ")";
+                for (Categoria categoria : Categoria.values()) {
+                    assert conTabla.contarTickets(categoria, estado) == conIndices.contarTickets(categoria, estado)
+                            : "Test 8 falló: Conteo de " + categoria + "/" + estado;
+                    assert conTabla.obtenerTickets(categoria, estado).size()
+                            == conIndices.obtenerTickets(categoria, estado).size()
+                            : "Test 8 falló: Consulta combinada";
+                }
+            }
+            for (Categoria categoria : Categoria.values()) {
+                assert conTabla.obtenerTicketsPorCategoria(categoria).size()
+                        == conIndices.obtenerTicketsPorCategoria(categoria).size()
+                        : "Test 8 falló: Consulta por categoría";
+            }
+            assert conTabla.generarEstadisticas().equals(conIndices.generarEstadisticas())
+                    : "Test 8 falló: Estadísticas distintas (" + nombre + ")";
+            assert tabla.size() == conTabla.getTodosLosTickets().size()
+                    : "Test 8 falló: El archivado sigue en la tabla";
+            assert tabla.buscarTicketPorId(4).getEstado() == Estado.EN_PROGRESO
+                    : "Test 8 falló: Cambio directo sobre el ticket no reflejado";
+            assert tabla.buscarTicketPorId(5).getTecnicoId() == 10 : "Test 8 falló: Reasignación no reflejada";
+            int enProgreso = 0;
+            for (Iterator<Ticket> it = conTabla.iteradorPorEstado(Estado.EN_PROGRESO); it.hasNext();) {
+                assert it.next().getEstado() == Estado.EN_PROGRESO : "Test 8 falló: Iterador por estado";
+                enProgreso++;
+            }
+            assert enProgreso == 1 : "Test 8 falló: Iterador por estado incompleto";
+
+            conTabla.configurarTabla(null);
+            assert conTabla.getTabla() == null : "Test 8 falló: La tabla sigue conectada";
+            assert conTabla.obtenerTicketsPorEstado(Estado.NUEVO).size()
+                    == conIndices.obtenerTicketsPorEstado(Estado.NUEVO).size()
+                    : "Test 8 falló: Índices no reconstruidos";
+            assert conTabla.generarEstadisticas().equals(conIndices.generarEstadisticas())
+                    : "Test 8 falló: Estadísticas tras volver a los índices";
+            try {
+                conTabla.configurarTabla(tabla);
+                assert false : "Test 8 falló: Debería rechazar una tabla con tickets";
+            } catch (IllegalArgumentException e) {
+                // Esperado
+            }
+            System.out.println("✓ Test 8 pasado (" + nombre + "): Consultas de TicketSystem desde la tabla");
+        }
+
+        // Comparación de memoria: objetos Ticket contra filas de cada tabla
+        int n = 200_000;
+        String descripcion = "Descripción compartida";
+        long antes = memoriaUsada();
+        Ticket[] objetos = new Ticket[n];
+        for (int i = 0; i < n; i++) {
+            objetos[i] = new Ticket(i, descripcion, Categoria.RED, cliente);
+        }
+        long bytesObjetos = memoriaUsada() - antes;
+        assert objetos[n - 1] != null;
+        objetos = null;
+        System.out.printf("Bytes por ticket en el heap: Ticket %.1f", bytesObjetos / (double) n);
+
+        for (int k = 0; k < 2; k++) {
+            antes = memoriaUsada();
+            TicketTable tabla = (k == 0) ? enHeap(n) : fueraDelHeap(n);
+            for (int i = 0; i < n; i++) {
+                tabla.agregar(i, descripcion, Categoria.RED, 1, i);
+            }
+            long bytesHeap = memoriaUsada() - antes;
+            assert tabla.size() == n;
+            System.out.printf(", %s %.1f (reservados %.1f)", tabla.getClass().getSimpleName(),
+                    bytesHeap / (double) n, tabla.getBytesReservados() / (double) n);
+        }
+        System.out.println();
+
+        System.out.println("\n=== Todas las pruebas de TicketTable pasaron ===");
+    }
+
+    private static long memoriaUsada() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Taller Práctico 01 - Sistema de Gestión de Tickets
+ * Estructuras de Datos y Algoritmos - 2026-10
+ *
+ * Integrantes:
+ * - [Nombre Completo 1] - ID: [ID1]
+ * - [Nombre Completo 2] - ID: [ID2]
+ * - [Nombre Completo 3] - ID: [ID3]
+ */
+
+package ticketsystem.adt;
+
+import ticketsystem.enums.Estado;
+import java.util.Arrays;
+
+/**
+ * TicketTable por columnas (struct of arrays) en el heap: cada campo vive
+ * en su propio arreglo primitivo, así que los recorridos por estado o
+ * categoría leen solo la columna que necesitan. Las descripciones son la
+ * única columna de referencias.
+ */
+public final class TicketTableEnHeap extends TicketTable {
+
+    private int[] ids;
+    private byte[] estados;
+    private byte[] categorias;
+    private int[] clientes;
+    private int[] tecnicos;
+    private long[] creacion;
+    private long[] resolucion;
+    private String[] descripciones;
+
+    /**
+     * Constructor que crea una tabla vacía con capacidad para el número
+     * esperado de tickets sin redimensionar.
+     *
+     * @param capacidadEsperada Número esperado de tickets
+     */
+    public TicketTableEnHeap(int capacidadEsperada) {
+        super(capacidadEsperada);
+        int capacidad = Math.max(capacidadEsperada, 16);
+        this.ids = new int[capacidad];
+        this.estados = new byte[capacidad];
+        this.categorias = new byte[capacidad];
+        this.clientes = new int[capacidad];
+        this.tecnicos = new int[capacidad];
+        this.creacion = new long[capacidad];
+        this.resolucion = new long[capacidad];
+        this.descripciones = new String[capacidad];
+    }
+
+    @Override
+    protected void escribirFila(int fila, int id, String descripcion, byte categoria,
+            int clienteId, long milisCreacion) {
+        if (fila == ids.length) {
+            redimensionar(ids.length * 2);
+        }
+        ids[fila] = id;
+        estados[fila] = (byte) Estado.NUEVO.ordinal();
+        categorias[fila] = categoria;
+        clientes[fila] = clienteId;
+        tecnicos[fila] = -1;
+        creacion[fila] = milisCreacion;
+        resolucion[fila] = SIN_FECHA;
+        descripciones[fila] = descripcion;
+    }
+
+    @Override
+    protected int id(int fila) {
+        return ids[fila];
+    }
+
+    @Override
+    protected byte estado(int fila) {
+        return estados[fila];
+    }
+
+    @Override
+    protected void setEstado(int fila, byte estado) {
+        estados[fila] = estado;
+    }
+
+    @Override
+    protected byte categoria(int fila) {
+        return categorias[fila];
+    }
+
+    @Override
+    protected int cliente(int fila) {
+        return clientes[fila];
+    }
+
+    @Override
+    protected int tecnico(int fila) {
+        return tecnicos[fila];
+    }
+
+    @Override
+    protected void setTecnico(int fila, int tecnicoId) {
+        tecnicos[fila] = tecnicoId;
+    }
+
+    @Override
+    protected long creacion(int fila) {
+        return creacion[fila];
+    }
+
+    @Override
+    protected long resolucion(int fila) {
+        return resolucion[fila];
+    }
+
+    @Override
+    protected void setResolucion(int fila, long milis) {
+        resolucion[fila] = milis;
+    }
+
+    @Override
+    protected String descripcion(int fila) {
+        return descripciones[fila];
+    }
+
+    @Override
+    protected void moverFila(int desde, int hacia) {
+        ids[hacia] = ids[desde];
+        estados[hacia] = estados[desde];
+        categorias[hacia] = categorias[desde];
+        clientes[hacia] = clientes[desde];
+        tecnicos[hacia] = tecnicos[desde];
+        creacion[hacia] = creacion[desde];
+        resolucion[hacia] = resolucion[desde];
+        descripciones[hacia] = descripciones[desde];
+    }
+
+    @Override
+    protected void liberarFila(int fila) {
+        descripciones[fila] = null;
+    }
+
+    @Override
+    protected long bytesFilas() {
+        long porFila = 4 + 1 + 1 + 4 + 4 + 8 + 8 + referencia();
+        return porFila * ids.length;
+    }
+
+    private void redimensionar(int capacidad) {
+        ids = Arrays.copyOf(ids, capacidad);
+        estados = Arrays.copyOf(estados, capacidad);
+        categorias = Arrays.copyOf(categorias, capacidad);
+        clientes = Arrays.copyOf(clientes, capacidad);
+        tecnicos = Arrays.copyOf(tecnicos, capacidad);
+        creacion = Arrays.copyOf(creacion, capacidad);
+        resolucion = Arrays.copyOf(resolucion, capacidad);
+        descripciones = Arrays.copyOf(descripciones, capacidad);
+    }
+}
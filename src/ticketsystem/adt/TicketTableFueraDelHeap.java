@@ -0,0 +1,197 @@
+/*
+ * Taller Práctico 01 - Sistema de Gestión de Tickets
+ * Estructuras de Datos y Algoritmos - 2026-10
+ *
+ * Integrantes:
+ * - [Nombre Completo 1] - ID: [ID1]
+ * - [Nombre Completo 2] - ID: [ID2]
+ * - [Nombre Completo 3] - ID: [ID3]
+ */
+
+package ticketsystem.adt;
+
+import ticketsystem.enums.Estado;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+
+/**
+ * TicketTable con las filas fuera del heap. Cada ticket es un registro de
+ * ancho fijo (40 bytes) dentro de buffers directos de 65536 registros; las
+ * descripciones se guardan en UTF-8 en una arena de texto aparte, también
+ * en buffers directos, y el registro solo guarda su posición.
+ *
+ * Formato del registro:
+ * [id int][estado byte][categoria byte][relleno 2][cliente int][tecnico int]
+ * [creacion long][resolucion long][posición de la descripción long]
+ *
+ * En el heap solo quedan los objetos ByteBuffer de cada segmento y el
+ * índice por ID (dos int[] sin referencias), así que el GC no recorre nada
+ * proporcional al número de tickets. La memoria directa se libera cuando se
+ * recolecta la tabla.
+ *
+ * La arena de texto solo crece: al quitar un ticket, su registro se
+ * reutiliza pero su descripción sigue ocupando la arena.
+ */
+public final class TicketTableFueraDelHeap extends TicketTable {
+
+    private static final int BITS_SEGMENTO = 16;
+    private static final int FILAS_POR_SEGMENTO = 1 << BITS_SEGMENTO;
+    private static final int BYTES_REGISTRO = 40;
+    private static final int TAMANO_BLOQUE_TEXTO = 1 << 20;
+
+    // Desplazamientos de cada campo dentro del registro
+    private static final int ID = 0;
+    private static final int ESTADO = 4;
+    private static final int CATEGORIA = 5;
+    private static final int CLIENTE = 8;
+    private static final int TECNICO = 12;
+    private static final int CREACION = 16;
+    private static final int RESOLUCION = 24;
+    private static final int TEXTO = 32;
+
+    private final ArrayList<ByteBuffer> segmentos;
+
+    // Arena de descripciones: [longitud int][UTF-8], posición = bloque << 32 | desplazamiento
+    private final ArrayList<ByteBuffer> bloquesTexto;
+
+    /**
+     * Constructor que crea una tabla vacía.
+     *
+     * @param capacidadEsperada Número esperado de tickets (dimensiona el
+     *                          índice por ID)
+     */
+    public TicketTableFueraDelHeap(int capacidadEsperada) {
+        super(capacidadEsperada);
+        this.segmentos = new ArrayList<>();
+        this.bloquesTexto = new ArrayList<>();
+    }
+
+    @Override
+    protected void escribirFila(int fila, int id, String descripcion, byte categoria,
+            int clienteId, long milisCreacion) {
+        if ((fila >>> BITS_SEGMENTO) == segmentos.size()) {
+            segmentos.add(ByteBuffer.allocateDirect(FILAS_POR_SEGMENTO * BYTES_REGISTRO)
+                    .order(ByteOrder.nativeOrder()));
+        }
+        ByteBuffer segmento = segmento(fila);
+        int base = base(fila);
+        segmento.putInt(base + ID, id);
+        segmento.put(base + ESTADO, (byte) Estado.NUEVO.ordinal());
+        segmento.put(base + CATEGORIA, categoria);
+        segmento.putInt(base + CLIENTE, clienteId);
+        segmento.putInt(base + TECNICO, -1);
+        segmento.putLong(base + CREACION, milisCreacion);
+        segmento.putLong(base + RESOLUCION, SIN_FECHA);
+        segmento.putLong(base + TEXTO, guardarTexto(descripcion));
+    }
+
+    @Override
+    protected int id(int fila) {
+        return segmento(fila).getInt(base(fila) + ID);
+    }
+
+    @Override
+    protected byte estado(int fila) {
+        return segmento(fila).get(base(fila) + ESTADO);
+    }
+
+    @Override
+    protected void setEstado(int fila, byte estado) {
+        segmento(fila).put(base(fila) + ESTADO, estado);
+    }
+
+    @Override
+    protected byte categoria(int fila) {
+        return segmento(fila).get(base(fila) + CATEGORIA);
+    }
+
+    @Override
+    protected int cliente(int fila) {
+        return segmento(fila).getInt(base(fila) + CLIENTE);
+    }
+
+    @Override
+    protected int tecnico(int fila) {
+        return segmento(fila).getInt(base(fila) + TECNICO);
+    }
+
+    @Override
+    protected void setTecnico(int fila, int tecnicoId) {
+        segmento(fila).putInt(base(fila) + TECNICO, tecnicoId);
+    }
+
+    @Override
+    protected long creacion(int fila) {
+        return segmento(fila).getLong(base(fila) + CREACION);
+    }
+
+    @Override
+    protected long resolucion(int fila) {
+        return segmento(fila).getLong(base(fila) + RESOLUCION);
+    }
+
+    @Override
+    protected void setResolucion(int fila, long milis) {
+        segmento(fila).putLong(base(fila) + RESOLUCION, milis);
+    }
+
+    @Override
+    protected String descripcion(int fila) {
+        long posicion = segmento(fila).getLong(base(fila) + TEXTO);
+        ByteBuffer bloque = bloquesTexto.get((int) (posicion >>> 32));
+        int inicio = (int) posicion;
+        byte[] texto = new byte[bloque.getInt(inicio)];
+        bloque.get(inicio + 4, texto);
+        return new String(texto, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    protected void moverFila(int desde, int hacia) {
+        segmento(hacia).put(base(hacia), segmento(desde), base(desde), BYTES_REGISTRO);
+    }
+
+    @Override
+    protected void liberarFila(int fila) {
+        // El registro se reutiliza en el próximo alta; su texto queda en la arena
+    }
+
+    @Override
+    protected long bytesFilas() {
+        long total = (long) segmentos.size() * FILAS_POR_SEGMENTO * BYTES_REGISTRO;
+        for (ByteBuffer bloque : bloquesTexto) {
+            total += bloque.capacity();
+        }
+        return total;
+    }
+
+    /**
+     * Copia una descripción al final de la arena de texto. Un texto que no
+     * cabe en un bloque normal recibe un bloque propio.
+     *
+     * @return Posición del texto en la arena
+     */
+    private long guardarTexto(String descripcion) {
+        byte[] texto = descripcion.getBytes(StandardCharsets.UTF_8);
+        int necesario = 4 + texto.length;
+        ByteBuffer bloque = bloquesTexto.isEmpty() ? null : bloquesTexto.get(bloquesTexto.size() - 1);
+        if (bloque == null || bloque.remaining() < necesario) {
+            bloque = ByteBuffer.allocateDirect(Math.max(TAMANO_BLOQUE_TEXTO, necesario))
+                    .order(ByteOrder.nativeOrder());
+            bloquesTexto.add(bloque);
+        }
+        long posicion = ((long) (bloquesTexto.size() - 1) << 32) | bloque.position();
+        bloque.putInt(texto.length);
+        bloque.put(texto);
+        return posicion;
+    }
+
+    private ByteBuffer segmento(int fila) {
+        return segmentos.get(fila >>> BITS_SEGMENTO);
+    }
+
+    private static int base(int fila) {
+        return (fila & (FILAS_POR_SEGMENTO - 1)) * BYTES_REGISTRO;
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Taller Práctico 01 - Sistema de Gestión de Tickets
+ * Estructuras de Datos y Algoritmos - 2026-10
+ *
+ * Integrantes:
+ * - [Nombre Completo 1] - ID: [ID1]
+ * - [Nombre Completo 2] - ID: [ID2]
+ * - [Nombre Completo 3] - ID: [ID3]
+ */
+
+package ticketsystem.carga;
+
+import ticketsystem.adt.Cliente;
+import ticketsystem.adt.Tecnico;
+import ticketsystem.adt.TicketSystem;
+import ticketsystem.datastructures.IntMap;
+import ticketsystem.enums.Categoria;
+import ticketsystem.enums.Estado;
+import ticketsystem.interfaces.SistemaReproducible;
+
+/**
+ * Adapta un ticketsystem.adt.TicketSystem para reproducir trazas. Los
+ * clientes se crean la primera vez que aparece su ID.
+ */
+public class AdaptadorTicketSystem implements SistemaReproducible {
+
+    private final TicketSystem sistema;
+    private final IntMap<Cliente> clientes;
+
+    /**
+     * Constructor del adaptador.
+     *
+     * @param sistema Sistema sobre el que se reproducen las operaciones
+     */
+    public AdaptadorTicketSystem(TicketSystem sistema) {
+        if (sistema == null) {
+            throw new IllegalArgumentException("El sistema no puede ser null");
+        }
+        this.sistema = sistema;
+        this.clientes = new IntMap<>();
+    }
+
+    @Override
+    public void agregarTecnico(int tecnicoId, Categoria especialidad) {
+        sistema.agregarTecnico(new Tecnico(tecnicoId, "Técnico " + tecnicoId, especialidad));
+    }
+
+    @Override
+    public int crearTicket(String descripcion, Categoria categoria, int clienteId) {
+        Cliente cliente = clientes.get(clienteId);
+        if (cliente == null) {
+            cliente = new Cliente(clienteId, "Cliente " + clienteId, "cliente" + clienteId + "@example.com");
+            clientes.put(clienteId, cliente);
+        }
+        return sistema.crearTicket(descripcion, categoria, cliente).getId();
+    }
+
+    @Override
+    public boolean asignarTicketAutomatico() {
+        return sistema.asignarTicketAutomatico() != null;
+    }
+
+    @Override
+    public void cambiarEstadoTicket(int ticketId, Estado nuevoEstado) {
+        sistema.cambiarEstadoTicket(ticketId, nuevoEstado);
+    }
+
+    @Override
+    public void resolverTicket(int ticketId) {
+        sistema.resolverTicket(ticketId);
+    }
+
+    @Override
+    public void cerrarTicket(int ticketId) {
+        sistema.cerrarTicket(ticketId);
+    }
+
+    @Override
+    public int consultarTicketsPorEstado(Estado estado) {
+        return sistema.obtenerTicketsPorEstado(estado).size();
+    }
+
+    @Override
+    public Object consultarEstadisticas() {
+        return sistema.obtenerEstadisticas();
+    }
+
+    public TicketSystem getSistema() {
+        return sistema;
+    }
+}
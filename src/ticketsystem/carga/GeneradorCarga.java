@@ -0,0 +1,362 @@
+/*
+ * Taller Práctico 01 - Sistema de Gestión de Tickets
+ * Estructuras de Datos y Algoritmos - 2026-10
+ *
+ * Integrantes:
+ * - [Nombre Completo 1] - ID: [ID1]
+ * - [Nombre Completo 2] - ID: [ID2]
+ * - [Nombre Completo 3] - ID: [ID3]
+ */
+
+package ticketsystem.carga;
+
+import ticketsystem.enums.Categoria;
+import ticketsystem.enums.Estado;
+import ticketsystem.enums.TipoOperacion;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.PriorityQueue;
+import java.util.SplittableRandom;
+
+/**
+ * Generador de trazas sintéticas. Simula un centro de soporte con llegadas
+ * de Poisson, categorías con pesos configurables, tiempos de resolución
+ * log-normales y consultas intercaladas, y registra las operaciones que
+ * haría un TicketSystem: crear, asignar, poner en progreso, resolver,
+ * cerrar y consultar.
+ *
+ * La simulación asigna igual que TicketSystem (cola FIFO por categoría y
+ * técnicos libres por especialidad), así que la traza se reproduce sin
+ * fallos sobre ticketsystem. Con configurarColaUnica la simulación usa la
+ * cola FIFO global de javaOptimo, y la traza se reproduce sin fallos sobre
+ * ambos. La misma semilla y configuración producen siempre la misma traza.
+ */
+public class GeneradorCarga {
+
+    private static final Categoria[] CATEGORIAS = Categoria.values();
+    private static final Estado[] ESTADOS = Estado.values();
+    private static final long MICROS_POR_MINUTO = 60_000_000L;
+
+    private final long semilla;
+    private final double[] pesos;
+    private double ticketsPorMinuto;
+    private double medianaResolucion;
+    private double dispersionResolucion;
+    private double minutosHastaCierre;
+    private double consultasPorTicket;
+    private boolean colaUnica;
+
+    /**
+     * Evento pendiente de la simulación (resolución o cierre de un ticket).
+     */
+    private static class Evento implements Comparable<Evento> {
+        final long instante;
+        final long secuencia;
+        final TipoOperacion tipo;
+        final int ticket;
+
+        Evento(long instante, long secuencia, TipoOperacion tipo, int ticket) {
+            this.instante = instante;
+            this.secuencia = secuencia;
+            this.tipo = tipo;
+            this.ticket = ticket;
+        }
+
+        @Override
+        public int compareTo(Evento otro) {
+            int porInstante = Long.compare(instante, otro.instante);
+            return porInstante != 0 ? porInstante : Long.compare(secuencia, otro.secuencia);
+        }
+    }
+
+    /**
+     * Constructor con la configuración por defecto: todas las categorías
+     * con el mismo peso, 2 tickets por minuto, resolución con mediana de 30
+     * minutos y dispersión 1.0, cierre 60 minutos después de resolver y una
+     * consulta por ticket.
+     *
+     * @param semilla Semilla del generador aleatorio
+     */
+    public GeneradorCarga(long semilla) {
+        this.semilla = semilla;
+        this.pesos = new double[CATEGORIAS.length];
+        Arrays.fill(pesos, 1.0);
+        this.ticketsPorMinuto = 2.0;
+        this.medianaResolucion = 30.0;
+        this.dispersionResolucion = 1.0;
+        this.minutosHastaCierre = 60.0;
+        this.consultasPorTicket = 1.0;
+        this.colaUnica = false;
+    }
+
+    /**
+     * Configura el peso relativo de cada categoría (en el orden de
+     * Categoria.values()). Una categoría con peso 0 no recibe tickets ni
+     * técnicos.
+     *
+     * @param pesos Peso de cada categoría
+     * @throws IllegalArgumentException si falta algún peso, hay pesos negativos
+     *                                  o todos son 0
+     */
+    public void configurarCategorias(double... pesos) {
+        if (pesos == null || pesos.length != CATEGORIAS.length) {
+            throw new IllegalArgumentException("Se necesita un peso por categoría: " + CATEGORIAS.length);
+        }
+        double total = 0;
+        for (double peso : pesos) {
+            if (peso < 0) {
+                throw new IllegalArgumentException("Los pesos no pueden ser negativos: " + peso);
+            }
+            total += peso;
+        }
+        if (total == 0) {
+            throw new IllegalArgumentException("Al menos una categoría debe tener peso positivo");
+        }
+        System.arraycopy(pesos, 0, this.pesos, 0, pesos.length);
+    }
+
+    /**
+     * Configura la tasa de llegada de tickets (proceso de Poisson).
+     *
+     * @param ticketsPorMinuto Tickets nuevos por minuto
+     */
+    public void configurarLlegadas(double ticketsPorMinuto) {
+        if (!(ticketsPorMinuto > 0)) {
+            throw new IllegalArgumentException("La tasa de llegada debe ser positiva: " + ticketsPorMinuto);
+        }
+        this.ticketsPorMinuto = ticketsPorMinuto;
+    }
+
+    /**
+     * Configura la distribución log-normal del tiempo de resolución.
+     *
+     * @param medianaMinutos Mediana del tiempo de resolución
+     * @param dispersion     Desviación estándar del logaritmo (0 = constante)
+     */
+    public void configurarResolucion(double medianaMinutos, double dispersion) {
+        if (!(medianaMinutos > 0) || dispersion < 0) {
+            throw new IllegalArgumentException("Distribución de resolución inválida: mediana " + medianaMinutos
+                    + ", dispersión " + dispersion);
+        }
+        this.medianaResolucion = medianaMinutos;
+        this.dispersionResolucion = dispersion;
+    }
+
+    /**
+     * Configura el tiempo medio (exponencial) entre la resolución y el
+     * cierre de un ticket.
+     *
+     * @param minutos Minutos medios hasta el cierre
+     */
+    public void configurarCierre(double minutos) {
+        if (minutos < 0) {
+            throw new IllegalArgumentException("El tiempo hasta el cierre no puede ser negativo: " + minutos);
+        }
+        this.minutosHastaCierre = minutos;
+    }
+
+    /**
+     * Configura cuántas consultas (por estado o de estadísticas) se hacen en
+     * promedio por cada ticket creado.
+     *
+     * @param consultasPorTicket Consultas por ticket
+     */
+    public void configurarConsultas(double consultasPorTicket) {
+        if (consultasPorTicket < 0) {
+            throw new IllegalArgumentException("Las consultas no pueden ser negativas: " + consultasPorTicket);
+        }
+        this.consultasPorTicket = consultasPorTicket;
+    }
+
+    /**
+     * Configura si los tickets en espera forman una sola cola FIFO: el
+     * primero bloquea a los demás hasta que haya un técnico de su categoría,
+     * como en javaOptimo. La traza resultante se reproduce igual en
+     * ticketsystem y en javaOptimo. Por defecto hay una cola por categoría,
+     * como en TicketSystem.
+     *
+     * @param colaUnica true para usar una sola cola
+     */
+    public void configurarColaUnica(boolean colaUnica) {
+        this.colaUnica = colaUnica;
+    }
+
+    /**
+     * Genera una traza completa: registra los técnicos, crea los tickets y
+     * sigue la simulación hasta que todos están cerrados.
+     *
+     * @param tickets  Número de tickets a crear
+     * @param tecnicos Número de técnicos, repartidos por turnos entre las
+     *                 categorías con peso positivo
+     * @return Traza generada
+     * @throws IllegalArgumentException si hay menos técnicos que categorías
+     *                                  con peso positivo
+     */
+    public Traza generar(int tickets, int tecnicos) {
+        int activas = 0;
+        for (double peso : pesos) {
+            if (peso > 0) {
+                activas++;
+            }
+        }
+        if (tickets < 0 || tecnicos < activas) {
+            throw new IllegalArgumentException("Se necesita al menos un técnico por categoría activa: " + activas);
+        }
+
+        Simulacion simulacion = new Simulacion(tickets, tecnicos);
+        Traza traza = simulacion.traza;
+        SplittableRandom random = simulacion.random;
+
+        // Técnicos por turnos entre las categorías activas
+        int c = 0;
+        for (int j = 1; j <= tecnicos; j++) {
+            while (pesos[c] == 0) {
+                c = (c + 1) % CATEGORIAS.length;
+            }
+            traza.agregar(TipoOperacion.AGREGAR_TECNICO, c, j, 0, 0);
+            simulacion.libres[c]++;
+            c = (c + 1) % CATEGORIAS.length;
+        }
+
+        double[] acumulados = new double[CATEGORIAS.length];
+        double total = 0;
+        for (int k = 0; k < pesos.length; k++) {
+            total += pesos[k];
+            acumulados[k] = total;
+        }
+
+        double minuto = 0;
+        int creados = 0;
+        while (creados < tickets || !simulacion.eventos.isEmpty()) {
+            long llegada = Long.MAX_VALUE;
+            if (creados < tickets) {
+                minuto += exponencial(random, 1 / ticketsPorMinuto);
+                llegada = aMicros(minuto);
+            }
+
+            // Resolver y cerrar lo que ocurre antes de la próxima llegada
+            while (!simulacion.eventos.isEmpty() && simulacion.eventos.peek().instante <= llegada) {
+                Evento evento = simulacion.eventos.poll();
+                traza.agregar(evento.tipo, 0, evento.ticket, 0, evento.instante);
+                if (evento.tipo == TipoOperacion.RESOLVER) {
+                    simulacion.programar(evento.instante + aMicros(exponencial(random, minutosHastaCierre)),
+                            TipoOperacion.CERRAR, evento.ticket);
+                    simulacion.libres[simulacion.categoriaDe[evento.ticket]]++;
+                    simulacion.despachar(evento.instante);
+                }
+            }
+            if (llegada == Long.MAX_VALUE) {
+                break;
+            }
+
+            int ticket = ++creados;
+            int categoria = elegir(acumulados, random.nextDouble() * total);
+            simulacion.categoriaDe[ticket] = (byte) categoria;
+            traza.agregar(TipoOperacion.CREAR, categoria, ticket, 1 + random.nextInt(1000), llegada);
+            simulacion.encolar(ticket);
+            simulacion.despachar(llegada);
+
+            double consultas = consultasPorTicket;
+            while (consultas > 0 && random.nextDouble() < consultas) {
+                if (random.nextBoolean()) {
+                    traza.agregar(TipoOperacion.CONSULTAR_ESTADO, random.nextInt(ESTADOS.length), 0, 0, llegada);
+                } else {
+                    traza.agregar(TipoOperacion.CONSULTAR_ESTADISTICAS, 0, 0, 0, llegada);
+                }
+                consultas -= 1;
+            }
+        }
+        return traza;
+    }
+
+    /**
+     * Estado de una simulación: técnicos libres por categoría, tickets en
+     * espera y eventos programados.
+     */
+    private class Simulacion {
+        final Traza traza;
+        final SplittableRandom random;
+        final PriorityQueue<Evento> eventos;
+        final int[] libres;
+        final byte[] categoriaDe;
+        // Una cola por categoría, o solo la primera si la cola es única
+        final ArrayDeque<Integer>[] colas;
+        long secuencia;
+
+        @SuppressWarnings("unchecked")
+        Simulacion(int tickets, int tecnicos) {
+            this.traza = new Traza(tecnicos + tickets * 6);
+            this.random = new SplittableRandom(semilla);
+            this.eventos = new PriorityQueue<>();
+            this.libres = new int[CATEGORIAS.length];
+            this.categoriaDe = new byte[tickets + 1];
+            this.colas = (ArrayDeque<Integer>[]) new ArrayDeque<?>[colaUnica ? 1 : CATEGORIAS.length];
+            for (int c = 0; c < colas.length; c++) {
+                colas[c] = new ArrayDeque<>();
+            }
+        }
+
+        void programar(long instante, TipoOperacion tipo, int ticket) {
+            eventos.add(new Evento(instante, secuencia++, tipo, ticket));
+        }
+
+        void encolar(int ticket) {
+            colas[colaUnica ? 0 : categoriaDe[ticket]].add(ticket);
+        }
+
+        /**
+         * Asigna los tickets en espera que tengan técnico libre: con colas
+         * por categoría, cualquiera; con cola única, solo mientras el primero
+         * de la cola tenga técnico.
+         */
+        void despachar(long instante) {
+            for (ArrayDeque<Integer> cola : colas) {
+                while (!cola.isEmpty() && libres[categoriaDe[cola.peek()]] > 0) {
+                    int ticket = cola.poll();
+                    libres[categoriaDe[ticket]]--;
+                    iniciar(ticket, instante);
+                }
+            }
+        }
+
+        /**
+         * Registra la asignación de un ticket y su paso a EN_PROGRESO, y
+         * programa su resolución.
+         */
+        void iniciar(int ticket, long instante) {
+            traza.agregar(TipoOperacion.ASIGNAR, 0, ticket, 0, instante);
+            traza.agregar(TipoOperacion.CAMBIAR_ESTADO, Estado.EN_PROGRESO.ordinal(), ticket, 0, instante);
+            double minutos = medianaResolucion * Math.exp(dispersionResolucion * gaussiana(random));
+            programar(instante + Math.max(1, aMicros(minutos)), TipoOperacion.RESOLVER, ticket);
+        }
+    }
+
+    private static int elegir(double[] acumulados, double valor) {
+        for (int k = 0; k < acumulados.length; k++) {
+            if (valor < acumulados[k]) {
+                return k;
+            }
+        }
+        // Redondeo en el último acumulado: la última categoría con peso
+        int k = acumulados.length - 1;
+        while (k > 0 && acumulados[k] == acumulados[k - 1]) {
+            k--;
+        }
+        return k;
+    }
+
+    private static double exponencial(SplittableRandom random, double media) {
+        return media == 0 ? 0 : -Math.log(1 - random.nextDouble()) * media;
+    }
+
+    /**
+     * Normal estándar con el método de Box-Muller.
+     */
+    private static double gaussiana(SplittableRandom random) {
+        return Math.sqrt(-2 * Math.log(1 - random.nextDouble())) * Math.cos(2 * Math.PI * random.nextDouble());
+    }
+
+    private static long aMicros(double minutos) {
+        return (long) (minutos * MICROS_POR_MINUTO);
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Taller Práctico 01 - Sistema de Gestión de Tickets
+ * Estructuras de Datos y Algoritmos - 2026-10
+ *
+ * Integrantes:
+ * - [Nombre Completo 1] - ID: [ID1]
+ * - [Nombre Completo 2] - ID: [ID2]
+ * - [Nombre Completo 3] - ID: [ID3]
+ */
+
+package ticketsystem.carga;
+
+import ticketsystem.adt.Tecnico;
+import ticketsystem.adt.Ticket;
+import ticketsystem.adt.TicketSystem;
+import ticketsystem.enums.Estado;
+import ticketsystem.enums.TipoOperacion;
+import ticketsystem.interfaces.TicketObserver;
+
+/**
+ * Observador que captura en una Traza las operaciones de un TicketSystem
+ * real, para reproducirlas después con ReproductorCarga.
+ *
+ * Los eventos del sistema se traducen a operaciones de la traza; las
+ * asignaciones se graban como ASIGNAR (automáticas). De los cambios de
+ * estado solo se graban los que no vienen ya con su propio evento
+ * (asignar, resolver o cerrar). Las consultas no
+ * generan eventos: quien quiera incluirlas en la traza las anota con
+ * registrarConsultaEstado y registrarConsultaEstadisticas. Los técnicos
+ * registrados después de crear el grabador se anotan con
+ * registrarTecnico.
+ */
+public class GrabadorTraza implements TicketObserver {
+
+    private final Traza traza;
+    private final long inicio;
+
+    /**
+     * Constructor que anota los técnicos ya registrados en el sistema y se
+     * agrega como observador.
+     *
+     * @param sistema Sistema a grabar
+     */
+    public GrabadorTraza(TicketSystem sistema) {
+        if (sistema == null) {
+            throw new IllegalArgumentException("El sistema no puede ser null");
+        }
+        this.traza = new Traza();
+        this.inicio = System.nanoTime();
+        for (Tecnico tecnico : sistema.getTecnicos()) {
+            registrarTecnico(tecnico);
+        }
+        sistema.agregarObservador(this);
+    }
+
+    public void registrarTecnico(Tecnico tecnico) {
+        agregar(TipoOperacion.AGREGAR_TECNICO, tecnico.getEspecialidad().ordinal(), tecnico.getId(), 0);
+    }
+
+    public void registrarConsultaEstado(Estado estado) {
+        agregar(TipoOperacion.CONSULTAR_ESTADO, estado.ordinal(), 0, 0);
+    }
+
+    public void registrarConsultaEstadisticas() {
+        agregar(TipoOperacion.CONSULTAR_ESTADISTICAS, 0, 0, 0);
+    }
+
+    @Override
+    public void onTicketCreado(Ticket ticket) {
+        agregar(TipoOperacion.CREAR, ticket.getCategoria().ordinal(), ticket.getId(), ticket.getCliente().getId());
+    }
+
+    @Override
+    public void onTicketAsignado(Ticket ticket) {
+        agregar(TipoOperacion.ASIGNAR, 0, ticket.getId(), 0);
+    }
+
+    @Override
+    public void onTicketResuelto(Ticket ticket) {
+        agregar(TipoOperacion.RESOLVER, 0, ticket.getId(), 0);
+    }
+
+    @Override
+    public void onEstadoCambiado(Ticket ticket, Estado anterior) {
+        Estado actual = ticket.getEstado();
+        if ((anterior == Estado.NUEVO && actual == Estado.ASIGNADO) || actual == Estado.RESUELTO
+                || actual == Estado.CERRADO) {
+            // Los graban onTicketAsignado, onTicketResuelto y onTicketCerrado
+            return;
+        }
+        agregar(TipoOperacion.CAMBIAR_ESTADO, ticket.getEstado().ordinal(), ticket.getId(), 0);
+    }
+
+    @Override
+    public void onTicketCerrado(Ticket ticket) {
+        agregar(TipoOperacion.CERRAR, 0, ticket.getId(), 0);
+    }
+
+    private synchronized void agregar(TipoOperacion tipo, int codigo, int ticket, int cliente) {
+        long instante = Math.max((System.nanoTime() - inicio) / 1000,
+                traza.isEmpty() ? 0 : traza.getInstante(traza.size() - 1));
+        traza.agregar(tipo, codigo, ticket, cliente, instante);
+    }
+
+    /**
+     * @return Traza grabada hasta ahora (se sigue llenando mientras el
+     *         grabador esté registrado)
+     */
+    public Traza getTraza() {
+        return traza;
+    }
+}
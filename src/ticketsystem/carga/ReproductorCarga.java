@@ -0,0 +1,265 @@
+/*
+ * Taller Práctico 01 - Sistema de Gestión de Tickets
+ * Estructuras de Datos y Algoritmos - 2026-10
+ *
+ * Integrantes:
+ * - [Nombre Completo 1] - ID: [ID1]
+ * - [Nombre Completo 2] - ID: [ID2]
+ * - [Nombre Completo 3] - ID: [ID3]
+ */
+
+package ticketsystem.carga;
+
+import ticketsystem.adt.Cliente;
+import ticketsystem.adt.EstadisticasSistema;
+import ticketsystem.adt.Tecnico;
+import ticketsystem.adt.Ticket;
+import ticketsystem.adt.TicketSystem;
+import ticketsystem.datastructures.IntMap;
+import ticketsystem.enums.Categoria;
+import ticketsystem.enums.Estado;
+import ticketsystem.enums.TipoOperacion;
+import ticketsystem.interfaces.SistemaReproducible;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Reproduce una Traza sobre un SistemaReproducible y mide la latencia de
+ * cada operación con System.nanoTime. Solo se mide la llamada al sistema:
+ * la traducción de IDs y la preparación de argumentos quedan fuera.
+ *
+ * Las operaciones que el sistema rechaza se cuentan como fallidas y la
+ * reproducción sigue; las que no ofrece se cuentan como no soportadas.
+ */
+public final class ReproductorCarga {
+
+    private static final Categoria[] CATEGORIAS = Categoria.values();
+    private static final Estado[] ESTADOS = Estado.values();
+    private static final String[] DESCRIPCIONES = new String[CATEGORIAS.length];
+
+    static {
+        for (Categoria categoria : CATEGORIAS) {
+            DESCRIPCIONES[categoria.ordinal()] = "Incidencia de " + categoria;
+        }
+    }
+
+    private ReproductorCarga() {
+    }
+
+    /**
+     * Reproduce la traza lo más rápido posible.
+     *
+     * @param traza   Traza a reproducir
+     * @param sistema Sistema sobre el que se reproduce
+     * @param nombre  Nombre del sistema para el reporte
+     * @return Resultado con throughput y percentiles por operación
+     */
+    public static ResultadoReproduccion reproducir(Traza traza, SistemaReproducible sistema, String nombre) {
+        return reproducir(traza, sistema, nombre, 0);
+    }
+
+    /**
+     * Reproduce la traza respetando sus instantes a una velocidad dada. Con
+     * aceleración 60 un minuto de la traza dura un segundo.
+     *
+     * @param traza       Traza a reproducir
+     * @param sistema     Sistema sobre el que se reproduce
+     * @param nombre      Nombre del sistema para el reporte
+     * @param aceleracion Factor de aceleración, o 0 para no esperar entre
+     *                    operaciones
+     * @return Resultado con throughput y percentiles por operación
+     */
+    public static ResultadoReproduccion reproducir(Traza traza, SistemaReproducible sistema, String nombre,
+            double aceleracion) {
+        if (traza == null || sistema == null) {
+            throw new IllegalArgumentException("La traza y el sistema no pueden ser null");
+        }
+        if (aceleracion < 0) {
+            throw new IllegalArgumentException("La aceleración no puede ser negativa: " + aceleracion);
+        }
+
+        ResultadoReproduccion resultado = new ResultadoReproduccion(nombre);
+        IntMap<Integer> ids = new IntMap<>();
+        long inicio = System.nanoTime();
+
+        for (int i = 0; i < traza.size(); i++) {
+            TipoOperacion tipo = traza.getTipo(i);
+            int codigo = traza.getCodigo(i);
+            Integer ticket = ids.get(traza.getTicket(i));
+            if (necesitaTicket(tipo) && ticket == null) {
+                // El ticket no se pudo crear en este sistema
+                resultado.registrarFallida(tipo);
+                continue;
+            }
+            if (aceleracion > 0) {
+                esperarHasta(inicio + (long) (traza.getInstante(i) * 1000 / aceleracion));
+            }
+
+            long antes = System.nanoTime();
+            try {
+                switch (tipo) {
+                    case AGREGAR_TECNICO:
+                        sistema.agregarTecnico(traza.getTicket(i), CATEGORIAS[codigo]);
+                        break;
+                    case CREAR:
+                        int id = sistema.crearTicket(DESCRIPCIONES[codigo], CATEGORIAS[codigo], traza.getCliente(i));
+                        ids.put(traza.getTicket(i), id);
+                        break;
+                    case ASIGNAR:
+                        if (!sistema.asignarTicketAutomatico()) {
+                            throw new IllegalStateException("No se asignó ningún ticket");
+                        }
+                        break;
+                    case CAMBIAR_ESTADO:
+                        sistema.cambiarEstadoTicket(ticket, ESTADOS[codigo]);
+                        break;
+                    case RESOLVER:
+                        sistema.resolverTicket(ticket);
+                        break;
+                    case CERRAR:
+                        sistema.cerrarTicket(ticket);
+                        break;
+                    case CONSULTAR_ESTADO:
+                        sistema.consultarTicketsPorEstado(ESTADOS[codigo]);
+                        break;
+                    case CONSULTAR_ESTADISTICAS:
+                        sistema.consultarEstadisticas();
+                        break;
+                }
+                resultado.registrar(tipo, System.nanoTime() - antes);
+            } catch (UnsupportedOperationException e) {
+                resultado.registrarNoSoportada(tipo);
+            } catch (IllegalStateException | IllegalArgumentException e) {
+                resultado.registrarFallida(tipo);
+            }
+        }
+
+        resultado.finalizar(System.nanoTime() - inicio);
+        return resultado;
+    }
+
+    private static boolean necesitaTicket(TipoOperacion tipo) {
+        return tipo == TipoOperacion.CAMBIAR_ESTADO || tipo == TipoOperacion.RESOLVER
+                || tipo == TipoOperacion.CERRAR;
+    }
+
+    private static void esperarHasta(long nanos) {
+        long restante;
+        while ((restante = nanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(restante);
+        }
+    }
+
+    /**
+     * Método main con casos de prueba y un ejemplo de reporte.
+     */
+    public static void main(String[] args) throws IOException {
+        System.out.println("=== Pruebas de la carga sintética ===\n");
+
+        // Test 1: El generador es determinista y completa el ciclo de vida
+        GeneradorCarga generador = new GeneradorCarga(42);
+        generador.configurarCategorias(4, 1, 2, 1, 1);
+        Traza traza = generador.generar(2_000, 10);
+        Traza repetida = generador.generar(2_000, 10);
+        assert traza.size() == repetida.size() : "Test 1 falló: Tamaños distintos";
+        for (int i = 0; i < traza.size(); i++) {
+            assert traza.getTipo(i) == repetida.getTipo(i) && traza.getTicket(i) == repetida.getTicket(i)
+                    && traza.getInstante(i) == repetida.getInstante(i) : "Test 1 falló: Operación " + i;
+        }
+        assert traza.contar(TipoOperacion.AGREGAR_TECNICO) == 10 : "Test 1 falló: Técnicos";
+        assert traza.contar(TipoOperacion.CREAR) == 2_000 : "Test 1 falló: Creaciones";
+        assert traza.contar(TipoOperacion.ASIGNAR) == 2_000 : "Test 1 falló: Asignaciones";
+        assert traza.contar(TipoOperacion.CERRAR) == 2_000 : "Test 1 falló: Cierres";
+        System.out.println("✓ Test 1 pasado: Generador determinista (" + traza.size() + " operaciones)");
+
+        // Test 2: Los pesos sesgan las categorías
+        int[] porCategoria = new int[CATEGORIAS.length];
+        for (int i = 0; i < traza.size(); i++) {
+            if (traza.getTipo(i) == TipoOperacion.CREAR) {
+                porCategoria[traza.getCodigo(i)]++;
+            }
+        }
+        assert porCategoria[Categoria.RED.ordinal()] > 2 * porCategoria[Categoria.BASE_DE_DATOS.ordinal()]
+                : "Test 2 falló: RED debería recibir más tickets";
+        System.out.println("✓ Test 2 pasado: Sesgo de categorías");
+
+        // Test 3: Ida y vuelta por el formato de archivo
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        traza.guardar(bytes);
+        Traza leida = Traza.cargar(new ByteArrayInputStream(bytes.toByteArray()));
+        assert leida.size() == traza.size() : "Test 3 falló: Tamaño";
+        for (int i = 0; i < traza.size(); i++) {
+            assert leida.getTipo(i) == traza.getTipo(i) && leida.getCodigo(i) == traza.getCodigo(i)
+                    && leida.getTicket(i) == traza.getTicket(i) && leida.getCliente(i) == traza.getCliente(i)
+                    && leida.getInstante(i) == traza.getInstante(i) : "Test 3 falló: Operación " + i;
+        }
+        System.out.printf("✓ Test 3 pasado: Archivo de traza (%.1f bytes por operación)%n",
+                bytes.size() / (double) traza.size());
+
+        // Test 4: La traza sintética se reproduce sin fallos en TicketSystem
+        AdaptadorTicketSystem adaptador = new AdaptadorTicketSystem(new TicketSystem());
+        ResultadoReproduccion resultado = reproducir(traza, adaptador, "ticketsystem");
+        assert resultado.getTotalFallidas() == 0 : "Test 4 falló: Hubo operaciones fallidas";
+        EstadisticasSistema estadisticas = adaptador.getSistema().obtenerEstadisticas();
+        assert estadisticas.getTickets(Estado.CERRADO) == 2_000 : "Test 4 falló: Todos deberían estar cerrados";
+        assert resultado.getPercentil(TipoOperacion.CREAR, 50) <= resultado.getMaximo(TipoOperacion.CREAR)
+                : "Test 4 falló: Percentiles desordenados";
+        System.out.println("✓ Test 4 pasado: Reproducción sin fallos");
+
+        // Test 5: Grabar un sistema real y reproducirlo en otro
+        TicketSystem original = new TicketSystem();
+        original.agregarTecnico(new Tecnico(1, "Ana", Categoria.RED));
+        GrabadorTraza grabador = new GrabadorTraza(original);
+        Cliente cliente = new Cliente(7, "Juan", "juan@example.com");
+        Ticket t1 = original.crearTicket("Sin red", Categoria.RED, cliente);
+        original.crearTicket("Otra caída", Categoria.RED, cliente);
+        original.asignarTicketAutomatico();
+        original.cambiarEstadoTicket(t1.getId(), Estado.EN_PROGRESO);
+        original.resolverTicket(t1.getId());
+        original.cerrarTicket(t1.getId());
+        original.asignarTicketAutomatico();
+        grabador.registrarConsultaEstadisticas();
+        AdaptadorTicketSystem copia = new AdaptadorTicketSystem(new TicketSystem());
+        ResultadoReproduccion deGrabacion = reproducir(grabador.getTraza(), copia, "copia");
+        assert deGrabacion.getTotalFallidas() == 0 : "Test 5 falló: Hubo operaciones fallidas";
+        assert copia.getSistema().generarEstadisticas().equals(original.generarEstadisticas())
+                : "Test 5 falló: Las estadísticas deberían coincidir";
+        System.out.println("✓ Test 5 pasado: Grabación y reproducción");
+
+        // Test 6: Operaciones rechazadas y no soportadas
+        Traza invalida = new Traza();
+        invalida.agregar(TipoOperacion.CREAR, Categoria.RED.ordinal(), 1, 1, 0);
+        invalida.agregar(TipoOperacion.RESOLVER, 0, 1, 0, 0);
+        invalida.agregar(TipoOperacion.CERRAR, 0, 99, 0, 0);
+        invalida.agregar(TipoOperacion.CONSULTAR_ESTADO, Estado.NUEVO.ordinal(), 0, 0, 0);
+        AdaptadorTicketSystem sinConsultas = new AdaptadorTicketSystem(new TicketSystem()) {
+            @Override
+            public int consultarTicketsPorEstado(Estado estado) {
+                throw new UnsupportedOperationException();
+            }
+        };
+        ResultadoReproduccion rechazos = reproducir(invalida, sinConsultas, "rechazos");
+        assert rechazos.getFallidas(TipoOperacion.RESOLVER) == 1 : "Test 6 falló: Resolver sin técnico";
+        assert rechazos.getFallidas(TipoOperacion.CERRAR) == 1 : "Test 6 falló: Ticket inexistente";
+        assert rechazos.getNoSoportadas(TipoOperacion.CONSULTAR_ESTADO) == 1 : "Test 6 falló: No soportada";
+        System.out.println("✓ Test 6 pasado: Rechazos y operaciones no soportadas");
+
+        // Test 7: Con cola única los tickets se asignan en orden de llegada
+        generador.configurarColaUnica(true);
+        Traza fifo = generador.generar(2_000, 10);
+        int esperado = 1;
+        for (int i = 0; i < fifo.size(); i++) {
+            if (fifo.getTipo(i) == TipoOperacion.ASIGNAR) {
+                assert fifo.getTicket(i) == esperado++ : "Test 7 falló: Asignación fuera de orden en " + i;
+            }
+        }
+        assert reproducir(fifo, new AdaptadorTicketSystem(new TicketSystem()), "fifo").getTotalFallidas() == 0
+                : "Test 7 falló: Hubo operaciones fallidas";
+        System.out.println("✓ Test 7 pasado: Cola única");
+
+        System.out.println("\n" + resultado);
+        System.out.println("=== Todas las pruebas de la carga sintética pasaron ===");
+    }
+}
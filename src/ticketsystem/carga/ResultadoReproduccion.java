@@ -0,0 +1,159 @@
+/*
+ * Taller Práctico 01 - Sistema de Gestión de Tickets
+ * Estructuras de Datos y Algoritmos - 2026-10
+ *
+ * Integrantes:
+ * - [Nombre Completo 1] - ID: [ID1]
+ * - [Nombre Completo 2] - ID: [ID2]
+ * - [Nombre Completo 3] - ID: [ID3]
+ */
+
+package ticketsystem.carga;
+
+import ticketsystem.enums.TipoOperacion;
+import java.util.Arrays;
+
+/**
+ * Resultado de reproducir una traza: throughput total y, por tipo de
+ * operación, cuántas se ejecutaron, cuántas fallaron o no están soportadas
+ * y los percentiles exactos de latencia (se guardan todas las latencias y
+ * se ordenan al terminar).
+ */
+public class ResultadoReproduccion {
+
+    private static final TipoOperacion[] TIPOS = TipoOperacion.values();
+
+    private final String nombre;
+    private final long[][] latencias;
+    private final int[] exitosas;
+    private final int[] fallidas;
+    private final int[] noSoportadas;
+    private long nanosTotales;
+
+    ResultadoReproduccion(String nombre) {
+        this.nombre = nombre;
+        this.latencias = new long[TIPOS.length][64];
+        this.exitosas = new int[TIPOS.length];
+        this.fallidas = new int[TIPOS.length];
+        this.noSoportadas = new int[TIPOS.length];
+    }
+
+    void registrar(TipoOperacion tipo, long nanos) {
+        int t = tipo.ordinal();
+        if (exitosas[t] == latencias[t].length) {
+            latencias[t] = Arrays.copyOf(latencias[t], latencias[t].length * 2);
+        }
+        latencias[t][exitosas[t]++] = nanos;
+    }
+
+    void registrarFallida(TipoOperacion tipo) {
+        fallidas[tipo.ordinal()]++;
+    }
+
+    void registrarNoSoportada(TipoOperacion tipo) {
+        noSoportadas[tipo.ordinal()]++;
+    }
+
+    void finalizar(long nanosTotales) {
+        this.nanosTotales = nanosTotales;
+        for (int t = 0; t < TIPOS.length; t++) {
+            Arrays.sort(latencias[t], 0, exitosas[t]);
+        }
+    }
+
+    /**
+     * Obtiene un percentil de latencia de un tipo de operación.
+     *
+     * @param tipo      Tipo de operación
+     * @param percentil Percentil entre 0 y 100
+     * @return Latencia en nanosegundos, o 0 si no hubo operaciones exitosas
+     */
+    public long getPercentil(TipoOperacion tipo, double percentil) {
+        if (percentil < 0 || percentil > 100) {
+            throw new IllegalArgumentException("El percentil debe estar entre 0 y 100: " + percentil);
+        }
+        int n = exitosas[tipo.ordinal()];
+        if (n == 0) {
+            return 0;
+        }
+        int indice = (int) Math.ceil(percentil / 100.0 * n) - 1;
+        return latencias[tipo.ordinal()][Math.max(indice, 0)];
+    }
+
+    public long getMaximo(TipoOperacion tipo) {
+        int n = exitosas[tipo.ordinal()];
+        return n == 0 ? 0 : latencias[tipo.ordinal()][n - 1];
+    }
+
+    public int getExitosas(TipoOperacion tipo) {
+        return exitosas[tipo.ordinal()];
+    }
+
+    public int getFallidas(TipoOperacion tipo) {
+        return fallidas[tipo.ordinal()];
+    }
+
+    public int getNoSoportadas(TipoOperacion tipo) {
+        return noSoportadas[tipo.ordinal()];
+    }
+
+    /**
+     * @return Operaciones exitosas de todos los tipos
+     */
+    public int getTotalExitosas() {
+        int total = 0;
+        for (int n : exitosas) {
+            total += n;
+        }
+        return total;
+    }
+
+    /**
+     * @return Operaciones fallidas de todos los tipos
+     */
+    public int getTotalFallidas() {
+        int total = 0;
+        for (int n : fallidas) {
+            total += n;
+        }
+        return total;
+    }
+
+    public long getNanosTotales() {
+        return nanosTotales;
+    }
+
+    /**
+     * Calcula el throughput de la reproducción, incluido el tiempo del
+     * reproductor entre operaciones.
+     *
+     * @return Operaciones exitosas por segundo
+     */
+    public double getOperacionesPorSegundo() {
+        return nanosTotales == 0 ? 0 : getTotalExitosas() * 1e9 / nanosTotales;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("=== Reproducción: ").append(nombre).append(" ===\n");
+        sb.append(String.format("%d operaciones en %.1f ms (%.0f ops/s), %d fallidas%n",
+                getTotalExitosas(), nanosTotales / 1e6, getOperacionesPorSegundo(), getTotalFallidas()));
+        sb.append(String.format("%-24s %9s %7s %9s %9s %9s %9s %9s%n",
+                "Operación", "Exitosas", "Fallos", "p50 ns", "p90 ns", "p99 ns", "p99.9 ns", "max ns"));
+        for (TipoOperacion tipo : TIPOS) {
+            int t = tipo.ordinal();
+            if (exitosas[t] + fallidas[t] + noSoportadas[t] == 0) {
+                continue;
+            }
+            if (noSoportadas[t] > 0 && exitosas[t] == 0) {
+                sb.append(String.format("%-24s %9s%n", tipo, "no soportada"));
+                continue;
+            }
+            sb.append(String.format("%-24s %9d %7d %9d %9d %9d %9d %9d%n", tipo, exitosas[t], fallidas[t],
+                    getPercentil(tipo, 50), getPercentil(tipo, 90), getPercentil(tipo, 99),
+                    getPercentil(tipo, 99.9), getMaximo(tipo)));
+        }
+        return sb.toString();
+    }
+}
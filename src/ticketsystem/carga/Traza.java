@@ -0,0 +1,269 @@
+/*
+ * Taller Práctico 01 - Sistema de Gestión de Tickets
+ * Estructuras de Datos y Algoritmos - 2026-10
+ *
+ * Integrantes:
+ * - [Nombre Completo 1] - ID: [ID1]
+ * - [Nombre Completo 2] - ID: [ID2]
+ * - [Nombre Completo 3] - ID: [ID3]
+ */
+
+package ticketsystem.carga;
+
+import ticketsystem.enums.TipoOperacion;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Secuencia de operaciones sobre un sistema de tickets, guardada por
+ * columnas en arreglos primitivos. Cada operación tiene:
+ * - tipo: TipoOperacion
+ * - código: ordinal de la categoría (CREAR, AGREGAR_TECNICO) o del estado
+ * (CAMBIAR_ESTADO, CONSULTAR_ESTADO); 0 en el resto
+ * - ticket: ID del ticket en la traza (o del técnico en AGREGAR_TECNICO)
+ * - cliente: ID del cliente en CREAR; 0 en el resto
+ * - instante: microsegundos desde el inicio de la traza
+ *
+ * Los IDs son los de la traza: al reproducirla, cada sistema asigna los
+ * suyos y el reproductor los traduce.
+ *
+ * Formato de archivo: [magia int][versión int][operaciones int] y por cada
+ * operación [tipo byte][código byte][ticket varint][cliente varint]
+ * [delta de instante varint]. Los varint usan 7 bits por byte, así que una
+ * operación típica ocupa entre 5 y 9 bytes.
+ */
+public class Traza {
+
+    private static final int MAGIA = 0x54525A31; // "TRZ1"
+    private static final int VERSION = 1;
+    private static final TipoOperacion[] TIPOS = TipoOperacion.values();
+
+    private byte[] tipos;
+    private byte[] codigos;
+    private int[] tickets;
+    private int[] clientes;
+    private long[] instantes;
+    private int size;
+
+    /**
+     * Constructor que crea una traza vacía.
+     */
+    public Traza() {
+        this(1024);
+    }
+
+    /**
+     * Constructor que crea una traza vacía con capacidad inicial.
+     *
+     * @param capacidad Número esperado de operaciones
+     */
+    public Traza(int capacidad) {
+        capacidad = Math.max(capacidad, 16);
+        this.tipos = new byte[capacidad];
+        this.codigos = new byte[capacidad];
+        this.tickets = new int[capacidad];
+        this.clientes = new int[capacidad];
+        this.instantes = new long[capacidad];
+        this.size = 0;
+    }
+
+    /**
+     * Agrega una operación al final de la traza.
+     *
+     * @param tipo     Tipo de operación
+     * @param codigo   Ordinal de la categoría o del estado, según el tipo
+     * @param ticket   ID del ticket (o del técnico)
+     * @param cliente  ID del cliente, o 0
+     * @param instante Microsegundos desde el inicio de la traza
+     * @throws IllegalArgumentException si el instante es anterior al de la
+     *                                  última operación
+     */
+    public void agregar(TipoOperacion tipo, int codigo, int ticket, int cliente, long instante) {
+        if (tipo == null) {
+            throw new IllegalArgumentException("El tipo de operación no puede ser null");
+        }
+        if (size > 0 && instante < instantes[size - 1]) {
+            throw new IllegalArgumentException("Los instantes deben ser crecientes: " + instante);
+        }
+        if (size == tipos.length) {
+            int capacidad = tipos.length * 2;
+            tipos = Arrays.copyOf(tipos, capacidad);
+            codigos = Arrays.copyOf(codigos, capacidad);
+            tickets = Arrays.copyOf(tickets, capacidad);
+            clientes = Arrays.copyOf(clientes, capacidad);
+            instantes = Arrays.copyOf(instantes, capacidad);
+        }
+        tipos[size] = (byte) tipo.ordinal();
+        codigos[size] = (byte) codigo;
+        tickets[size] = ticket;
+        clientes[size] = cliente;
+        instantes[size] = instante;
+        size++;
+    }
+
+    /**
+     * Guarda la traza en un archivo.
+     *
+     * @param archivo Ruta del archivo
+     * @throws IOException si no se puede escribir
+     */
+    public void guardar(Path archivo) throws IOException {
+        try (OutputStream salida = Files.newOutputStream(archivo)) {
+            guardar(salida);
+        }
+    }
+
+    /**
+     * Escribe la traza en un flujo; no lo cierra.
+     *
+     * @param salida Flujo de salida
+     * @throws IOException si no se puede escribir
+     */
+    public void guardar(OutputStream salida) throws IOException {
+        DataOutputStream datos = new DataOutputStream(new BufferedOutputStream(salida, 1 << 16));
+        datos.writeInt(MAGIA);
+        datos.writeInt(VERSION);
+        datos.writeInt(size);
+        long anterior = 0;
+        for (int i = 0; i < size; i++) {
+            datos.writeByte(tipos[i]);
+            datos.writeByte(codigos[i]);
+            escribirVarint(datos, tickets[i] & 0xFFFFFFFFL);
+            escribirVarint(datos, clientes[i] & 0xFFFFFFFFL);
+            escribirVarint(datos, instantes[i] - anterior);
+            anterior = instantes[i];
+        }
+        datos.flush();
+    }
+
+    /**
+     * Carga una traza desde un archivo.
+     *
+     * @param archivo Ruta del archivo
+     * @return Traza leída
+     * @throws IOException si no se puede leer o el formato no es válido
+     */
+    public static Traza cargar(Path archivo) throws IOException {
+        try (InputStream entrada = Files.newInputStream(archivo)) {
+            return cargar(entrada);
+        }
+    }
+
+    /**
+     * Lee una traza desde un flujo; no lo cierra.
+     *
+     * @param entrada Flujo de entrada
+     * @return Traza leída
+     * @throws IOException si no se puede leer o el formato no es válido
+     */
+    public static Traza cargar(InputStream entrada) throws IOException {
+        DataInputStream datos = new DataInputStream(new BufferedInputStream(entrada, 1 << 16));
+        if (datos.readInt() != MAGIA) {
+            throw new IOException("El archivo no es una traza");
+        }
+        int version = datos.readInt();
+        if (version != VERSION) {
+            throw new IOException("Versión de traza no soportada: " + version);
+        }
+        int operaciones = datos.readInt();
+        Traza traza = new Traza(operaciones);
+        long instante = 0;
+        for (int i = 0; i < operaciones; i++) {
+            int tipo = datos.readUnsignedByte();
+            if (tipo >= TIPOS.length) {
+                throw new IOException("Tipo de operación inválido en la operación " + i + ": " + tipo);
+            }
+            int codigo = datos.readByte();
+            int ticket = (int) leerVarint(datos);
+            int cliente = (int) leerVarint(datos);
+            instante += leerVarint(datos);
+            traza.agregar(TIPOS[tipo], codigo, ticket, cliente, instante);
+        }
+        return traza;
+    }
+
+    private static void escribirVarint(DataOutputStream datos, long valor) throws IOException {
+        while ((valor & ~0x7FL) != 0) {
+            datos.writeByte((int) ((valor & 0x7F) | 0x80));
+            valor >>>= 7;
+        }
+        datos.writeByte((int) valor);
+    }
+
+    private static long leerVarint(DataInputStream datos) throws IOException {
+        long valor = 0;
+        for (int desplazamiento = 0; desplazamiento < 64; desplazamiento += 7) {
+            int b = datos.read();
+            if (b < 0) {
+                throw new EOFException("Traza truncada");
+            }
+            valor |= (long) (b & 0x7F) << desplazamiento;
+            if ((b & 0x80) == 0) {
+                return valor;
+            }
+        }
+        throw new IOException("Varint demasiado largo");
+    }
+
+    // Getters por operación
+
+    public TipoOperacion getTipo(int i) {
+        return TIPOS[tipos[verificar(i)]];
+    }
+
+    public int getCodigo(int i) {
+        return codigos[verificar(i)];
+    }
+
+    public int getTicket(int i) {
+        return tickets[verificar(i)];
+    }
+
+    public int getCliente(int i) {
+        return clientes[verificar(i)];
+    }
+
+    public long getInstante(int i) {
+        return instantes[verificar(i)];
+    }
+
+    /**
+     * Cuenta las operaciones de un tipo.
+     *
+     * @param tipo Tipo de operación
+     * @return Número de operaciones de ese tipo
+     */
+    public int contar(TipoOperacion tipo) {
+        int total = 0;
+        for (int i = 0; i < size; i++) {
+            if (tipos[i] == tipo.ordinal()) {
+                total++;
+            }
+        }
+        return total;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    private int verificar(int i) {
+        if (i < 0 || i >= size) {
+            throw new IndexOutOfBoundsException("Operación fuera de rango: " + i);
+        }
+        return i;
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Taller Práctico 01 - Sistema de Gestión de Tickets
+ * Estructuras de Datos y Algoritmos - 2026-10
+ *
+ * Integrantes:
+ * - [Nombre Completo 1] - ID: [ID1]
+ * - [Nombre Completo 2] - ID: [ID2]
+ * - [Nombre Completo 3] - ID: [ID3]
+ */
+
+package ticketsystem.datastructures;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Versión segura para varios hilos de {@link SegmentedIntMap}, sin locks.
+ * La clave se descompone en tres niveles (directorio, subdirectorio y
+ * segmento) que se crean al primer uso con compareAndSet; las lecturas y
+ * escrituras de valores son accesos atómicos a un AtomicReferenceArray.
+ * 
+ * A diferencia de SegmentedIntMap, los segmentos no se liberan al quedar
+ * vacíos.
+ *
+ * Invariantes:
+ * - Las claves son mayores o iguales a 0
+ * - No se admiten valores null (null indica clave ausente)
+ *
+ * @param <V> Tipo de los valores almacenados
+ */
+public class ConcurrentSegmentedIntMap<V> {
+
+    private static final int BITS_SEGMENTO = 10;
+    private static final int BITS_SUBDIRECTORIO = 10;
+    private static final int TAMANO_SEGMENTO = 1 << BITS_SEGMENTO;
+    private static final int TAMANO_SUBDIRECTORIO = 1 << BITS_SUBDIRECTORIO;
+    private static final int TAMANO_DIRECTORIO = 1 << (31 - BITS_SEGMENTO - BITS_SUBDIRECTORIO);
+
+    private final AtomicReferenceArray<AtomicReferenceArray<AtomicReferenceArray<V>>> directorio;
+    private final AtomicInteger size;
+
+    /**
+     * Constructor que crea un mapa vacío.
+     */
+    public ConcurrentSegmentedIntMap() {
+        this.directorio = new AtomicReferenceArray<>(TAMANO_DIRECTORIO);
+        this.size = new AtomicInteger();
+    }
+
+    /**
+     * Asocia un valor a una clave, reemplazando el valor anterior si existía.
+     *
+     * @param clave Clave entera no negativa
+     * @param valor Valor a asociar
+     * @return El valor anterior, o null si la clave no existía
+     * @throws IllegalArgumentException si la clave es negativa o el valor null
+     */
+    public V put(int clave, V valor) {
+        if (clave < 0) {
+            throw new IllegalArgumentException("La clave no puede ser negativa: " + clave);
+        }
+        if (valor == null) {
+            throw new IllegalArgumentException("El valor no puede ser null");
+        }
+
+        V anterior = segmento(clave, true).getAndSet(clave & (TAMANO_SEGMENTO - 1), valor);
+        if (anterior == null) {
+            size.incrementAndGet();
+        }
+        return anterior;
+    }
+
+    /**
+     * Obtiene el valor asociado a una clave.
+     *
+     * @param clave Clave entera
+     * @return El valor asociado, o null si la clave no existe
+     */
+    public V get(int clave) {
+        if (clave < 0) {
+            return null;
+        }
+        AtomicReferenceArray<V> segmento = segmento(clave, false);
+        return segmento == null ? null : segmento.get(clave & (TAMANO_SEGMENTO - 1));
+    }
+
+    /**
+     * Remueve la asociación de una clave.
+     *
+     * @param clave Clave entera
+     * @return El valor removido, o null si la clave no existía
+     */
+    public V remove(int clave) {
+        if (clave < 0) {
+            return null;
+        }
+        AtomicReferenceArray<V> segmento = segmento(clave, false);
+        if (segmento == null) {
+            return null;
+        }
+        V anterior = segmento.getAndSet(clave & (TAMANO_SEGMENTO - 1), null);
+        if (anterior != null) {
+            size.decrementAndGet();
+        }
+        return anterior;
+    }
+
+    /**
+     * Retorna el número de claves en el mapa.
+     *
+     * @return Número de asociaciones
+     */
+    public int size() {
+        return size.get();
+    }
+
+    /**
+     * Localiza el segmento de una clave, creando los niveles que falten si
+     * se pide. Si dos hilos crean el mismo nivel a la vez, gana el primer
+     * compareAndSet y el otro usa el ya instalado.
+     */
+    private AtomicReferenceArray<V> segmento(int clave, boolean crear) {
+        int d = clave >>> (BITS_SEGMENTO + BITS_SUBDIRECTORIO);
+        int s = (clave >>> BITS_SEGMENTO) & (TAMANO_SUBDIRECTORIO - 1);
+
+        AtomicReferenceArray<AtomicReferenceArray<V>> subdirectorio = directorio.get(d);
+        if (subdirectorio == null) {
+            if (!crear) {
+                return null;
+            }
+            directorio.compareAndSet(d, null, new AtomicReferenceArray<>(TAMANO_SUBDIRECTORIO));
+            subdirectorio = directorio.get(d);
+        }
+
+        AtomicReferenceArray<V> segmento = subdirectorio.get(s);
+        if (segmento == null) {
+            if (!crear) {
+                return null;
+            }
+            subdirectorio.compareAndSet(s, null, new AtomicReferenceArray<>(TAMANO_SEGMENTO));
+            segmento = subdirectorio.get(s);
+        }
+        return segmento;
+    }
+}
@@ -0,0 +1,281 @@
+/*
+ * Taller Práctico 01 - Sistema de Gestión de Tickets
+ * Estructuras de Datos y Algoritmos - 2026-10
+ *
+ * Integrantes:
+ * - [Nombre Completo 1] - ID: [ID1]
+ * - [Nombre Completo 2] - ID: [ID2]
+ * - [Nombre Completo 3] - ID: [ID3]
+ */
+
+package ticketsystem.datastructures;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Implementación de una Bolsa (Bag/Multiconjunto) basada en una tabla hash
+ * con direccionamiento abierto (sondeo lineal).
+ *
+ * A diferencia de {@link Bag}, las operaciones add, contains y remove son
+ * O(1) en promedio. Los duplicados se representan con un contador por
+ * elemento distinto, de modo que el iterador devuelve cada elemento tantas
+ * veces como fue agregado. El orden de iteración no está definido.
+ *
+ * Invariantes:
+ * - No se admiten elementos null
+ * - El factor de carga de la tabla no supera 1/2
+ * - La tabla se reduce a la mitad cuando su carga baja de 1/8
+ *
+ * @param <T> Tipo de elementos almacenados en la bolsa
+ */
+public class HashBag<T> implements Iterable<T> {
+
+    private static final int CAPACIDAD_INICIAL = 16;
+    // Mayor potencia de 2 que cabe en un int
+    private static final int CAPACIDAD_MAXIMA = 1 << 30;
+
+    private Object[] elementos;
+    private int[] conteos;
+    private int distintos;
+    private int size;
+
+    /**
+     * Constructor que crea una bolsa vacía.
+     */
+    public HashBag() {
+        this(CAPACIDAD_INICIAL);
+    }
+
+    /**
+     * Constructor que crea una bolsa vacía con capacidad para el número
+     * esperado de elementos distintos sin redimensionar.
+     *
+     * @param capacidadEsperada Número esperado de elementos distintos
+     * @throws IllegalArgumentException si es negativa o mayor a 2^29 (la
+     *                                  tabla no puede pasar de 2^30)
+     */
+    public HashBag(int capacidadEsperada) {
+        if (capacidadEsperada < 0 || capacidadEsperada > CAPACIDAD_MAXIMA / 2) {
+            throw new IllegalArgumentException("Capacidad esperada fuera de rango: " + capacidadEsperada);
+        }
+        int capacidad = CAPACIDAD_INICIAL;
+        while (capacidad < capacidadEsperada * 2) {
+            capacidad <<= 1;
+        }
+        this.elementos = new Object[capacidad];
+        this.conteos = new int[capacidad];
+        this.distintos = 0;
+        this.size = 0;
+    }
+
+    /**
+     * Agrega un elemento a la bolsa.
+     *
+     * @param element Elemento a agregar
+     * @throws IllegalArgumentException si el elemento es null
+     */
+    public void add(T element) {
+        if (element == null) {
+            throw new IllegalArgumentException("El elemento no puede ser null");
+        }
+        if ((distintos + 1) * 2 > elementos.length) {
+            redimensionar(elementos.length * 2);
+        }
+
+        int i = buscarPosicion(element);
+        if (elementos[i] == null) {
+            elementos[i] = element;
+            distintos++;
+        }
+        conteos[i]++;
+        size++;
+    }
+
+    /**
+     * Remueve una ocurrencia de un elemento de la bolsa.
+     *
+     * @param element Elemento a remover
+     * @return true si el elemento fue removido, false si no se encontró
+     */
+    public boolean remove(T element) {
+        if (element == null) {
+            return false;
+        }
+
+        int i = buscarPosicion(element);
+        if (elementos[i] == null) {
+            return false;
+        }
+
+        size--;
+        if (--conteos[i] == 0) {
+            eliminarPosicion(i);
+            distintos--;
+            // Reducir la tabla si quedó casi vacía (p. ej. tras archivar)
+            if (distintos * 8 < elementos.length && elementos.length > CAPACIDAD_INICIAL) {
+                redimensionar(elementos.length / 2);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Verifica si la bolsa contiene un elemento específico.
+     *
+     * @param element Elemento a buscar
+     * @return true si el elemento está en la bolsa, false en caso contrario
+     */
+    public boolean contains(T element) {
+        return element != null && elementos[buscarPosicion(element)] != null;
+    }
+
+    /**
+     * Retorna cuántas veces aparece un elemento en la bolsa.
+     *
+     * @param element Elemento a buscar
+     * @return Número de ocurrencias del elemento
+     */
+    public int count(T element) {
+        if (element == null) {
+            return 0;
+        }
+        int i = buscarPosicion(element);
+        return elementos[i] == null ? 0 : conteos[i];
+    }
+
+    /**
+     * Retorna el tamaño de la bolsa.
+     *
+     * @return Número de elementos en la bolsa (contando duplicados)
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Verifica si la bolsa está vacía.
+     *
+     * @return true si la bolsa está vacía, false en caso contrario
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Calcula la posición inicial de un elemento en la tabla.
+     * Mezcla los bits del hashCode para que ids consecutivos no formen
+     * grupos contiguos en el sondeo lineal.
+     */
+    private int indiceInicial(Object element, int mascara) {
+        int h = element.hashCode() * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & mascara;
+    }
+
+    /**
+     * Retorna la posición donde está el elemento, o la primera posición
+     * libre de su secuencia de sondeo si no está.
+     */
+    private int buscarPosicion(Object element) {
+        int mascara = elementos.length - 1;
+        int i = indiceInicial(element, mascara);
+        while (elementos[i] != null && !elementos[i].equals(element)) {
+            i = (i + 1) & mascara;
+        }
+        return i;
+    }
+
+    /**
+     * Libera una posición reubicando hacia atrás los elementos siguientes de
+     * la secuencia de sondeo (eliminación sin lápidas).
+     */
+    private void eliminarPosicion(int libre) {
+        int mascara = elementos.length - 1;
+        int i = libre;
+        while (true) {
+            i = (i + 1) & mascara;
+            if (elementos[i] == null) {
+                break;
+            }
+            int ideal = indiceInicial(elementos[i], mascara);
+            // El elemento en i puede ocupar el hueco si su posición ideal no
+            // está en el tramo circular (libre, i]
+            boolean puedeMover = (libre <= i) ? (ideal <= libre || ideal > i) : (ideal <= libre && ideal > i);
+            if (puedeMover) {
+                elementos[libre] = elementos[i];
+                conteos[libre] = conteos[i];
+                libre = i;
+            }
+        }
+        elementos[libre] = null;
+        conteos[libre] = 0;
+    }
+
+    /**
+     * Reconstruye la tabla con una nueva capacidad (potencia de 2).
+     */
+    private void redimensionar(int nuevaCapacidad) {
+        Object[] viejosElementos = elementos;
+        int[] viejosConteos = conteos;
+        elementos = new Object[nuevaCapacidad];
+        conteos = new int[nuevaCapacidad];
+
+        for (int j = 0; j < viejosElementos.length; j++) {
+            if (viejosElementos[j] != null) {
+                int i = buscarPosicion(viejosElementos[j]);
+                elementos[i] = viejosElementos[j];
+                conteos[i] = viejosConteos[j];
+            }
+        }
+    }
+
+    /**
+     * Retorna un iterador para recorrer la bolsa.
+     *
+     * @return Iterator sobre los elementos de la bolsa
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new HashBagIterator();
+    }
+
+    /**
+     * Clase interna que implementa el iterador para la bolsa.
+     * Recorre la tabla devolviendo cada elemento según su contador.
+     */
+    private class HashBagIterator implements Iterator<T> {
+        private final Object[] tabla = elementos;
+        private final int[] tablaConteos = conteos;
+        private int posicion = -1;
+        private int restantes = 0;
+
+        @Override
+        public boolean hasNext() {
+            if (restantes > 0) {
+                return true;
+            }
+            int j = posicion + 1;
+            while (j < tabla.length && tabla[j] == null) {
+                j++;
+            }
+            return j < tabla.length;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T next() {
+            if (restantes == 0) {
+                posicion++;
+                while (posicion < tabla.length && tabla[posicion] == null) {
+                    posicion++;
+                }
+                if (posicion >= tabla.length) {
+                    throw new NoSuchElementException();
+                }
+                restantes = tablaConteos[posicion];
+            }
+            restantes--;
+            return (T) tabla[posicion];
+        }
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Taller Práctico 01 - Sistema de Gestión de Tickets
+ * Estructuras de Datos y Algoritmos - 2026-10
+ *
+ * Integrantes:
+ * - [Nombre Completo 1] - ID: [ID1]
+ * - [Nombre Completo 2] - ID: [ID2]
+ * - [Nombre Completo 3] - ID: [ID3]
+ */
+
+package ticketsystem.datastructures;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Histograma log-lineal de latencias en nanosegundos, al estilo de
+ * HdrHistogram: cada potencia de 2 se divide en 64 buckets iguales, así que
+ * el error relativo de un percentil es menor a 1/64 (~1,6%) en todo el
+ * rango, y el tamaño es fijo (2240 buckets, ~18 KB) sin importar cuántos
+ * valores se registren. Los valores hasta 127 ns se guardan exactos; los
+ * mayores a 2^40 ns (~18 minutos) caen en el último bucket, aunque el
+ * máximo se guarda exacto.
+ *
+ * Pensado para un escritor por histograma: registrar y agregar no son
+ * atómicos entre sí, pero publican cada contador con lazySet, así que
+ * cualquier hilo puede leer o copiar el histograma mientras se escribe y
+ * ve valores consistentes (posiblemente un poco atrasados).
+ */
+public class HistogramaLatencia {
+
+    private static final int BITS_SUB_BUCKET = 6;
+    private static final int SUB_BUCKETS = 1 << BITS_SUB_BUCKET;
+    private static final int BITS_MAXIMOS = 40;
+    private static final long MAXIMO_MEDIBLE = (1L << BITS_MAXIMOS) - 1;
+    private static final int CANTIDAD_BUCKETS = (BITS_MAXIMOS - 1 - BITS_SUB_BUCKET) * SUB_BUCKETS + 2 * SUB_BUCKETS;
+
+    // Índices del resumen
+    private static final int CONTEO = 0;
+    private static final int SUMA = 1;
+    private static final int MAXIMO = 2;
+
+    private final AtomicLongArray conteos;
+    private final AtomicLongArray resumen;
+
+    /**
+     * Constructor que crea un histograma vacío.
+     */
+    public HistogramaLatencia() {
+        this.conteos = new AtomicLongArray(CANTIDAD_BUCKETS);
+        this.resumen = new AtomicLongArray(3);
+    }
+
+    /**
+     * Retorna el bucket de un valor: los valores menores a 128 tienen bucket
+     * propio; el resto se agrupa según sus 7 bits más significativos.
+     */
+    private static int indice(long valor) {
+        long acotado = Math.min(valor, MAXIMO_MEDIBLE);
+        int desplazamiento = Math.max(0, 63 - Long.numberOfLeadingZeros(acotado) - BITS_SUB_BUCKET);
+        return desplazamiento * SUB_BUCKETS + (int) (acotado >>> desplazamiento);
+    }
+
+    /**
+     * Retorna el mayor valor que cae en un bucket.
+     */
+    private static long limiteSuperior(int indice) {
+        if (indice < 2 * SUB_BUCKETS) {
+            return indice;
+        }
+        int desplazamiento = indice / SUB_BUCKETS - 1;
+        long mantisa = indice - (long) desplazamiento * SUB_BUCKETS;
+        return ((mantisa + 1) << desplazamiento) - 1;
+    }
+
+    /**
+     * Registra una latencia en O(1). Los valores negativos cuentan como 0.
+     *
+     * @param nanos Latencia en nanosegundos
+     */
+    public void registrar(long nanos) {
+        long valor = Math.max(0, nanos);
+        int i = indice(valor);
+        conteos.lazySet(i, conteos.get(i) + 1);
+        resumen.lazySet(SUMA, resumen.get(SUMA) + valor);
+        if (valor > resumen.get(MAXIMO)) {
+            resumen.lazySet(MAXIMO, valor);
+        }
+        resumen.lazySet(CONTEO, resumen.get(CONTEO) + 1);
+    }
+
+    /**
+     * Suma a este histograma los valores de otro (que puede seguir
+     * escribiéndose desde otro hilo).
+     *
+     * @param otro Histograma a agregar
+     */
+    public void agregar(HistogramaLatencia otro) {
+        long agregados = 0;
+        for (int i = 0; i < CANTIDAD_BUCKETS; i++) {
+            long conteo = otro.conteos.get(i);
+            if (conteo != 0) {
+                conteos.lazySet(i, conteos.get(i) + conteo);
+                agregados += conteo;
+            }
+        }
+        resumen.lazySet(SUMA, resumen.get(SUMA) + otro.resumen.get(SUMA));
+        resumen.lazySet(MAXIMO, Math.max(resumen.get(MAXIMO), otro.resumen.get(MAXIMO)));
+        resumen.lazySet(CONTEO, resumen.get(CONTEO) + agregados);
+    }
+
+    /**
+     * Calcula un percentil recorriendo los buckets en O(2240).
+     *
+     * @param percentil Percentil entre 0 y 100
+     * @return Límite superior del bucket del percentil (sin pasar del
+     *         máximo), con error relativo menor a 1/64; 0 si está vacío
+     * @throws IllegalArgumentException si el percentil está fuera de rango
+     */
+    public long getPercentil(double percentil) {
+        if (!(percentil >= 0 && percentil <= 100)) {
+            throw new IllegalArgumentException("Percentil fuera de rango: " + percentil);
+        }
+        long total = 0;
+        for (int i = 0; i < CANTIDAD_BUCKETS; i++) {
+            total += conteos.get(i);
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rango = Math.max(1, (long) Math.ceil(percentil / 100 * total));
+        long acumulado = 0;
+        for (int i = 0; i < CANTIDAD_BUCKETS; i++) {
+            acumulado += conteos.get(i);
+            if (acumulado >= rango) {
+                return Math.min(limiteSuperior(i), getMaximo());
+            }
+        }
+        return getMaximo();
+    }
+
+    public long getConteo() {
+        return resumen.get(CONTEO);
+    }
+
+    public long getMaximo() {
+        return resumen.get(MAXIMO);
+    }
+
+    /**
+     * @return Latencia media exacta en nanosegundos, o 0 si está vacío
+     */
+    public double getMedia() {
+        long conteo = getConteo();
+        return conteo == 0 ? 0 : (double) resumen.get(SUMA) / conteo;
+    }
+
+    public boolean isEmpty() {
+        return getConteo() == 0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("n=%d p50=%dns p99=%dns p99.9=%dns max=%dns", getConteo(), getPercentil(50),
+                getPercentil(99), getPercentil(99.9), getMaximo());
+    }
+}
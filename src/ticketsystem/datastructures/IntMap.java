@@ -0,0 +1,201 @@
+/*
+ * Taller Práctico 01 - Sistema de Gestión de Tickets
+ * Estructuras de Datos y Algoritmos - 2026-10
+ *
+ * Integrantes:
+ * - [Nombre Completo 1] - ID: [ID1]
+ * - [Nombre Completo 2] - ID: [ID2]
+ * - [Nombre Completo 3] - ID: [ID3]
+ */
+
+package ticketsystem.datastructures;
+
+/**
+ * Mapa de claves int a valores con direccionamiento abierto (sondeo lineal).
+ * Las claves se guardan en un arreglo de int, sin crear objetos Integer.
+ *
+ * Invariantes:
+ * - No se admiten valores null (null indica posición libre)
+ * - El factor de carga de la tabla no supera 1/2
+ *
+ * @param <V> Tipo de los valores almacenados
+ */
+public class IntMap<V> {
+
+    private static final int CAPACIDAD_INICIAL = 16;
+
+    private int[] claves;
+    private Object[] valores;
+    private int size;
+
+    /**
+     * Constructor que crea un mapa vacío.
+     */
+    public IntMap() {
+        this.claves = new int[CAPACIDAD_INICIAL];
+        this.valores = new Object[CAPACIDAD_INICIAL];
+        this.size = 0;
+    }
+
+    /**
+     * Asocia un valor a una clave, reemplazando el valor anterior si existía.
+     *
+     * @param clave Clave entera
+     * @param valor Valor a asociar
+     * @return El valor anterior, o null si la clave no existía
+     * @throws IllegalArgumentException si el valor es null
+     */
+    @SuppressWarnings("unchecked")
+    public V put(int clave, V valor) {
+        if (valor == null) {
+            throw new IllegalArgumentException("El valor no puede ser null");
+        }
+        if ((size + 1) * 2 > claves.length) {
+            redimensionar(claves.length * 2);
+        }
+
+        int i = buscarPosicion(clave);
+        V anterior = (V) valores[i];
+        claves[i] = clave;
+        valores[i] = valor;
+        if (anterior == null) {
+            size++;
+        }
+        return anterior;
+    }
+
+    /**
+     * Obtiene el valor asociado a una clave.
+     *
+     * @param clave Clave entera
+     * @return El valor asociado, o null si la clave no existe
+     */
+    @SuppressWarnings("unchecked")
+    public V get(int clave) {
+        return (V) valores[buscarPosicion(clave)];
+    }
+
+    /**
+     * Verifica si existe un valor para la clave.
+     *
+     * @param clave Clave entera
+     * @return true si la clave existe, false en caso contrario
+     */
+    public boolean containsKey(int clave) {
+        return valores[buscarPosicion(clave)] != null;
+    }
+
+    /**
+     * Remueve la asociación de una clave.
+     *
+     * @param clave Clave entera
+     * @return El valor removido, o null si la clave no existía
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(int clave) {
+        int i = buscarPosicion(clave);
+        V anterior = (V) valores[i];
+        if (anterior != null) {
+            eliminarPosicion(i);
+            size--;
+        }
+        return anterior;
+    }
+
+    /**
+     * Retorna el número de claves en el mapa.
+     *
+     * @return Número de asociaciones
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Retorna las claves del mapa, en el orden de la tabla.
+     *
+     * @return Arreglo nuevo con las claves
+     */
+    public int[] claves() {
+        int[] resultado = new int[size];
+        int n = 0;
+        for (int i = 0; i < valores.length; i++) {
+            if (valores[i] != null) {
+                resultado[n++] = claves[i];
+            }
+        }
+        return resultado;
+    }
+
+    /**
+     * Verifica si el mapa está vacío.
+     *
+     * @return true si no hay asociaciones, false en caso contrario
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Calcula la posición inicial de una clave en la tabla.
+     */
+    private int indiceInicial(int clave, int mascara) {
+        int h = clave * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & mascara;
+    }
+
+    /**
+     * Retorna la posición donde está la clave, o la primera posición libre
+     * de su secuencia de sondeo si no está.
+     */
+    private int buscarPosicion(int clave) {
+        int mascara = claves.length - 1;
+        int i = indiceInicial(clave, mascara);
+        while (valores[i] != null && claves[i] != clave) {
+            i = (i + 1) & mascara;
+        }
+        return i;
+    }
+
+    /**
+     * Libera una posición reubicando hacia atrás las claves siguientes de la
+     * secuencia de sondeo (eliminación sin lápidas).
+     */
+    private void eliminarPosicion(int libre) {
+        int mascara = claves.length - 1;
+        int i = libre;
+        while (true) {
+            i = (i + 1) & mascara;
+            if (valores[i] == null) {
+                break;
+            }
+            int ideal = indiceInicial(claves[i], mascara);
+            boolean puedeMover = (libre <= i) ? (ideal <= libre || ideal > i) : (ideal <= libre && ideal > i);
+            if (puedeMover) {
+                claves[libre] = claves[i];
+                valores[libre] = valores[i];
+                libre = i;
+            }
+        }
+        claves[libre] = 0;
+        valores[libre] = null;
+    }
+
+    /**
+     * Reconstruye la tabla con una nueva capacidad (potencia de 2).
+     */
+    private void redimensionar(int nuevaCapacidad) {
+        int[] viejasClaves = claves;
+        Object[] viejosValores = valores;
+        claves = new int[nuevaCapacidad];
+        valores = new Object[nuevaCapacidad];
+
+        for (int j = 0; j < viejasClaves.length; j++) {
+            if (viejosValores[j] != null) {
+                int i = buscarPosicion(viejasClaves[j]);
+                claves[i] = viejasClaves[j];
+                valores[i] = viejosValores[j];
+            }
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Taller Práctico 01 - Sistema de Gestión de Tickets
+ * Estructuras de Datos y Algoritmos - 2026-10
+ *
+ * Integrantes:
+ * - [Nombre Completo 1] - ID: [ID1]
+ * - [Nombre Completo 2] - ID: [ID2]
+ * - [Nombre Completo 3] - ID: [ID3]
+ */
+
+package ticketsystem.datastructures;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Cola FIFO sin locks para varios productores y un solo consumidor (MPSC).
+ * 
+ * Cada productor encadena su nodo con un único getAndSet sobre la cola, así
+ * que los productores nunca se bloquean entre sí ni bloquean al consumidor.
+ * El consumidor avanza la cabeza sin operaciones atómicas. Un elemento
+ * puede tardar un instante en ser visible si su productor fue interrumpido
+ * entre el getAndSet y el enlace; poll retorna null en ese caso y lo verá
+ * en una llamada posterior.
+ * 
+ * Invariantes:
+ * - poll, peek e isEmpty solo se llaman desde un hilo consumidor a la vez
+ * - No se admiten elementos null
+ *
+ * @param <T> Tipo de elementos almacenados en la cola
+ */
+public class MpscQueue<T> {
+
+    /**
+     * Clase interna que representa un nodo de la cola.
+     */
+    private static class Node<T> {
+        T data;
+        volatile Node<T> next;
+
+        Node(T data) {
+            this.data = data;
+        }
+    }
+
+    // Último nodo encadenado; lo disputan los productores
+    private final AtomicReference<Node<T>> tail;
+    // Nodo centinela anterior al primer elemento; solo lo usa el consumidor
+    private Node<T> head;
+
+    /**
+     * Constructor que crea una cola vacía.
+     */
+    public MpscQueue() {
+        Node<T> centinela = new Node<>(null);
+        this.head = centinela;
+        this.tail = new AtomicReference<>(centinela);
+    }
+
+    /**
+     * Agrega un elemento al final de la cola. Puede llamarse desde cualquier
+     * hilo.
+     * 
+     * @param element Elemento a agregar
+     * @throws IllegalArgumentException si el elemento es null
+     */
+    public void offer(T element) {
+        if (element == null) {
+            throw new IllegalArgumentException("El elemento no puede ser null");
+        }
+        Node<T> nodo = new Node<>(element);
+        Node<T> anterior = tail.getAndSet(nodo);
+        anterior.next = nodo;
+    }
+
+    /**
+     * Remueve y retorna el primer elemento. Solo para el consumidor.
+     * 
+     * @return El primer elemento, o null si no hay elementos visibles
+     */
+    public T poll() {
+        Node<T> siguiente = head.next;
+        if (siguiente == null) {
+            return null;
+        }
+        T data = siguiente.data;
+        siguiente.data = null;
+        head = siguiente;
+        return data;
+    }
+
+    /**
+     * Retorna el primer elemento sin removerlo. Solo para el consumidor.
+     * 
+     * @return El primer elemento, o null si no hay elementos visibles
+     */
+    public T peek() {
+        Node<T> siguiente = head.next;
+        return siguiente == null ? null : siguiente.data;
+    }
+
+    /**
+     * Verifica si la cola está vacía. Solo para el consumidor.
+     * 
+     * @return true si no hay elementos visibles, false en caso contrario
+     */
+    public boolean isEmpty() {
+        return head.next == null;
+    }
+}
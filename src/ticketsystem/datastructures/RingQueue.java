@@ -0,0 +1,369 @@
+/*
+ * Taller Práctico 01 - Sistema de Gestión de Tickets
+ * Estructuras de Datos y Algoritmos - 2026-10
+ *
+ * Integrantes:
+ * - [Nombre Completo 1] - ID: [ID1]
+ * - [Nombre Completo 2] - ID: [ID2]
+ * - [Nombre Completo 3] - ID: [ID3]
+ */
+
+package ticketsystem.datastructures;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.ObjLongConsumer;
+
+/**
+ * Cola FIFO implementada sobre un arreglo circular que crece al llenarse.
+ * Ofrece la misma API que {@link List} pero sin crear un nodo por elemento,
+ * y con acceso por índice en O(1).
+ * 
+ * Cada elemento agregado recibe una posición absoluta (handle). Con ella,
+ * {@link #removeAt(long, Object)} saca un elemento de cualquier punto en
+ * O(1) dejando un hueco; el orden FIFO de los demás no se altera. Cuando
+ * los huecos superan a los elementos, al llenarse el arreglo o al pedir
+ * get(index) con huecos, la cola se compacta: los elementos pasan a
+ * posiciones contiguas y cada uno que cambia de posición se informa al
+ * reubicador del constructor, para que quien guarde handles los actualice.
+ * Así get es O(1) amortizado y el arreglo crece según los elementos vivos,
+ * no según los huecos.
+ *
+ * @param <T> Tipo de elementos almacenados en la cola
+ */
+public class RingQueue<T> implements Iterable<T> {
+
+    private static final int CAPACIDAD_INICIAL = 16;
+
+    private Object[] elementos;
+    private long head;
+    private long tail;
+    private int size;
+    // Recibe (elemento, nueva posición) al compactar; null si nadie guarda handles
+    private final ObjLongConsumer<? super T> reubicador;
+
+    /**
+     * Constructor que crea una cola vacía, para usar sin guardar handles.
+     */
+    public RingQueue() {
+        this(null);
+    }
+
+    /**
+     * Constructor que crea una cola vacía.
+     * 
+     * @param reubicador Recibe cada elemento que cambia de posición al
+     *                   compactar, con su nueva posición
+     */
+    public RingQueue(ObjLongConsumer<? super T> reubicador) {
+        this.elementos = new Object[CAPACIDAD_INICIAL];
+        this.head = 0;
+        this.tail = 0;
+        this.size = 0;
+        this.reubicador = reubicador;
+    }
+
+    /**
+     * Agrega un elemento al final de la cola (comportamiento FIFO).
+     * 
+     * @param element Elemento a agregar
+     * @return Posición absoluta del elemento, válida para removeAt
+     * @throws IllegalArgumentException si el elemento es null
+     */
+    public long add(T element) {
+        if (element == null) {
+            throw new IllegalArgumentException("El elemento no puede ser null");
+        }
+        if (tail - head == elementos.length) {
+            // Crecer solo si los elementos vivos ocupan al menos la mitad
+            compactar(size * 2 >= elementos.length ? elementos.length * 2 : elementos.length);
+        }
+        long posicion = tail++;
+        elementos[indice(posicion)] = element;
+        size++;
+        return posicion;
+    }
+
+    /**
+     * Remueve y retorna el primer elemento de la cola (comportamiento FIFO).
+     * 
+     * @return El primer elemento de la cola
+     * @throws NoSuchElementException si la cola está vacía
+     */
+    @SuppressWarnings("unchecked")
+    public T remove() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("La cola está vacía");
+        }
+
+        int i = indice(head);
+        T data = (T) elementos[i];
+        elementos[i] = null;
+        head++;
+        size--;
+        descartarHuecos();
+        return data;
+    }
+
+    /**
+     * Remueve en O(1) el elemento que ocupa una posición absoluta.
+     * 
+     * @param posicion Posición devuelta por add
+     * @param esperado Elemento que debería ocupar esa posición
+     * @return true si se removió, false si la posición ya no contiene ese
+     *         elemento
+     */
+    public boolean removeAt(long posicion, T esperado) {
+        if (posicion < head || posicion >= tail) {
+            return false;
+        }
+        int i = indice(posicion);
+        if (elementos[i] != esperado) {
+            return false;
+        }
+
+        elementos[i] = null;
+        size--;
+        descartarHuecos();
+        compactarSiHayMuchosHuecos();
+        return true;
+    }
+
+    /**
+     * Remueve un elemento específico de la cola buscándolo por equals.
+     * Para remover en O(1) usar {@link #removeAt(long, Object)}.
+     * 
+     * @param element Elemento a remover
+     * @return true si el elemento fue removido, false si no se encontró
+     */
+    public boolean removeElement(T element) {
+        for (long p = head; p < tail; p++) {
+            Object actual = elementos[indice(p)];
+            if (actual != null && actual.equals(element)) {
+                elementos[indice(p)] = null;
+                size--;
+                descartarHuecos();
+                compactarSiHayMuchosHuecos();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Obtiene el elemento en la posición especificada (0 es el primero).
+     * Si hay huecos compacta antes la cola, así que invalida los iteradores
+     * en curso.
+     * 
+     * @param index Índice del elemento (0-based)
+     * @return El elemento en la posición especificada
+     * @throws IndexOutOfBoundsException si el índice es inválido
+     */
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Índice fuera de rango: " + index);
+        }
+        if (tail - head != size) {
+            compactar(elementos.length);
+        }
+        return (T) elementos[indice(head + index)];
+    }
+
+    /**
+     * Retorna el primer elemento sin removerlo.
+     * 
+     * @return El primer elemento de la cola
+     * @throws NoSuchElementException si la cola está vacía
+     */
+    @SuppressWarnings("unchecked")
+    public T peek() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("La cola está vacía");
+        }
+        return (T) elementos[indice(head)];
+    }
+
+    /**
+     * Retorna el tamaño de la cola.
+     * 
+     * @return Número de elementos en la cola
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Verifica si la cola está vacía.
+     * 
+     * @return true si la cola está vacía, false en caso contrario
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Convierte una posición absoluta en un índice del arreglo.
+     */
+    private int indice(long posicion) {
+        return (int) posicion & (elementos.length - 1);
+    }
+
+    /**
+     * Avanza la cabeza y retrocede la cola sobre los huecos de los extremos,
+     * de modo que la cabeza siempre apunta a un elemento si la cola no está
+     * vacía.
+     */
+    private void descartarHuecos() {
+        while (head < tail && elementos[indice(head)] == null) {
+            head++;
+        }
+        while (tail > head && elementos[indice(tail - 1)] == null) {
+            tail--;
+        }
+    }
+
+    /**
+     * Compacta la cola si los huecos superan a los elementos. Cada
+     * compactación elimina al menos size huecos, así que su costo se
+     * amortiza entre los removeAt que los crearon.
+     */
+    private void compactarSiHayMuchosHuecos() {
+        if (tail - head - size > size) {
+            compactar(elementos.length);
+        }
+    }
+
+    /**
+     * Copia los elementos vivos, en orden, a posiciones contiguas desde la
+     * cabeza en un arreglo de la capacidad dada (potencia de 2), y avisa al
+     * reubicador de cada elemento que cambió de posición.
+     */
+    @SuppressWarnings("unchecked")
+    private void compactar(int nuevaCapacidad) {
+        Object[] nuevos = new Object[nuevaCapacidad];
+        int mascara = elementos.length - 1;
+        int nuevaMascara = nuevaCapacidad - 1;
+        long destino = head;
+        for (long p = head; p < tail; p++) {
+            Object elemento = elementos[(int) p & mascara];
+            if (elemento == null) {
+                continue;
+            }
+            nuevos[(int) destino & nuevaMascara] = elemento;
+            if (destino != p && reubicador != null) {
+                reubicador.accept((T) elemento, destino);
+            }
+            destino++;
+        }
+        elementos = nuevos;
+        tail = destino;
+    }
+
+    /**
+     * Retorna un iterador que recorre la cola en orden FIFO.
+     * 
+     * @return Iterator sobre los elementos de la cola
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new RingQueueIterator();
+    }
+
+    /**
+     * Clase interna que implementa el iterador para la cola.
+     * Salta los huecos dejados por removeAt.
+     */
+    private class RingQueueIterator implements Iterator<T> {
+        private long posicion = head;
+
+        @Override
+        public boolean hasNext() {
+            while (posicion < tail && elementos[indice(posicion)] == null) {
+                posicion++;
+            }
+            return posicion < tail;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return (T) elementos[indice(posicion++)];
+        }
+    }
+
+    /**
+     * Elemento de prueba que guarda su propio handle, como lo hacen Ticket y Tecnico.
+     */
+    private static class ElementoPrueba {
+        final int id;
+        long posicion;
+
+        ElementoPrueba(int id) {
+            this.id = id;
+        }
+
+        void setPosicion(long posicion) {
+            this.posicion = posicion;
+        }
+    }
+
+    /**
+     * Método main con casos de prueba.
+     */
+    public static void main(String[] args) {
+        System.out.println("=== Pruebas de RingQueue ===\n");
+
+        // Test 1: Cola FIFO simple
+        RingQueue<Integer> simple = new RingQueue<>();
+        for (int i = 0; i < 100; i++) {
+            simple.add(i);
+        }
+        assert simple.size() == 100 && simple.peek() == 0 : "Test 1 falló: Tamaño o frente";
+        for (int i = 0; i < 100; i++) {
+            assert simple.remove() == i : "Test 1 falló: Orden FIFO en " + i;
+        }
+        assert simple.isEmpty() : "Test 1 falló: Cola no vacía";
+        System.out.println("✓ Test 1 pasado: Orden FIFO");
+
+        // Test 2: Compactar los huecos de la cola mantiene los handles válidos
+        RingQueue<ElementoPrueba> anillo = new RingQueue<>(ElementoPrueba::setPosicion);
+        ElementoPrueba[] enAnillo = new ElementoPrueba[64];
+        for (int i = 0; i < enAnillo.length; i++) {
+            enAnillo[i] = new ElementoPrueba(i);
+            enAnillo[i].setPosicion(anillo.add(enAnillo[i]));
+        }
+        for (int i = 1; i < enAnillo.length - 1; i++) {
+            if (i % 4 != 0) {
+                assert anillo.removeAt(enAnillo[i].posicion, enAnillo[i])
+                        : "Test 2 falló: Handle inválido tras compactar " + i;
+            }
+        }
+        assert anillo.size() == 17 : "Test 2 falló: Tamaño tras remover";
+        assert anillo.get(1) == enAnillo[4] && anillo.get(16) == enAnillo[63]
+                : "Test 2 falló: get tras compactar";
+        for (int i = 0; i < 1000; i++) {
+            ElementoPrueba extra = new ElementoPrueba(1000 + i);
+            extra.setPosicion(anillo.add(extra));
+            assert anillo.removeAt(extra.posicion, extra) : "Test 2 falló: Extra " + i;
+        }
+        for (int i = 0; i < enAnillo.length; i += 4) {
+            assert anillo.removeAt(enAnillo[i].posicion, enAnillo[i]) : "Test 2 falló: Handle final " + i;
+        }
+        assert anillo.size() == 1 && anillo.peek() == enAnillo[63] : "Test 2 falló: Orden FIFO";
+        System.out.println("✓ Test 2 pasado: Compactación de huecos en la cola");
+
+        // Test 3: Un handle obsoleto o ajeno no remueve nada
+        ElementoPrueba ultimo = enAnillo[63];
+        assert !anillo.removeAt(ultimo.posicion + 1, ultimo) : "Test 3 falló: Handle fuera de rango";
+        assert !anillo.removeAt(ultimo.posicion, enAnillo[0]) : "Test 3 falló: Elemento ajeno";
+        assert anillo.removeAt(ultimo.posicion, ultimo) && anillo.isEmpty() : "Test 3 falló: Remoción válida";
+        assert !anillo.removeAt(ultimo.posicion, ultimo) : "Test 3 falló: Handle ya usado";
+        System.out.println("✓ Test 3 pasado: Handles obsoletos");
+
+        System.out.println("\n=== Todas las pruebas de RingQueue pasaron ===");
+    }
+}
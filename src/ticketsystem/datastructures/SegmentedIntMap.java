@@ -0,0 +1,153 @@
+/*
+ * Taller Práctico 01 - Sistema de Gestión de Tickets
+ * Estructuras de Datos y Algoritmos - 2026-10
+ *
+ * Integrantes:
+ * - [Nombre Completo 1] - ID: [ID1]
+ * - [Nombre Completo 2] - ID: [ID2]
+ * - [Nombre Completo 3] - ID: [ID3]
+ */
+
+package ticketsystem.datastructures;
+
+import java.util.Arrays;
+
+/**
+ * Mapa de claves int no negativas a valores, pensado para claves densas y
+ * secuenciales (como los IDs de ticket). La clave se usa directamente como
+ * índice: los segmentos de tamaño fijo se crean al primer uso y se liberan
+ * cuando quedan vacíos, así que get/put/remove son O(1) sin hashing.
+ *
+ * Invariantes:
+ * - Las claves son mayores o iguales a 0
+ * - No se admiten valores null (null indica clave ausente)
+ *
+ * @param <V> Tipo de los valores almacenados
+ */
+public class SegmentedIntMap<V> {
+
+    private static final int BITS_SEGMENTO = 10;
+    private static final int TAMANO_SEGMENTO = 1 << BITS_SEGMENTO;
+    private static final int MASCARA_SEGMENTO = TAMANO_SEGMENTO - 1;
+
+    private Object[][] segmentos;
+    private int[] ocupadosPorSegmento;
+    private int size;
+
+    /**
+     * Constructor que crea un mapa vacío.
+     */
+    public SegmentedIntMap() {
+        this.segmentos = new Object[8][];
+        this.ocupadosPorSegmento = new int[8];
+        this.size = 0;
+    }
+
+    /**
+     * Asocia un valor a una clave, reemplazando el valor anterior si existía.
+     *
+     * @param clave Clave entera no negativa
+     * @param valor Valor a asociar
+     * @return El valor anterior, o null si la clave no existía
+     * @throws IllegalArgumentException si la clave es negativa o el valor null
+     */
+    @SuppressWarnings("unchecked")
+    public V put(int clave, V valor) {
+        if (clave < 0) {
+            throw new IllegalArgumentException("La clave no puede ser negativa: " + clave);
+        }
+        if (valor == null) {
+            throw new IllegalArgumentException("El valor no puede ser null");
+        }
+
+        int s = clave >>> BITS_SEGMENTO;
+        if (s >= segmentos.length) {
+            int nuevaLongitud = segmentos.length;
+            while (nuevaLongitud <= s) {
+                nuevaLongitud *= 2;
+            }
+            segmentos = Arrays.copyOf(segmentos, nuevaLongitud);
+            ocupadosPorSegmento = Arrays.copyOf(ocupadosPorSegmento, nuevaLongitud);
+        }
+        if (segmentos[s] == null) {
+            segmentos[s] = new Object[TAMANO_SEGMENTO];
+        }
+
+        int i = clave & MASCARA_SEGMENTO;
+        V anterior = (V) segmentos[s][i];
+        segmentos[s][i] = valor;
+        if (anterior == null) {
+            ocupadosPorSegmento[s]++;
+            size++;
+        }
+        return anterior;
+    }
+
+    /**
+     * Obtiene el valor asociado a una clave.
+     *
+     * @param clave Clave entera
+     * @return El valor asociado, o null si la clave no existe
+     */
+    @SuppressWarnings("unchecked")
+    public V get(int clave) {
+        if (clave < 0) {
+            return null;
+        }
+        int s = clave >>> BITS_SEGMENTO;
+        if (s >= segmentos.length || segmentos[s] == null) {
+            return null;
+        }
+        return (V) segmentos[s][clave & MASCARA_SEGMENTO];
+    }
+
+    /**
+     * Verifica si existe un valor para la clave.
+     *
+     * @param clave Clave entera
+     * @return true si la clave existe, false en caso contrario
+     */
+    public boolean containsKey(int clave) {
+        return get(clave) != null;
+    }
+
+    /**
+     * Remueve la asociación de una clave. Si el segmento queda vacío se
+     * libera para que el recolector de basura lo reclame.
+     *
+     * @param clave Clave entera
+     * @return El valor removido, o null si la clave no existía
+     */
+    public V remove(int clave) {
+        V anterior = get(clave);
+        if (anterior == null) {
+            return null;
+        }
+
+        int s = clave >>> BITS_SEGMENTO;
+        segmentos[s][clave & MASCARA_SEGMENTO] = null;
+        size--;
+        if (--ocupadosPorSegmento[s] == 0) {
+            segmentos[s] = null;
+        }
+        return anterior;
+    }
+
+    /**
+     * Retorna el número de claves en el mapa.
+     *
+     * @return Número de asociaciones
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Verifica si el mapa está vacío.
+     *
+     * @return true si no hay asociaciones, false en caso contrario
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+}
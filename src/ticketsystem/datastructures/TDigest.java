@@ -0,0 +1,366 @@
+/*
+ * Taller Práctico 01 - Sistema de Gestión de Tickets
+ * Estructuras de Datos y Algoritmos - 2026-10
+ *
+ * Integrantes:
+ * - [Nombre Completo 1] - ID: [ID1]
+ * - [Nombre Completo 2] - ID: [ID2]
+ * - [Nombre Completo 3] - ID: [ID3]
+ */
+
+package ticketsystem.datastructures;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Resumen de cuantiles t-digest (variante "merging" de Dunning): aproxima
+ * la distribución de una secuencia de valores con a lo sumo ~compresión
+ * centroides, más pequeños cerca de los extremos, así que los percentiles
+ * altos (p99) son más precisos que los centrales. La memoria es fija sin
+ * importar cuántos valores se agreguen, y dos resúmenes se pueden combinar
+ * con merge.
+ *
+ * Los valores nuevos se acumulan en un buffer; cuando se llena (o al
+ * consultar) se ordenan junto con los centroides y se vuelven a agrupar en
+ * una pasada, limitando el peso de cada centroide con una función de
+ * escala logarítmica que deja centroides de un solo valor en los extremos.
+ *
+ * Invariantes:
+ * - Los centroides están ordenados por media
+ * - Cada centroide abarca a lo sumo una unidad de k
+ * - El mínimo y el máximo son exactos
+ */
+public class TDigest {
+
+    private static final int COMPRESION_POR_DEFECTO = 200;
+
+    private final double compresion;
+    private final double[] medias;
+    private final double[] pesos;
+    private int centroides;
+    private final double[] bufferMedias;
+    private final double[] bufferPesos;
+    private int enBuffer;
+    private double pesoTotal;
+    private double minimo;
+    private double maximo;
+
+    /**
+     * Constructor que crea un resumen vacío con compresión 200: unos 130
+     * centroides y ~10 KB, con error típico menor a 0,5% en p50, p90 y p99.
+     */
+    public TDigest() {
+        this(COMPRESION_POR_DEFECTO);
+    }
+
+    /**
+     * Constructor que crea un resumen vacío.
+     *
+     * @param compresion Número aproximado de centroides; más centroides dan
+     *                   más precisión a cambio de más memoria
+     * @throws IllegalArgumentException si la compresión es menor a 10
+     */
+    public TDigest(int compresion) {
+        if (compresion < 10) {
+            throw new IllegalArgumentException("La compresión debe ser al menos 10: " + compresion);
+        }
+        this.compresion = compresion;
+        int capacidad = 2 * compresion + 10;
+        this.medias = new double[capacidad];
+        this.pesos = new double[capacidad];
+        this.bufferMedias = new double[compresion];
+        this.bufferPesos = new double[compresion];
+        this.minimo = Double.POSITIVE_INFINITY;
+        this.maximo = Double.NEGATIVE_INFINITY;
+    }
+
+    /**
+     * Agrega un valor en O(1) amortizado.
+     *
+     * @param valor Valor a agregar
+     * @throws IllegalArgumentException si el valor es NaN
+     */
+    public void add(double valor) {
+        add(valor, 1);
+    }
+
+    /**
+     * Agrega un valor con un peso (equivale a agregarlo peso veces).
+     *
+     * @param valor Valor a agregar
+     * @param peso  Peso positivo
+     * @throws IllegalArgumentException si el valor es NaN o el peso no es
+     *                                  positivo
+     */
+    public void add(double valor, double peso) {
+        if (Double.isNaN(valor)) {
+            throw new IllegalArgumentException("El valor no puede ser NaN");
+        }
+        if (!(peso > 0)) {
+            throw new IllegalArgumentException("El peso debe ser positivo: " + peso);
+        }
+        if (enBuffer == bufferMedias.length) {
+            comprimir();
+        }
+        bufferMedias[enBuffer] = valor;
+        bufferPesos[enBuffer] = peso;
+        enBuffer++;
+        pesoTotal += peso;
+        minimo = Math.min(minimo, valor);
+        maximo = Math.max(maximo, valor);
+    }
+
+    /**
+     * Agrega a este resumen todos los valores de otro. El otro no cambia
+     * (salvo que vacía su buffer).
+     *
+     * @param otro Resumen a combinar
+     */
+    public void merge(TDigest otro) {
+        otro.comprimir();
+        for (int i = 0; i < otro.centroides; i++) {
+            add(otro.medias[i], otro.pesos[i]);
+        }
+        if (!otro.isEmpty()) {
+            minimo = Math.min(minimo, otro.minimo);
+            maximo = Math.max(maximo, otro.maximo);
+        }
+    }
+
+    /**
+     * Ordena el buffer junto con los centroides y los vuelve a agrupar.
+     */
+    private void comprimir() {
+        if (enBuffer == 0) {
+            return;
+        }
+        ordenar(bufferMedias, bufferPesos, 0, enBuffer - 1);
+
+        // Mezcla de los centroides (ya ordenados) con el buffer ordenado
+        double[] auxMedias = new double[centroides + enBuffer];
+        double[] auxPesos = new double[centroides + enBuffer];
+        int n = 0;
+        int i = 0;
+        int j = 0;
+        while (i < centroides || j < enBuffer) {
+            if (j == enBuffer || (i < centroides && medias[i] <= bufferMedias[j])) {
+                auxMedias[n] = medias[i];
+                auxPesos[n++] = pesos[i++];
+            } else {
+                auxMedias[n] = bufferMedias[j];
+                auxPesos[n++] = bufferPesos[j++];
+            }
+        }
+        enBuffer = 0;
+
+        // Agrupar de izquierda a derecha mientras el centroide no pase de
+        // una unidad de k desde su borde izquierdo
+        centroides = 0;
+        double media = auxMedias[0];
+        double peso = auxPesos[0];
+        double acumulado = 0;
+        double limite = cuantilDeK(kDeCuantil(0) + 1);
+        for (int k = 1; k < n; k++) {
+            if ((acumulado + peso + auxPesos[k]) / pesoTotal <= limite) {
+                peso += auxPesos[k];
+                media += (auxMedias[k] - media) * auxPesos[k] / peso;
+            } else {
+                medias[centroides] = media;
+                pesos[centroides++] = peso;
+                acumulado += peso;
+                limite = cuantilDeK(kDeCuantil(acumulado / pesoTotal) + 1);
+                media = auxMedias[k];
+                peso = auxPesos[k];
+            }
+        }
+        medias[centroides] = media;
+        pesos[centroides++] = peso;
+    }
+
+    /**
+     * Función de escala logarítmica k2 = compresión / Z · ln(q / (1 - q)),
+     * con Z = 4 ln(n / compresión) + 24: los centroides se achican sin
+     * límite hacia ambos extremos.
+     */
+    private double kDeCuantil(double q) {
+        return compresion / normalizador() * Math.log(q / (1 - q));
+    }
+
+    private double cuantilDeK(double k) {
+        return 1 / (1 + Math.exp(-k * normalizador() / compresion));
+    }
+
+    private double normalizador() {
+        return 4 * Math.log(Math.max(1, pesoTotal / compresion)) + 24;
+    }
+
+    /**
+     * Ordena por media dos arreglos paralelos (quicksort con inserción en
+     * rangos pequeños).
+     */
+    private static void ordenar(double[] m, double[] w, int desde, int hasta) {
+        while (hasta - desde > 16) {
+            double pivote = m[(desde + hasta) >>> 1];
+            int i = desde;
+            int j = hasta;
+            while (i <= j) {
+                while (m[i] < pivote) {
+                    i++;
+                }
+                while (m[j] > pivote) {
+                    j--;
+                }
+                if (i <= j) {
+                    intercambiar(m, w, i++, j--);
+                }
+            }
+            // Recursión sobre la mitad menor para acotar la pila
+            if (j - desde < hasta - i) {
+                ordenar(m, w, desde, j);
+                desde = i;
+            } else {
+                ordenar(m, w, i, hasta);
+                hasta = j;
+            }
+        }
+        for (int i = desde + 1; i <= hasta; i++) {
+            for (int j = i; j > desde && m[j - 1] > m[j]; j--) {
+                intercambiar(m, w, j - 1, j);
+            }
+        }
+    }
+
+    private static void intercambiar(double[] m, double[] w, int a, int b) {
+        double t = m[a];
+        m[a] = m[b];
+        m[b] = t;
+        t = w[a];
+        w[a] = w[b];
+        w[b] = t;
+    }
+
+    /**
+     * Estima un cuantil interpolando entre los centros de los centroides
+     * vecinos (y el mínimo o máximo exacto en los extremos).
+     *
+     * @param q Cuantil entre 0 y 1 (0.99 para p99)
+     * @return Valor estimado, o NaN si el resumen está vacío
+     * @throws IllegalArgumentException si q está fuera de [0, 1]
+     */
+    public double quantile(double q) {
+        if (!(q >= 0 && q <= 1)) {
+            throw new IllegalArgumentException("Cuantil fuera de rango: " + q);
+        }
+        if (isEmpty()) {
+            return Double.NaN;
+        }
+        if (q == 0) {
+            return minimo;
+        }
+        if (q == 1) {
+            return maximo;
+        }
+        comprimir();
+
+        double indice = q * pesoTotal;
+        // Antes del centro del primer centroide: entre el mínimo y su media
+        double centro = pesos[0] / 2;
+        if (indice < centro) {
+            return minimo + (medias[0] - minimo) * indice / centro;
+        }
+        for (int i = 0; i < centroides - 1; i++) {
+            double siguiente = centro + (pesos[i] + pesos[i + 1]) / 2;
+            if (indice < siguiente) {
+                return medias[i] + (medias[i + 1] - medias[i]) * (indice - centro) / (siguiente - centro);
+            }
+            centro = siguiente;
+        }
+        // Después del centro del último centroide: entre su media y el máximo
+        double resto = pesoTotal - centro;
+        return medias[centroides - 1] + (maximo - medias[centroides - 1]) * (indice - centro) / resto;
+    }
+
+    /**
+     * @return Número de valores agregados (suma de pesos)
+     */
+    public double size() {
+        return pesoTotal;
+    }
+
+    public boolean isEmpty() {
+        return pesoTotal == 0;
+    }
+
+    /**
+     * @return Mínimo exacto, o NaN si está vacío
+     */
+    public double getMinimo() {
+        return isEmpty() ? Double.NaN : minimo;
+    }
+
+    /**
+     * @return Máximo exacto, o NaN si está vacío
+     */
+    public double getMaximo() {
+        return isEmpty() ? Double.NaN : maximo;
+    }
+
+    /**
+     * @return Número de centroides tras comprimir (a lo sumo ~compresión)
+     */
+    public int getCentroides() {
+        comprimir();
+        return centroides;
+    }
+
+    /**
+     * Método main con casos de prueba.
+     */
+    public static void main(String[] args) {
+        System.out.println("=== Pruebas de TDigest ===\n");
+
+        Random aleatorio = new Random(21);
+        double[] valores = new double[100_000];
+        TDigest digest = new TDigest();
+        TDigest mitadA = new TDigest();
+        TDigest mitadB = new TDigest();
+        for (int i = 0; i < valores.length; i++) {
+            valores[i] = 30 * Math.exp(aleatorio.nextGaussian());
+            digest.add(valores[i]);
+            (i % 2 == 0 ? mitadA : mitadB).add(valores[i]);
+        }
+        Arrays.sort(valores);
+
+        // Test 1: Cuantiles de una distribución sesgada con error menor al 1%
+        for (double q : new double[] { 0.5, 0.9, 0.99 }) {
+            double exacto = valores[(int) (q * valores.length)];
+            assert Math.abs(digest.quantile(q) - exacto) / exacto < 0.01 : "Test 1 falló: Cuantil " + q;
+        }
+        assert digest.size() == valores.length : "Test 1 falló: Tamaño incorrecto";
+        System.out.println("✓ Test 1 pasado: Cuantiles aproximados");
+
+        // Test 2: Memoria fija, mínimo y máximo exactos
+        assert digest.getCentroides() <= 200 : "Test 2 falló: Demasiados centroides";
+        assert digest.getMinimo() == valores[0] : "Test 2 falló: Mínimo exacto";
+        assert digest.getMaximo() == valores[valores.length - 1] : "Test 2 falló: Máximo exacto";
+        System.out.println("✓ Test 2 pasado: Centroides acotados y extremos exactos");
+
+        // Test 3: Combinar dos mitades equivale a resumir todo
+        mitadA.merge(mitadB);
+        assert mitadA.size() == valores.length : "Test 3 falló: Tamaño combinado";
+        for (double q : new double[] { 0.5, 0.9, 0.99 }) {
+            double exacto = valores[(int) (q * valores.length)];
+            assert Math.abs(mitadA.quantile(q) - exacto) / exacto < 0.01 : "Test 3 falló: Combinado " + q;
+        }
+        System.out.println("✓ Test 3 pasado: Resúmenes combinados");
+
+        // Test 4: Resumen vacío
+        TDigest vacio = new TDigest();
+        assert vacio.isEmpty() && Double.isNaN(vacio.quantile(0.5)) : "Test 4 falló: Cuantil de un resumen vacío";
+        assert Double.isNaN(vacio.getMaximo()) : "Test 4 falló: Máximo de un resumen vacío";
+        System.out.println("✓ Test 4 pasado: Resumen vacío");
+
+        System.out.println("\n=== Todas las pruebas de TDigest pasaron ===");
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Taller Práctico 01 - Sistema de Gestión de Tickets
+ * Estructuras de Datos y Algoritmos - 2026-10
+ *
+ * Integrantes:
+ * - [Nombre Completo 1] - ID: [ID1]
+ * - [Nombre Completo 2] - ID: [ID2]
+ * - [Nombre Completo 3] - ID: [ID3]
+ */
+
+package ticketsystem.enums;
+
+/**
+ * Enum que define las operaciones de TicketSystem que mide
+ * MetricasOperaciones.
+ *
+ * Operaciones medidas:
+ * - CREAR_TICKET: crearTicket
+ * - ASIGNAR_AUTOMATICO: asignarTicketAutomatico (también sin resultado)
+ * - ASIGNAR_LOTE: asignarLote y asignarTodos
+ * - ASIGNAR_MANUAL: asignarTicketManual
+ * - CAMBIAR_ESTADO: cambiarEstadoTicket
+ * - RESOLVER: resolverTicket
+ * - CERRAR: cerrarTicket
+ * - ARCHIVAR: archivarCerrados
+ * - AGREGAR_TECNICO: agregarTecnico
+ * - CONSULTAR_POR_ESTADO: obtenerTicketsPorEstado
+ * - CONSULTAR_POR_CATEGORIA: obtenerTicketsPorCategoria
+ * - CONSULTAR_POR_CATEGORIA_Y_ESTADO: obtenerTickets
+ * - BUSCAR_TICKET: buscarTicketPorId
+ * - ESTADISTICAS: obtenerEstadisticas y generarEstadisticas
+ * - DESPACHO_OBSERVADORES: entrega de un evento (o lote de eventos) a sus
+ * suscriptores; también queda incluido en la operación que lo provocó
+ */
+public enum OperacionSistema {
+    CREAR_TICKET,
+    ASIGNAR_AUTOMATICO,
+    ASIGNAR_LOTE,
+    ASIGNAR_MANUAL,
+    CAMBIAR_ESTADO,
+    RESOLVER,
+    CERRAR,
+    ARCHIVAR,
+    AGREGAR_TECNICO,
+    CONSULTAR_POR_ESTADO,
+    CONSULTAR_POR_CATEGORIA,
+    CONSULTAR_POR_CATEGORIA_Y_ESTADO,
+    BUSCAR_TICKET,
+    ESTADISTICAS,
+    DESPACHO_OBSERVADORES
+}
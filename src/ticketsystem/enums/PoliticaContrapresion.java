@@ -0,0 +1,28 @@
+/*
+ * Taller Práctico 01 - Sistema de Gestión de Tickets
+ * Estructuras de Datos y Algoritmos - 2026-10
+ *
+ * Integrantes:
+ * - [Nombre Completo 1] - ID: [ID1]
+ * - [Nombre Completo 2] - ID: [ID2]
+ * - [Nombre Completo 3] - ID: [ID3]
+ */
+
+package ticketsystem.enums;
+
+/**
+ * Enum que define qué hacer cuando el buffer de eventos del despacho
+ * asíncrono de observadores se llena.
+ * 
+ * Políticas válidas:
+ * - BLOQUEAR: El hilo que publica espera a que haya espacio (no se pierden
+ * eventos)
+ * - DESCARTAR: El evento se descarta si el buffer está lleno
+ * - MUESTREAR: Con el buffer a más de la mitad solo se publica uno de cada N
+ * eventos; si está lleno se descarta
+ */
+public enum PoliticaContrapresion {
+    BLOQUEAR,
+    DESCARTAR,
+    MUESTREAR
+}
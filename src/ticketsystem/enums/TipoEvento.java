@@ -0,0 +1,31 @@
+/*
+ * Taller Práctico 01 - Sistema de Gestión de Tickets
+ * Estructuras de Datos y Algoritmos - 2026-10
+ *
+ * Integrantes:
+ * - [Nombre Completo 1] - ID: [ID1]
+ * - [Nombre Completo 2] - ID: [ID2]
+ * - [Nombre Completo 3] - ID: [ID3]
+ */
+
+package ticketsystem.enums;
+
+/**
+ * Enum que define los tipos de evento a los que puede suscribirse un
+ * observador del sistema.
+ * 
+ * Tipos válidos:
+ * - CREADO: Se creó un ticket (onTicketCreado / onTicketsCreados)
+ * - ASIGNADO: Se asignó un ticket (onTicketAsignado / onTicketsAsignados)
+ * - RESUELTO: Se resolvió un ticket (onTicketResuelto / onTicketsResueltos)
+ * - CAMBIO_ESTADO: Cambió el estado de un ticket, por cualquier vía
+ * (onEstadoCambiado)
+ * - CERRADO: Se cerró un ticket (onTicketCerrado)
+ */
+public enum TipoEvento {
+    CREADO,
+    ASIGNADO,
+    RESUELTO,
+    CAMBIO_ESTADO,
+    CERRADO
+}
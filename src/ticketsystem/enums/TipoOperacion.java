@@ -0,0 +1,35 @@
+/*
+ * Taller Práctico 01 - Sistema de Gestión de Tickets
+ * Estructuras de Datos y Algoritmos - 2026-10
+ *
+ * Integrantes:
+ * - [Nombre Completo 1] - ID: [ID1]
+ * - [Nombre Completo 2] - ID: [ID2]
+ * - [Nombre Completo 3] - ID: [ID3]
+ */
+
+package ticketsystem.enums;
+
+/**
+ * Enum que define los tipos de operación de una traza de carga.
+ *
+ * Tipos válidos:
+ * - AGREGAR_TECNICO: Registrar un técnico con una especialidad
+ * - CREAR: Crear un ticket de una categoría para un cliente
+ * - ASIGNAR: Asignación automática del siguiente ticket pendiente
+ * - CAMBIAR_ESTADO: Cambiar el estado de un ticket (cambiarEstadoTicket)
+ * - RESOLVER: Resolver un ticket y liberar a su técnico
+ * - CERRAR: Cerrar un ticket resuelto
+ * - CONSULTAR_ESTADO: Consultar los tickets en un estado
+ * - CONSULTAR_ESTADISTICAS: Consultar las estadísticas del sistema
+ */
+public enum TipoOperacion {
+    AGREGAR_TECNICO,
+    CREAR,
+    ASIGNAR,
+    CAMBIAR_ESTADO,
+    RESOLVER,
+    CERRAR,
+    CONSULTAR_ESTADO,
+    CONSULTAR_ESTADISTICAS
+}
@@ -0,0 +1,73 @@
+/*
+ * Taller Práctico 01 - Sistema de Gestión de Tickets
+ * Estructuras de Datos y Algoritmos - 2026-10
+ *
+ * Integrantes:
+ * - [Nombre Completo 1] - ID: [ID1]
+ * - [Nombre Completo 2] - ID: [ID2]
+ * - [Nombre Completo 3] - ID: [ID3]
+ */
+
+package ticketsystem.interfaces;
+
+import ticketsystem.enums.Categoria;
+import ticketsystem.enums.Estado;
+
+/**
+ * Interfaz que adapta un sistema de tickets para reproducir trazas de
+ * carga. Permite medir distintas implementaciones (ticketsystem y
+ * javaOptimo) con la misma traza.
+ *
+ * Una operación inválida en el sistema (por ejemplo, resolver un ticket que
+ * no está en progreso) debe lanzar IllegalStateException o
+ * IllegalArgumentException; una operación que el sistema no ofrece debe
+ * lanzar UnsupportedOperationException.
+ */
+public interface SistemaReproducible {
+
+    /**
+     * Registra un técnico.
+     *
+     * @param tecnicoId    ID del técnico
+     * @param especialidad Especialidad del técnico
+     */
+    void agregarTecnico(int tecnicoId, Categoria especialidad);
+
+    /**
+     * Crea un ticket.
+     *
+     * @param descripcion Descripción del problema
+     * @param categoria   Categoría del ticket
+     * @param clienteId   ID del cliente que lo reporta
+     * @return ID que el sistema asignó al ticket
+     */
+    int crearTicket(String descripcion, Categoria categoria, int clienteId);
+
+    /**
+     * Asigna automáticamente el siguiente ticket pendiente.
+     *
+     * @return true si se asignó un ticket
+     */
+    boolean asignarTicketAutomatico();
+
+    void cambiarEstadoTicket(int ticketId, Estado nuevoEstado);
+
+    void resolverTicket(int ticketId);
+
+    void cerrarTicket(int ticketId);
+
+    /**
+     * Consulta los tickets en un estado.
+     *
+     * @param estado Estado a consultar
+     * @return Número de tickets encontrados
+     */
+    int consultarTicketsPorEstado(Estado estado);
+
+    /**
+     * Consulta las estadísticas del sistema.
+     *
+     * @return Estadísticas en el formato del sistema
+     */
+    Object consultarEstadisticas();
+}
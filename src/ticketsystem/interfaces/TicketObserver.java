@@ -11,6 +11,8 @@
 package ticketsystem.interfaces;
 
 import ticketsystem.adt.Ticket;
+import ticketsystem.enums.Estado;
+import java.util.List;
 
 /**
  * Interfaz para observadores de eventos del sistema.
@@ -27,6 +29,18 @@ public interface TicketObserver {
      */
     void onTicketCreado(Ticket ticket);
 
+    /**
+     * Notifica un lote de tickets creados (importaciones o eventos
+     * coalescidos). Por defecto notifica cada ticket con onTicketCreado.
+     * 
+     * @param tickets Tickets creados, en orden de creación
+     */
+    default void onTicketsCreados(List<Ticket> tickets) {
+        for (Ticket ticket : tickets) {
+            onTicketCreado(ticket);
+        }
+    }
+
     /**
      * Notifica cuando un ticket es asignado.
      * 
@@ -34,10 +48,56 @@ public interface TicketObserver {
      */
     void onTicketAsignado(Ticket ticket);
 
+    /**
+     * Notifica un lote de asignaciones hechas en una sola operación.
+     * Por defecto notifica cada ticket con onTicketAsignado.
+     * 
+     * @param tickets Tickets asignados, en orden de asignación
+     */
+    default void onTicketsAsignados(List<Ticket> tickets) {
+        for (Ticket ticket : tickets) {
+            onTicketAsignado(ticket);
+        }
+    }
+
     /**
      * Notifica cuando un ticket es resuelto.
      * 
      * @param ticket Ticket resuelto
      */
     void onTicketResuelto(Ticket ticket);
+
+    /**
+     * Notifica un lote de tickets resueltos. Por defecto notifica cada ticket
+     * con onTicketResuelto.
+     * 
+     * @param tickets Tickets resueltos, en orden de resolución
+     */
+    default void onTicketsResueltos(List<Ticket> tickets) {
+        for (Ticket ticket : tickets) {
+            onTicketResuelto(ticket);
+        }
+    }
+
+    /**
+     * Notifica cada cambio de estado de un ticket, venga de
+     * cambiarEstadoTicket, de asignar, resolver o cerrar, o de un
+     * Ticket.cambiarEstado directo. Llega antes que el evento propio de la
+     * operación (por ejemplo onTicketAsignado); con la ventana de eventos
+     * activa se retiene con ella (ver TicketSystem.configurarVentanaEventos).
+     * Por defecto no hace nada.
+     * 
+     * @param ticket   Ticket que cambió de estado
+     * @param anterior Estado previo del ticket
+     */
+    default void onEstadoCambiado(Ticket ticket, Estado anterior) {
+    }
+
+    /**
+     * Notifica cuando un ticket es cerrado. Por defecto no hace nada.
+     * 
+     * @param ticket Ticket cerrado
+     */
+    default void onTicketCerrado(Ticket ticket) {
+    }
 }
@@ -12,7 +12,6 @@ package ticketsystem.iterators;
 
 import ticketsystem.adt.Ticket;
 import ticketsystem.enums.Categoria;
-import ticketsystem.datastructures.Bag;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 
@@ -29,10 +28,10 @@ public class TicketsByCategoryIterator implements Iterator<Ticket> {
     /**
      * Constructor que crea un iterador filtrado por categoría.
      * 
-     * @param tickets   Bag de tickets a iterar
+     * @param tickets   Colección de tickets a iterar
      * @param categoria Categoría por la cual filtrar
      */
-    public TicketsByCategoryIterator(Bag<Ticket> tickets, Categoria categoria) {
+    public TicketsByCategoryIterator(Iterable<Ticket> tickets, Categoria categoria) {
         this.baseIterator = tickets.iterator();
         this.categoriaFiltro = categoria;
         this.nextTicket = null;
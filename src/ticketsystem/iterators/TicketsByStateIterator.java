@@ -12,7 +12,6 @@ package ticketsystem.iterators;
 
 import ticketsystem.adt.Ticket;
 import ticketsystem.enums.Estado;
-import ticketsystem.datastructures.Bag;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 
@@ -29,10 +28,10 @@ public class TicketsByStateIterator implements Iterator<Ticket> {
     /**
      * Constructor que crea un iterador filtrado por estado.
      * 
-     * @param tickets Bag de tickets a iterar
+     * @param tickets Colección de tickets a iterar
      * @param estado  Estado por el cual filtrar
      */
-    public TicketsByStateIterator(Bag<Ticket> tickets, Estado estado) {
+    public TicketsByStateIterator(Iterable<Ticket> tickets, Estado estado) {
         this.baseIterator = tickets.iterator();
         this.estadoFiltro = estado;
         this.nextTicket = null;
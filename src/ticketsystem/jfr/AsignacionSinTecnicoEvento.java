@@ -0,0 +1,22 @@
+/*
+ * Taller Práctico 01 - Sistema de Gestión de Tickets
+ * Estructuras de Datos y Algoritmos - 2026-10
+ *
+ * Integrantes:
+ * - [Nombre Completo 1] - ID: [ID1]
+ * - [Nombre Completo 2] - ID: [ID2]
+ * - [Nombre Completo 3] - ID: [ID3]
+ */
+
+package ticketsystem.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("ticketsystem.AsignacionSinTecnico")
+@Label("Asignación sin técnico")
+@Description("Una asignación automática no encontró técnico libre para ningún pendiente; "
+        + "el ticket es el pendiente más antiguo")
+class AsignacionSinTecnicoEvento extends EventoTicket {
+}
@@ -0,0 +1,34 @@
+/*
+ * Taller Práctico 01 - Sistema de Gestión de Tickets
+ * Estructuras de Datos y Algoritmos - 2026-10
+ *
+ * Integrantes:
+ * - [Nombre Completo 1] - ID: [ID1]
+ * - [Nombre Completo 2] - ID: [ID2]
+ * - [Nombre Completo 3] - ID: [ID3]
+ */
+
+package ticketsystem.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Evento de duración de un despacho a observadores. Se obtiene con
+ * EventosJfr.iniciarDespacho y se emite con EventosJfr.terminarDespacho.
+ */
+@Name("ticketsystem.DespachoObservadores")
+@Label("Despacho a observadores")
+@Description("Entrega de un evento, o de un lote de eventos, a sus suscriptores; el ticket es el primero del lote")
+public final class DespachoObservadoresEvento extends EventoTicket {
+
+    @Label("Tipo de evento")
+    String tipoEvento;
+
+    @Label("Observadores")
+    int observadores;
+
+    @Label("Tickets")
+    int tickets;
+}
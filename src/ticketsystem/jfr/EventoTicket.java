@@ -0,0 +1,37 @@
+/*
+ * Taller Práctico 01 - Sistema de Gestión de Tickets
+ * Estructuras de Datos y Algoritmos - 2026-10
+ *
+ * Integrantes:
+ * - [Nombre Completo 1] - ID: [ID1]
+ * - [Nombre Completo 2] - ID: [ID2]
+ * - [Nombre Completo 3] - ID: [ID3]
+ */
+
+package ticketsystem.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+/**
+ * Campos comunes de los eventos de JFR sobre un ticket: su ID, su
+ * categoría y la profundidad de la cola de pendientes al emitir el evento.
+ */
+@Category({ "Sistema de Tickets" })
+@StackTrace(false)
+abstract class EventoTicket extends Event {
+
+    @Label("ID del ticket")
+    int ticketId;
+
+    @Label("Categoría")
+    String categoria;
+
+    @Label("Pendientes")
+    int profundidadCola;
+
+    @Label("Pendientes de la categoría")
+    int profundidadCategoria;
+}
@@ -0,0 +1,247 @@
+/*
+ * Taller Práctico 01 - Sistema de Gestión de Tickets
+ * Estructuras de Datos y Algoritmos - 2026-10
+ *
+ * Integrantes:
+ * - [Nombre Completo 1] - ID: [ID1]
+ * - [Nombre Completo 2] - ID: [ID2]
+ * - [Nombre Completo 3] - ID: [ID3]
+ */
+
+package ticketsystem.jfr;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import ticketsystem.adt.Cliente;
+import ticketsystem.adt.ColaPendientes;
+import ticketsystem.adt.Tecnico;
+import ticketsystem.adt.Ticket;
+import ticketsystem.adt.TicketSystem;
+import ticketsystem.enums.Categoria;
+import ticketsystem.enums.Estado;
+import ticketsystem.enums.TipoEvento;
+import ticketsystem.observers.EstadisticasObserver;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Emisión de los eventos de JDK Flight Recorder del sistema de tickets.
+ *
+ * Eventos (categoría "Sistema de Tickets"):
+ * - ticketsystem.TicketCreado, TicketAsignado, TicketResuelto y
+ * TicketCerrado: ciclo de vida de cada ticket
+ * - ticketsystem.AsignacionSinTecnico: asignación automática que no
+ * encontró técnico libre habiendo pendientes
+ * - ticketsystem.DespachoObservadores: duración de la entrega de un evento
+ * a sus suscriptores
+ *
+ * Todos llevan el ID y la categoría del ticket, y la profundidad de la cola
+ * de pendientes (total y de la categoría). Si JFR no está grabando esos
+ * eventos, cada método solo consulta un flag: el objeto del evento no
+ * escapa y el JIT lo elimina, y los campos no se calculan.
+ *
+ * Para grabarlos: java -XX:StartFlightRecording:filename=tickets.jfr ...
+ * y luego jfr print --events ticketsystem.TicketCreado tickets.jfr
+ */
+public final class EventosJfr {
+
+    private EventosJfr() {
+    }
+
+    private static void completar(EventoTicket evento, Ticket ticket, ColaPendientes pendientes) {
+        if (ticket != null) {
+            evento.ticketId = ticket.getId();
+            evento.categoria = ticket.getCategoria().name();
+            evento.profundidadCategoria = pendientes.size(ticket.getCategoria());
+        }
+        evento.profundidadCola = pendientes.size();
+    }
+
+    public static void ticketCreado(Ticket ticket, ColaPendientes pendientes) {
+        TicketCreadoEvento evento = new TicketCreadoEvento();
+        if (evento.shouldCommit()) {
+            completar(evento, ticket, pendientes);
+            evento.commit();
+        }
+    }
+
+    public static void ticketAsignado(Ticket ticket, ColaPendientes pendientes) {
+        TicketAsignadoEvento evento = new TicketAsignadoEvento();
+        if (evento.shouldCommit()) {
+            completar(evento, ticket, pendientes);
+            evento.tecnicoId = ticket.getTecnico() != null ? ticket.getTecnico().getId() : 0;
+            evento.commit();
+        }
+    }
+
+    public static void ticketResuelto(Ticket ticket, ColaPendientes pendientes) {
+        TicketResueltoEvento evento = new TicketResueltoEvento();
+        if (evento.shouldCommit()) {
+            completar(evento, ticket, pendientes);
+            evento.commit();
+        }
+    }
+
+    public static void ticketCerrado(Ticket ticket, ColaPendientes pendientes) {
+        TicketCerradoEvento evento = new TicketCerradoEvento();
+        if (evento.shouldCommit()) {
+            completar(evento, ticket, pendientes);
+            evento.commit();
+        }
+    }
+
+    /**
+     * Emite un evento de asignación sin técnico si hay tickets pendientes.
+     * El ticket del evento es el pendiente más antiguo.
+     *
+     * @param pendientes Cola de pendientes del sistema
+     */
+    public static void asignacionSinTecnico(ColaPendientes pendientes) {
+        AsignacionSinTecnicoEvento evento = new AsignacionSinTecnicoEvento();
+        if (evento.shouldCommit() && !pendientes.isEmpty()) {
+            completar(evento, pendientes.peek(), pendientes);
+            evento.commit();
+        }
+    }
+
+    /**
+     * Empieza a medir un despacho a observadores.
+     *
+     * @return Evento a pasar a terminarDespacho
+     */
+    public static DespachoObservadoresEvento iniciarDespacho() {
+        DespachoObservadoresEvento evento = new DespachoObservadoresEvento();
+        if (evento.isEnabled()) {
+            evento.begin();
+        }
+        return evento;
+    }
+
+    /**
+     * Termina de medir el despacho de un evento sobre un ticket.
+     *
+     * @param evento       Evento retornado por iniciarDespacho
+     * @param tipo         Tipo de evento despachado
+     * @param ticket       Ticket del evento
+     * @param observadores Número de suscriptores notificados
+     * @param pendientes   Cola de pendientes del sistema
+     */
+    public static void terminarDespacho(DespachoObservadoresEvento evento, TipoEvento tipo, Ticket ticket,
+            int observadores, ColaPendientes pendientes) {
+        if (evento.shouldCommit()) {
+            completar(evento, ticket, pendientes);
+            evento.tipoEvento = tipo.name();
+            evento.observadores = observadores;
+            evento.tickets = 1;
+            evento.commit();
+        }
+    }
+
+    /**
+     * Termina de medir el despacho de un lote de eventos.
+     *
+     * @param evento       Evento retornado por iniciarDespacho
+     * @param tipo         Tipo de evento despachado
+     * @param tickets      Tickets del lote
+     * @param observadores Número de suscriptores notificados
+     * @param pendientes   Cola de pendientes del sistema
+     */
+    public static void terminarDespacho(DespachoObservadoresEvento evento, TipoEvento tipo, List<Ticket> tickets,
+            int observadores, ColaPendientes pendientes) {
+        if (evento.shouldCommit()) {
+            completar(evento, tickets.isEmpty() ? null : tickets.get(0), pendientes);
+            evento.tipoEvento = tipo.name();
+            evento.observadores = observadores;
+            evento.tickets = tickets.size();
+            evento.commit();
+        }
+    }
+
+    /**
+     * Método main con casos de prueba: graba una sesión corta con JFR y lee
+     * los eventos del archivo resultante.
+     */
+    public static void main(String[] args) throws IOException {
+        System.out.println("=== Pruebas de EventosJfr ===\n");
+
+        Path archivo = Files.createTempFile("tickets", ".jfr");
+        try (Recording grabacion = new Recording()) {
+            grabacion.enable("ticketsystem.TicketCreado");
+            grabacion.enable("ticketsystem.TicketAsignado");
+            grabacion.enable("ticketsystem.TicketResuelto");
+            grabacion.enable("ticketsystem.TicketCerrado");
+            grabacion.enable("ticketsystem.AsignacionSinTecnico");
+            grabacion.enable("ticketsystem.DespachoObservadores");
+            grabacion.start();
+
+            TicketSystem sistema = new TicketSystem();
+            sistema.agregarObservador(new EstadisticasObserver());
+            Cliente cliente = new Cliente(1, "Cliente", "cliente@test.com");
+            sistema.agregarTecnico(new Tecnico(1, "Técnico", Categoria.RED));
+            sistema.crearTicket("Primero", Categoria.RED, cliente);
+            sistema.crearTicket("Segundo", Categoria.RED, cliente);
+            sistema.crearTicket("Sin técnico", Categoria.HARDWARE, cliente);
+            sistema.asignarTicketAutomatico();
+            sistema.cambiarEstadoTicket(1, Estado.EN_PROGRESO);
+            sistema.resolverTicket(1);
+            sistema.cerrarTicket(1);
+            sistema.asignarTicketAutomatico();
+            sistema.asignarTicketAutomatico();
+
+            grabacion.stop();
+            grabacion.dump(archivo);
+        }
+
+        Map<String, List<RecordedEvent>> porTipo = new HashMap<>();
+        for (RecordedEvent evento : RecordingFile.readAllEvents(archivo)) {
+            String nombre = evento.getEventType().getName();
+            if (nombre.startsWith("ticketsystem.")) {
+                porTipo.computeIfAbsent(nombre, k -> new ArrayList<>()).add(evento);
+            }
+        }
+        Files.delete(archivo);
+
+        // Test 1: Eventos del ciclo de vida
+        List<RecordedEvent> creados = porTipo.get("ticketsystem.TicketCreado");
+        assert creados != null && creados.size() == 3 : "Test 1 falló: Creados";
+        assert porTipo.get("ticketsystem.TicketAsignado").size() == 2 : "Test 1 falló: Asignados";
+        assert porTipo.get("ticketsystem.TicketResuelto").size() == 1 : "Test 1 falló: Resueltos";
+        assert porTipo.get("ticketsystem.TicketCerrado").size() == 1 : "Test 1 falló: Cerrados";
+        System.out.println("✓ Test 1 pasado: Ciclo de vida");
+
+        // Test 2: Campos de ticket, categoría y profundidad de cola
+        RecordedEvent tercero = creados.get(2);
+        assert tercero.getInt("ticketId") == 3 : "Test 2 falló: ID";
+        assert tercero.getString("categoria").equals("HARDWARE") : "Test 2 falló: Categoría";
+        assert tercero.getInt("profundidadCola") == 3 : "Test 2 falló: Profundidad";
+        assert tercero.getInt("profundidadCategoria") == 1 : "Test 2 falló: Profundidad de la categoría";
+        RecordedEvent asignado = porTipo.get("ticketsystem.TicketAsignado").get(1);
+        assert asignado.getInt("ticketId") == 2 && asignado.getInt("tecnicoId") == 1 : "Test 2 falló: Técnico";
+        System.out.println("✓ Test 2 pasado: Campos de los eventos");
+
+        // Test 3: Asignación sin técnico con pendientes en la cola
+        List<RecordedEvent> sinTecnico = porTipo.get("ticketsystem.AsignacionSinTecnico");
+        assert sinTecnico != null && sinTecnico.size() == 1 : "Test 3 falló: Debería haber un intento fallido";
+        assert sinTecnico.get(0).getString("categoria").equals("HARDWARE") : "Test 3 falló: Categoría";
+        assert sinTecnico.get(0).getInt("profundidadCola") == 1 : "Test 3 falló: Profundidad";
+        System.out.println("✓ Test 3 pasado: Asignación sin técnico");
+
+        // Test 4: Despachos a observadores con duración
+        List<RecordedEvent> despachos = porTipo.get("ticketsystem.DespachoObservadores");
+        // 7 eventos de ciclo de vida más 5 cambios de estado
+        assert despachos != null && despachos.size() == 12 : "Test 4 falló: Despachos";
+        for (RecordedEvent despacho : despachos) {
+            assert despacho.getInt("observadores") == 1 : "Test 4 falló: Observadores";
+            assert !despacho.getDuration().isNegative() : "Test 4 falló: Duración";
+        }
+        System.out.println("✓ Test 4 pasado: Despacho a observadores");
+
+        System.out.println("\n=== Todas las pruebas de EventosJfr pasaron ===");
+    }
+}
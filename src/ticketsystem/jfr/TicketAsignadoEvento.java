@@ -0,0 +1,24 @@
+/*
+ * Taller Práctico 01 - Sistema de Gestión de Tickets
+ * Estructuras de Datos y Algoritmos - 2026-10
+ *
+ * Integrantes:
+ * - [Nombre Completo 1] - ID: [ID1]
+ * - [Nombre Completo 2] - ID: [ID2]
+ * - [Nombre Completo 3] - ID: [ID3]
+ */
+
+package ticketsystem.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("ticketsystem.TicketAsignado")
+@Label("Ticket asignado")
+@Description("Un ticket se asignó a un técnico, automática o manualmente")
+class TicketAsignadoEvento extends EventoTicket {
+
+    @Label("ID del técnico")
+    int tecnicoId;
+}
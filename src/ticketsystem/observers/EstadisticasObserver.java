@@ -12,10 +12,14 @@ package ticketsystem.observers;
 
 import ticketsystem.adt.Ticket;
 import ticketsystem.interfaces.TicketObserver;
+import java.util.List;
 
 /**
  * Observador que mantiene estadísticas en tiempo real.
  * Ejemplo de ESCALABILIDAD: Nuevo observador sin modificar sistema principal.
+ * 
+ * Implementa los eventos por lote directamente: cada contador se actualiza
+ * una sola vez por lote.
  */
 public class EstadisticasObserver implements TicketObserver {
 
@@ -28,16 +32,43 @@ public class EstadisticasObserver implements TicketObserver {
         ticketsCreados++;
     }
 
+    @Override
+    public void onTicketsCreados(List<Ticket> tickets) {
+        ticketsCreados += tickets.size();
+    }
+
     @Override
     public void onTicketAsignado(Ticket ticket) {
         ticketsAsignados++;
     }
 
+    @Override
+    public void onTicketsAsignados(List<Ticket> tickets) {
+        ticketsAsignados += tickets.size();
+    }
+
     @Override
     public void onTicketResuelto(Ticket ticket) {
         ticketsResueltos++;
     }
 
+    @Override
+    public void onTicketsResueltos(List<Ticket> tickets) {
+        ticketsResueltos += tickets.size();
+    }
+
+    public int getTicketsCreados() {
+        return ticketsCreados;
+    }
+
+    public int getTicketsAsignados() {
+        return ticketsAsignados;
+    }
+
+    public int getTicketsResueltos() {
+        return ticketsResueltos;
+    }
+
     public void mostrarEstadisticas() {
         System.out.println("\n=== Estadísticas en Tiempo Real ===");
         System.out.println("Tickets creados: " + ticketsCreados);
@@ -0,0 +1,548 @@
+/*
+ * Taller Práctico 01 - Sistema de Gestión de Tickets
+ * Estructuras de Datos y Algoritmos - 2026-10
+ *
+ * Integrantes:
+ * - [Nombre Completo 1] - ID: [ID1]
+ * - [Nombre Completo 2] - ID: [ID2]
+ * - [Nombre Completo 3] - ID: [ID3]
+ */
+
+package ticketsystem.observers;
+
+import ticketsystem.adt.Cliente;
+import ticketsystem.adt.Ticket;
+import ticketsystem.enums.Categoria;
+import ticketsystem.enums.Estado;
+import ticketsystem.enums.PoliticaContrapresion;
+import ticketsystem.interfaces.TicketObserver;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Observador que despacha eventos a otros observadores en un hilo propio.
+ * Ejemplo de ESCALABILIDAD: se registra como cualquier observador y saca a
+ * los observadores lentos (por ejemplo LoggerObserver) del hilo que crea o
+ * asigna tickets.
+ * 
+ * Los eventos se publican en un buffer circular preasignado (sin crear
+ * objetos por evento) y un único hilo consumidor los entrega en orden a
+ * cada observador destino. Si el buffer se llena se aplica la
+ * PoliticaContrapresion configurada. Para cada destino se lleva el número
+ * de eventos ya entregados, de donde sale su retraso.
+ * 
+ * Ningún hilo gira en espera: el consumidor sin eventos se estaciona hasta
+ * que un productor lo despierta, y con BLOQUEAR los productores que
+ * encuentran el buffer lleno esperan en una Condition que el consumidor
+ * señala al liberar posiciones.
+ * 
+ * Invariantes:
+ * - Los eventos se entregan en el orden en que se publicaron
+ * - Cada destino se invoca solo desde el hilo consumidor
+ */
+public class ObservadorAsincrono implements TicketObserver {
+
+    private static final int CREADO = 0;
+    private static final int ASIGNADO = 1;
+    private static final int RESUELTO = 2;
+    private static final int ASIGNADOS_LOTE = 3;
+    private static final int CREADOS_LOTE = 4;
+    private static final int RESUELTOS_LOTE = 5;
+    private static final int CAMBIO_ESTADO = 6;
+    private static final int CERRADO = 7;
+
+    /**
+     * Posición del buffer. publicada guarda la secuencia del último evento
+     * escrito en ella, lo que le indica al consumidor que ya puede leerlo.
+     */
+    private static class Evento {
+        int tipo;
+        Ticket ticket;
+        List<Ticket> lote;
+        Estado anterior;
+        volatile long publicada = -1;
+    }
+
+    private final TicketObserver[] destinos;
+    private final Evento[] buffer;
+    private final int mascara;
+    private final PoliticaContrapresion politica;
+    private final int tasaMuestreo;
+
+    // Próxima secuencia a reclamar por los productores
+    private final AtomicLong siguiente;
+    // Eventos que llegaron con el buffer a más de la mitad (para MUESTREAR)
+    private final AtomicLong bajoPresion;
+    // Última secuencia entregada a todos los destinos
+    private volatile long consumida;
+    private final AtomicLongArray entregadosPorDestino;
+    private final LongAdder descartados;
+    private final LongAdder muestreados;
+    private final LongAdder errores;
+
+    private final Thread consumidor;
+    private volatile boolean durmiendo;
+    private volatile boolean activo;
+
+    // Productores esperando espacio con BLOQUEAR
+    private final ReentrantLock lockEspacio;
+    private final Condition hayEspacio;
+    private volatile int esperandoEspacio;
+
+    /**
+     * Constructor que crea el despacho asíncrono e inicia su hilo.
+     * 
+     * @param capacidad    Número de eventos del buffer (se redondea a potencia
+     *                     de 2)
+     * @param politica     Qué hacer cuando el buffer está lleno
+     * @param tasaMuestreo Con MUESTREAR, se publica uno de cada tasaMuestreo
+     *                     eventos bajo presión
+     * @param destinos     Observadores que recibirán los eventos
+     */
+    public ObservadorAsincrono(int capacidad, PoliticaContrapresion politica, int tasaMuestreo,
+            TicketObserver... destinos) {
+        if (capacidad <= 0) {
+            throw new IllegalArgumentException("La capacidad debe ser positiva");
+        }
+        if (politica == null) {
+            throw new IllegalArgumentException("La política no puede ser null");
+        }
+        if (tasaMuestreo <= 0) {
+            throw new IllegalArgumentException("La tasa de muestreo debe ser positiva");
+        }
+
+        int tamano = Integer.highestOneBit(capacidad);
+        if (tamano < capacidad) {
+            tamano <<= 1;
+        }
+        this.buffer = new Evento[tamano];
+        for (int i = 0; i < tamano; i++) {
+            buffer[i] = new Evento();
+        }
+        this.mascara = tamano - 1;
+        this.politica = politica;
+        this.tasaMuestreo = tasaMuestreo;
+        this.destinos = destinos.clone();
+
+        this.siguiente = new AtomicLong(0);
+        this.bajoPresion = new AtomicLong(0);
+        this.consumida = -1;
+        this.entregadosPorDestino = new AtomicLongArray(destinos.length);
+        this.descartados = new LongAdder();
+        this.muestreados = new LongAdder();
+        this.errores = new LongAdder();
+        this.lockEspacio = new ReentrantLock();
+        this.hayEspacio = lockEspacio.newCondition();
+
+        this.activo = true;
+        this.consumidor = new Thread(this::consumir, "observador-asincrono");
+        this.consumidor.setDaemon(true);
+        this.consumidor.start();
+    }
+
+    @Override
+    public void onTicketCreado(Ticket ticket) {
+        publicar(CREADO, ticket, null);
+    }
+
+    @Override
+    public void onTicketsCreados(List<Ticket> tickets) {
+        publicar(CREADOS_LOTE, null, tickets);
+    }
+
+    @Override
+    public void onTicketAsignado(Ticket ticket) {
+        publicar(ASIGNADO, ticket, null);
+    }
+
+    @Override
+    public void onTicketsAsignados(List<Ticket> tickets) {
+        publicar(ASIGNADOS_LOTE, null, tickets);
+    }
+
+    @Override
+    public void onTicketResuelto(Ticket ticket) {
+        publicar(RESUELTO, ticket, null);
+    }
+
+    @Override
+    public void onTicketsResueltos(List<Ticket> tickets) {
+        publicar(RESUELTOS_LOTE, null, tickets);
+    }
+
+    @Override
+    public void onEstadoCambiado(Ticket ticket, Estado anterior) {
+        publicar(CAMBIO_ESTADO, ticket, null, anterior);
+    }
+
+    @Override
+    public void onTicketCerrado(Ticket ticket) {
+        publicar(CERRADO, ticket, null);
+    }
+
+    private void publicar(int tipo, Ticket ticket, List<Ticket> lote) {
+        publicar(tipo, ticket, lote, null);
+    }
+
+    /**
+     * Reclama una posición del buffer según la política y escribe el evento.
+     */
+    private void publicar(int tipo, Ticket ticket, List<Ticket> lote, Estado anterior) {
+        if (!activo) {
+            descartados.increment();
+            return;
+        }
+
+        boolean muestraTomada = false;
+        long secuencia;
+        while (true) {
+            secuencia = siguiente.get();
+            long ocupados = secuencia - consumida - 1;
+
+            if (ocupados >= buffer.length) {
+                if (politica != PoliticaContrapresion.BLOQUEAR || !activo) {
+                    descartados.increment();
+                    return;
+                }
+                despertarConsumidor();
+                esperarEspacio();
+                continue;
+            }
+            if (politica == PoliticaContrapresion.MUESTREAR && ocupados * 2 > buffer.length && !muestraTomada) {
+                if (bajoPresion.getAndIncrement() % tasaMuestreo != 0) {
+                    muestreados.increment();
+                    return;
+                }
+                muestraTomada = true;
+            }
+            if (siguiente.compareAndSet(secuencia, secuencia + 1)) {
+                break;
+            }
+        }
+
+        Evento evento = buffer[(int) secuencia & mascara];
+        evento.tipo = tipo;
+        evento.ticket = ticket;
+        evento.lote = lote;
+        evento.anterior = anterior;
+        evento.publicada = secuencia;
+        despertarConsumidor();
+    }
+
+    /**
+     * Estaciona al productor hasta que el consumidor libere una posición o
+     * se detenga el despacho. esperandoEspacio se publica antes de volver a
+     * mirar si hay espacio, así el consumidor no puede pasar por alto a un
+     * productor que está por esperar.
+     */
+    private void esperarEspacio() {
+        lockEspacio.lock();
+        try {
+            esperandoEspacio++;
+            try {
+                while (activo && siguiente.get() - consumida - 1 >= buffer.length) {
+                    hayEspacio.awaitUninterruptibly();
+                }
+            } finally {
+                esperandoEspacio--;
+            }
+        } finally {
+            lockEspacio.unlock();
+        }
+    }
+
+    /**
+     * Despierta a los productores que esperan espacio, si hay alguno.
+     */
+    private void despertarProductores() {
+        if (esperandoEspacio > 0) {
+            lockEspacio.lock();
+            try {
+                hayEspacio.signalAll();
+            } finally {
+                lockEspacio.unlock();
+            }
+        }
+    }
+
+    /**
+     * Despierta al hilo consumidor si está esperando eventos.
+     */
+    private void despertarConsumidor() {
+        if (durmiendo) {
+            LockSupport.unpark(consumidor);
+        }
+    }
+
+    /**
+     * Bucle del hilo consumidor: entrega los eventos en orden y libera su
+     * posición del buffer. Sin eventos se estaciona sin límite de tiempo;
+     * durmiendo se publica antes de volver a mirar el buffer, así un
+     * productor que escribe después siempre lo despierta.
+     */
+    private void consumir() {
+        while (true) {
+            long proxima = consumida + 1;
+            Evento evento = buffer[(int) proxima & mascara];
+            if (evento.publicada != proxima) {
+                if (!activo && siguiente.get() == proxima) {
+                    return;
+                }
+                durmiendo = true;
+                if (evento.publicada != proxima && activo) {
+                    LockSupport.park(this);
+                }
+                durmiendo = false;
+                continue;
+            }
+
+            for (int d = 0; d < destinos.length; d++) {
+                try {
+                    entregar(destinos[d], evento);
+                } catch (RuntimeException e) {
+                    errores.increment();
+                }
+                entregadosPorDestino.lazySet(d, proxima + 1);
+            }
+            evento.ticket = null;
+            evento.lote = null;
+            evento.anterior = null;
+            consumida = proxima;
+            despertarProductores();
+        }
+    }
+
+    /**
+     * Invoca el método del destino que corresponde al tipo de evento.
+     */
+    private void entregar(TicketObserver destino, Evento evento) {
+        switch (evento.tipo) {
+            case CREADO:
+                destino.onTicketCreado(evento.ticket);
+                break;
+            case ASIGNADO:
+                destino.onTicketAsignado(evento.ticket);
+                break;
+            case ASIGNADOS_LOTE:
+                destino.onTicketsAsignados(evento.lote);
+                break;
+            case RESUELTO:
+                destino.onTicketResuelto(evento.ticket);
+                break;
+            case CREADOS_LOTE:
+                destino.onTicketsCreados(evento.lote);
+                break;
+            case RESUELTOS_LOTE:
+                destino.onTicketsResueltos(evento.lote);
+                break;
+            case CAMBIO_ESTADO:
+                destino.onEstadoCambiado(evento.ticket, evento.anterior);
+                break;
+            case CERRADO:
+                destino.onTicketCerrado(evento.ticket);
+                break;
+        }
+    }
+
+    /**
+     * Deja de aceptar eventos (con BLOQUEAR, los que esperan se descartan),
+     * entrega los ya publicados y termina el hilo consumidor.
+     * 
+     * @throws InterruptedException si se interrumpe la espera
+     */
+    public void detener() throws InterruptedException {
+        activo = false;
+        lockEspacio.lock();
+        try {
+            hayEspacio.signalAll();
+        } finally {
+            lockEspacio.unlock();
+        }
+        LockSupport.unpark(consumidor);
+        consumidor.join();
+    }
+
+    /**
+     * Obtiene cuántos eventos publicados aún no ha recibido un destino.
+     * 
+     * @param indiceDestino Posición del destino en el constructor
+     * @return Eventos pendientes de entregar a ese destino
+     */
+    public long getRetraso(int indiceDestino) {
+        return siguiente.get() - entregadosPorDestino.get(indiceDestino);
+    }
+
+    /**
+     * Obtiene cuántos eventos ha recibido un destino.
+     * 
+     * @param indiceDestino Posición del destino en el constructor
+     * @return Eventos entregados a ese destino
+     */
+    public long getEntregados(int indiceDestino) {
+        return entregadosPorDestino.get(indiceDestino);
+    }
+
+    // Getters de métricas
+
+    public long getPublicados() {
+        return siguiente.get();
+    }
+
+    public long getDescartados() {
+        return descartados.sum();
+    }
+
+    public long getMuestreados() {
+        return muestreados.sum();
+    }
+
+    public long getErrores() {
+        return errores.sum();
+    }
+
+    /**
+     * Destino de prueba que anota los IDs recibidos y puede retener al
+     * consumidor en el primer evento hasta que se lo libere.
+     */
+    private static class DestinoPrueba implements TicketObserver {
+        final List<Integer> recibidos = new ArrayList<>();
+        final CountDownLatch enEntrega = new CountDownLatch(1);
+        final CountDownLatch liberar;
+
+        DestinoPrueba(boolean retener) {
+            this.liberar = new CountDownLatch(retener ? 1 : 0);
+        }
+
+        @Override
+        public void onTicketCreado(Ticket ticket) {
+            enEntrega.countDown();
+            try {
+                liberar.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            recibidos.add(ticket.getId());
+        }
+
+        @Override
+        public void onTicketAsignado(Ticket ticket) {
+        }
+
+        @Override
+        public void onTicketResuelto(Ticket ticket) {
+        }
+    }
+
+    /**
+     * Espera a que un hilo quede estacionado.
+     */
+    private static void esperarEstacionado(Thread hilo) throws InterruptedException {
+        for (int i = 0; i < 5_000 && hilo.getState() != Thread.State.WAITING; i++) {
+            Thread.sleep(1);
+        }
+    }
+
+    /**
+     * Método main con casos de prueba.
+     */
+    public static void main(String[] args) throws InterruptedException {
+        System.out.println("=== Pruebas de ObservadorAsincrono ===\n");
+
+        Cliente cliente = new Cliente(1, "Juan Pérez", "juan@example.com");
+        Ticket[] tickets = new Ticket[1000];
+        for (int i = 0; i < tickets.length; i++) {
+            tickets[i] = new Ticket(i, "Ticket " + i, Categoria.RED, cliente);
+        }
+
+        // Test 1: Orden de entrega con un buffer mucho menor que los eventos
+        DestinoPrueba enOrden = new DestinoPrueba(false);
+        ObservadorAsincrono asincrono = new ObservadorAsincrono(8, PoliticaContrapresion.BLOQUEAR, 1, enOrden);
+        for (Ticket ticket : tickets) {
+            asincrono.onTicketCreado(ticket);
+        }
+        asincrono.detener();
+        assert asincrono.getEntregados(0) == tickets.length : "Test 1 falló: Faltan eventos";
+        assert asincrono.getDescartados() == 0 : "Test 1 falló: BLOQUEAR no debería descartar";
+        for (int i = 0; i < tickets.length; i++) {
+            assert enOrden.recibidos.get(i) == i : "Test 1 falló: Orden alterado en " + i;
+        }
+        System.out.println("✓ Test 1 pasado: Eventos entregados en orden");
+
+        // Test 2: DESCARTAR con el buffer lleno
+        DestinoPrueba lento = new DestinoPrueba(true);
+        asincrono = new ObservadorAsincrono(4, PoliticaContrapresion.DESCARTAR, 1, lento);
+        asincrono.onTicketCreado(tickets[0]);
+        lento.enEntrega.await();
+        for (int i = 1; i <= 10; i++) {
+            asincrono.onTicketCreado(tickets[i]);
+        }
+        assert asincrono.getPublicados() == 4 : "Test 2 falló: Deberían publicarse 4 eventos";
+        assert asincrono.getDescartados() == 7 : "Test 2 falló: Deberían descartarse 7 eventos";
+        lento.liberar.countDown();
+        asincrono.detener();
+        assert lento.recibidos.equals(List.of(0, 1, 2, 3)) : "Test 2 falló: Entregados incorrectos";
+        System.out.println("✓ Test 2 pasado: DESCARTAR con buffer lleno");
+
+        // Test 3: BLOQUEAR estaciona al productor hasta que haya espacio
+        DestinoPrueba retenido = new DestinoPrueba(true);
+        ObservadorAsincrono bloqueante = new ObservadorAsincrono(4, PoliticaContrapresion.BLOQUEAR, 1, retenido);
+        bloqueante.onTicketCreado(tickets[0]);
+        retenido.enEntrega.await();
+        Thread productor = new Thread(() -> {
+            for (int i = 1; i <= 10; i++) {
+                bloqueante.onTicketCreado(tickets[i]);
+            }
+        });
+        productor.start();
+        esperarEstacionado(productor);
+        assert productor.getState() == Thread.State.WAITING : "Test 3 falló: El productor debería esperar";
+        assert bloqueante.getPublicados() == 4 : "Test 3 falló: El buffer debería estar lleno";
+        retenido.liberar.countDown();
+        productor.join();
+        bloqueante.detener();
+        assert bloqueante.getEntregados(0) == 11 && bloqueante.getDescartados() == 0
+                : "Test 3 falló: BLOQUEAR no debería perder eventos";
+        for (int i = 0; i <= 10; i++) {
+            assert retenido.recibidos.get(i) == i : "Test 3 falló: Orden alterado en " + i;
+        }
+        System.out.println("✓ Test 3 pasado: BLOQUEAR espera sin girar");
+
+        // Test 4: detener libera a los productores bloqueados y entrega lo publicado
+        DestinoPrueba alDetener = new DestinoPrueba(true);
+        ObservadorAsincrono aDetener = new ObservadorAsincrono(2, PoliticaContrapresion.BLOQUEAR, 1, alDetener);
+        aDetener.onTicketCreado(tickets[0]);
+        alDetener.enEntrega.await();
+        aDetener.onTicketCreado(tickets[1]);
+        Thread esperando = new Thread(() -> aDetener.onTicketCreado(tickets[2]));
+        esperando.start();
+        esperarEstacionado(esperando);
+        AtomicInteger fallos = new AtomicInteger();
+        Thread detenedor = new Thread(() -> {
+            try {
+                aDetener.detener();
+            } catch (InterruptedException e) {
+                fallos.incrementAndGet();
+            }
+        });
+        detenedor.start();
+        esperando.join();
+        alDetener.liberar.countDown();
+        detenedor.join();
+        assert fallos.get() == 0 : "Test 4 falló: detener interrumpido";
+        assert alDetener.recibidos.equals(List.of(0, 1)) : "Test 4 falló: Deberían entregarse los publicados";
+        assert aDetener.getDescartados() == 1 : "Test 4 falló: El productor bloqueado debería descartar";
+        aDetener.onTicketCreado(tickets[3]);
+        assert aDetener.getDescartados() == 2 : "Test 4 falló: Tras detener se descarta";
+        System.out.println("✓ Test 4 pasado: Detener entrega lo publicado y libera productores");
+
+        System.out.println("\n=== Todas las pruebas de ObservadorAsincrono pasaron ===");
+    }
+}
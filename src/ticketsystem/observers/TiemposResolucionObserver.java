@@ -0,0 +1,250 @@
+/*
+ * Taller Práctico 01 - Sistema de Gestión de Tickets
+ * Estructuras de Datos y Algoritmos - 2026-10
+ *
+ * Integrantes:
+ * - [Nombre Completo 1] - ID: [ID1]
+ * - [Nombre Completo 2] - ID: [ID2]
+ * - [Nombre Completo 3] - ID: [ID3]
+ */
+
+package ticketsystem.observers;
+
+import ticketsystem.adt.Tecnico;
+import ticketsystem.adt.Ticket;
+import ticketsystem.datastructures.IntMap;
+import ticketsystem.datastructures.TDigest;
+import ticketsystem.adt.Cliente;
+import ticketsystem.adt.TicketSystem;
+import ticketsystem.enums.Categoria;
+import ticketsystem.enums.Estado;
+import ticketsystem.interfaces.TicketObserver;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Observador que resume los tiempos de resolución (de la creación a la
+ * resolución, en minutos) por categoría y por técnico, y responde
+ * percentiles como p50, p90 o p99.
+ *
+ * Cada resumen es un TDigest: ocupa memoria fija sin importar cuántos
+ * tickets se resuelvan, así que el observador crece con el número de
+ * técnicos y no con el historial. Los resúmenes se pueden combinar
+ * (combinar), por ejemplo para juntar los observadores de varios sistemas.
+ *
+ * Es seguro para varios hilos (ConcurrentTicketSystem notifica desde el
+ * hilo de cada operación).
+ */
+public class TiemposResolucionObserver implements TicketObserver {
+
+    private static final Categoria[] CATEGORIAS = Categoria.values();
+
+    private final TDigest[] porCategoria;
+    private final IntMap<TDigest> porTecnico;
+    private final TDigest global;
+
+    /**
+     * Constructor que crea el observador sin tiempos registrados.
+     */
+    public TiemposResolucionObserver() {
+        this.porCategoria = new TDigest[CATEGORIAS.length];
+        for (int c = 0; c < CATEGORIAS.length; c++) {
+            porCategoria[c] = new TDigest();
+        }
+        this.porTecnico = new IntMap<>();
+        this.global = new TDigest();
+    }
+
+    @Override
+    public void onTicketCreado(Ticket ticket) {
+    }
+
+    @Override
+    public void onTicketAsignado(Ticket ticket) {
+    }
+
+    @Override
+    public void onTicketResuelto(Ticket ticket) {
+        if (ticket.getFechaResolucion() == null) {
+            return;
+        }
+        double minutos = Duration.between(ticket.getFechaCreacion(), ticket.getFechaResolucion()).toMillis()
+                / 60_000.0;
+        Tecnico tecnico = ticket.getTecnico();
+        registrar(ticket.getCategoria(), (tecnico != null) ? tecnico.getId() : 0, minutos);
+    }
+
+    @Override
+    public void onTicketsResueltos(List<Ticket> tickets) {
+        for (Ticket ticket : tickets) {
+            onTicketResuelto(ticket);
+        }
+    }
+
+    /**
+     * Registra un tiempo de resolución.
+     *
+     * @param categoria Categoría del ticket
+     * @param tecnicoId ID del técnico que lo resolvió (0 si no tenía)
+     * @param minutos   Minutos desde la creación hasta la resolución
+     */
+    public synchronized void registrar(Categoria categoria, int tecnicoId, double minutos) {
+        porCategoria[categoria.ordinal()].add(minutos);
+        global.add(minutos);
+        if (tecnicoId != 0) {
+            TDigest resumen = porTecnico.get(tecnicoId);
+            if (resumen == null) {
+                resumen = new TDigest();
+                porTecnico.put(tecnicoId, resumen);
+            }
+            resumen.add(minutos);
+        }
+    }
+
+    /**
+     * Agrega a este observador los tiempos registrados por otro. Primero
+     * copia los resúmenes del otro bajo su lock y luego los combina bajo el
+     * propio, así que nunca toma los dos locks a la vez.
+     *
+     * @param otro Observador a combinar
+     */
+    public void combinar(TiemposResolucionObserver otro) {
+        TDigest[] categorias = new TDigest[CATEGORIAS.length];
+        TDigest total = new TDigest();
+        int[] tecnicos;
+        TDigest[] resumenesTecnicos;
+        synchronized (otro) {
+            for (int c = 0; c < CATEGORIAS.length; c++) {
+                categorias[c] = new TDigest();
+                categorias[c].merge(otro.porCategoria[c]);
+            }
+            total.merge(otro.global);
+            tecnicos = otro.porTecnico.claves();
+            resumenesTecnicos = new TDigest[tecnicos.length];
+            for (int i = 0; i < tecnicos.length; i++) {
+                resumenesTecnicos[i] = new TDigest();
+                resumenesTecnicos[i].merge(otro.porTecnico.get(tecnicos[i]));
+            }
+        }
+
+        synchronized (this) {
+            for (int c = 0; c < CATEGORIAS.length; c++) {
+                porCategoria[c].merge(categorias[c]);
+            }
+            global.merge(total);
+            for (int i = 0; i < tecnicos.length; i++) {
+                TDigest resumen = porTecnico.get(tecnicos[i]);
+                if (resumen == null) {
+                    resumen = new TDigest();
+                    porTecnico.put(tecnicos[i], resumen);
+                }
+                resumen.merge(resumenesTecnicos[i]);
+            }
+        }
+    }
+
+    /**
+     * @param percentil Percentil entre 0 y 100
+     * @return Tiempo de resolución en minutos para ese percentil entre
+     *         todos los tickets, o NaN si no hay ninguno resuelto
+     */
+    public synchronized double getPercentil(double percentil) {
+        return global.quantile(percentil / 100);
+    }
+
+    /**
+     * @param categoria Categoría a consultar
+     * @param percentil Percentil entre 0 y 100
+     * @return Tiempo de resolución en minutos para ese percentil, o NaN si
+     *         no hay tickets resueltos de la categoría
+     */
+    public synchronized double getPercentil(Categoria categoria, double percentil) {
+        return porCategoria[categoria.ordinal()].quantile(percentil / 100);
+    }
+
+    /**
+     * @param tecnico   Técnico a consultar
+     * @param percentil Percentil entre 0 y 100
+     * @return Tiempo de resolución en minutos para ese percentil, o NaN si
+     *         el técnico no ha resuelto tickets
+     */
+    public synchronized double getPercentil(Tecnico tecnico, double percentil) {
+        TDigest resumen = porTecnico.get(tecnico.getId());
+        return (resumen != null) ? resumen.quantile(percentil / 100) : Double.NaN;
+    }
+
+    public synchronized long getResueltos() {
+        return (long) global.size();
+    }
+
+    public synchronized long getResueltos(Categoria categoria) {
+        return (long) porCategoria[categoria.ordinal()].size();
+    }
+
+    public synchronized long getResueltos(Tecnico tecnico) {
+        TDigest resumen = porTecnico.get(tecnico.getId());
+        return (resumen != null) ? (long) resumen.size() : 0;
+    }
+
+    /**
+     * Método main con casos de prueba.
+     */
+    public static void main(String[] args) {
+        System.out.println("=== Pruebas de TiemposResolucionObserver ===\n");
+
+        TiemposResolucionObserver tiempos = new TiemposResolucionObserver();
+        TiemposResolucionObserver otrosTiempos = new TiemposResolucionObserver();
+        for (int m = 1; m <= 100; m++) {
+            tiempos.registrar(Categoria.RED, 10, m);
+            otrosTiempos.registrar(Categoria.HARDWARE, 11, 10 * m);
+        }
+
+        // Test 1: Percentiles por categoría y por técnico
+        assert Math.abs(tiempos.getPercentil(Categoria.RED, 50) - 50) <= 1 : "Test 1 falló: p50 por categoría";
+        assert Math.abs(tiempos.getPercentil(new Tecnico(10, "Rita", Categoria.RED), 90) - 90) <= 1
+                : "Test 1 falló: p90 por técnico";
+        assert Double.isNaN(tiempos.getPercentil(Categoria.SEGURIDAD, 50)) : "Test 1 falló: Categoría sin datos";
+        System.out.println("✓ Test 1 pasado: Percentiles por categoría y técnico");
+
+        // Test 2: Combinar observadores de varios sistemas
+        tiempos.combinar(otrosTiempos);
+        assert Math.abs(tiempos.getPercentil(Categoria.HARDWARE, 90) - 900) <= 10 : "Test 2 falló: p90 combinado";
+        assert tiempos.getPercentil(new Tecnico(11, "Otro", Categoria.HARDWARE), 99) > 980
+                : "Test 2 falló: p99 por técnico";
+        assert tiempos.getResueltos() == 200 : "Test 2 falló: Total combinado";
+        System.out.println("✓ Test 2 pasado: Observadores combinados");
+
+        // Test 3: Tiempos tomados de las resoluciones de un TicketSystem
+        TicketSystem sistema = new TicketSystem();
+        Tecnico tecnico = new Tecnico(30, "Rita Red", Categoria.RED);
+        sistema.agregarTecnico(tecnico);
+        sistema.agregarObservador(tiempos);
+        Ticket ticket = sistema.crearTicket("Medir resolución", Categoria.RED,
+                new Cliente(1, "Juan Pérez", "juan@example.com"));
+        sistema.asignarTicketAutomatico();
+        sistema.cambiarEstadoTicket(ticket.getId(), Estado.EN_PROGRESO);
+        sistema.resolverTicket(ticket.getId());
+        assert tiempos.getResueltos(tecnico) == 1 && tiempos.getResueltos(Categoria.RED) == 101
+                : "Test 3 falló: onTicketResuelto";
+        System.out.println("✓ Test 3 pasado: Resoluciones de un sistema");
+
+        System.out.println("\n=== Todas las pruebas de TiemposResolucionObserver pasaron ===");
+    }
+
+    public void mostrarEstadisticas() {
+        System.out.println("\n=== Tiempos de Resolución (minutos) ===");
+        System.out.println(String.format("%-16s %9s %9s %9s %9s", "Categoría", "Resueltos", "p50", "p90", "p99"));
+        synchronized (this) {
+            for (Categoria categoria : CATEGORIAS) {
+                TDigest resumen = porCategoria[categoria.ordinal()];
+                if (!resumen.isEmpty()) {
+                    System.out.println(String.format("%-16s %9d %9.1f %9.1f %9.1f", categoria,
+                            (long) resumen.size(), resumen.quantile(0.5), resumen.quantile(0.9),
+                            resumen.quantile(0.99)));
+                }
+            }
+            System.out.println(String.format("%-16s %9d %9.1f %9.1f %9.1f", "TOTAL", (long) global.size(),
+                    global.quantile(0.5), global.quantile(0.9), global.quantile(0.99)));
+        }
+    }
+}
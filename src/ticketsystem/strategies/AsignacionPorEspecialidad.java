@@ -17,6 +17,9 @@ import ticketsystem.interfaces.AsignacionStrategy;
 /**
  * Estrategia de asignación por especialidad (primera coincidencia disponible).
  * Implementación del patrón STRATEGY.
+ * 
+ * Con TicketSystem.getTecnicosDisponibles(categoria) como entrada, el primer
+ * técnico ya cumple el filtro y la selección es O(1).
  */
 public class AsignacionPorEspecialidad implements AsignacionStrategy {
 